@@ -0,0 +1,208 @@
+package com.hevyclone.app.datagen;
+
+import com.hevyclone.app.HevycloneAppApplication;
+import com.hevyclone.app.service.counter.CounterKind;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Popula um banco com volume de produção para testes de escala (planos de consulta, índices,
+ * teste de carga sobre dados grandes). Mesma semente, mesmos dados.
+ *
+ * Configuração por propriedades de sistema (mvn -Pdatagen verify -Ddatagen.users=1000000):
+ * datagen.url/username/password (jdbc:postgresql://... usa COPY; jdbc:h2:... serve para testar
+ * o gerador), datagen.users, datagen.days, datagen.end-date (AAAA-MM-DD, padrão hoje),
+ * datagen.seed, datagen.create-schema e datagen.exercise-names (CSV com coluna "name").
+ *
+ * APAGA os dados do banco apontado: use um banco dedicado. O schema vem do Hibernate (o mesmo
+ * que a aplicação cria); no Postgres, depois da carga, entram também os índices que só existem
+ * nas migrações (MIGRATION_ONLY_DDL), para que os planos sejam os de produção. Depois, suba a aplicação com
+ * --spring.jpa.hibernate.ddl-auto=none --saga.stats.backfill-on-startup=true
+ * --saga.pr.rebuild-on-startup=true para reconstruir estatísticas e recordes. Todos os
+ * usuários (atletaN@saga.dev) têm a senha senha123.
+ */
+public final class DataGenRunner {
+
+    // Tabelas com id gerado pelo banco, na ordem de carga
+    private static final String[] IDENTITY_TABLES = {
+            "muscle_groups", "equipments", "difficulty_levels", "exercises", "routines", "workouts",
+            "workout_exercises", "users", "user_routines", "user_workout_logs", "posts", "user_follows",
+            "post_likes", "notifications"};
+
+    // Extensão, índices e sequência com os mesmos comandos das migrações (V4, V7, V8, V12, V13,
+    // V14 e V19), que o ddl-auto não reproduz. DROP antes do CREATE: o Hibernate já criou alguns
+    // índices com o mesmo nome a partir do @Table, sem INCLUDE, predicado ou classe de operadores.
+    // O valor da sequência é ajustado em finish
+    private static final String[] MIGRATION_ONLY_DDL = {
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE SEQUENCE IF NOT EXISTS exercise_sets_seq INCREMENT BY 50",
+            "ALTER SEQUENCE exercise_sets_seq INCREMENT BY 50",
+            "DROP INDEX IF EXISTS idx_user_workout_logs_user_completed",
+            "CREATE INDEX idx_user_workout_logs_user_completed ON user_workout_logs "
+                    + "(user_id, completed_at DESC, id DESC) INCLUDE (workout_id, user_routine_id, duration_minutes)",
+            "DROP INDEX IF EXISTS idx_user_workout_logs_completed",
+            "CREATE INDEX idx_user_workout_logs_completed ON user_workout_logs (completed_at) "
+                    + "INCLUDE (user_id, duration_minutes)",
+            "DROP INDEX IF EXISTS idx_notifications_user_unread",
+            "CREATE INDEX idx_notifications_user_unread ON notifications (user_id, id) WHERE read_at IS NULL",
+            "DROP INDEX IF EXISTS idx_user_locations_geohash",
+            "CREATE INDEX idx_user_locations_geohash ON user_locations (geohash varchar_pattern_ops) WHERE active",
+            "DROP INDEX IF EXISTS idx_users_username_trgm",
+            "CREATE INDEX idx_users_username_trgm ON users USING gin (lower(username) gin_trgm_ops)",
+            "DROP INDEX IF EXISTS idx_users_followers_count",
+            "CREATE INDEX idx_users_followers_count ON users (followers_count DESC, id)"};
+
+    private DataGenRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("datagen.url", "jdbc:postgresql://localhost:5432/saga_datagen");
+        String username = System.getProperty("datagen.username", "postgres");
+        String password = System.getProperty("datagen.password", "");
+        int users = Integer.getInteger("datagen.users", 20000);
+        int days = Integer.getInteger("datagen.days", 365);
+        String endDate = System.getProperty("datagen.end-date", "").trim();
+        long seed = Long.getLong("datagen.seed", 42);
+        boolean createSchema = Boolean.parseBoolean(System.getProperty("datagen.create-schema", "true"));
+        List<String> exerciseNames = exerciseNames(System.getProperty("datagen.exercise-names", "").trim());
+        boolean postgres = url.startsWith("jdbc:postgresql:");
+
+        if (createSchema) {
+            createSchema(url, username, password);
+        }
+        long startNanos = System.nanoTime();
+        try (Connection primary = DriverManager.getConnection(url, username, password);
+             Connection secondary = DriverManager.getConnection(url, username, password)) {
+            if (!createSchema) {
+                truncate(primary, postgres);
+            }
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(users, days,
+                    endDate.isEmpty() ? LocalDate.now() : LocalDate.parse(endDate), seed, exerciseNames,
+                    primary, secondary);
+            generator.generate();
+            if (createSchema && postgres) {
+                // Depois da carga: o COPY não paga a manutenção desses índices
+                applyMigrationOnlyDdl(primary);
+            }
+            finish(primary, postgres);
+
+            double seconds = (System.nanoTime() - startNanos) / 1e9;
+            long total = 0;
+            for (Map.Entry<String, Long> entry : generator.getRowCounts().entrySet()) {
+                System.out.printf(Locale.ROOT, "  %-20s %,14d%n", entry.getKey(), entry.getValue());
+                total += entry.getValue();
+            }
+            System.out.printf(Locale.ROOT, "%,d linhas em %.1f s (%,.0f linhas/s)%n", total, seconds, total / seconds);
+        }
+        System.out.println("Suba a aplicação com --spring.jpa.hibernate.ddl-auto=none "
+                + "--saga.stats.backfill-on-startup=true --saga.pr.rebuild-on-startup=true");
+    }
+
+    // Sobe o contexto só para o Hibernate criar as tabelas e índices, sem servidor web. Vai
+    // como argumento de linha de comando porque SpringApplicationBuilder.properties perde
+    // para o application.properties
+    private static void createSchema(String url, String username, String password) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.web-application-type=none",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password));
+        if (url.startsWith("jdbc:h2:")) {
+            args.addAll(List.of(
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"));
+        }
+        new SpringApplicationBuilder(HevycloneAppApplication.class).run(args.toArray(new String[0])).close();
+    }
+
+    private static void applyMigrationOnlyDdl(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String ddl : MIGRATION_ONLY_DDL) {
+                statement.execute(ddl);
+            }
+        }
+    }
+
+    private static void truncate(Connection connection, boolean postgres) throws SQLException {
+        if (!postgres) {
+            throw new IllegalStateException("datagen.create-schema=false só é suportado no Postgres");
+        }
+        try (Statement statement = connection.createStatement()) {
+            // CASCADE também limpa as tabelas derivadas (recordes, estatísticas, sessões)
+            statement.execute("TRUNCATE " + String.join(", ", IDENTITY_TABLES) + ", exercise_sets, counter_shards"
+                    + " RESTART IDENTITY CASCADE");
+        }
+    }
+
+    private static void finish(Connection connection, boolean postgres) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            // Os ids foram gravados explicitamente: as sequências precisam continuar depois deles
+            for (String table : IDENTITY_TABLES) {
+                long next = maxId(statement, table) + 1;
+                statement.execute(postgres
+                        ? "SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " + next + ", false)"
+                        : "ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            }
+            // allocationSize 50: o Hibernate usa os 49 valores antes do que recebe
+            long next = maxId(statement, "exercise_sets") + 51;
+            statement.execute(postgres
+                    ? "SELECT setval('exercise_sets_seq', " + next + ", false)"
+                    : "ALTER SEQUENCE exercise_sets_seq RESTART WITH " + next);
+
+            // Contadores na fatia 0, com a mesma consulta da reconciliação sem o filtro de ids
+            statement.execute("DELETE FROM counter_shards");
+            for (CounterKind kind : CounterKind.values()) {
+                String exactCounts = kind.getExactCountSql().replaceFirst(" WHERE \\S+ IN \\(:ids\\)", "");
+                statement.execute("INSERT INTO counter_shards (entity_id, count_value, counter_kind, shard, updated_at) "
+                        + "SELECT c.*, '" + kind.name() + "', 0, CURRENT_TIMESTAMP FROM (" + exactCounts + ") c");
+            }
+            if (postgres) {
+                statement.execute("ANALYZE");
+            }
+        }
+    }
+
+    private static long maxId(Statement statement, String table) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // Nomes reais deixam os planos de busca por nome realistas; sem o arquivo, nomes sintéticos
+    private static List<String> exerciseNames(String path) throws IOException {
+        Set<String> names = new LinkedHashSet<>();
+        if (!path.isEmpty() && Files.exists(Path.of(path))) {
+            List<String> lines = Files.readAllLines(Path.of(path), StandardCharsets.UTF_8);
+            for (String line : lines.subList(1, lines.size())) {
+                String name = line.trim().replaceAll("^\"|\"$", "");
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+            }
+        }
+        if (names.isEmpty()) {
+            for (int i = 1; i <= 400; i++) {
+                names.add("Exercício " + i);
+            }
+        }
+        return new ArrayList<>(names);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hevyclone.app.datagen;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Distribuições usadas pelo gerador. Tudo parte de um SplittableRandom com semente fixa,
+ * então a mesma semente produz exatamente as mesmas linhas.
+ */
+final class Distributions {
+
+    // Sazonalidade de academia no Brasil: pico em janeiro (metas de ano novo), queda no
+    // carnaval e nas férias de julho, "projeto verão" de setembro a novembro, dezembro fraco
+    private static final double[] MONTH_FACTOR = {1.30, 1.05, 1.15, 1.05, 1.00, 0.90, 0.85, 1.00, 1.15, 1.20, 1.10, 0.75};
+    // Segunda é o dia mais cheio; fim de semana tem metade do movimento
+    private static final double[] WEEKDAY_FACTOR = {1.30, 1.20, 1.15, 1.10, 0.90, 0.70, 0.65};
+
+    private Distributions() {
+    }
+
+    /**
+     * Pareto com mínimo 1: a maioria fica perto de 1 e poucos valores vão muito longe
+     * (alpha 1.16 dá a regra 80/20).
+     */
+    static double pareto(SplittableRandom random, double alpha) {
+        return Math.pow(1 - random.nextDouble(), -1 / alpha);
+    }
+
+    static double logNormal(SplittableRandom random, double mu, double sigma) {
+        return Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    /**
+     * Multiplicador da chance de treinar no dia (mês x dia da semana), em torno de 1.
+     */
+    static double season(LocalDate date) {
+        return MONTH_FACTOR[date.getMonthValue() - 1] * WEEKDAY_FACTOR[date.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue()];
+    }
+
+    /**
+     * Minuto do dia em que o treino começa: picos antes do trabalho e no fim da tarde.
+     */
+    static int startMinute(SplittableRandom random) {
+        double roll = random.nextDouble();
+        double hour;
+        if (roll < 0.40) {
+            hour = 6.5 + random.nextGaussian();
+        } else if (roll < 0.90) {
+            hour = 18.5 + 1.3 * random.nextGaussian();
+        } else {
+            hour = 9 + 7 * random.nextDouble();
+        }
+        return (int) (Math.max(5, Math.min(22.5, hour)) * 60);
+    }
+
+    /**
+     * Zipf sobre 0..n-1 (posição 0 é a mais sorteada), por busca binária na distribuição
+     * acumulada.
+     */
+    static final class Zipf {
+        private final double[] cumulative;
+
+        Zipf(int size, double exponent) {
+            cumulative = new double[size];
+            double sum = 0;
+            for (int i = 0; i < size; i++) {
+                sum += 1 / Math.pow(i + 1, exponent);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < size; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+    }
+}
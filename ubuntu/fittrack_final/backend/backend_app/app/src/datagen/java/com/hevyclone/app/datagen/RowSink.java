@@ -0,0 +1,149 @@
+package com.hevyclone.app.datagen;
+
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * Destino das linhas de uma tabela. No Postgres é um COPY ... FROM STDIN em CSV (uma única
+ * instrução por tabela, sem ida e volta por linha); em outros bancos (H2 para testar o
+ * gerador) é INSERT em lotes de JDBC.
+ */
+abstract class RowSink implements AutoCloseable {
+
+    private long rows;
+
+    static RowSink open(Connection connection, String table, String... columns) throws SQLException {
+        return connection.isWrapperFor(BaseConnection.class)
+                ? new Copy(connection, table, columns)
+                : new Batch(connection, table, columns);
+    }
+
+    /**
+     * Próxima coluna da linha atual: null, número, texto, booleano, LocalDate ou LocalDateTime.
+     */
+    abstract RowSink add(Object value) throws SQLException;
+
+    void endRow() throws SQLException {
+        rows++;
+        flushRow();
+    }
+
+    long getRows() {
+        return rows;
+    }
+
+    protected abstract void flushRow() throws SQLException;
+
+    @Override
+    public abstract void close() throws SQLException;
+
+    private static final class Copy extends RowSink {
+        private static final int FLUSH_CHARS = 1 << 20;
+
+        private final CopyIn copy;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 8192);
+        private boolean firstColumn = true;
+
+        Copy(Connection connection, String table, String[] columns) throws SQLException {
+            CopyManager manager = new CopyManager(connection.unwrap(BaseConnection.class));
+            copy = manager.copyIn("COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)");
+        }
+
+        @Override
+        RowSink add(Object value) {
+            if (!firstColumn) {
+                buffer.append(',');
+            }
+            firstColumn = false;
+            if (value instanceof String) {
+                buffer.append('"').append(((String) value).replace("\"", "\"\"")).append('"');
+            } else if (value instanceof Boolean) {
+                buffer.append((Boolean) value ? 't' : 'f');
+            } else if (value != null) {
+                buffer.append(value); // Números e datas ISO-8601, que o Postgres aceita como estão
+            }
+            return this;
+        }
+
+        @Override
+        protected void flushRow() throws SQLException {
+            buffer.append('\n');
+            firstColumn = true;
+            if (buffer.length() >= FLUSH_CHARS) {
+                write();
+            }
+        }
+
+        private void write() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copy.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                write();
+                copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+        }
+    }
+
+    private static final class Batch extends RowSink {
+        private static final int BATCH_SIZE = 5000;
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private int column;
+        private int pending;
+
+        Batch(Connection connection, String table, String[] columns) throws SQLException {
+            this.connection = connection;
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement("INSERT INTO " + table + " (" + String.join(", ", columns)
+                    + ") VALUES (" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")");
+        }
+
+        @Override
+        RowSink add(Object value) throws SQLException {
+            statement.setObject(++column, value);
+            return this;
+        }
+
+        @Override
+        protected void flushRow() throws SQLException {
+            statement.addBatch();
+            column = 0;
+            if (++pending == BATCH_SIZE) {
+                execute();
+            }
+        }
+
+        private void execute() throws SQLException {
+            statement.executeBatch();
+            connection.commit();
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                execute();
+            } finally {
+                statement.close();
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+}
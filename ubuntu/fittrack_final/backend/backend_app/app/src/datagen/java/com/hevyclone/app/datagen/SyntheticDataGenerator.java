@@ -0,0 +1,598 @@
+package com.hevyclone.app.datagen;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Gera o volume de produção de forma determinística: catálogo, usuários, rotinas, treinos
+ * registrados, séries, posts, follows, curtidas e notificações.
+ *
+ * A assimetria vem de poucas fontes: a frequência de treino de cada usuário segue Pareto
+ * (poucos treinam quase todo dia, a maioria some depois de algumas semanas), cada dia tem o
+ * peso da sazonalidade (mês e dia da semana), rotinas, exercícios e perfis populares são
+ * sorteados por Zipf. Ids crescem com o tempo, como em produção, porque os treinos são
+ * gerados dia a dia e as notificações são emitidas em ordem cronológica.
+ *
+ * Séries dependem dos ids dos treinos, que precisam estar gravados antes (COPY em outra
+ * conexão não enxerga linhas ainda não confirmadas). Em vez de guardar milhões de treinos em
+ * memória, a sequência de treinos é regerada com a mesma semente na etapa das séries.
+ */
+class SyntheticDataGenerator {
+
+    private static final String PASSWORD = "senha123";
+    private static final String[][] MUSCLE_GROUPS = {
+            {"Chest", "Peito"}, {"Back", "Costas"}, {"Legs", "Pernas"}, {"Shoulders", "Ombros"},
+            {"Arms", "Braços"}, {"Core", "Abdômen"}, {"Glutes", "Glúteos"}, {"Cardio", "Cardio"}};
+    private static final String[][] MUSCLE_GROUP_KEYWORDS = {
+            {"bench", "chest", "fly", "push", "pec"}, {"row", "pull", "lat ", "deadlift", "chin", "back"},
+            {"squat", "leg", "lunge", "calf", "hamstring", "step"}, {"shoulder", "lateral", "overhead", "arnold", "shrug", "raise"},
+            {"curl", "tricep", "bicep", "skull", "dip", "wrist"}, {"crunch", "ab ", "plank", "sit", "twist", "core"},
+            {"glute", "hip", "bridge", "kickback", "abduct"}, {"run", "bike", "jump", "rowing", "aerobic", "cardio", "elliptical", "sprint"}};
+    private static final String[][] EQUIPMENTS = {
+            {"Barbell", "Barra"}, {"Dumbbell", "Halter"}, {"Bodyweight", "Peso Corporal"}, {"Cable Machine", "Máquina de Cabo"},
+            {"Machine", "Máquina"}, {"Kettlebell", "Kettlebell"}, {"Resistance Band", "Fita Elástica"}};
+    private static final String[] EQUIPMENT_KEYWORDS = {"barbell", "dumbbell", null, "cable", "machine", "kettlebell", "band"};
+    private static final int BODYWEIGHT = 2;
+    private static final int CARDIO = 7;
+    private static final String[] LEVELS = {"Beginner", "Intermediate", "Advanced"};
+    private static final String[] PROFILE_LEVELS = {"INICIANTE", "INTERMEDIARIO", "AVANCADO"};
+    private static final String[] GOALS = {"Hipertrofia", "Emagrecimento", "Força", "Condicionamento", "Saúde"};
+    private static final String[] TEXT_POSTS = {
+            "Bora treinar!", "Semana puxada, mas consistente.", "Alguém tem dica de treino de pernas?",
+            "Voltando depois das férias.", "Dia de descanso hoje.", "Meta do mês batida!"};
+
+    // Mesmas validades do saga.notifications.retention: mais antigas que isso já teriam sido apagadas
+    private static final int FRIEND_ACTIVITY_TTL_DAYS = 90;
+    private static final int PR_ALERT_TTL_DAYS = 180;
+
+    private static final int EVENT_FOLLOW = 0;
+    private static final int EVENT_LIKE = 1;
+    private static final int EVENT_PR = 2;
+
+    private final int userCount;
+    private final int days;
+    private final LocalDateTime start;
+    private final long seed;
+    private final List<String> exerciseNames;
+    private final Connection primary;
+    private final Connection secondary;
+    private final Map<String, Long> rowCounts = new LinkedHashMap<>();
+
+    // Catálogo e rotinas
+    private int[] exerciseMuscleGroup;
+    private double[] exerciseBaseWeight;
+    private int[] routineFirstWorkout;
+    private int[] routineWorkoutCount;
+    private String[] workoutNames;
+    private int[][] workoutExercises;
+
+    // Usuários
+    private int[] signupDay;
+    private int[] churnDay;
+    private float[] dailyRate;
+    private float[] postChance;
+    private float[] strength;
+    private int[] routineOf;
+    private int[] sessions;
+    private int[] followers;
+    private Distributions.Zipf popularUsers;
+    private int[] userByPopularity;
+
+    // Posts e eventos que viram notificação
+    private final Ints postAuthor = new Ints();
+    private final Ints postMinute = new Ints();
+    private final Ints eventKind = new Ints();
+    private final Ints eventUser = new Ints();
+    private final Ints eventMinute = new Ints();
+    private final Ints eventRef = new Ints();
+    private final Ints eventCount = new Ints();
+
+    SyntheticDataGenerator(int userCount, int days, LocalDate endDate, long seed, List<String> exerciseNames,
+                           Connection primary, Connection secondary) {
+        this.userCount = userCount;
+        this.days = days;
+        this.start = endDate.minusDays(days).atStartOfDay();
+        this.seed = seed;
+        this.exerciseNames = exerciseNames;
+        this.primary = primary;
+        this.secondary = secondary;
+    }
+
+    Map<String, Long> getRowCounts() {
+        return rowCounts;
+    }
+
+    void generate() throws SQLException {
+        stage("catálogo", this::catalog);
+        stage("rotinas", this::routines);
+        stage("usuários", this::users);
+        stage("treinos e posts", this::workoutLogs);
+        stage("séries", this::exerciseSets);
+        stage("follows", this::follows);
+        stage("curtidas", this::likes);
+        stage("notificações", this::notifications);
+    }
+
+    private interface Stage {
+        void run() throws SQLException;
+    }
+
+    private void stage(String name, Stage stage) throws SQLException {
+        long before = rowCounts.values().stream().mapToLong(Long::longValue).sum();
+        long startNanos = System.nanoTime();
+        stage.run();
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        long rows = rowCounts.values().stream().mapToLong(Long::longValue).sum() - before;
+        System.out.printf(Locale.ROOT, "%-16s %,12d linhas em %6.1f s (%,.0f linhas/s)%n", name, rows, seconds, rows / seconds);
+    }
+
+    private void count(RowSink sink, String table) {
+        rowCounts.merge(table, sink.getRows(), Long::sum);
+    }
+
+    private SplittableRandom random(int stream) {
+        return new SplittableRandom(seed * 31 + stream);
+    }
+
+    private void catalog() throws SQLException {
+        try (RowSink muscleGroups = RowSink.open(primary, "muscle_groups", "id", "name", "name_pt", "description", "created_at")) {
+            for (int i = 0; i < MUSCLE_GROUPS.length; i++) {
+                muscleGroups.add(i + 1).add(MUSCLE_GROUPS[i][0]).add(MUSCLE_GROUPS[i][1]).add(null).add(start).endRow();
+            }
+            count(muscleGroups, "muscle_groups");
+        }
+        try (RowSink equipments = RowSink.open(primary, "equipments", "id", "name", "name_pt", "description", "created_at")) {
+            for (int i = 0; i < EQUIPMENTS.length; i++) {
+                equipments.add(i + 1).add(EQUIPMENTS[i][0]).add(EQUIPMENTS[i][1]).add(null).add(start).endRow();
+            }
+            count(equipments, "equipments");
+        }
+        try (RowSink levels = RowSink.open(primary, "difficulty_levels", "id", "name", "description", "level")) {
+            for (int i = 0; i < LEVELS.length; i++) {
+                levels.add(i + 1).add(LEVELS[i]).add(null).add(i + 1).endRow();
+            }
+            count(levels, "difficulty_levels");
+        }
+
+        SplittableRandom random = random(1);
+        int size = exerciseNames.size();
+        exerciseMuscleGroup = new int[size];
+        exerciseBaseWeight = new double[size];
+        try (RowSink exercises = RowSink.open(primary, "exercises", "id", "name", "original_name", "description",
+                "instructions", "primary_muscle_group_id", "equipment_id", "difficulty_level_id", "image_url",
+                "thumbnail_url", "external_id")) {
+            for (int e = 0; e < size; e++) {
+                String name = exerciseNames.get(e);
+                String lower = " " + name.toLowerCase(Locale.ROOT) + " ";
+                int muscleGroup = keyword(lower, MUSCLE_GROUP_KEYWORDS, e % MUSCLE_GROUPS.length);
+                int equipment = BODYWEIGHT;
+                for (int k = 0; k < EQUIPMENT_KEYWORDS.length; k++) {
+                    if (EQUIPMENT_KEYWORDS[k] != null && lower.contains(EQUIPMENT_KEYWORDS[k])) {
+                        equipment = k;
+                        break;
+                    }
+                }
+                exerciseMuscleGroup[e] = muscleGroup;
+                exerciseBaseWeight[e] = equipment == BODYWEIGHT ? 0 : 10 + 70 * random.nextDouble();
+                exercises.add(e + 1).add(name).add(name)
+                        .add("Exercício de " + MUSCLE_GROUPS[muscleGroup][1].toLowerCase(Locale.ROOT) + ".")
+                        .add("1. Posicione-se. 2. Execute o movimento com controle. 3. Retorne à posição inicial.")
+                        .add(muscleGroup + 1).add(equipment + 1).add(random.nextInt(LEVELS.length) + 1)
+                        .add("https://cdn.saga.dev/exercises/" + (e + 1) + ".jpg")
+                        .add("https://cdn.saga.dev/exercises/" + (e + 1) + "_thumb.jpg")
+                        .add("GEN-" + (e + 1))
+                        .endRow();
+            }
+            count(exercises, "exercises");
+        }
+    }
+
+    private static int keyword(String text, String[][] keywords, int fallback) {
+        for (int i = 0; i < keywords.length; i++) {
+            for (String keyword : keywords[i]) {
+                if (text.contains(keyword)) {
+                    return i;
+                }
+            }
+        }
+        return fallback;
+    }
+
+    private void routines() throws SQLException {
+        SplittableRandom random = random(2);
+        int routineCount = Math.max(20, userCount / 500);
+        routineFirstWorkout = new int[routineCount];
+        routineWorkoutCount = new int[routineCount];
+        int totalWorkouts = 0;
+        for (int r = 0; r < routineCount; r++) {
+            routineFirstWorkout[r] = totalWorkouts;
+            routineWorkoutCount[r] = 3 + r % 3; // ABC, ABCD, ABCDE
+            totalWorkouts += routineWorkoutCount[r];
+        }
+        workoutNames = new String[totalWorkouts];
+        workoutExercises = new int[totalWorkouts][];
+
+        // Exercícios clássicos concentram a maior parte das séries (e dos recordes)
+        Distributions.Zipf popularExercises = new Distributions.Zipf(exerciseNames.size(), 1.1);
+        int[] exerciseByPopularity = shuffled(exerciseNames.size(), random);
+
+        try (RowSink routines = RowSink.open(primary, "routines", "id", "name", "description", "duration_weeks",
+                "division", "target_profile_level")) {
+            for (int r = 0; r < routineCount; r++) {
+                String division = "ABCDE".substring(0, routineWorkoutCount[r]);
+                routines.add(r + 1).add("Rotina " + division + " #" + (r + 1)).add("Rotina gerada para testes de escala")
+                        .add(4 + r % 9).add(division).add(PROFILE_LEVELS[r % PROFILE_LEVELS.length]).endRow();
+            }
+            count(routines, "routines");
+        }
+        try (RowSink workouts = RowSink.open(primary, "workouts", "id", "name", "day_of_week", "routine_id")) {
+            for (int r = 0; r < routineCount; r++) {
+                for (int w = 0; w < routineWorkoutCount[r]; w++) {
+                    int workout = routineFirstWorkout[r] + w;
+                    workoutNames[workout] = "Treino " + (char) ('A' + w);
+                    workouts.add(workout + 1).add(workoutNames[workout]).add(null).add(r + 1).endRow();
+                }
+            }
+            count(workouts, "workouts");
+        }
+        try (RowSink items = RowSink.open(primary, "workout_exercises", "id", "workout_id", "exercise_id",
+                "exercise_order", "sets", "reps", "rest_time", "notes")) {
+            long id = 0;
+            for (int workout = 0; workout < totalWorkouts; workout++) {
+                Set<Integer> chosen = new HashSet<>();
+                int size = Math.min(5 + random.nextInt(4), exerciseNames.size());
+                workoutExercises[workout] = new int[size];
+                for (int order = 0; order < size; order++) {
+                    int exercise;
+                    do {
+                        exercise = exerciseByPopularity[popularExercises.sample(random)];
+                    } while (!chosen.add(exercise));
+                    workoutExercises[workout][order] = exercise;
+                    items.add(++id).add(workout + 1).add(exercise + 1).add(order + 1).add("3-4").add("8-12")
+                            .add("90s").add(null).endRow();
+                }
+            }
+            count(items, "workout_exercises");
+        }
+    }
+
+    private void users() throws SQLException {
+        SplittableRandom random = random(3);
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        Distributions.Zipf popularRoutines = new Distributions.Zipf(routineFirstWorkout.length, 1.0);
+
+        signupDay = new int[userCount];
+        churnDay = new int[userCount];
+        dailyRate = new float[userCount];
+        postChance = new float[userCount];
+        strength = new float[userCount];
+        routineOf = new int[userCount];
+        sessions = new int[userCount];
+        followers = new int[userCount];
+
+        try (RowSink users = RowSink.open(primary, "users", "id", "username", "email", "password_hash", "bio",
+                "height", "weight", "age", "fitness_goal")) {
+            for (int u = 0; u < userCount; u++) {
+                // 20% já existiam no início do período; o resto entra em ritmo crescente
+                signupDay[u] = random.nextDouble() < 0.2 ? 0 : (int) (days * Math.sqrt(random.nextDouble()));
+                dailyRate[u] = (float) Math.min(0.85, 0.03 * Distributions.pareto(random, 1.3));
+                // Quem treina mais desiste mais tarde
+                churnDay[u] = signupDay[u] + (int) (-Math.log(1 - random.nextDouble()) * 60 * (1 + 20 * dailyRate[u]));
+                postChance[u] = (float) (0.02 + 0.3 * Math.pow(random.nextDouble(), 3));
+                strength[u] = (float) Distributions.logNormal(random, 0, 0.35);
+                routineOf[u] = popularRoutines.sample(random);
+
+                int age = 16 + (int) (Distributions.logNormal(random, 3.2, 0.25) - 8);
+                users.add(u + 1).add("atleta" + (u + 1)).add("atleta" + (u + 1) + "@saga.dev").add(passwordHash)
+                        .add(random.nextDouble() < 0.3 ? "Treinando firme desde " + (2015 + random.nextInt(10)) : null)
+                        .add(String.format(Locale.ROOT, "%.2f", 1.55 + 0.4 * random.nextDouble()))
+                        .add(String.valueOf(50 + random.nextInt(60)))
+                        .add(String.valueOf(Math.max(16, Math.min(75, age))))
+                        .add(GOALS[random.nextInt(GOALS.length)])
+                        .endRow();
+            }
+            count(users, "users");
+        }
+        // Depois dos usuários: a chave estrangeira só enxerga linhas já confirmadas
+        try (RowSink userRoutines = RowSink.open(primary, "user_routines", "id", "user_id", "routine_id",
+                "start_date", "end_date", "active")) {
+            for (int u = 0; u < userCount; u++) {
+                userRoutines.add(u + 1).add(u + 1).add(routineOf[u] + 1)
+                        .add(start.toLocalDate().plusDays(signupDay[u])).add(null).add(true).endRow();
+            }
+            count(userRoutines, "user_routines");
+        }
+
+        // Ranking de popularidade acompanha a atividade: quem treina mais é mais seguido e curte mais
+        long[] byRate = new long[userCount];
+        for (int u = 0; u < userCount; u++) {
+            byRate[u] = ((long) Float.floatToIntBits(dailyRate[u]) << 32) | u;
+        }
+        Arrays.sort(byRate);
+        userByPopularity = new int[userCount];
+        for (int i = 0; i < userCount; i++) {
+            userByPopularity[i] = (int) byRate[userCount - 1 - i];
+        }
+        popularUsers = new Distributions.Zipf(userCount, 0.9);
+    }
+
+    private interface LogVisitor {
+        void visit(long logId, int user, int workout, int session, LocalDateTime startedAt, int durationMinutes)
+                throws SQLException;
+    }
+
+    /**
+     * Percorre os treinos registrados em ordem cronológica. Só usa o seu próprio gerador, então
+     * duas chamadas produzem exatamente a mesma sequência.
+     */
+    private void forEachLog(LogVisitor visitor) throws SQLException {
+        SplittableRandom random = random(4);
+        Arrays.fill(sessions, 0);
+        long[] today = new long[userCount];
+        long logId = 0;
+        for (int day = 0; day < days; day++) {
+            LocalDateTime date = start.plusDays(day);
+            double season = Distributions.season(date.toLocalDate());
+            int trained = 0;
+            for (int u = 0; u < userCount; u++) {
+                if (day >= signupDay[u] && day <= churnDay[u] && random.nextDouble() < dailyRate[u] * season) {
+                    today[trained++] = ((long) Distributions.startMinute(random) << 32) | u;
+                }
+            }
+            Arrays.sort(today, 0, trained);
+            for (int i = 0; i < trained; i++) {
+                int user = (int) today[i];
+                int minute = (int) (today[i] >>> 32);
+                int routine = routineOf[user];
+                int session = sessions[user]++;
+                int workout = routineFirstWorkout[routine] + session % routineWorkoutCount[routine];
+                visitor.visit(++logId, user, workout, session, date.plusMinutes(minute), 35 + random.nextInt(55));
+            }
+        }
+    }
+
+    private void workoutLogs() throws SQLException {
+        SplittableRandom random = random(5);
+        try (RowSink logs = RowSink.open(primary, "user_workout_logs", "id", "user_id", "workout_id",
+                "user_routine_id", "completed_at", "duration_minutes", "notes", "idempotency_key");
+             RowSink posts = RowSink.open(secondary, "posts", "id", "author_id", "content", "type", "is_public",
+                     "workout_id", "original_post_id", "created_at")) {
+            forEachLog((logId, user, workout, session, startedAt, duration) -> {
+                LocalDateTime completedAt = startedAt.plusMinutes(duration);
+                logs.add(logId).add(user + 1).add(workout + 1).add(user + 1).add(completedAt).add(duration)
+                        .add(random.nextDouble() < 0.05 ? "Treino pesado hoje" : null).add(null).endRow();
+
+                double roll = random.nextDouble();
+                if (roll < postChance[user]) {
+                    LocalDateTime createdAt = completedAt.plusMinutes(1 + random.nextInt(30));
+                    boolean workoutPost = roll < postChance[user] * 0.8;
+                    posts.add(postAuthor.size() + 1).add(user + 1)
+                            .add(workoutPost ? workoutNames[workout] + " concluído em " + duration + " min"
+                                    : TEXT_POSTS[random.nextInt(TEXT_POSTS.length)])
+                            .add(workoutPost ? "WORKOUT" : "TEXT").add(random.nextDouble() < 0.9)
+                            .add(workoutPost ? (Object) (long) (workout + 1) : null).add(null).add(createdAt).endRow();
+                    postAuthor.add(user);
+                    postMinute.add(minutes(createdAt));
+                }
+            });
+            count(logs, "user_workout_logs");
+            count(posts, "posts");
+        }
+    }
+
+    private void exerciseSets() throws SQLException {
+        SplittableRandom random = random(6);
+        int prWindowStart = days * 1440 - PR_ALERT_TTL_DAYS * 1440;
+        try (RowSink sets = RowSink.open(primary, "exercise_sets", "id", "user_id", "user_workout_log_id",
+                "exercise_id", "set_number", "reps", "weight", "distance", "duration_seconds", "rest_time_seconds",
+                "rpe", "is_completed", "notes", "created_at")) {
+            long[] setId = {0};
+            forEachLog((logId, user, workout, session, startedAt, duration) -> {
+                int[] exercises = workoutExercises[workout];
+                int round = session / routineWorkoutCount[routineOf[user]]; // Vezes que este treino já foi feito
+                int records = 0;
+                int recordExercise = -1;
+                LocalDateTime createdAt = startedAt;
+                for (int exercise : exercises) {
+                    boolean cardio = exerciseMuscleGroup[exercise] == CARDIO;
+                    double target = targetWeight(exercise, user, round);
+                    if (round > 0 && target > targetWeight(exercise, user, round - 1)) {
+                        records++;
+                        recordExercise = exercise;
+                    }
+                    int setCount = cardio ? 1 : 3 + (random.nextInt(3) == 0 ? 1 : 0);
+                    for (int s = 1; s <= setCount; s++) {
+                        createdAt = createdAt.plusMinutes(2 + random.nextInt(3));
+                        double weight = target - (random.nextInt(4) == 0 ? 2.5 : 0);
+                        sets.add(++setId[0]).add(user + 1).add(logId).add(exercise + 1).add(s)
+                                .add(cardio ? null : (Object) (12 - s - random.nextInt(3)))
+                                .add(cardio || weight <= 0 ? null : (Object) weight)
+                                .add(cardio ? (Object) (Math.round((3 + 5 * random.nextDouble()) * 100) / 100.0) : null)
+                                .add(cardio ? (Object) (600 + 60 * random.nextInt(30)) : null)
+                                .add(cardio ? null : (Object) (60 + 30 * random.nextInt(4)))
+                                .add(random.nextDouble() < 0.4 ? (Object) (6.5 + 0.5 * random.nextInt(7)) : null)
+                                .add(random.nextDouble() < 0.97)
+                                .add(null)
+                                .add(createdAt)
+                                .endRow();
+                    }
+                }
+                int minute = minutes(startedAt.plusMinutes(duration));
+                if (records > 0 && minute >= prWindowStart) {
+                    event(EVENT_PR, user, minute, recordExercise, records);
+                }
+            });
+            count(sets, "exercise_sets");
+        }
+    }
+
+    // Carga alvo do exercício na n-ésima vez que o treino é feito, em anilhas de 2,5 kg:
+    // progressão rápida no começo e cada vez mais lenta
+    private double targetWeight(int exercise, int user, int round) {
+        double weight = exerciseBaseWeight[exercise] * strength[user] * (1 + 0.4 * (1 - Math.exp(-round / 40.0)));
+        return Math.round(weight / 2.5) * 2.5;
+    }
+
+    private void follows() throws SQLException {
+        SplittableRandom random = random(7);
+        int notifyFrom = days - FRIEND_ACTIVITY_TTL_DAYS;
+        try (RowSink follows = RowSink.open(primary, "user_follows", "id", "follower_id", "followed_id", "created_at")) {
+            long id = 0;
+            Set<Integer> followed = new HashSet<>();
+            for (int u = 0; u < userCount; u++) {
+                int wanted = (int) Math.min(Math.min(1000, userCount - 1), Distributions.pareto(random, 1.4) * 6 - 3);
+                followed.clear();
+                for (int attempt = 0; followed.size() < wanted && attempt < wanted * 3; attempt++) {
+                    int target = userByPopularity[popularUsers.sample(random)];
+                    if (target == u || !followed.add(target)) {
+                        continue;
+                    }
+                    int from = Math.max(signupDay[u], signupDay[target]);
+                    int day = from + random.nextInt(Math.max(1, days - from));
+                    LocalDateTime createdAt = start.plusDays(day).plusMinutes(random.nextInt(1440));
+                    follows.add(++id).add(u + 1).add(target + 1).add(createdAt).endRow();
+                    followers[target]++;
+                    if (day >= notifyFrom) {
+                        event(EVENT_FOLLOW, target, minutes(createdAt), u, 1);
+                    }
+                }
+            }
+            count(follows, "user_follows");
+        }
+    }
+
+    private void likes() throws SQLException {
+        SplittableRandom random = random(8);
+        int end = days * 1440;
+        int notifyFrom = end - FRIEND_ACTIVITY_TTL_DAYS * 1440;
+        try (RowSink likes = RowSink.open(primary, "post_likes", "id", "post_id", "user_id", "created_at")) {
+            long id = 0;
+            Set<Integer> likers = new HashSet<>();
+            for (int p = 0; p < postAuthor.size(); p++) {
+                int author = postAuthor.get(p);
+                int postedAt = postMinute.get(p);
+                // Quem tem mais seguidores recebe mais curtidas, com cauda longa por post
+                int wanted = (int) Math.min(500, Distributions.pareto(random, 1.8) * (1 + followers[author] / 15.0) - 1);
+                likers.clear();
+                int lastLike = -1;
+                for (int attempt = 0; likers.size() < wanted && attempt < wanted * 3; attempt++) {
+                    int liker = userByPopularity[popularUsers.sample(random)];
+                    if (liker == author || signupDay[liker] * 1440 > postedAt || !likers.add(liker)) {
+                        continue;
+                    }
+                    int likedAt = Math.min(end - 1, postedAt + (int) (-Math.log(1 - random.nextDouble()) * 360));
+                    likes.add(++id).add(p + 1L).add(liker + 1).add(start.plusMinutes(likedAt)).endRow();
+                    lastLike = Math.max(lastLike, likedAt);
+                }
+                if (lastLike >= notifyFrom) {
+                    event(EVENT_LIKE, author, lastLike, p, likers.size());
+                }
+            }
+            count(likes, "post_likes");
+        }
+    }
+
+    private void notifications() throws SQLException {
+        SplittableRandom random = random(9);
+        int end = days * 1440;
+        long[] order = new long[eventKind.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = ((long) eventMinute.get(i) << 32) | i;
+        }
+        Arrays.sort(order);
+        try (RowSink notifications = RowSink.open(primary, "notifications", "id", "user_id", "type", "message",
+                "link", "created_at", "read_at")) {
+            for (int n = 0; n < order.length; n++) {
+                int i = (int) order[n];
+                int minute = eventMinute.get(i);
+                int count = eventCount.get(i);
+                int ref = eventRef.get(i);
+                String type;
+                String message;
+                String link;
+                if (eventKind.get(i) == EVENT_FOLLOW) {
+                    type = "FRIEND_ACTIVITY";
+                    message = "Você tem um novo seguidor";
+                    link = "/users/" + (ref + 1);
+                } else if (eventKind.get(i) == EVENT_LIKE) {
+                    type = "FRIEND_ACTIVITY";
+                    message = count == 1 ? "Alguém curtiu seu post" : count + " pessoas curtiram seu post";
+                    link = "/posts/" + (ref + 1);
+                } else {
+                    type = "NEW_PR_ALERT";
+                    message = count == 1 ? "Novo recorde pessoal em " + exerciseNames.get(ref) + "!"
+                            : "Você bateu " + count + " recordes pessoais neste treino!";
+                    link = "/records";
+                }
+                // Notificações antigas quase sempre já foram lidas; as dos últimos dias, nem tanto
+                boolean recent = end - minute < 2 * 1440;
+                int readAt = random.nextDouble() < (recent ? 0.3 : 0.85)
+                        ? minute + (int) (-Math.log(1 - random.nextDouble()) * 720) : -1;
+                notifications.add(n + 1L).add(eventUser.get(i) + 1).add(type).add(message).add(link)
+                        .add(start.plusMinutes(minute))
+                        .add(readAt >= 0 && readAt < end ? start.plusMinutes(readAt) : null)
+                        .endRow();
+            }
+            count(notifications, "notifications");
+        }
+    }
+
+    private void event(int kind, int user, int minute, int ref, int count) {
+        eventKind.add(kind);
+        eventUser.add(user);
+        eventMinute.add(minute);
+        eventRef.add(ref);
+        eventCount.add(count);
+    }
+
+    private int minutes(LocalDateTime time) {
+        return (int) java.time.Duration.between(start, time).toMinutes();
+    }
+
+    private static int[] shuffled(int size, SplittableRandom random) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    // Lista de int sem boxing, para posts e eventos (milhões de entradas)
+    private static final class Ints {
+        private int[] values = new int[1024];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.hevyclone.app.benchmark;
+
+import com.hevyclone.app.auth.security.AuthTokenFilter;
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.auth.security.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthTokenFilter de ponta a ponta: extrair o Bearer, validar e ler o JWT, montar a
+ * autenticação e seguir a cadeia. O carregamento do usuário devolve um objeto pronto, para
+ * medir só o filtro (a consulta ao banco aparece no benchmark de carga).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AuthTokenFilterBenchmark {
+
+    private AuthTokenFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        UserDetails user = new UserDetailsImpl(BenchmarkFixtures.user());
+        filter = new AuthTokenFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtils", JwtBenchmark.jwtUtils());
+        ReflectionTestUtils.setField(filter, "userDetailsService", new UserDetailsServiceImpl() {
+            @Override
+            public UserDetails loadUserByUsername(String username) {
+                return user;
+            }
+        });
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+
+        String token = JwtBenchmark.jwtUtils().generateJwtToken(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        request = new MockHttpServletRequest("GET", "/api/feed");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        SecurityContextHolder.clearContext();
+        // O filtro é OncePerRequest: marca a requisição, então limpa o atributo a cada chamada
+        request.removeAttribute(AuthTokenFilter.class.getName() + ".FILTERED");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
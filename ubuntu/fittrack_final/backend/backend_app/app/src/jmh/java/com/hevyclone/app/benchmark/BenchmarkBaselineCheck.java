@@ -0,0 +1,78 @@
+package com.hevyclone.app.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compara o resultado JSON do JMH com um baseline e falha (código 1) se algum benchmark piorou
+ * mais que o limite percentual. Benchmarks sem par no baseline são só listados.
+ *
+ * Uso: BenchmarkBaselineCheck target/jmh-result.json baseline.json 10
+ * Sem baseline (segundo argumento vazio) apenas imprime o resultado.
+ */
+public final class BenchmarkBaselineCheck {
+
+    private BenchmarkBaselineCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Uso: BenchmarkBaselineCheck <resultado.json> [baseline.json] [limite %]");
+            System.exit(2);
+        }
+        Map<String, JsonNode> current = read(new File(args[0]));
+        String baselinePath = args.length > 1 ? args[1].trim() : "";
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100.0 : 0.10;
+
+        if (baselinePath.isEmpty()) {
+            current.forEach((key, result) -> System.out.printf("%-90s %12.3f %s%n", key,
+                    score(result), result.path("primaryMetric").path("scoreUnit").asText()));
+            return;
+        }
+
+        Map<String, JsonNode> baseline = read(new File(baselinePath));
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            double now = score(entry.getValue());
+            if (before == null) {
+                System.out.printf("NOVO   %-83s %12.3f%n", entry.getKey(), now);
+                continue;
+            }
+            double was = score(before);
+            // Throughput: maior é melhor; tempo médio/amostrado/single shot: menor é melhor
+            boolean higherIsBetter = "thrpt".equals(entry.getValue().path("mode").asText());
+            double change = was == 0 ? 0 : (now - was) / was;
+            boolean regressed = higherIsBetter ? change < -threshold : change > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-6s %-83s %12.3f -> %12.3f (%+.1f%%)%n",
+                    regressed ? "PIOROU" : "ok", entry.getKey(), was, now, change * 100);
+        }
+        if (regressions > 0) {
+            System.err.printf("%d benchmark(s) pioraram mais de %.0f%% em relação ao baseline%n", regressions, threshold * 100);
+            System.exit(1);
+        }
+    }
+
+    // Chave: nome do benchmark + parâmetros (ex.: ExerciseMapperBenchmark.toDtoCatalog{"catalogSize":"1000"})
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            String name = result.path("benchmark").asText().replace("com.hevyclone.app.benchmark.", "");
+            JsonNode params = result.path("params");
+            results.put(params.isMissingNode() ? name : name + params, result);
+        }
+        return results;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+}
@@ -0,0 +1,115 @@
+package com.hevyclone.app.benchmark;
+
+import com.hevyclone.app.model.exercise.DifficultyLevel;
+import com.hevyclone.app.model.exercise.Equipment;
+import com.hevyclone.app.model.exercise.Exercise;
+import com.hevyclone.app.model.exercise.MuscleGroup;
+import com.hevyclone.app.model.profile.UserProfileLevel;
+import com.hevyclone.app.model.routine.Routine;
+import com.hevyclone.app.model.routine.Workout;
+import com.hevyclone.app.model.routine.WorkoutExercise;
+import com.hevyclone.app.user.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dados sintéticos dos benchmarks, com o formato do catálogo real (nomes, URLs e ids externos
+ * preenchidos como vêm da importação). Gerados de forma determinística para que duas execuções
+ * meçam exatamente a mesma coisa.
+ */
+final class BenchmarkFixtures {
+
+    // Segredo de 64 bytes: HS512 exige pelo menos 512 bits
+    static final String JWT_SECRET = "benchmark-secret-key-with-at-least-sixty-four-bytes-for-hs512-ok!";
+    static final String USER_EMAIL = "benchmark@saga.com";
+
+    private static final String[] MUSCLE_GROUPS = {
+            "Peito", "Costas", "Ombros", "Bíceps", "Tríceps", "Quadríceps", "Posterior", "Glúteos", "Panturrilha", "Abdômen"};
+    private static final String[] EQUIPMENTS = {"Barra", "Halteres", "Máquina", "Polia", "Peso corporal", "Kettlebell"};
+    private static final String[] LEVELS = {"Iniciante", "Intermediário", "Avançado"};
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Exercise> catalog(int size) {
+        List<MuscleGroup> muscleGroups = new ArrayList<>();
+        for (int i = 0; i < MUSCLE_GROUPS.length; i++) {
+            muscleGroups.add(MuscleGroup.builder().id((long) i + 1).name(MUSCLE_GROUPS[i]).namePt(MUSCLE_GROUPS[i]).build());
+        }
+        List<Equipment> equipments = new ArrayList<>();
+        for (int i = 0; i < EQUIPMENTS.length; i++) {
+            equipments.add(Equipment.builder().id((long) i + 1).name(EQUIPMENTS[i]).namePt(EQUIPMENTS[i]).build());
+        }
+        List<DifficultyLevel> levels = new ArrayList<>();
+        for (int i = 0; i < LEVELS.length; i++) {
+            levels.add(DifficultyLevel.builder().id((long) i + 1).name(LEVELS[i]).level(i + 1).build());
+        }
+
+        List<Exercise> exercises = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            exercises.add(exercise((long) i + 1,
+                    muscleGroups.get(i % muscleGroups.size()),
+                    equipments.get(i % equipments.size()),
+                    levels.get(i % levels.size())));
+        }
+        return exercises;
+    }
+
+    static Exercise exercise(Long id, MuscleGroup muscleGroup, Equipment equipment, DifficultyLevel level) {
+        return Exercise.builder()
+                .id(id)
+                .name("Exercício " + id + " - " + muscleGroup.getName() + " com " + equipment.getName())
+                .originalName("Exercise " + id)
+                .description("Movimento composto para " + muscleGroup.getName() + ", executado com " + equipment.getName() + ".")
+                .instructions("1. Posicione-se. 2. Execute o movimento controlando a fase excêntrica. 3. Retorne à posição inicial.")
+                .primaryMuscleGroup(muscleGroup)
+                .equipment(equipment)
+                .difficultyLevel(level)
+                .imageUrl("https://cdn.saga.com/exercises/" + id + ".jpg")
+                .videoUrl("https://cdn.saga.com/exercises/" + id + ".mp4")
+                .animationUrl("https://cdn.saga.com/exercises/" + id + ".gif")
+                .thumbnailUrl("https://cdn.saga.com/exercises/" + id + "_thumb.jpg")
+                .externalId("HEVY-" + (100000 + id))
+                .build();
+    }
+
+    /**
+     * Rotina com o grafo que o detalhe de rotina serializa: treinos, exercícios do treino e exercício.
+     */
+    static Routine routine(int workouts, int exercisesPerWorkout, List<Exercise> catalog) {
+        Routine routine = new Routine("Hipertrofia ABCDE", "Rotina de 12 semanas com divisão ABCDE", 12, "ABCDE",
+                UserProfileLevel.values()[0]);
+        routine.setId(1L);
+        List<Workout> workoutList = new ArrayList<>();
+        for (int w = 0; w < workouts; w++) {
+            Workout workout = new Workout("Treino " + (char) ('A' + w), null, routine);
+            workout.setId((long) w + 1);
+            List<WorkoutExercise> items = new ArrayList<>();
+            for (int e = 0; e < exercisesPerWorkout; e++) {
+                WorkoutExercise item = new WorkoutExercise();
+                item.setId((long) w * exercisesPerWorkout + e + 1);
+                item.setWorkout(workout);
+                item.setExercise(catalog.get((w * exercisesPerWorkout + e) % catalog.size()));
+                item.setOrder(e + 1);
+                item.setSets("3-4");
+                item.setReps("8-12");
+                item.setRestTime("90s");
+                items.add(item);
+            }
+            workout.setWorkoutExercises(items);
+            workoutList.add(workout);
+        }
+        routine.setWorkouts(workoutList);
+        return routine;
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("benchmark");
+        user.setEmail(USER_EMAIL);
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z2YxkCqC7.bSRgHbmzVwV0dS");
+        return user;
+    }
+}
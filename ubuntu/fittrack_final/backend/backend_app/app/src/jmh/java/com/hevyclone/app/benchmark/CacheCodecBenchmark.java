@@ -0,0 +1,70 @@
+package com.hevyclone.app.benchmark;
+
+import com.hevyclone.app.dto.exercise.ExerciseResponseDTO;
+import com.hevyclone.app.mapper.ExerciseMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codec do cache Redis (GenericJackson2JsonRedisSerializer, o mesmo do RedisConfig) para os
+ * valores cacheados de exercícios: o catálogo inteiro ("exercises") e um exercício ("exercise").
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheCodecBenchmark {
+
+    private GenericJackson2JsonRedisSerializer serializer;
+    private List<ExerciseResponseDTO> catalog;
+    private ExerciseResponseDTO exercise;
+    private byte[] encodedCatalog;
+    private byte[] encodedExercise;
+
+    @Setup
+    public void setUp() {
+        serializer = new GenericJackson2JsonRedisSerializer();
+        ExerciseMapper mapper = Mappers.getMapper(ExerciseMapper.class);
+        // ArrayList: é o que o Collectors.toList() do serviço entrega ao cache
+        catalog = new ArrayList<>(BenchmarkFixtures.catalog(1000).stream().map(mapper::toDto).toList());
+        exercise = catalog.get(0);
+        encodedCatalog = serializer.serialize(catalog);
+        encodedExercise = serializer.serialize(exercise);
+    }
+
+    @Benchmark
+    public byte[] encodeCatalog() {
+        return serializer.serialize(catalog);
+    }
+
+    @Benchmark
+    public Object decodeCatalog() {
+        return serializer.deserialize(encodedCatalog);
+    }
+
+    @Benchmark
+    public byte[] encodeExercise() {
+        return serializer.serialize(exercise);
+    }
+
+    @Benchmark
+    public Object decodeExercise() {
+        return serializer.deserialize(encodedExercise);
+    }
+}
@@ -0,0 +1,54 @@
+package com.hevyclone.app.benchmark;
+
+import com.hevyclone.app.dto.exercise.ExerciseResponseDTO;
+import com.hevyclone.app.mapper.ExerciseMapper;
+import com.hevyclone.app.model.exercise.Exercise;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExerciseMapper.toDto sobre o catálogo inteiro, como em GET /api/exercises sem cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExerciseMapperBenchmark {
+
+    @Param({"100", "1000"})
+    public int catalogSize;
+
+    private ExerciseMapper mapper;
+    private List<Exercise> catalog;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(ExerciseMapper.class);
+        catalog = BenchmarkFixtures.catalog(catalogSize);
+    }
+
+    @Benchmark
+    public List<ExerciseResponseDTO> toDtoCatalog() {
+        List<ExerciseResponseDTO> dtos = new ArrayList<>(catalog.size());
+        for (Exercise exercise : catalog) {
+            dtos.add(mapper.toDto(exercise));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,127 @@
+package com.hevyclone.app.benchmark;
+
+import com.hevyclone.app.service.social.FeedTimeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out do feed sobre um grafo de seguidores com distribuição de lei de potência: cada
+ * usuário segue followsPerUser contas sorteadas por Zipf(alpha), de modo que poucas contas
+ * concentram a maior parte dos seguidores.
+ *
+ * publish grava um post de autor aleatório nas timelines dos seguidores, exceto quando o autor
+ * passa do limite de celebridade (0 = sem limite), caso em que o post é mesclado na leitura.
+ * readPage lê uma página de 20 ids por cursor numa timeline cheia.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedFanoutBenchmark {
+
+    private static final int TIMELINE_CAPACITY = 800;
+
+    @Param({"50000"})
+    public int users;
+
+    @Param({"50"})
+    public int followsPerUser;
+
+    @Param({"1.1"})
+    public double alpha;
+
+    @Param({"0", "10000", "1000"})
+    public long celebrityThreshold;
+
+    private int[][] followers;
+    private FeedTimeline[] timelines;
+    private FeedTimeline fullTimeline;
+    private SplittableRandom random;
+    private long nextPostId;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(42);
+        followers = buildFollowers(users, followsPerUser, alpha, random);
+        timelines = new FeedTimeline[users];
+        for (int i = 0; i < users; i++) {
+            timelines[i] = new FeedTimeline(TIMELINE_CAPACITY);
+        }
+        long[] ids = new long[TIMELINE_CAPACITY];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ids.length - i;
+        }
+        fullTimeline = new FeedTimeline(TIMELINE_CAPACITY, ids);
+    }
+
+    @Benchmark
+    public int publish() {
+        int author = random.nextInt(users);
+        int[] audience = followers[author];
+        if (celebrityThreshold > 0 && audience.length >= celebrityThreshold) {
+            return 0; // Celebridade: mesclada na leitura
+        }
+        long postId = ++nextPostId;
+        for (int follower : audience) {
+            timelines[follower].add(postId);
+        }
+        return audience.length;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long[] readPage() {
+        return fullTimeline.before(1 + random.nextInt(TIMELINE_CAPACITY), 20);
+    }
+
+    // Lista de seguidores por conta; os alvos de cada usuário seguem Zipf(alpha) sobre os ids
+    private static int[][] buildFollowers(int users, int followsPerUser, double alpha, SplittableRandom random) {
+        double[] cumulative = new double[users];
+        double total = 0;
+        for (int rank = 0; rank < users; rank++) {
+            total += 1.0 / Math.pow(rank + 1, alpha);
+            cumulative[rank] = total;
+        }
+        int[] counts = new int[users];
+        int[] edgesFrom = new int[users * followsPerUser];
+        int[] edgesTo = new int[users * followsPerUser];
+        int edges = 0;
+        for (int user = 0; user < users; user++) {
+            for (int k = 0; k < followsPerUser; k++) {
+                int target = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                target = target >= 0 ? target : -target - 1;
+                if (target == user) {
+                    continue;
+                }
+                edgesFrom[edges] = user;
+                edgesTo[edges] = target;
+                counts[target]++;
+                edges++;
+            }
+        }
+        int[][] followers = new int[users][];
+        for (int user = 0; user < users; user++) {
+            followers[user] = new int[counts[user]];
+        }
+        int[] fill = new int[users];
+        for (int e = 0; e < edges; e++) {
+            followers[edgesTo[e]][fill[edgesTo[e]]++] = edgesFrom[e];
+        }
+        return followers;
+    }
+}
@@ -0,0 +1,64 @@
+package com.hevyclone.app.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hevyclone.app.dto.exercise.ExerciseResponseDTO;
+import com.hevyclone.app.mapper.ExerciseMapper;
+import com.hevyclone.app.model.exercise.Exercise;
+import com.hevyclone.app.model.routine.Routine;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização das respostas mais pesadas: detalhe de rotina (rotina, treinos, exercícios do
+ * treino e exercício completo) e uma página de ExerciseResponseDTO, com o ObjectMapper
+ * montado como o do Boot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Routine routine;
+    private Page<ExerciseResponseDTO> exercisePage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Exercise> catalog = BenchmarkFixtures.catalog(1000);
+        routine = BenchmarkFixtures.routine(5, 8, catalog);
+
+        ExerciseMapper mapper = Mappers.getMapper(ExerciseMapper.class);
+        List<ExerciseResponseDTO> content = catalog.subList(0, 50).stream().map(mapper::toDto).toList();
+        exercisePage = new PageImpl<>(content, PageRequest.of(0, 50), catalog.size());
+    }
+
+    @Benchmark
+    public byte[] routineDetail() throws Exception {
+        return objectMapper.writeValueAsBytes(routine);
+    }
+
+    @Benchmark
+    public byte[] exercisePage() throws Exception {
+        return objectMapper.writeValueAsBytes(exercisePage);
+    }
+}
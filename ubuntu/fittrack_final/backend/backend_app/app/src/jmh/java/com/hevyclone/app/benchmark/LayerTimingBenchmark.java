@@ -0,0 +1,68 @@
+package com.hevyclone.app.benchmark;
+
+import com.hevyclone.app.config.timing.LayerTimingInterceptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do saga.method por chamada: o mesmo serviço atrás de um proxy sem advice (o que todo
+ * serviço @Transactional já tem) e atrás do proxy com o LayerTimingInterceptor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LayerTimingBenchmark {
+
+    @Service
+    public static class SampleService {
+        private long calls;
+
+        public long call() {
+            return ++calls;
+        }
+    }
+
+    private SampleService plainProxy;
+    private SampleService timedProxy;
+
+    @Setup
+    public void setUp() {
+        ProxyFactory plain = new ProxyFactory(new SampleService());
+        plain.setProxyTargetClass(true);
+        plainProxy = (SampleService) plain.getProxy();
+
+        ProxyFactory timed = new ProxyFactory(new SampleService());
+        timed.setProxyTargetClass(true);
+        timed.addAdvisor(LayerTimingInterceptor.advisor(new AnnotationClassFilter(Service.class, true),
+                new LayerTimingInterceptor(new SimpleMeterRegistry(), "service", List.of())));
+        timedProxy = (SampleService) timed.getProxy();
+    }
+
+    @Benchmark
+    public long plainProxy() {
+        return plainProxy.call();
+    }
+
+    @Benchmark
+    public long timedProxy() {
+        return timedProxy.call();
+    }
+}
@@ -0,0 +1,100 @@
+package com.hevyclone.app.benchmark;
+
+import com.hevyclone.app.service.geo.GeoGridIndex;
+import com.hevyclone.app.service.geo.GeoHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca por proximidade no índice em grade, com os usuários distribuídos pela região quente
+ * padrão (Brasil) e concentrados em algumas capitais com densidade decrescente. As buscas
+ * partem de pontos onde há usuários (o caso comum: o app envia a posição do próprio usuário).
+ *
+ * gridWithin usa o índice com limite de 50 resultados; fullScan é a varredura com haversine em
+ * todos os usuários, a referência que o índice substitui.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NearbySearchBenchmark {
+
+    // Capitais (lat, lng) e peso relativo de usuários
+    private static final double[][] CITIES = {
+            {-23.5505, -46.6333, 12}, {-22.9068, -43.1729, 7}, {-19.9167, -43.9345, 3},
+            {-15.7939, -47.8828, 3}, {-30.0346, -51.2177, 2}, {-25.4284, -49.2733, 2},
+            {-12.9714, -38.5014, 3}, {-8.0476, -34.8770, 2}, {-3.7319, -38.5267, 2}, {-3.1190, -60.0217, 1}
+    };
+
+    @Param({"1000000"})
+    public int users;
+
+    @Param({"10"})
+    public double radiusKm;
+
+    private double[] lats;
+    private double[] lngs;
+    private GeoGridIndex index;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(42);
+        lats = new double[users];
+        lngs = new double[users];
+        double totalWeight = Arrays.stream(CITIES).mapToDouble(city -> city[2]).sum();
+        for (int i = 0; i < users; i++) {
+            double pick = random.nextDouble() * totalWeight;
+            double[] city = CITIES[0];
+            for (double[] candidate : CITIES) {
+                pick -= candidate[2];
+                if (pick <= 0) {
+                    city = candidate;
+                    break;
+                }
+            }
+            // 80% na região metropolitana (~30 km), 20% espalhados pelo estado (~300 km)
+            double spreadKm = random.nextDouble() < 0.8 ? 30 : 300;
+            lats[i] = city[0] + random.nextDouble(-1, 1) * spreadKm / 111.32 * Math.sqrt(random.nextDouble());
+            lngs[i] = city[1] + random.nextDouble(-1, 1) * spreadKm / 111.32 * Math.sqrt(random.nextDouble());
+        }
+        index = new GeoGridIndex(5, -34.0, -74.0, 5.5, -34.0);
+        for (int i = 0; i < users; i++) {
+            index.put(i + 1L, lats[i], lngs[i]);
+        }
+    }
+
+    @Benchmark
+    public int gridWithin() {
+        int origin = random.nextInt(users);
+        return index.within(lats[origin], lngs[origin], radiusKm, 50).size();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int fullScan() {
+        int origin = random.nextInt(users);
+        int found = 0;
+        for (int i = 0; i < users; i++) {
+            if (GeoHash.distanceKm(lats[origin], lngs[origin], lats[i], lngs[i]) <= radiusKm) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,114 @@
+package com.hevyclone.app.benchmark;
+
+import com.hevyclone.app.HevycloneAppApplication;
+import com.hevyclone.app.model.exercise.Exercise;
+import com.hevyclone.app.model.exercise.MuscleGroup;
+import com.hevyclone.app.model.routine.Routine;
+import com.hevyclone.app.repository.exercise.ExerciseRepository;
+import com.hevyclone.app.repository.exercise.MuscleGroupRepository;
+import com.hevyclone.app.service.routine.RoutineService;
+import com.hevyclone.app.service.routine.RoutineService.RoutineCreationDTO;
+import com.hevyclone.app.service.routine.RoutineService.WorkoutCreationDTO;
+import com.hevyclone.app.service.routine.RoutineService.WorkoutExerciseCreationDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RoutineService.createCompleteRoutine com a aplicação inteira no H2 em memória (perfil padrão):
+ * 5 treinos com 8 exercícios cada, com transação, flush e o SQL real do Hibernate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoutineServiceBenchmark {
+
+    private static final int WORKOUTS = 5;
+    private static final int EXERCISES_PER_WORKOUT = 8;
+
+    private ConfigurableApplicationContext context;
+    private RoutineService routineService;
+    private RoutineCreationDTO request;
+
+    @Setup
+    public void setUp() {
+        // Argumentos de linha de comando: SpringApplicationBuilder.properties perde para o application.properties
+        context = new SpringApplicationBuilder(HevycloneAppApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        routineService = context.getBean(RoutineService.class);
+        request = request(seedExercises());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private List<Long> seedExercises() {
+        MuscleGroup muscleGroup = context.getBean(MuscleGroupRepository.class)
+                .save(MuscleGroup.builder().name("Peito").namePt("Peito").build());
+        List<Exercise> exercises = new ArrayList<>();
+        for (Exercise exercise : BenchmarkFixtures.catalog(WORKOUTS * EXERCISES_PER_WORKOUT)) {
+            exercise.setId(null);
+            exercise.setPrimaryMuscleGroup(muscleGroup);
+            exercise.setEquipment(null);
+            exercise.setDifficultyLevel(null);
+            exercises.add(exercise);
+        }
+        return context.getBean(ExerciseRepository.class).saveAll(exercises).stream().map(Exercise::getId).toList();
+    }
+
+    private static RoutineCreationDTO request(List<Long> exerciseIds) {
+        List<WorkoutCreationDTO> workouts = new ArrayList<>();
+        for (int w = 0; w < WORKOUTS; w++) {
+            List<WorkoutExerciseCreationDTO> exercises = new ArrayList<>();
+            for (int e = 0; e < EXERCISES_PER_WORKOUT; e++) {
+                WorkoutExerciseCreationDTO exercise = new WorkoutExerciseCreationDTO();
+                exercise.setExerciseId(exerciseIds.get(w * EXERCISES_PER_WORKOUT + e));
+                exercise.setOrder(e + 1);
+                exercise.setSets("3-4");
+                exercise.setReps("8-12");
+                exercise.setRestTime("90s");
+                exercises.add(exercise);
+            }
+            WorkoutCreationDTO workout = new WorkoutCreationDTO();
+            workout.setName("Treino " + (char) ('A' + w));
+            workout.setExercises(exercises);
+            workouts.add(workout);
+        }
+        RoutineCreationDTO routine = new RoutineCreationDTO();
+        routine.setName("Hipertrofia ABCDE");
+        routine.setDescription("Rotina de 12 semanas com divisão ABCDE");
+        routine.setDurationWeeks(12);
+        routine.setDivision("ABCDE");
+        routine.setWorkouts(workouts);
+        return routine;
+    }
+
+    @Benchmark
+    public Routine createCompleteRoutine() {
+        return routineService.createCompleteRoutine(request);
+    }
+}
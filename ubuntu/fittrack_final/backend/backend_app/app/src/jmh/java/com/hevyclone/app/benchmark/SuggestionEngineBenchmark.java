@@ -0,0 +1,119 @@
+package com.hevyclone.app.benchmark;
+
+import com.hevyclone.app.service.social.FollowGraph;
+import com.hevyclone.app.service.social.SuggestionEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Motor de sugestões sobre um grafo sintético com lei de potência (alvos dos follows sorteados
+ * por Zipf, como em FeedFanoutBenchmark): montagem do CSR, cálculo em lote de todos os usuários
+ * e recálculo individual (o caminho usado depois de um follow).
+ *
+ * Montagem e lote são operações de segundos, medidas uma vez por iteração (SingleShotTime).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SuggestionEngineBenchmark {
+
+    @Param({"200000"})
+    public int users;
+
+    @Param({"30"})
+    public int followsPerUser;
+
+    @Param({"1.1"})
+    public double alpha;
+
+    @Param({"20"})
+    public int k;
+
+    private int[] followerIds;
+    private int[] followedIds;
+    private FollowGraph graph;
+    private SuggestionEngine engine;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(42);
+        double[] cumulative = new double[users];
+        double total = 0;
+        for (int rank = 0; rank < users; rank++) {
+            total += 1.0 / Math.pow(rank + 1, alpha);
+            cumulative[rank] = total;
+        }
+        followerIds = new int[users * followsPerUser];
+        followedIds = new int[users * followsPerUser];
+        int e = 0;
+        for (int user = 1; user <= users; user++) {
+            for (int f = 0; f < followsPerUser; f++) {
+                int target = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                followerIds[e] = user;
+                followedIds[e] = (target >= 0 ? target : -target - 1) + 1;
+                e++;
+            }
+        }
+        graph = buildGraph();
+
+        Map<Long, long[]> routines = new HashMap<>();
+        Map<Long, Integer> levels = new HashMap<>();
+        for (long user = 1; user <= users; user++) {
+            routines.put(user, new long[]{random.nextInt(50)});
+            levels.put(user, random.nextInt(3));
+        }
+        engine = new SuggestionEngine(graph, routines, levels, 10, 3, 2);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public FollowGraph buildGraph() {
+        FollowGraph.Builder builder = FollowGraph.builder();
+        for (int e = 0; e < followerIds.length; e++) {
+            builder.addEdge(followerIds[e], followedIds[e]);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int[] computeAll() {
+        return engine.computeAll(k);
+    }
+
+    @Benchmark
+    public long[] topK() {
+        long userId = 1 + random.nextInt(users);
+        return engine.topK(userId, k, id -> neighborsOf(graph, id));
+    }
+
+    private static long[] neighborsOf(FollowGraph graph, long userId) {
+        int[] neighbors = graph.neighbors(graph.indexOf(userId));
+        long[] ids = new long[neighbors.length];
+        for (int i = 0; i < neighbors.length; i++) {
+            ids[i] = graph.userIdAt(neighbors[i]);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,63 @@
+package com.hevyclone.app.loadtest;
+
+import com.hevyclone.app.config.exchange.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências e respostas de um endpoint durante a janela medida.
+ *
+ * "latency" é corrigida para coordinated omission: conta a partir do instante em que a
+ * requisição deveria ter saído pelo agendamento, não de quando saiu. Se o servidor trava e
+ * o gerador atrasa, a fila de espera aparece aqui. "serviceTime" conta só do envio à
+ * resposta, que é o que um gerador em modelo fechado reportaria.
+ */
+class EndpointStats {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    /**
+     * @param status status HTTP, ou 0 quando a requisição falhou sem resposta
+     */
+    void record(long intendedNanos, long sentNanos, long endNanos, int status) {
+        latency.record((endNanos - intendedNanos) / 1000);
+        serviceTime.record((endNanos - sentNanos) / 1000);
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        if (status == 0 || status >= 400) {
+            errors.increment();
+        }
+    }
+
+    LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    LatencyHistogram getServiceTime() {
+        return serviceTime;
+    }
+
+    long getCount() {
+        return latency.getCount();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    double getErrorRate() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getErrors() / count;
+    }
+
+    Map<Integer, Long> getStatuses() {
+        Map<Integer, Long> result = new TreeMap<>();
+        statuses.forEach((status, count) -> result.put(status, count.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+package com.hevyclone.app.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hevyclone.app.config.exchange.LatencyHistogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Resultado do teste de carga: tabela no console, JSON para o CI e a verificação de limites.
+ *
+ * Os limites vêm de um arquivo de propriedades, por nome de operação ou "default":
+ * &lt;nome&gt;.p99-ms, &lt;nome&gt;.error-rate e min-throughput-ratio (vazão atingida / pedida).
+ * Com um baseline (JSON de uma execução anterior), o p99 de cada operação também não pode
+ * piorar mais que a tolerância percentual.
+ */
+class LoadTestReport {
+
+    // Diferenças de p99 abaixo disso são ruído de agendamento, não regressão
+    private static final double BASELINE_MIN_DELTA_MS = 2.0;
+
+    private final OpenModelLoadGenerator generator;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    LoadTestReport(OpenModelLoadGenerator generator) {
+        this.generator = generator;
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<String, EndpointStats> entry : generator.getStats().entrySet()) {
+            EndpointStats stats = entry.getValue();
+            total += stats.getCount();
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", generator.endpointOf(entry.getKey()));
+            endpoint.put("count", stats.getCount());
+            endpoint.put("throughput", stats.getCount() / generator.getMeasuredSeconds());
+            endpoint.put("errors", stats.getErrors());
+            endpoint.put("errorRate", stats.getErrorRate());
+            endpoint.put("statuses", stats.getStatuses());
+            endpoint.put("latency", percentiles(stats.getLatency()));
+            endpoint.put("serviceTime", percentiles(stats.getServiceTime()));
+            endpoints.put(entry.getKey(), endpoint);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("targetRate", generator.getRatePerSecond());
+        result.put("achievedRate", total / generator.getMeasuredSeconds());
+        result.put("measuredSeconds", generator.getMeasuredSeconds());
+        result.put("endpoints", endpoints);
+        return result;
+    }
+
+    void print() {
+        System.out.printf("%-22s %-58s %8s %8s %9s %9s %9s %9s %10s%n",
+                "operação", "endpoint", "req", "req/s", "erros", "p50 ms", "p99 ms", "p99.9 ms", "serv p99");
+        generator.getStats().forEach((name, stats) -> System.out.printf("%-22s %-58s %8d %8.1f %9d %9.1f %9.1f %9.1f %10.1f%n",
+                name, generator.endpointOf(name), stats.getCount(), stats.getCount() / generator.getMeasuredSeconds(),
+                stats.getErrors(), millis(stats.getLatency(), 50), millis(stats.getLatency(), 99),
+                millis(stats.getLatency(), 99.9), millis(stats.getServiceTime(), 99)));
+    }
+
+    void write(File file) throws IOException {
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, toMap());
+    }
+
+    /**
+     * @return violações encontradas; vazio quando a execução passou
+     */
+    List<String> check(Properties thresholds, File baseline, double tolerancePercent) throws IOException {
+        List<String> violations = new ArrayList<>();
+        double achieved = ((Number) toMap().get("achievedRate")).doubleValue();
+        double minRatio = Double.parseDouble(thresholds.getProperty("min-throughput-ratio", "0"));
+        if (achieved < generator.getRatePerSecond() * minRatio) {
+            violations.add(String.format("vazão %.1f req/s abaixo de %.0f%% da taxa pedida (%.1f req/s)",
+                    achieved, minRatio * 100, generator.getRatePerSecond()));
+        }
+
+        JsonNode previous = baseline != null ? objectMapper.readTree(baseline).path("endpoints") : null;
+        generator.getStats().forEach((name, stats) -> {
+            double p99 = millis(stats.getLatency(), 99);
+            String maxP99 = limit(thresholds, name, "p99-ms");
+            if (maxP99 != null && p99 > Double.parseDouble(maxP99)) {
+                violations.add(String.format("%s: p99 %.1f ms acima do limite de %s ms", name, p99, maxP99));
+            }
+            String maxErrorRate = limit(thresholds, name, "error-rate");
+            if (maxErrorRate != null && stats.getErrorRate() > Double.parseDouble(maxErrorRate)) {
+                violations.add(String.format("%s: %.2f%% de erros acima do limite de %.2f%% (%s)", name,
+                        stats.getErrorRate() * 100, Double.parseDouble(maxErrorRate) * 100, stats.getStatuses()));
+            }
+            JsonNode before = previous != null ? previous.path(name).path("latency").path("p99Ms") : null;
+            if (before != null && before.isNumber()) {
+                double was = before.asDouble();
+                if (p99 > was * (1 + tolerancePercent / 100) && p99 - was > BASELINE_MIN_DELTA_MS) {
+                    violations.add(String.format("%s: p99 %.1f ms piorou mais de %.0f%% em relação ao baseline (%.1f ms)",
+                            name, p99, tolerancePercent, was));
+                }
+            }
+        });
+        return violations;
+    }
+
+    private static String limit(Properties thresholds, String name, String key) {
+        return thresholds.getProperty(name + "." + key, thresholds.getProperty("default." + key));
+    }
+
+    private static Map<String, Object> percentiles(LatencyHistogram histogram) {
+        Map<String, Object> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50Ms", millis(histogram, 50));
+        percentiles.put("p90Ms", millis(histogram, 90));
+        percentiles.put("p99Ms", millis(histogram, 99));
+        percentiles.put("p999Ms", millis(histogram, 99.9));
+        percentiles.put("maxMs", histogram.getMaxMicros() / 1000.0);
+        return percentiles;
+    }
+
+    private static double millis(LatencyHistogram histogram, double percentile) {
+        return histogram.percentileMicros(percentile) / 1000.0;
+    }
+}
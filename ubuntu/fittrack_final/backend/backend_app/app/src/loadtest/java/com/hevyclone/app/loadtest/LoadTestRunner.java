@@ -0,0 +1,111 @@
+package com.hevyclone.app.loadtest;
+
+import com.hevyclone.app.HevycloneAppApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Teste de carga da API, no lugar do plano JMeter: sobe a aplicação (H2 em memória ou um
+ * Postgres local), popula dados, aplica a mistura de tráfego em modelo aberto e falha
+ * (código 1) se algum limite ou o baseline for violado.
+ *
+ * Configuração por propriedades de sistema (mvn -Ploadtest verify -Dloadtest.rate=200):
+ * loadtest.rate (req/s), loadtest.duration e loadtest.warmup (segundos), loadtest.users,
+ * loadtest.catalog-size, loadtest.seed, loadtest.max-in-flight, loadtest.datasource.url/
+ * username/password (vazio = H2), loadtest.thresholds, loadtest.baseline,
+ * loadtest.tolerance (%) e loadtest.result.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "50"));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 60));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 15));
+        int users = Integer.getInteger("loadtest.users", 100);
+        int catalogSize = Integer.getInteger("loadtest.catalog-size", 300);
+        long seed = Long.getLong("loadtest.seed", 42);
+        int maxInFlight = Integer.getInteger("loadtest.max-in-flight", 2000);
+        String baseline = System.getProperty("loadtest.baseline", "").trim();
+        double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "20"));
+        File result = new File(System.getProperty("loadtest.result", "target/loadtest-result.json"));
+
+        ConfigurableApplicationContext context = start(System.getProperty("loadtest.datasource.url", "").trim());
+        List<String> violations;
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            LoadTestSeeder seeder = new LoadTestSeeder(context, client, baseUrl);
+            List<VirtualUser> virtualUsers = seeder.seed(users, catalogSize);
+            System.out.printf("Dados populados: %d usuários, %d exercícios. Gerando %.1f req/s por %ds (+%ds de aquecimento)%n",
+                    virtualUsers.size(), seeder.getExerciseIds().size(), rate, duration.toSeconds(), warmup.toSeconds());
+
+            TrafficMix mix = new TrafficMix(baseUrl, virtualUsers, seeder.getExerciseIds(), seeder.getMuscleGroupIds());
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(client, mix, rate, maxInFlight);
+            generator.run(warmup, duration, seed);
+
+            LoadTestReport report = new LoadTestReport(generator);
+            report.print();
+            report.write(result);
+            violations = report.check(thresholds(), baseline.isEmpty() ? null : new File(baseline), tolerance);
+        } finally {
+            context.close();
+        }
+
+        if (!violations.isEmpty()) {
+            violations.forEach(violation -> System.err.println("FALHOU " + violation));
+            System.exit(1);
+        }
+        System.out.println("Teste de carga dentro dos limites; resultado em " + result.getPath());
+    }
+
+    // Perfil padrão (pool, cache e logging de produção); só o banco muda. Vai como argumento
+    // de linha de comando porque SpringApplicationBuilder.properties perde para o
+    // application.properties. ddl-auto=create-drop: no Postgres, use um banco descartável
+    private static ConfigurableApplicationContext start(String datasourceUrl) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0"));
+        if (datasourceUrl.isEmpty()) {
+            args.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"));
+        } else {
+            args.addAll(List.of(
+                    "--spring.datasource.url=" + datasourceUrl,
+                    "--spring.datasource.username=" + System.getProperty("loadtest.datasource.username", "postgres"),
+                    "--spring.datasource.password=" + System.getProperty("loadtest.datasource.password", "")));
+        }
+        return new SpringApplicationBuilder(HevycloneAppApplication.class).run(args.toArray(new String[0]));
+    }
+
+    private static Properties thresholds() throws IOException {
+        Properties thresholds = new Properties();
+        String path = System.getProperty("loadtest.thresholds", "").trim();
+        try (InputStream in = path.isEmpty()
+                ? LoadTestRunner.class.getResourceAsStream("/loadtest-thresholds.properties")
+                : new FileInputStream(path)) {
+            if (in != null) {
+                thresholds.load(in);
+            }
+        }
+        return thresholds;
+    }
+}
@@ -0,0 +1,171 @@
+package com.hevyclone.app.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hevyclone.app.model.exercise.Exercise;
+import com.hevyclone.app.model.exercise.MuscleGroup;
+import com.hevyclone.app.model.routine.Routine;
+import com.hevyclone.app.repository.exercise.ExerciseRepository;
+import com.hevyclone.app.repository.exercise.MuscleGroupRepository;
+import com.hevyclone.app.service.routine.RoutineService;
+import com.hevyclone.app.service.routine.RoutineService.RoutineCreationDTO;
+import com.hevyclone.app.service.routine.RoutineService.WorkoutCreationDTO;
+import com.hevyclone.app.service.routine.RoutineService.WorkoutExerciseCreationDTO;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Popula a aplicação antes da carga. Catálogo e rotinas entram direto pelos repositórios e
+ * pelo RoutineService (é dado de referência, não tráfego de usuário); usuários, follows e
+ * posts passam pela API, para que senha, feed e notificações sigam o caminho real.
+ */
+class LoadTestSeeder {
+
+    private static final String[] MUSCLE_GROUPS = {
+            "Peito", "Costas", "Ombros", "Bíceps", "Tríceps", "Quadríceps", "Posterior", "Glúteos", "Panturrilha", "Abdômen"};
+    private static final int ROUTINES = 20;
+    private static final int WORKOUTS_PER_ROUTINE = 5;
+    private static final int EXERCISES_PER_WORKOUT = 8;
+    private static final int FOLLOWS_PER_USER = 10;
+    private static final int POSTS_PER_USER = 3;
+    private static final String PASSWORD = "carga123";
+
+    private final ConfigurableApplicationContext context;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<Long> exerciseIds = new ArrayList<>();
+    private final List<Long> muscleGroupIds = new ArrayList<>();
+
+    LoadTestSeeder(ConfigurableApplicationContext context, HttpClient client, String baseUrl) {
+        this.context = context;
+        this.client = client;
+        this.baseUrl = baseUrl;
+    }
+
+    List<VirtualUser> seed(int userCount, int catalogSize) throws IOException, InterruptedException {
+        seedCatalog(catalogSize);
+        List<Routine> routines = new ArrayList<>();
+        List<List<List<Long>>> routineExercises = new ArrayList<>();
+        for (int r = 0; r < ROUTINES; r++) {
+            List<List<Long>> workouts = new ArrayList<>();
+            routines.add(context.getBean(RoutineService.class).createCompleteRoutine(routine(r, workouts)));
+            routineExercises.add(workouts);
+        }
+
+        List<VirtualUser> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            String email = "carga" + i + "@saga.com";
+            send("POST", "/api/auth/signup", Map.of("username", "carga" + i, "email", email, "password", PASSWORD), null);
+            JsonNode login = send("POST", "/api/auth/signin", Map.of("username", email, "password", PASSWORD), null);
+
+            Routine routine = routines.get(i % ROUTINES);
+            int workout = (i / ROUTINES) % WORKOUTS_PER_ROUTINE;
+            users.add(new VirtualUser(login.path("user").path("id").asLong(), login.path("token").asText(),
+                    routine.getId(), routine.getWorkouts().get(workout).getId(),
+                    routineExercises.get(i % ROUTINES).get(workout)));
+        }
+
+        for (int i = 0; i < userCount; i++) {
+            VirtualUser user = users.get(i);
+            for (int f = 1; f <= Math.min(FOLLOWS_PER_USER, userCount - 1); f++) {
+                send("POST", "/api/users/" + users.get((i + f) % userCount).getId() + "/follow", null, user);
+            }
+            for (int p = 0; p < POSTS_PER_USER; p++) {
+                send("POST", "/api/posts", Map.of("content", "Treino " + p + " do usuário " + i + " concluído", "public", true), user);
+            }
+        }
+        return users;
+    }
+
+    List<Long> getExerciseIds() {
+        return exerciseIds;
+    }
+
+    List<Long> getMuscleGroupIds() {
+        return muscleGroupIds;
+    }
+
+    private void seedCatalog(int catalogSize) {
+        List<MuscleGroup> muscleGroups = new ArrayList<>();
+        for (String name : MUSCLE_GROUPS) {
+            muscleGroups.add(context.getBean(MuscleGroupRepository.class)
+                    .save(MuscleGroup.builder().name(name).namePt(name).build()));
+        }
+        muscleGroups.forEach(muscleGroup -> muscleGroupIds.add(muscleGroup.getId()));
+
+        List<Exercise> exercises = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            MuscleGroup muscleGroup = muscleGroups.get(i % muscleGroups.size());
+            exercises.add(Exercise.builder()
+                    .name("Exercício " + (i + 1) + " - " + muscleGroup.getName())
+                    .originalName("Exercise " + (i + 1))
+                    .description("Movimento para " + muscleGroup.getName() + ".")
+                    .instructions("1. Posicione-se. 2. Execute o movimento. 3. Retorne à posição inicial.")
+                    .primaryMuscleGroup(muscleGroup)
+                    .imageUrl("https://cdn.saga.com/exercises/" + (i + 1) + ".jpg")
+                    .thumbnailUrl("https://cdn.saga.com/exercises/" + (i + 1) + "_thumb.jpg")
+                    .build());
+        }
+        context.getBean(ExerciseRepository.class).saveAll(exercises).forEach(exercise -> exerciseIds.add(exercise.getId()));
+    }
+
+    // Preenche workoutExercises com os ids de exercício de cada treino, na ordem do treino
+    private RoutineCreationDTO routine(int index, List<List<Long>> workoutExercises) {
+        List<WorkoutCreationDTO> workouts = new ArrayList<>();
+        for (int w = 0; w < WORKOUTS_PER_ROUTINE; w++) {
+            List<WorkoutExerciseCreationDTO> exercises = new ArrayList<>();
+            List<Long> ids = new ArrayList<>();
+            for (int e = 0; e < EXERCISES_PER_WORKOUT; e++) {
+                Long exerciseId = exerciseIds.get((index * 37 + w * EXERCISES_PER_WORKOUT + e) % exerciseIds.size());
+                WorkoutExerciseCreationDTO exercise = new WorkoutExerciseCreationDTO();
+                exercise.setExerciseId(exerciseId);
+                exercise.setOrder(e + 1);
+                exercise.setSets("3-4");
+                exercise.setReps("8-12");
+                exercise.setRestTime("90s");
+                exercises.add(exercise);
+                ids.add(exerciseId);
+            }
+            WorkoutCreationDTO workout = new WorkoutCreationDTO();
+            workout.setName("Treino " + (char) ('A' + w));
+            workout.setExercises(exercises);
+            workouts.add(workout);
+            workoutExercises.add(ids);
+        }
+        RoutineCreationDTO routine = new RoutineCreationDTO();
+        routine.setName("Rotina de carga " + (index + 1));
+        routine.setDescription("Rotina gerada para o teste de carga");
+        routine.setDurationWeeks(8);
+        routine.setDivision("ABCDE");
+        routine.setWorkouts(workouts);
+        return routine;
+    }
+
+    private JsonNode send(String method, String path, Object body, VirtualUser user) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (user != null) {
+            builder.header("Authorization", "Bearer " + user.getToken());
+        }
+        HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Falha ao popular dados: " + method + " " + path + " -> "
+                    + response.statusCode() + " " + response.body());
+        }
+        String content = response.body();
+        return content.startsWith("{") ? objectMapper.readTree(content) : objectMapper.nullNode();
+    }
+}
@@ -0,0 +1,139 @@
+package com.hevyclone.app.loadtest;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador em modelo aberto: as chegadas seguem um processo de Poisson na taxa pedida,
+ * independente de quantas requisições ainda estão em voo. Um servidor lento não freia
+ * o gerador (como acontece com N threads em loop), ele acumula fila, e a latência de cada
+ * requisição é medida a partir do instante agendado.
+ *
+ * Cada requisição roda em uma thread própria: virtual threads quando a JVM tem (21+) e,
+ * no Java 17 do projeto, um pool sem limite de threads de plataforma. max-in-flight só
+ * protege a máquina que gera a carga; quando ele segura o agendador, o atraso continua
+ * sendo contado porque o instante agendado não muda.
+ */
+class OpenModelLoadGenerator {
+
+    private final HttpClient client;
+    private final TrafficMix mix;
+    private final double ratePerSecond;
+    private final int maxInFlight;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, String> endpoints = new ConcurrentHashMap<>();
+
+    private long measuredNanos;
+
+    OpenModelLoadGenerator(HttpClient client, TrafficMix mix, double ratePerSecond, int maxInFlight) {
+        this.client = client;
+        this.mix = mix;
+        this.ratePerSecond = ratePerSecond;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Gera carga por warmup + duration; só o que foi agendado depois do warmup é medido.
+     */
+    void run(Duration warmup, Duration duration, long seed) throws InterruptedException {
+        Random random = new Random(seed);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService executor = newPerRequestExecutor();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        double next = start;
+        try {
+            while (true) {
+                next += -Math.log(1 - random.nextDouble()) * meanIntervalNanos;
+                long intended = (long) next;
+                if (intended >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                inFlight.acquire();
+                boolean measured = intended >= measureFrom;
+                long requestSeed = random.nextLong();
+                executor.execute(() -> {
+                    try {
+                        send(intended, measured, new Random(requestSeed));
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        measuredNanos = end - measureFrom;
+    }
+
+    private void send(long intended, boolean measured, Random random) {
+        TrafficMix.Call call = mix.next(random);
+        long sent = System.nanoTime();
+        int status = 0;
+        try {
+            status = client.send(call.request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            long now = System.nanoTime();
+            call.onResponse.accept(status);
+            if (measured) {
+                endpoints.putIfAbsent(call.name, call.endpoint);
+                stats.computeIfAbsent(call.name, name -> new EndpointStats()).record(intended, sent, now, status);
+            }
+        }
+    }
+
+    Map<String, EndpointStats> getStats() {
+        return new TreeMap<>(stats);
+    }
+
+    String endpointOf(String name) {
+        return endpoints.get(name);
+    }
+
+    double getMeasuredSeconds() {
+        return measuredNanos / 1e9;
+    }
+
+    double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor só existe a partir do Java 21
+    private static ExecutorService newPerRequestExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        } catch (Throwable e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "loadtest-request");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
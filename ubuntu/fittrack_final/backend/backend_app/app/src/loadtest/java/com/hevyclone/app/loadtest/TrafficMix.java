@@ -0,0 +1,152 @@
+package com.hevyclone.app.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+/**
+ * Mistura de tráfego de um dia comum do app, em pesos relativos: navegação no catálogo,
+ * detalhe de rotina, registro de séries na sessão ao vivo, histórico, notificações e feed.
+ * Cada sorteio vira uma única requisição HTTP; a sessão ao vivo anda um passo por sorteio
+ * (start, séries até SETS_PER_SESSION e finish), do jeito que o app cliente faz.
+ */
+class TrafficMix {
+
+    /**
+     * Uma requisição pronta para sair. O callback recebe o status (0 em falha de rede) e
+     * sempre é chamado, inclusive para liberar o lock da sessão.
+     */
+    static final class Call {
+        final String name;
+        final String endpoint;
+        final HttpRequest request;
+        final IntConsumer onResponse;
+
+        Call(String name, String endpoint, HttpRequest request, IntConsumer onResponse) {
+            this.name = name;
+            this.endpoint = endpoint;
+            this.request = request;
+            this.onResponse = onResponse;
+        }
+    }
+
+    private interface Operation {
+        Call next(Random random);
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final IntConsumer IGNORE = status -> { };
+
+    private final String baseUrl;
+    private final List<VirtualUser> users;
+    private final List<Long> exerciseIds;
+    private final List<Long> muscleGroupIds;
+
+    private final List<Operation> operations = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+    private int totalWeight;
+
+    TrafficMix(String baseUrl, List<VirtualUser> users, List<Long> exerciseIds, List<Long> muscleGroupIds) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.exerciseIds = exerciseIds;
+        this.muscleGroupIds = muscleGroupIds;
+
+        add(15, random -> get("catalog-list", "GET /api/exercises/paginated",
+                "/api/exercises/paginated?page=" + random.nextInt(Math.max(1, exerciseIds.size() / 20)) + "&size=20", null));
+        add(10, random -> get("catalog-detail", "GET /api/exercises/{id}",
+                "/api/exercises/" + pick(exerciseIds, random), null));
+        add(5, random -> get("catalog-muscle-group", "GET /api/exercises/muscle-group/{muscleGroupId}",
+                "/api/exercises/muscle-group/" + pick(muscleGroupIds, random), null));
+        add(10, random -> {
+            VirtualUser user = pick(users, random);
+            return get("routine-details", "GET /api/routines/{id}/details",
+                    "/api/routines/" + user.getRoutineId() + "/details", user);
+        });
+        add(25, random -> session(pick(users, random), random));
+        add(10, random -> get("history", "GET /api/workouts/history",
+                "/api/workouts/history?page=0&size=20", pick(users, random)));
+        add(8, random -> get("notifications-unread", "GET /api/user/notifications/unread-count",
+                "/api/user/notifications/unread-count", pick(users, random)));
+        add(4, random -> get("notifications", "GET /api/user/notifications",
+                "/api/user/notifications?unreadOnly=true", pick(users, random)));
+        add(13, random -> get("feed", "GET /api/feed/scroll",
+                "/api/feed/scroll?size=20", pick(users, random)));
+    }
+
+    private void add(int weight, Operation operation) {
+        totalWeight += weight;
+        operations.add(operation);
+        cumulativeWeights.add(totalWeight);
+    }
+
+    Call next(Random random) {
+        int ticket = random.nextInt(totalWeight);
+        for (int i = 0; i < operations.size(); i++) {
+            if (ticket < cumulativeWeights.get(i)) {
+                return operations.get(i).next(random);
+            }
+        }
+        throw new IllegalStateException("Peso sorteado fora da mistura: " + ticket);
+    }
+
+    // Chamado na thread que vai enviar; o lock fica com ela até o callback da resposta
+    private Call session(VirtualUser user, Random random) {
+        user.sessionLock.lock();
+        String workoutPath = "/api/workouts/" + user.getWorkoutId();
+        if (!user.sessionStarted) {
+            return new Call("session-start", "POST /api/workouts/{workoutId}/start",
+                    post(workoutPath + "/start", "", user), status -> {
+                        user.sessionStarted = status == 200;
+                        user.setsLogged = 0;
+                        user.sessionLock.unlock();
+                    });
+        }
+        if (user.setsLogged >= VirtualUser.SETS_PER_SESSION) {
+            return new Call("session-finish", "POST /api/workouts/{workoutId}/finish",
+                    post(workoutPath + "/finish", "{\"duration\":" + (2400 + random.nextInt(1800)) + "}", user), status -> {
+                        user.sessionStarted = false;
+                        user.sessionLock.unlock();
+                    });
+        }
+        Long exerciseId = user.getWorkoutExerciseIds().get(user.setsLogged % user.getWorkoutExerciseIds().size());
+        String body = "[{\"reps\":" + (6 + random.nextInt(7)) + ",\"weight\":" + (20 + random.nextInt(80)) + ".5,\"restTime\":90}]";
+        return new Call("session-sets", "POST /api/workouts/{workoutId}/exercises/{exerciseId}/sets",
+                post(workoutPath + "/exercises/" + exerciseId + "/sets", body, user), status -> {
+                    if (status == 201) {
+                        user.setsLogged++;
+                    } else if (status == 404) {
+                        user.sessionStarted = false; // Sessão perdida (ex.: expirou); recomeça no próximo sorteio
+                    }
+                    user.sessionLock.unlock();
+                });
+    }
+
+    private Call get(String name, String endpoint, String path, VirtualUser user) {
+        HttpRequest.Builder builder = request(path, user).GET();
+        return new Call(name, endpoint, builder.build(), IGNORE);
+    }
+
+    private HttpRequest post(String path, String body, VirtualUser user) {
+        return request(path, user)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, VirtualUser user) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (user != null) {
+            builder.header("Authorization", "Bearer " + user.getToken());
+        }
+        return builder;
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
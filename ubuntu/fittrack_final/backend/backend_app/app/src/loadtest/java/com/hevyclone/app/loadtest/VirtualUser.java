@@ -0,0 +1,54 @@
+package com.hevyclone.app.loadtest;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Usuário simulado: token, rotina e o treino que ele executa nas sessões ao vivo.
+ *
+ * A sessão ao vivo é sequencial por natureza (start, séries, finish), então cada passo
+ * da sessão segura o lock do usuário; a espera no lock entra na latência medida, como
+ * entraria no cliente real que não manda a próxima série antes da anterior responder.
+ */
+class VirtualUser {
+
+    static final int SETS_PER_SESSION = 12;
+
+    private final Long id;
+    private final String token;
+    private final Long routineId;
+    private final Long workoutId;
+    private final List<Long> workoutExerciseIds;
+
+    final ReentrantLock sessionLock = new ReentrantLock();
+    boolean sessionStarted;
+    int setsLogged;
+
+    VirtualUser(Long id, String token, Long routineId, Long workoutId, List<Long> workoutExerciseIds) {
+        this.id = id;
+        this.token = token;
+        this.routineId = routineId;
+        this.workoutId = workoutId;
+        this.workoutExerciseIds = workoutExerciseIds;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    Long getRoutineId() {
+        return routineId;
+    }
+
+    Long getWorkoutId() {
+        return workoutId;
+    }
+
+    List<Long> getWorkoutExerciseIds() {
+        return workoutExerciseIds;
+    }
+}
@@ -1,5 +1,7 @@
 package com.hevyclone.app.auth.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +25,9 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
     @Override
@@ -31,11 +36,13 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         logger.debug("AuthTokenFilter: Iniciando doFilterInternal para a requisição: {}", request.getRequestURI());
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
+            if (jwt != null && verify(jwt)) {
                 String username = jwtUtils.getUserNameFromJwtToken(jwt);
                 logger.debug("AuthTokenFilter: Token JWT válido encontrado para o usuário: {}", username);
 
+                Timer.Sample load = Timer.start(meterRegistry);
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                load.stop(meterRegistry.timer("saga.auth.user.load"));
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null,
                         userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -53,6 +60,14 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         logger.debug("AuthTokenFilter: Finalizando doFilterInternal para a requisição: {}", request.getRequestURI());
     }
 
+    // Tempo da verificação de assinatura e validade, em saga.auth.jwt.verify (result valid/invalid)
+    private boolean verify(String jwt) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean valid = jwtUtils.validateJwtToken(jwt);
+        sample.stop(meterRegistry.timer("saga.auth.jwt.verify", "result", valid ? "valid" : "invalid"));
+        return valid;
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         logger.debug("AuthTokenFilter: Cabeçalho de autorização: {}", headerAuth);
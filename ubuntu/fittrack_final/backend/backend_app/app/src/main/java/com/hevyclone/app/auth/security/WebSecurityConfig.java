@@ -2,6 +2,7 @@ package com.hevyclone.app.auth.security;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -28,6 +29,9 @@ public class WebSecurityConfig {
     @Autowired
     private AuthEntryPointJwt unauthorizedHandler;
 
+    @Value("${saga.actuator.public-paths:/actuator/health,/actuator/health/**,/actuator/info}")
+    private String[] actuatorPublicPaths;
+
     @Bean
     public AuthTokenFilter authenticationJwtTokenFilter() {
         return new AuthTokenFilter();
@@ -61,7 +65,8 @@ public class WebSecurityConfig {
                         
                         // Endpoints públicos do sistema
                         .requestMatchers("/health").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()  // Liberando todos os endpoints do actuator
+                        .requestMatchers(actuatorPublicPaths).permitAll()  // health/info para o healthcheck do deploy
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")  // flightrecorder, métricas, env...
                         .requestMatchers("/swagger-ui/**").permitAll()
                         .requestMatchers("/v3/api-docs/**").permitAll()
                         .requestMatchers("/swagger-ui.html").permitAll()
@@ -3,6 +3,7 @@ package com.hevyclone.app.auth.service;
 import com.hevyclone.app.auth.dto.LoginRequest;
 import com.hevyclone.app.auth.dto.RegisterRequest;
 import com.hevyclone.app.auth.security.JwtUtils;
+import com.hevyclone.app.service.search.UserSearchService;
 import com.hevyclone.app.user.model.User;
 import com.hevyclone.app.user.repository.UserRepository;
 import org.slf4j.Logger;
@@ -33,6 +34,9 @@ public class AuthService {
     @Autowired
     JwtUtils jwtUtils;
 
+    @Autowired
+    UserSearchService userSearchService;
+
     public String authenticateUser(LoginRequest loginRequest) {
         logger.debug("Tentando autenticar o usuário: {}", loginRequest.getUsername());
         try {
@@ -68,6 +72,7 @@ public class AuthService {
 
         User savedUser = userRepository.save(user);
         logger.info("Usuário {} registrado com sucesso com ID: {}", savedUser.getUsername(), savedUser.getId());
+        userSearchService.onUserRegistered(savedUser.getId(), savedUser.getUsername());
         return savedUser;
     }
 
@@ -1,23 +1,56 @@
 package com.hevyclone.app.config;
 
+import com.hevyclone.app.config.exchange.FlightRecorderEndpoint;
+import com.hevyclone.app.config.exchange.HttpFlightRecorder;
+import com.hevyclone.app.config.exchange.HttpFlightRecorderFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.boot.actuate.web.exchanges.HttpExchangeRepository;
-import org.springframework.boot.actuate.web.exchanges.InMemoryHttpExchangeRepository;
+import org.springframework.core.Ordered;
 
 /**
  * Configuração do Spring Actuator para monitoramento e healthchecks
  */
 @Configuration
+@ConditionalOnProperty(name = "saga.flight-recorder.enabled", havingValue = "true", matchIfMissing = true)
 public class ActuatorConfig {
 
     /**
-     * Configura o repositório de trocas HTTP para o Actuator
-     * 
-     * @return repositório de trocas HTTP em memória
+     * Gravador de requisições HTTP (substitui o InMemoryHttpExchangeRepository)
+     *
+     * @return gravador com buffers por thread e histogramas por endpoint
      */
     @Bean
-    public HttpExchangeRepository httpTraceRepository() {
-        return new InMemoryHttpExchangeRepository();
+    public HttpFlightRecorder httpFlightRecorder(
+            @Value("${saga.flight-recorder.sample-rate:0.01}") double sampleRate,
+            @Value("${saga.flight-recorder.slow-threshold-ms:500}") long slowThresholdMs,
+            @Value("${saga.flight-recorder.ring-capacity:64}") int ringCapacity,
+            @Value("${saga.flight-recorder.max-endpoints:500}") int maxEndpoints) {
+        return new HttpFlightRecorder(sampleRate, slowThresholdMs, ringCapacity, maxEndpoints);
+    }
+
+    /**
+     * Filtro mais externo da aplicação, para medir também segurança e serialização
+     *
+     * @return registro do HttpFlightRecorderFilter
+     */
+    @Bean
+    public FilterRegistrationBean<HttpFlightRecorderFilter> httpFlightRecorderFilter(HttpFlightRecorder recorder) {
+        FilterRegistrationBean<HttpFlightRecorderFilter> registration =
+                new FilterRegistrationBean<>(new HttpFlightRecorderFilter(recorder));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    /**
+     * Endpoint /actuator/flightrecorder (exige ADMIN, ver WebSecurityConfig)
+     *
+     * @return endpoint com as requisições mais lentas e os percentis por endpoint
+     */
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint(HttpFlightRecorder recorder) {
+        return new FlightRecorderEndpoint(recorder);
     }
 }
@@ -1,10 +1,26 @@
 package com.hevyclone.app.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hevyclone.app.config.timing.LayerTimingInterceptor;
+import com.hevyclone.app.config.timing.TimedCacheManager;
+import com.hevyclone.app.config.timing.TimedJacksonHttpMessageConverter;
 import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
 
 /**
  * Configuração de métricas para monitoramento da aplicação
@@ -22,4 +38,66 @@ public class MetricsConfig {
     public TimedAspect timedAspect(MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    /**
+     * Tempo dos métodos públicos de @Service (saga.method, layer=service)
+     * @param registry Registro de métricas
+     * @param excludedPackages Pacotes, relativos a com.hevyclone.app, que ficam sem medição
+     * @return Advisor com o LayerTimingInterceptor
+     */
+    @Bean
+    @ConditionalOnProperty(name = "saga.timing.enabled", havingValue = "true", matchIfMissing = true)
+    public Advisor serviceTimingAdvisor(MeterRegistry registry,
+                                        @Value("${saga.timing.excluded-packages:}") List<String> excludedPackages) {
+        return LayerTimingInterceptor.advisor(
+                new AnnotationClassFilter(Service.class, true),
+                new LayerTimingInterceptor(registry, "service", excludedPackages));
+    }
+
+    /**
+     * Tempo das chamadas a repositórios Spring Data (saga.method, layer=repository)
+     * @param registry Registro de métricas
+     * @param excludedPackages Pacotes, relativos a com.hevyclone.app, que ficam sem medição
+     * @return Advisor com o LayerTimingInterceptor
+     */
+    @Bean
+    @ConditionalOnProperty(name = "saga.timing.enabled", havingValue = "true", matchIfMissing = true)
+    public Advisor repositoryTimingAdvisor(MeterRegistry registry,
+                                           @Value("${saga.timing.excluded-packages:}") List<String> excludedPackages) {
+        return LayerTimingInterceptor.advisor(
+                new RootClassFilter(Repository.class),
+                new LayerTimingInterceptor(registry, "repository", excludedPackages));
+    }
+
+    /**
+     * Mede leituras de cache (saga.cache.get, hit/miss) de qualquer CacheManager da aplicação
+     * @param registry Registro de métricas, resolvido só quando o CacheManager é criado
+     * @return pós-processador que embrulha o CacheManager em TimedCacheManager
+     */
+    @Bean
+    @ConditionalOnProperty(name = "saga.timing.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor timedCacheManagerPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager && !(bean instanceof TimedCacheManager)) {
+                    return new TimedCacheManager((CacheManager) bean, registry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Conversor JSON que mede a serialização das respostas (saga.json.write); substitui o padrão do Boot
+     * @param objectMapper ObjectMapper configurado pelo Boot
+     * @param registry Registro de métricas
+     * @return TimedJacksonHttpMessageConverter configurado
+     */
+    @Bean
+    @ConditionalOnProperty(name = "saga.timing.enabled", havingValue = "true", matchIfMissing = true)
+    public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(ObjectMapper objectMapper,
+                                                                             MeterRegistry registry) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, registry);
+    }
 }
@@ -0,0 +1,72 @@
+package com.hevyclone.app.config;
+
+import com.hevyclone.app.config.sql.InstrumentedDataSource;
+import com.hevyclone.app.config.sql.SqlBudgetFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Instrumentação de SQL por requisição: DataSource com contagem de comandos e o filtro
+ * que publica as métricas por endpoint e avisa quem passa do orçamento.
+ */
+@Configuration
+@ConditionalOnProperty(name = "saga.sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationConfig {
+
+    /**
+     * Embrulha o DataSource da aplicação (static: precisa existir antes dos demais beans)
+     * @return pós-processador que troca o DataSource pelo InstrumentedDataSource
+     */
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Filtro antes da segurança, para contar também a carga do usuário autenticado
+     * @return registro do SqlBudgetFilter
+     */
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${saga.sql.sample-rate:1.0}") double sampleRate,
+            @Value("${saga.sql.budget.default:30}") int defaultBudget,
+            @Value("${saga.sql.budget.overrides:}") String[] overrides,
+            @Value("${saga.sql.n-plus-one-threshold:10}") int repeatThreshold) {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(
+                new SqlBudgetFilter(meterRegistry, sampleRate, defaultBudget, parseBudgets(overrides), repeatThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    // Entradas "GET /api/feed/scroll=12"
+    private static Map<String, Integer> parseBudgets(String[] overrides) {
+        Map<String, Integer> budgets = new HashMap<>();
+        for (String override : overrides) {
+            int separator = override.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException("saga.sql.budget.overrides inválido: " + override);
+            }
+            budgets.put(override.substring(0, separator).trim(), Integer.parseInt(override.substring(separator + 1).trim()));
+        }
+        return budgets;
+    }
+}
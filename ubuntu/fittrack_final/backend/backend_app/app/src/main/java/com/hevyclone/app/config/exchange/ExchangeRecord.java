@@ -0,0 +1,69 @@
+package com.hevyclone.app.config.exchange;
+
+import java.time.Instant;
+
+/**
+ * Uma requisição guardada pelo HttpFlightRecorder. Imutável: leitores de outras threads
+ * sempre veem o registro inteiro.
+ */
+public final class ExchangeRecord {
+
+    private final Instant timestamp;
+    private final String method;
+    private final String endpoint;
+    private final String path;
+    private final int status;
+    private final long durationMicros;
+    private final int sqlStatements;
+    private final long sqlRows;
+    private final long sqlMicros;
+
+    public ExchangeRecord(Instant timestamp, String method, String endpoint, String path, int status,
+                          long durationMicros, int sqlStatements, long sqlRows, long sqlMicros) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.endpoint = endpoint;
+        this.path = path;
+        this.status = status;
+        this.durationMicros = durationMicros;
+        this.sqlStatements = sqlStatements;
+        this.sqlRows = sqlRows;
+        this.sqlMicros = sqlMicros;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    public int getSqlStatements() {
+        return sqlStatements;
+    }
+
+    public long getSqlRows() {
+        return sqlRows;
+    }
+
+    public long getSqlMicros() {
+        return sqlMicros;
+    }
+}
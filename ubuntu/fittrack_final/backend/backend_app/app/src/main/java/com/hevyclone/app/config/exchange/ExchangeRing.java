@@ -0,0 +1,41 @@
+package com.hevyclone.app.config.exchange;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Buffer circular de uma única thread escritora: a gravação é um lazySet no slot, sem lock nem
+ * CAS. Leitores de outras threads copiam os slots; como os registros são imutáveis, no pior caso
+ * veem um registro que acabou de ser sobrescrito, nunca um registro pela metade.
+ */
+final class ExchangeRing {
+
+    private final AtomicReferenceArray<ExchangeRecord> slots;
+    private final int mask;
+    private long next;
+
+    ExchangeRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    void add(ExchangeRecord record) {
+        slots.lazySet((int) (next++ & mask), record);
+    }
+
+    void collect(List<ExchangeRecord> out) {
+        for (int i = 0; i < slots.length(); i++) {
+            ExchangeRecord record = slots.get(i);
+            if (record != null) {
+                out.add(record);
+            }
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.hevyclone.app.config.exchange;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/flightrecorder: as N requisições mais lentas guardadas (com contagem de SQL) e os
+ * percentis de latência por endpoint desde o último reset (DELETE). Sem seletor são as 50 mais
+ * lentas; /actuator/flightrecorder/{limit} escolhe N.
+ */
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 1000;
+
+    private final HttpFlightRecorder recorder;
+
+    public FlightRecorderEndpoint(HttpFlightRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public Map<String, Object> dump() {
+        return dump(DEFAULT_LIMIT);
+    }
+
+    @ReadOperation
+    public Map<String, Object> dump(@Selector int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Map<String, Object> latencies = new LinkedHashMap<>();
+        recorder.histograms().forEach((endpoint, histogram) -> latencies.put(endpoint, summary(histogram)));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("slowest", recorder.slowest(size));
+        body.put("latencies", latencies);
+        return body;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        recorder.reset();
+    }
+
+    private static Map<String, Object> summary(LatencyHistogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getCount());
+        summary.put("p50Micros", histogram.percentileMicros(50));
+        summary.put("p90Micros", histogram.percentileMicros(90));
+        summary.put("p99Micros", histogram.percentileMicros(99));
+        summary.put("p999Micros", histogram.percentileMicros(99.9));
+        summary.put("maxMicros", histogram.getMaxMicros());
+        return summary;
+    }
+}
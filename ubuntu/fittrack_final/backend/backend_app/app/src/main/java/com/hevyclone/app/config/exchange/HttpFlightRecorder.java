@@ -0,0 +1,110 @@
+package com.hevyclone.app.config.exchange;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Gravador de requisições HTTP de baixo custo, no lugar do InMemoryHttpExchangeRepository
+ * (que monta um HttpExchange por requisição e grava numa lista sincronizada).
+ *
+ * Toda requisição entra no histograma de latência do seu endpoint. Requisições lentas
+ * (slow-threshold-ms) ou com falha (5xx) sempre são guardadas; as demais, por amostragem
+ * (sample-rate). Cada thread grava nos seus próprios buffers circulares, separados entre
+ * lentas/falhas e amostradas, para que o volume de amostras não empurre as lentas para fora.
+ */
+public class HttpFlightRecorder {
+
+    static final String OTHER_ENDPOINTS = "(outros)";
+
+    private final double sampleRate;
+    private final long slowThresholdMicros;
+    private final int ringCapacity;
+    private final int maxEndpoints;
+
+    private final Queue<ThreadRings> rings = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<ThreadRings> currentRings = ThreadLocal.withInitial(this::register);
+    private final ConcurrentHashMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public HttpFlightRecorder(double sampleRate, long slowThresholdMs, int ringCapacity, int maxEndpoints) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMicros = slowThresholdMs * 1000;
+        this.ringCapacity = ringCapacity;
+        this.maxEndpoints = maxEndpoints;
+    }
+
+    public void record(ExchangeRecord exchange) {
+        histogram(exchange.getEndpoint()).record(exchange.getDurationMicros());
+        if (exchange.getDurationMicros() >= slowThresholdMicros || exchange.getStatus() >= 500) {
+            currentRings.get().notable.add(exchange);
+        } else if (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            currentRings.get().sampled.add(exchange);
+        }
+    }
+
+    /**
+     * As requisições mais lentas ainda nos buffers, da mais lenta para a mais rápida.
+     */
+    public List<ExchangeRecord> slowest(int limit) {
+        List<ExchangeRecord> all = new ArrayList<>();
+        for (ThreadRings threadRings : rings) {
+            threadRings.notable.collect(all);
+            threadRings.sampled.collect(all);
+        }
+        all.sort(Comparator.comparingLong(ExchangeRecord::getDurationMicros).reversed());
+        return all.size() > limit ? new ArrayList<>(all.subList(0, limit)) : all;
+    }
+
+    public Map<String, LatencyHistogram> histograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    public void reset() {
+        histograms.clear();
+        for (ThreadRings threadRings : rings) {
+            threadRings.notable.clear();
+            threadRings.sampled.clear();
+        }
+    }
+
+    // Endpoints são padrões de rota, poucos; acima de max-endpoints tudo cai em "(outros)"
+    private LatencyHistogram histogram(String endpoint) {
+        LatencyHistogram histogram = histograms.get(endpoint);
+        if (histogram != null) {
+            return histogram;
+        }
+        String key = histograms.size() < maxEndpoints ? endpoint : OTHER_ENDPOINTS;
+        return histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    // Threads do Tomcat que morreram (pool encolheu) levam seus buffers junto
+    private ThreadRings register() {
+        for (Iterator<ThreadRings> it = rings.iterator(); it.hasNext(); ) {
+            if (!it.next().owner.isAlive()) {
+                it.remove();
+            }
+        }
+        ThreadRings threadRings = new ThreadRings(Thread.currentThread(), ringCapacity);
+        rings.add(threadRings);
+        return threadRings;
+    }
+
+    private static final class ThreadRings {
+        private final Thread owner;
+        private final ExchangeRing notable;
+        private final ExchangeRing sampled;
+
+        private ThreadRings(Thread owner, int capacity) {
+            this.owner = owner;
+            this.notable = new ExchangeRing(capacity);
+            this.sampled = new ExchangeRing(capacity);
+        }
+    }
+}
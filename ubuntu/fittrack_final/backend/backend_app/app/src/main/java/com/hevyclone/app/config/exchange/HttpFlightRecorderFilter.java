@@ -0,0 +1,44 @@
+package com.hevyclone.app.config.exchange;
+
+import com.hevyclone.app.config.sql.SqlBudgetFilter;
+import com.hevyclone.app.config.sql.SqlStatementStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Mede cada requisição (tempo total e SQL executado) e entrega ao HttpFlightRecorder.
+ * Requisição que termina em exceção é registrada como 500.
+ */
+public class HttpFlightRecorderFilter extends OncePerRequestFilter {
+
+    private final HttpFlightRecorder recorder;
+
+    public HttpFlightRecorderFilter(HttpFlightRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean failed = true;
+        SqlStatementStats.Scope sql = SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            sql.close();
+            long micros = (System.nanoTime() - start) / 1000;
+            recorder.record(new ExchangeRecord(Instant.now(), request.getMethod(),
+                    SqlBudgetFilter.endpointOf(request), request.getRequestURI(),
+                    failed ? 500 : response.getStatus(), micros,
+                    sql.getStatements(), sql.getRows(), sql.getNanos() / 1000));
+        }
+    }
+}
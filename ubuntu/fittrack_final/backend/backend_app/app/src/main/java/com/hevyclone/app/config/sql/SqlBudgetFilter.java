@@ -0,0 +1,82 @@
+package com.hevyclone.app.config.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o SQL de cada requisição amostrada e publica por endpoint (método + padrão da rota).
+ *
+ * Métricas: saga.sql.statements e saga.sql.rows (distribuições) e saga.sql.time. Requisições
+ * acima do orçamento de comandos do endpoint geram um aviso no log com o comando mais repetido;
+ * um mesmo comando repetido n-plus-one-threshold vezes é registrado como possível N+1.
+ */
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final int defaultBudget;
+    private final Map<String, Integer> budgets;
+    private final int repeatThreshold;
+
+    public SqlBudgetFilter(MeterRegistry meterRegistry, double sampleRate, int defaultBudget,
+                           Map<String, Integer> budgets, int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.defaultBudget = defaultBudget;
+        this.budgets = budgets;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        SqlStatementStats.Scope scope = SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            record(endpointOf(request), scope);
+        }
+    }
+
+    private void record(String endpoint, SqlStatementStats.Scope scope) {
+        meterRegistry.summary("saga.sql.statements", "endpoint", endpoint).record(scope.getStatements());
+        meterRegistry.summary("saga.sql.rows", "endpoint", endpoint).record(scope.getRows());
+        meterRegistry.timer("saga.sql.time", "endpoint", endpoint).record(scope.getNanos(), TimeUnit.NANOSECONDS);
+
+        int budget = budgets.getOrDefault(endpoint, defaultBudget);
+        if (scope.getStatements() > budget) {
+            meterRegistry.counter("saga.sql.budget.exceeded", "endpoint", endpoint).increment();
+            log.warn("{} executou {} comandos SQL (orçamento {}), {} linhas, {} ms; mais repetido ({}x): {}",
+                    endpoint, scope.getStatements(), budget, scope.getRows(),
+                    TimeUnit.NANOSECONDS.toMillis(scope.getNanos()),
+                    scope.getMostRepeatedCount(), scope.getMostRepeated());
+        }
+        if (scope.getMostRepeatedCount() >= repeatThreshold) {
+            meterRegistry.counter("saga.sql.repeated", "endpoint", endpoint).increment();
+            log.warn("Possível N+1 em {}: {}x {}", endpoint, scope.getMostRepeatedCount(), scope.getMostRepeated());
+        }
+    }
+
+    // "GET /api/posts/{postId}"; o padrão da rota mantém baixa a cardinalidade da tag
+    public static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "(sem rota)");
+    }
+}
@@ -0,0 +1,37 @@
+package com.hevyclone.app.config.sql;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Banco por trás do DataSource, para os poucos comandos sem forma portável.
+ *
+ * O upsert atômico é o caso principal: no Postgres (produção) é INSERT ... ON CONFLICT DO
+ * UPDATE, que não falha quando duas transações criam a mesma linha ao mesmo tempo; no H2 dos
+ * testes e do gerador de dados, MERGE ... USING com o mesmo efeito.
+ */
+@Component
+public class SqlDialect {
+
+    private final boolean postgres;
+
+    public SqlDialect(DataSource dataSource) throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        this.postgres = "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    public boolean isPostgres() {
+        return postgres;
+    }
+
+    /**
+     * Escolhe o comando do banco atual: o do Postgres ou o portável (H2)
+     */
+    public String pick(String postgresSql, String otherSql) {
+        return postgres ? postgresSql : otherSql;
+    }
+}
@@ -0,0 +1,96 @@
+package com.hevyclone.app.config.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contagem de comandos SQL, linhas lidas e tempo no banco da thread atual.
+ *
+ * Quem quer medir abre um escopo (begin) e o fecha ao terminar; o InstrumentedDataSource
+ * registra cada comando em todos os escopos abertos na thread, então um escopo de teste
+ * em volta de uma chamada MockMvc soma junto com o escopo da requisição aberto pelo filtro.
+ */
+public final class SqlStatementStats {
+
+    private static final int MAX_DISTINCT_STATEMENTS = 1000;
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementStats() {
+    }
+
+    public static Scope begin() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void recordStatement(String sql, long nanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statement(sql, nanos);
+        }
+    }
+
+    static void recordRow() {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.rows++;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final Map<String, Integer> executions = new HashMap<>();
+        private int statements;
+        private long rows;
+        private long nanos;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void statement(String sql, long elapsed) {
+            statements++;
+            nanos += elapsed;
+            String key = sql != null ? sql : "(lote)";
+            if (executions.size() < MAX_DISTINCT_STATEMENTS || executions.containsKey(key)) {
+                executions.merge(key, 1, Integer::sum);
+            }
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * O comando executado mais vezes no escopo (null se nenhum).
+         */
+        public String getMostRepeated() {
+            return executions.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+        }
+
+        public int getMostRepeatedCount() {
+            return executions.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.hevyclone.app.config.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.MethodMatcher;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.Repository;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer saga.method para todo método público de @Service e de repositório Spring Data, sem
+ * precisar anotar cada um com @Timed.
+ *
+ * Tags: layer (service/repository), class (classe do serviço ou interface do repositório),
+ * method e outcome (success/error) — todas limitadas pelo código, nunca por dados da requisição.
+ * Pacotes em saga.timing.excluded-packages (relativos a com.hevyclone.app) seguem sem medição.
+ *
+ * É um MethodInterceptor com pointcut estático, não um @Aspect: o aspecto anotado monta um
+ * JoinPoint e chama o advice por reflexão a cada chamada (~5x o custo). O Timer de sucesso
+ * fica em cache por proxy e método, então o caminho comum é uma consulta a mapa e duas
+ * leituras de relógio.
+ */
+public class LayerTimingInterceptor implements MethodInterceptor {
+
+    static final String METRIC = "saga.method";
+    private static final String BASE_PACKAGE = "com.hevyclone.app.";
+
+    private static final MethodMatcher PUBLIC_METHODS = new StaticMethodMatcher() {
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+        }
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final String layer;
+    private final List<String> excludedPackages;
+    private final ConcurrentMap<Class<?>, TimedTarget> targets = new ConcurrentHashMap<>();
+
+    public LayerTimingInterceptor(MeterRegistry meterRegistry, String layer, List<String> excludedPackages) {
+        this.meterRegistry = meterRegistry;
+        this.layer = layer;
+        this.excludedPackages = excludedPackages.stream()
+                .map(String::trim)
+                .filter(p -> !p.isEmpty())
+                .map(p -> BASE_PACKAGE + p)
+                .toList();
+    }
+
+    /**
+     * Advisor que aplica o interceptor aos métodos públicos das classes aceitas pelo filtro. O
+     * filtro é estático (resolvido uma vez por classe): um @within do AspectJ vira teste em tempo
+     * de execução a cada chamada. Fica por fora do TransactionInterceptor, então o tempo de um
+     * serviço inclui o commit.
+     */
+    public static Advisor advisor(ClassFilter classFilter, LayerTimingInterceptor interceptor) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(classFilter, PUBLIC_METHODS), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return advisor;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        // O proxy, não o alvo: todos os repositórios têm o mesmo alvo (SimpleJpaRepository)
+        Object proxy = ((ProxyMethodInvocation) invocation).getProxy();
+        TimedTarget target = targets.computeIfAbsent(proxy.getClass(), type -> describe(proxy));
+        if (!target.enabled) {
+            return invocation.proceed();
+        }
+        Method method = invocation.getMethod();
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            target.timers.computeIfAbsent(method, m -> timer(target, m, "success"))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(target, method, "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(TimedTarget target, Method method, String outcome) {
+        return Timer.builder(METRIC)
+                .description("Tempo de métodos de serviço e repositório")
+                .tag("layer", layer)
+                .tag("class", target.name)
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // Repositórios são proxies JDK sobre SimpleJpaRepository: o nome útil é o da nossa interface
+    private TimedTarget describe(Object proxy) {
+        Class<?> type = AopUtils.getTargetClass(proxy);
+        if (AopUtils.isJdkDynamicProxy(proxy)) {
+            for (Class<?> candidate : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+                if (Repository.class.isAssignableFrom(candidate) && candidate.getName().startsWith(BASE_PACKAGE)) {
+                    type = candidate;
+                    break;
+                }
+            }
+        }
+        String name = type.getName();
+        boolean enabled = excludedPackages.stream().noneMatch(name::startsWith);
+        return new TimedTarget(type.getSimpleName(), enabled);
+    }
+
+    private static final class TimedTarget {
+        private final String name;
+        private final boolean enabled;
+        private final ConcurrentMap<Method, Timer> timers = new ConcurrentHashMap<>();
+
+        private TimedTarget(String name, boolean enabled) {
+            this.name = name;
+            this.enabled = enabled;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.hevyclone.app.config.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cache que mede cada leitura em saga.cache.get (tags cache e result hit/miss) e repassa
+ * o resto ao cache real. O ConcurrentMapCache (spring.cache.type=simple) não tem binder
+ * de métricas próprio no Micrometer.
+ */
+class TimedCache implements Cache {
+
+    static final String METRIC = "saga.cache.get";
+
+    private final Cache delegate;
+    private final Timer hits;
+    private final Timer misses;
+
+    TimedCache(Cache delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.hits = timer(meterRegistry, delegate.getName(), "hit");
+        this.misses = timer(meterRegistry, delegate.getName(), "miss");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String cache, String result) {
+        return Timer.builder(METRIC)
+                .description("Leituras de cache da aplicação")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long start = System.nanoTime();
+        ValueWrapper value = delegate.get(key);
+        (value != null ? hits : misses).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        long start = System.nanoTime();
+        T value = delegate.get(key, type);
+        (value != null ? hits : misses).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return value;
+    }
+
+    // Com sync=true o valor é calculado dentro do cache; o tempo da carga entra como miss
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = new boolean[1];
+        long start = System.nanoTime();
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        (loaded[0] ? misses : hits).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
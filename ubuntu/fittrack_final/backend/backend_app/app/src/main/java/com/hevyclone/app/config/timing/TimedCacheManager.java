@@ -0,0 +1,39 @@
+package com.hevyclone.app.config.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * CacheManager que entrega os caches embrulhados em TimedCache (um por nome, reaproveitado).
+ */
+public class TimedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, TimedCache> caches = new ConcurrentHashMap<>();
+
+    public TimedCacheManager(CacheManager delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TimedCache cached = caches.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        Cache cache = delegate.getCache(name);
+        return cache != null ? caches.computeIfAbsent(name, key -> new TimedCache(cache, meterRegistry)) : null;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
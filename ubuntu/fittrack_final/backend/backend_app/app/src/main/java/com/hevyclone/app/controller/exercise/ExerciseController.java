@@ -1,7 +1,10 @@
 package com.hevyclone.app.controller.exercise;
 
+import com.hevyclone.app.dto.exercise.ExerciseImportResultDTO;
 import com.hevyclone.app.dto.exercise.ExerciseRequestDTO;
 import com.hevyclone.app.dto.exercise.ExerciseResponseDTO;
+import com.hevyclone.app.service.exercise.ExerciseImportReader;
+import com.hevyclone.app.service.exercise.ExerciseImportService;
 import com.hevyclone.app.service.exercise.ExerciseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,10 +18,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -31,6 +38,7 @@ import java.util.List;
 public class ExerciseController {
 
     private final ExerciseService exerciseService;
+    private final ExerciseImportService exerciseImportService;
 
     @GetMapping
     @Operation(summary = "Listar todos os exercícios", description = "Retorna uma lista com todos os exercícios cadastrados")
@@ -81,6 +89,33 @@ public class ExerciseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdExercise);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Importar catálogo de exercícios",
+            description = "Importa exercícios em massa de um CSV com cabeçalho ou de um JSON (array de objetos), " +
+                    "atualizando os que já existem pelo external_id. Retorna totais e os erros por linha")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação processada (pode conter erros por linha)"),
+            @ApiResponse(responseCode = "400", description = "Formato ou grupo muscular padrão inválido"),
+            @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Acesso proibido", content = @Content)
+    })
+    public ResponseEntity<ExerciseImportResultDTO> importExercises(
+            @Parameter(description = "Arquivo CSV ou JSON", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "CSV ou JSON; se omitido, deduzido da extensão do arquivo")
+            @RequestParam(required = false) String format,
+            @Parameter(description = "Grupo muscular (nome ou ID) das linhas sem muscle_group")
+            @RequestParam(required = false) String defaultMuscleGroup) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            ExerciseImportReader.Format importFormat =
+                    ExerciseImportReader.Format.detect(format, file.getOriginalFilename(), file.getContentType());
+            return ResponseEntity.ok(exerciseImportService.importExercises(in, importFormat, defaultMuscleGroup));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Atualizar exercício", description = "Atualiza um exercício existente")
@@ -0,0 +1,63 @@
+package com.hevyclone.app.controller.geo;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.geo.LocationRequestDTO;
+import com.hevyclone.app.dto.geo.NearbyUsersDTO;
+import com.hevyclone.app.service.geo.NearbyUserService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/users")
+public class NearbyController {
+
+    @Autowired
+    private NearbyUserService nearbyUserService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    // Usuários a até radius km do ponto informado, do mais próximo ao mais distante
+    @GetMapping("/nearby")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<NearbyUsersDTO> getNearbyUsers(@RequestParam double lat,
+                                                         @RequestParam double lng,
+                                                         @RequestParam(defaultValue = "10") double radius,
+                                                         @RequestParam(defaultValue = "50") int limit) {
+        try {
+            return ResponseEntity.ok(nearbyUserService.findNearby(getCurrentUserId(), lat, lng, radius, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Compartilha (ou atualiza) a localização do usuário logado
+    @PutMapping("/location")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<Void> updateLocation(@Valid @RequestBody LocationRequestDTO request) {
+        nearbyUserService.updateLocation(getCurrentUserId(), request.getLatitude(), request.getLongitude());
+        return ResponseEntity.noContent().build();
+    }
+
+    // Para de compartilhar a localização
+    @DeleteMapping("/location")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<Void> clearLocation() {
+        nearbyUserService.clearLocation(getCurrentUserId());
+        return ResponseEntity.noContent().build();
+    }
+}
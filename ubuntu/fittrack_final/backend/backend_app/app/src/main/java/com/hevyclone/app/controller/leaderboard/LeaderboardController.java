@@ -0,0 +1,71 @@
+package com.hevyclone.app.controller.leaderboard;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.leaderboard.LeaderboardPageDTO;
+import com.hevyclone.app.service.leaderboard.LeaderboardMetric;
+import com.hevyclone.app.service.leaderboard.LeaderboardPeriod;
+import com.hevyclone.app.service.leaderboard.LeaderboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/users/ranking")
+public class LeaderboardController {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    // Ranking do período (week ou month) por treinos ou minutos; scope=friends restringe a quem o usuário segue
+    @GetMapping
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<LeaderboardPageDTO> getRanking(@RequestParam(defaultValue = "week") String period,
+                                                         @RequestParam(defaultValue = "workouts") String metric,
+                                                         @RequestParam(defaultValue = "global") String scope,
+                                                         @RequestParam(defaultValue = "false") boolean previous,
+                                                         @RequestParam(defaultValue = "0") int page,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        try {
+            LeaderboardPageDTO ranking = leaderboardService.getLeaderboard(getCurrentUserId(),
+                    LeaderboardPeriod.from(period), LeaderboardMetric.from(metric),
+                    "friends".equalsIgnoreCase(scope), previous, page, size);
+            return ResponseEntity.ok(ranking);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Recalcula o ranking do período atual (ou do anterior) a partir do histórico de treinos
+    @PostMapping("/recompute")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> recompute(@RequestParam(defaultValue = "week") String period,
+                                                         @RequestParam(defaultValue = "false") boolean previous) {
+        try {
+            LeaderboardPeriod leaderboardPeriod = LeaderboardPeriod.from(period);
+            LocalDate start = leaderboardPeriod.startOf(LocalDate.now());
+            if (previous) {
+                start = leaderboardPeriod.previousStart(start);
+            }
+            int users = leaderboardService.rebuild(leaderboardPeriod, start);
+            return ResponseEntity.ok(Map.of("periodStart", start.toString(), "users", users));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.hevyclone.app.controller.notification;
 
+import com.hevyclone.app.dto.notification.NotificationReadResultDTO;
+import com.hevyclone.app.dto.notification.NotificationUnreadCountDTO;
 import com.hevyclone.app.model.notification.Notification;
+import com.hevyclone.app.service.notification.NotificationPushHub;
 import com.hevyclone.app.service.notification.NotificationService;
 import com.hevyclone.app.auth.security.UserDetailsImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +25,9 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private NotificationPushHub pushHub;
+
     private Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
@@ -35,6 +43,24 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    // Endpoint leve para o badge do app: só a quantidade de não lidas
+    @GetMapping("/unread-count")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<NotificationUnreadCountDTO> getMyUnreadCount() {
+        Long userId = getCurrentUserId();
+        return ResponseEntity.ok(NotificationUnreadCountDTO.builder()
+                .unreadCount(notificationService.getUnreadCount(userId))
+                .build());
+    }
+
+    // Canal de push (SSE): eventos "notification" a cada nova notificação, "resync" quando o
+    // cliente ficou para trás e deve recarregar a lista, e comentários de heartbeat
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole(\'USER\')")
+    public SseEmitter streamMyNotifications() {
+        return pushHub.subscribe(getCurrentUserId());
+    }
+
     // Endpoint para o usuário buscar uma notificação específica pelo ID
     @GetMapping("/{notificationId}")
     @PreAuthorize("hasRole(\'USER\')")
@@ -64,13 +90,13 @@ public class NotificationController {
         }
     }
 
-    // Endpoint para o usuário marcar todas as suas notificações como lidas
+    // Endpoint para o usuário marcar todas as suas notificações como lidas.
+    // upToId opcional: marca só até a notificação mais recente que o cliente exibiu.
     @PostMapping("/read-all")
     @PreAuthorize("hasRole(\'USER\')")
-    public ResponseEntity<List<Notification>> markAllMyNotificationsAsRead() {
+    public ResponseEntity<NotificationReadResultDTO> markAllMyNotificationsAsRead(@RequestParam(required = false) Long upToId) {
         Long userId = getCurrentUserId();
-        List<Notification> readNotifications = notificationService.markAllAsRead(userId);
-        return ResponseEntity.ok(readNotifications);
+        return ResponseEntity.ok(notificationService.markAllAsRead(userId, upToId));
     }
     
     // A criação de notificações geralmente é feita pelo sistema (ex: novo PR, lembrete de treino).
@@ -0,0 +1,53 @@
+package com.hevyclone.app.controller.search;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.search.UserSearchPageDTO;
+import com.hevyclone.app.service.search.UserSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/users")
+public class UserSearchController {
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    // Busca por trecho do nome, mais seguidos primeiro; cursor vem de nextCursor da página anterior
+    @GetMapping("/search")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<UserSearchPageDTO> search(@RequestParam String query,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(userSearchService.search(getCurrentUserId(), query, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Autocompletar por prefixo do nome ou de qualquer palavra dele
+    @GetMapping("/search/autocomplete")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<UserSearchPageDTO> autocomplete(@RequestParam String prefix,
+                                                          @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(userSearchService.autocomplete(getCurrentUserId(), prefix, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
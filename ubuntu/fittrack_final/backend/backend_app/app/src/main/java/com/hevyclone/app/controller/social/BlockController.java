@@ -0,0 +1,51 @@
+package com.hevyclone.app.controller.social;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.social.BlockResponseDTO;
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.service.social.BlockService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/users") // Bloqueios entre usuários
+public class BlockController {
+
+    @Autowired
+    private BlockService blockService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    @PostMapping("/{userId}/block")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<BlockResponseDTO> block(@PathVariable Long userId) {
+        try {
+            return ResponseEntity.ok(blockService.block(getCurrentUserId(), userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build(); // Ex: bloquear a si mesmo
+        }
+    }
+
+    @DeleteMapping("/{userId}/block")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<BlockResponseDTO> unblock(@PathVariable Long userId) {
+        return ResponseEntity.ok(blockService.unblock(getCurrentUserId(), userId));
+    }
+
+    // Usuários que o usuário atual bloqueou, do bloqueio mais recente ao mais antigo
+    @GetMapping("/blocked")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<Page<UserSummaryDTO>> getBlocked(@RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(blockService.getBlocked(getCurrentUserId(), page, size));
+    }
+}
@@ -0,0 +1,54 @@
+package com.hevyclone.app.controller.social;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.social.FeedSliceDTO;
+import com.hevyclone.app.dto.social.PostDTO;
+import com.hevyclone.app.service.social.PostService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/feed")
+public class FeedController {
+
+    @Autowired
+    private PostService postService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    // Feed do usuário logado (posts de quem ele segue), paginado por número de página
+    @GetMapping
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<Slice<PostDTO>> getMyFeed(@RequestParam(defaultValue = "0") int page,
+                                                    @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getFeedPage(getCurrentUserId(), page, size));
+    }
+
+    // Feed por cursor: custo constante por página, indicado para rolagem infinita no app
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<FeedSliceDTO> scrollMyFeed(@RequestParam(required = false) Long cursor,
+                                                     @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.scrollFeed(getCurrentUserId(), cursor, size));
+    }
+
+    // Posts públicos de todos os usuários, do mais recente para o mais antigo
+    @GetMapping("/public")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<Slice<PostDTO>> getPublicFeed(@RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getPublicFeed(getCurrentUserId(), page, size));
+    }
+}
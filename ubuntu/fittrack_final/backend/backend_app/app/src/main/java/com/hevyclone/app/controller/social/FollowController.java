@@ -0,0 +1,59 @@
+package com.hevyclone.app.controller.social;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.social.FollowResponseDTO;
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.service.social.FollowService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/users") // Relações de seguir entre usuários
+public class FollowController {
+
+    @Autowired
+    private FollowService followService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    @PostMapping("/{userId}/follow")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<FollowResponseDTO> follow(@PathVariable Long userId) {
+        try {
+            return ResponseEntity.ok(followService.follow(getCurrentUserId(), userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build(); // Ex: seguir a si mesmo
+        }
+    }
+
+    @DeleteMapping("/{userId}/follow")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<FollowResponseDTO> unfollow(@PathVariable Long userId) {
+        return ResponseEntity.ok(followService.unfollow(getCurrentUserId(), userId));
+    }
+
+    @GetMapping("/{userId}/followers")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<Page<UserSummaryDTO>> getFollowers(@PathVariable Long userId,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(followService.getFollowers(userId, page, size));
+    }
+
+    @GetMapping("/{userId}/following")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<Page<UserSummaryDTO>> getFollowing(@PathVariable Long userId,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(followService.getFollowing(userId, page, size));
+    }
+}
@@ -0,0 +1,90 @@
+package com.hevyclone.app.controller.social;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.social.PostCommentDTO;
+import com.hevyclone.app.dto.social.PostCommentRequestDTO;
+import com.hevyclone.app.dto.social.PostDTO;
+import com.hevyclone.app.dto.social.PostLikeResponseDTO;
+import com.hevyclone.app.dto.social.PostRequestDTO;
+import com.hevyclone.app.service.social.PostInteractionService;
+import com.hevyclone.app.service.social.PostService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/posts")
+public class PostController {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostInteractionService postInteractionService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    // Cria um post (texto, treino compartilhado ou repost) e o distribui aos seguidores
+    @PostMapping
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<PostDTO> createPost(@Valid @RequestBody PostRequestDTO request) {
+        Long userId = getCurrentUserId();
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(postService.createPost(userId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Posts de usuários bloqueados (em qualquer sentido) respondem 403
+    @GetMapping("/{postId}")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<PostDTO> getPost(@PathVariable Long postId) {
+        return ResponseEntity.ok(postService.getPost(getCurrentUserId(), postId));
+    }
+
+    // Curtir é idempotente; a resposta traz a contagem já com a curtida
+    @PostMapping("/{postId}/like")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<PostLikeResponseDTO> likePost(@PathVariable Long postId) {
+        return ResponseEntity.ok(postInteractionService.like(getCurrentUserId(), postId));
+    }
+
+    @DeleteMapping("/{postId}/like")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<PostLikeResponseDTO> unlikePost(@PathVariable Long postId) {
+        return ResponseEntity.ok(postInteractionService.unlike(getCurrentUserId(), postId));
+    }
+
+    @PostMapping("/{postId}/comments")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<PostCommentDTO> addComment(@PathVariable Long postId,
+                                                     @Valid @RequestBody PostCommentRequestDTO request) {
+        Long userId = getCurrentUserId();
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(postInteractionService.addComment(userId, postId, request.getText()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Comentários em ordem de criação
+    @GetMapping("/{postId}/comments")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<Slice<PostCommentDTO>> getComments(@PathVariable Long postId,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postInteractionService.getComments(getCurrentUserId(), postId, page, size));
+    }
+}
@@ -0,0 +1,41 @@
+package com.hevyclone.app.controller.social;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.social.SuggestionsDTO;
+import com.hevyclone.app.service.social.SuggestionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/users")
+public class SuggestionController {
+
+    @Autowired
+    private SuggestionService suggestionService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    // Sugestões de quem seguir (amigos de amigos, rotinas e nível em comum)
+    @GetMapping("/suggestions")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<SuggestionsDTO> getSuggestions(@RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(SuggestionsDTO.builder()
+                    .content(suggestionService.getSuggestions(getCurrentUserId(), limit))
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
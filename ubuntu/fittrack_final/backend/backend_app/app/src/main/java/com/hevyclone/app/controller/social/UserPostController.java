@@ -0,0 +1,35 @@
+package com.hevyclone.app.controller.social;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.social.PostDTO;
+import com.hevyclone.app.service.social.PostService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/users") // Posts publicados por um usuário
+public class UserPostController {
+
+    @Autowired
+    private PostService postService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    // Do mais recente ao mais antigo; 403 se houver bloqueio entre os dois usuários
+    @GetMapping("/{userId}/posts")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<Slice<PostDTO>> getUserPosts(@PathVariable Long userId,
+                                                       @RequestParam(defaultValue = "0") int page,
+                                                       @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getUserPosts(getCurrentUserId(), userId, page, size));
+    }
+}
@@ -0,0 +1,65 @@
+package com.hevyclone.app.controller.social;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.social.PostCommentDTO;
+import com.hevyclone.app.dto.social.PostCommentRequestDTO;
+import com.hevyclone.app.dto.social.PostLikeResponseDTO;
+import com.hevyclone.app.service.social.WorkoutInteractionService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/workouts/{workoutId}")
+public class WorkoutInteractionController {
+
+    @Autowired
+    private WorkoutInteractionService workoutInteractionService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    // Curtir é idempotente; a resposta traz a contagem já com a curtida
+    @PostMapping("/like")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<PostLikeResponseDTO> likeWorkout(@PathVariable Long workoutId) {
+        return ResponseEntity.ok(workoutInteractionService.like(getCurrentUserId(), workoutId));
+    }
+
+    @DeleteMapping("/like")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<PostLikeResponseDTO> unlikeWorkout(@PathVariable Long workoutId) {
+        return ResponseEntity.ok(workoutInteractionService.unlike(getCurrentUserId(), workoutId));
+    }
+
+    @PostMapping("/comments")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<PostCommentDTO> addComment(@PathVariable Long workoutId,
+                                                     @Valid @RequestBody PostCommentRequestDTO request) {
+        Long userId = getCurrentUserId();
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(workoutInteractionService.addComment(userId, workoutId, request.getText()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Comentários em ordem de criação
+    @GetMapping("/comments")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<Slice<PostCommentDTO>> getComments(@PathVariable Long workoutId,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(workoutInteractionService.getComments(getCurrentUserId(), workoutId, page, size));
+    }
+}
@@ -0,0 +1,44 @@
+package com.hevyclone.app.controller.userprogress;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.userprogress.PersonalRecordDTO;
+import com.hevyclone.app.service.userprogress.PersonalRecordService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/user/records") // Recordes pessoais do usuário logado
+public class PersonalRecordController {
+
+    @Autowired
+    private PersonalRecordService personalRecordService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    // Endpoint para listar todos os recordes do usuário, agrupados por exercício
+    @GetMapping
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<List<PersonalRecordDTO>> getMyRecords() {
+        return ResponseEntity.ok(personalRecordService.getRecords(getCurrentUserId()));
+    }
+
+    // Endpoint para listar os recordes do usuário em um exercício
+    @GetMapping("/exercise/{exerciseId}")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<List<PersonalRecordDTO>> getMyRecordsByExercise(@PathVariable Long exerciseId) {
+        return ResponseEntity.ok(personalRecordService.getRecords(getCurrentUserId(), exerciseId));
+    }
+}
@@ -0,0 +1,34 @@
+package com.hevyclone.app.controller.userprogress;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.userprogress.TrainingStatsDTO;
+import com.hevyclone.app.service.userprogress.TrainingStatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/workouts") // Estatísticas de treino do usuário logado
+public class TrainingStatsController {
+
+    @Autowired
+    private TrainingStatsService trainingStatsService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    // Totais, médias, sequências semanais e tendência recente (lidos dos agregados, não dos logs)
+    @GetMapping("/statistics")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<TrainingStatsDTO> getMyStatistics() {
+        return ResponseEntity.ok(trainingStatsService.getStats(getCurrentUserId()));
+    }
+}
@@ -1,11 +1,19 @@
 package com.hevyclone.app.controller.userprogress;
 
+import com.hevyclone.app.dto.userprogress.ExerciseSetBatchRequestDTO;
+import com.hevyclone.app.dto.userprogress.ExerciseSetBatchResponseDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutLogSyncRequestDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutLogSyncResponseDTO;
 import com.hevyclone.app.model.userprogress.UserWorkoutLog;
+import com.hevyclone.app.service.userprogress.ExerciseSetService;
 import com.hevyclone.app.service.userprogress.UserWorkoutLogService;
+import com.hevyclone.app.service.userprogress.WorkoutLogSyncService;
 import com.hevyclone.app.auth.security.UserDetailsImpl;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,6 +29,12 @@ public class UserWorkoutLogController {
     @Autowired
     private UserWorkoutLogService userWorkoutLogService;
 
+    @Autowired
+    private WorkoutLogSyncService workoutLogSyncService;
+
+    @Autowired
+    private ExerciseSetService exerciseSetService;
+
     private Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
@@ -28,6 +42,7 @@ public class UserWorkoutLogController {
     }
 
     // Endpoint para o usuário listar todos os seus logs de treino
+    // Retorna o histórico inteiro; para listagens use /api/workouts/history (paginado, só os campos da lista)
     @GetMapping
     @PreAuthorize("hasRole(\'USER\')")
     public ResponseEntity<List<UserWorkoutLog>> getMyWorkoutLogs() {
@@ -78,6 +93,38 @@ public class UserWorkoutLogController {
         }
     }
 
+    // Endpoint de sincronização em lote para o app offline.
+    // Cada item carrega uma chave de idempotência; reenvios retornam DUPLICATE em vez de criar outro log.
+    @PostMapping("/sync")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<WorkoutLogSyncResponseDTO> syncMyWorkoutLogs(@Valid @RequestBody WorkoutLogSyncRequestDTO request) {
+        Long userId = getCurrentUserId();
+        try {
+            WorkoutLogSyncResponseDTO response = workoutLogSyncService.syncLogs(userId, request.getLogs());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build(); // Ex: lote acima do limite
+        }
+    }
+
+    // Endpoint para registrar as séries executadas em um log; a resposta traz os recordes pessoais batidos
+    @PostMapping("/{logId}/sets")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<ExerciseSetBatchResponseDTO> logMySets(@PathVariable Long logId,
+                                                                 @Valid @RequestBody ExerciseSetBatchRequestDTO request) {
+        Long userId = getCurrentUserId();
+        try {
+            ExerciseSetBatchResponseDTO response = exerciseSetService.logSets(userId, logId, request.getSets());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build(); // Ex: exercício inexistente
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build(); // Ex: Log não encontrado
+        }
+    }
+
     // Endpoint para o usuário atualizar um log de treino existente
     @PutMapping("/{logId}")
     @PreAuthorize("hasRole(\'USER\')")
@@ -0,0 +1,61 @@
+package com.hevyclone.app.controller.userprogress;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.userprogress.WorkoutHistoryEntryDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutHistorySliceDTO;
+import com.hevyclone.app.service.userprogress.WorkoutHistoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/workouts") // Histórico de treinos realizados pelo usuário logado
+public class WorkoutHistoryController {
+
+    @Autowired
+    private WorkoutHistoryService workoutHistoryService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    // Histórico paginado por número de página, com filtro opcional de período (datas inclusivas)
+    @GetMapping("/history")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<Page<WorkoutHistoryEntryDTO>> getMyHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Long userId = getCurrentUserId();
+        return ResponseEntity.ok(workoutHistoryService.getHistoryPage(userId, startDate, endDate, page, size));
+    }
+
+    // Histórico por cursor: custo constante por página, indicado para rolagem infinita no app
+    @GetMapping("/history/scroll")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<WorkoutHistorySliceDTO> scrollMyHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long userId = getCurrentUserId();
+        try {
+            return ResponseEntity.ok(workoutHistoryService.getHistorySlice(userId, startDate, endDate, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build(); // Ex: cursor adulterado
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.hevyclone.app.controller.userprogress;
+
+import com.hevyclone.app.auth.security.UserDetailsImpl;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionFinishRequestDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionProgressRequestDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionSetDTO;
+import com.hevyclone.app.service.userprogress.WorkoutSessionService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/workouts") // Sessão de treino ao vivo do usuário logado
+public class WorkoutSessionController {
+
+    @Autowired
+    private WorkoutSessionService workoutSessionService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return userDetails.getId();
+    }
+
+    // Endpoint para iniciar a execução de um workout; repetir o start devolve a sessão atual
+    @PostMapping("/{workoutId}/start")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<WorkoutSessionDTO> startSession(@PathVariable Long workoutId) {
+        Long userId = getCurrentUserId();
+        try {
+            return ResponseEntity.ok(workoutSessionService.start(userId, workoutId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build(); // Outra sessão em andamento
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build(); // Ex: Workout não encontrado
+        }
+    }
+
+    // Endpoint para consultar a sessão em andamento
+    @GetMapping("/{workoutId}/status")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<WorkoutSessionDTO> getSessionStatus(@PathVariable Long workoutId) {
+        Long userId = getCurrentUserId();
+        try {
+            return ResponseEntity.ok(workoutSessionService.getStatus(userId, workoutId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build(); // Nenhuma sessão em andamento
+        }
+    }
+
+    // Endpoint para informar o progresso de um exercício (fica em memória até o finish)
+    @PostMapping("/{workoutId}/progress")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<WorkoutSessionDTO> recordProgress(@PathVariable Long workoutId,
+                                                            @Valid @RequestBody WorkoutSessionProgressRequestDTO progress) {
+        Long userId = getCurrentUserId();
+        try {
+            return ResponseEntity.ok(workoutSessionService.recordProgress(userId, workoutId, progress));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // Endpoint para registrar séries de um exercício na sessão (fica em memória até o finish)
+    @PostMapping("/{workoutId}/exercises/{exerciseId}/sets")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<List<WorkoutSessionSetDTO>> addSets(@PathVariable Long workoutId,
+                                                              @PathVariable Long exerciseId,
+                                                              @RequestBody List<@Valid WorkoutSessionSetDTO> sets) {
+        Long userId = getCurrentUserId();
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(workoutSessionService.addSets(userId, workoutId, exerciseId, sets));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build(); // Ex: exercício inexistente
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build(); // Nenhuma sessão em andamento
+        }
+    }
+
+    // Endpoint para finalizar a sessão: grava log, séries e recordes de uma vez
+    @PostMapping("/{workoutId}/finish")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<WorkoutSessionDTO> finishSession(@PathVariable Long workoutId,
+                                                           @Valid @RequestBody(required = false) WorkoutSessionFinishRequestDTO request) {
+        Long userId = getCurrentUserId();
+        try {
+            return ResponseEntity.ok(workoutSessionService.finish(userId, workoutId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // Endpoint para descartar a sessão sem gravar nada
+    @DeleteMapping("/{workoutId}/session")
+    @PreAuthorize("hasRole(\'USER\')")
+    public ResponseEntity<Void> cancelSession(@PathVariable Long workoutId) {
+        Long userId = getCurrentUserId();
+        try {
+            workoutSessionService.cancel(userId, workoutId);
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.hevyclone.app.dto.exercise;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação do catálogo: totais e os erros por linha (até o limite
+ * configurado; failed conta todos)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseImportResultDTO {
+
+    private long processed;
+    private long inserted;
+    private long updated;
+    private long failed;
+    private long durationMs;
+    private List<RowError> errors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line; // -1: arquivo malformado, a leitura parou (a linha vai na mensagem)
+        private String externalId;
+        private String message;
+    }
+}
@@ -0,0 +1,19 @@
+package com.hevyclone.app.dto.geo;
+
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Usuário próximo; a distância vem arredondada ao km para não permitir triangular a posição
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyUserDTO {
+    private UserSummaryDTO user;
+    private double distanceKm;
+}
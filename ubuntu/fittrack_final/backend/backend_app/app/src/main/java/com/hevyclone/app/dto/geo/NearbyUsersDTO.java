@@ -0,0 +1,20 @@
+package com.hevyclone.app.dto.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado da busca por raio, do mais próximo ao mais distante
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyUsersDTO {
+    private List<NearbyUserDTO> content;
+    private double radiusKm;
+}
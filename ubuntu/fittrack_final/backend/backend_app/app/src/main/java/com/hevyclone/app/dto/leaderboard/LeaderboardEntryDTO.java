@@ -0,0 +1,20 @@
+package com.hevyclone.app.dto.leaderboard;
+
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Posição de um usuário no ranking (rank começa em 1)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDTO {
+    private long rank;
+    private UserSummaryDTO user;
+    private long score;
+}
@@ -0,0 +1,30 @@
+package com.hevyclone.app.dto.leaderboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Página de um ranking por período, com a posição do usuário logado em "me" (nula se não pontuou)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardPageDTO {
+    private String period;
+    private String metric;
+    private String scope;
+    private LocalDate periodStart;
+    private LocalDate periodEnd; // Exclusivo: início do próximo período
+    private List<LeaderboardEntryDTO> content;
+    private int page;
+    private int size;
+    private long totalEntries;
+    private boolean hasNext;
+    private LeaderboardEntryDTO me;
+}
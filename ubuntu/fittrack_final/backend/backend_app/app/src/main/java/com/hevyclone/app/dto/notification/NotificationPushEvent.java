@@ -0,0 +1,26 @@
+package com.hevyclone.app.dto.notification;
+
+import com.hevyclone.app.model.notification.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Notificação enviada pelo canal de push (SSE), já com a contagem de não lidas para o badge
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationPushEvent {
+    private Long id;
+    private Long userId;
+    private NotificationType type;
+    private String message;
+    private String link;
+    private LocalDateTime createdAt;
+    private Long unreadCount;
+}
@@ -0,0 +1,18 @@
+package com.hevyclone.app.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado compacto de uma marcação de leitura: até qual id ficou lido e quantas linhas mudaram
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationReadResultDTO {
+    private Long readUpToId;
+    private int updated;
+}
@@ -0,0 +1,17 @@
+package com.hevyclone.app.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Quantidade de notificações não lidas exibida no badge do app
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationUnreadCountDTO {
+    private long unreadCount;
+}
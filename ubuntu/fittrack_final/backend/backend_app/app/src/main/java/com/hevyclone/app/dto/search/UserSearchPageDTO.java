@@ -0,0 +1,22 @@
+package com.hevyclone.app.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página da busca de usuários por cursor; nextCursor vai no próximo pedido como está
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchPageDTO {
+    private List<UserSearchResultDTO> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
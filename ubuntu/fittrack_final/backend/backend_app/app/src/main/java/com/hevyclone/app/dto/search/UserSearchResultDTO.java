@@ -0,0 +1,19 @@
+package com.hevyclone.app.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Usuário encontrado na busca por nome, com o número de seguidores usado na ordenação
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchResultDTO {
+    private Long id;
+    private String name;
+    private long followersCount;
+}
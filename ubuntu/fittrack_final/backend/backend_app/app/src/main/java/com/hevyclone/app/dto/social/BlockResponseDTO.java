@@ -0,0 +1,18 @@
+package com.hevyclone.app.dto.social;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estado do bloqueio após bloquear/desbloquear
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlockResponseDTO {
+    private boolean blocked;
+    private String message;
+}
@@ -0,0 +1,22 @@
+package com.hevyclone.app.dto.social;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página do feed por cursor; nextCursor é o id do último post e vai no próximo pedido
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedSliceDTO {
+    private List<PostDTO> content;
+    private int size;
+    private boolean hasNext;
+    private Long nextCursor;
+}
@@ -0,0 +1,18 @@
+package com.hevyclone.app.dto.social;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estado da relação de seguir após follow/unfollow
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowResponseDTO {
+    private boolean following;
+    private String message;
+}
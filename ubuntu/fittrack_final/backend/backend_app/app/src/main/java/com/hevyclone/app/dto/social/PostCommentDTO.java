@@ -0,0 +1,22 @@
+package com.hevyclone.app.dto.social;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Comentário de um post, com o autor resumido
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCommentDTO {
+    private Long id;
+    private String text;
+    private UserSummaryDTO author;
+    private LocalDateTime createdAt;
+}
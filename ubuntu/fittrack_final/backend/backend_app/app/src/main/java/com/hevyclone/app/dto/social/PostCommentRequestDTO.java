@@ -0,0 +1,21 @@
+package com.hevyclone.app.dto.social;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Texto de um novo comentário
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCommentRequestDTO {
+    @NotBlank(message = "O comentário não pode estar em branco")
+    @Size(max = 2000, message = "O comentário deve ter no máximo 2000 caracteres")
+    private String text;
+}
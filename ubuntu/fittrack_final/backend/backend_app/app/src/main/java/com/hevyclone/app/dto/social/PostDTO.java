@@ -0,0 +1,35 @@
+package com.hevyclone.app.dto.social;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hevyclone.app.model.social.PostType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Post exibido no feed, no perfil e no detalhe
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDTO {
+    private Long id;
+    private UserSummaryDTO author;
+    private String content;
+    private PostType type;
+    @JsonProperty("public")
+    private boolean isPublic;
+    private Long workoutId;
+    private PostDTO originalPost;
+    private long likesCount;
+    private long commentsCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<PostCommentDTO> comments; // Só no detalhe do post
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package com.hevyclone.app.dto.social;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de curtir/descurtir, com a contagem já incluindo a ação
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostLikeResponseDTO {
+    private boolean liked;
+    private long likesCount;
+}
@@ -0,0 +1,26 @@
+package com.hevyclone.app.dto.social;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hevyclone.app.model.social.PostType;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Criação de post: texto, treino compartilhado (workoutId) ou repost (originalPostId)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostRequestDTO {
+    @Size(max = 5000, message = "O post deve ter no máximo 5000 caracteres")
+    private String content;
+    private PostType type;
+    @JsonProperty("public")
+    private Boolean isPublic;
+    private Long workoutId;
+    private Long originalPostId;
+}
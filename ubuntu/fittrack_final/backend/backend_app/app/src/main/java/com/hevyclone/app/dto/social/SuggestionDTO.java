@@ -0,0 +1,18 @@
+package com.hevyclone.app.dto.social;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sugestão de quem seguir, com quantas pessoas seguidas pelo usuário já seguem o sugerido
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDTO {
+    private UserSummaryDTO user;
+    private int mutualFollows;
+}
@@ -0,0 +1,19 @@
+package com.hevyclone.app.dto.social;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Lista de sugestões de quem seguir, da mais relevante para a menos relevante
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionsDTO {
+    private List<SuggestionDTO> content;
+}
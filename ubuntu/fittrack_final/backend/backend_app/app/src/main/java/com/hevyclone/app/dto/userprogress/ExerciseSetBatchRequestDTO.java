@@ -0,0 +1,25 @@
+package com.hevyclone.app.dto.userprogress;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Séries de um treino registrado, enviadas de uma vez ao final do treino
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseSetBatchRequestDTO {
+
+    @NotEmpty
+    @Size(max = 200)
+    private List<@Valid ExerciseSetRequestDTO> sets;
+}
@@ -0,0 +1,20 @@
+package com.hevyclone.app.dto.userprogress;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Ids das séries gravadas e recordes pessoais batidos por elas
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseSetBatchResponseDTO {
+    private List<Long> setIds;
+    private List<PersonalRecordDTO> newRecords;
+}
@@ -0,0 +1,43 @@
+package com.hevyclone.app.dto.userprogress;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Série executada, enviada ao registrar as séries de um treino
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseSetRequestDTO {
+
+    @NotNull
+    private Long exerciseId;
+
+    @NotNull
+    @Min(1)
+    private Integer setNumber;
+
+    @Min(0)
+    private Integer reps;
+
+    private BigDecimal weight;
+    private BigDecimal distance;
+
+    @Min(0)
+    private Integer durationSeconds;
+
+    @Min(0)
+    private Integer restTimeSeconds;
+
+    private BigDecimal rpe;
+    private Boolean completed; // Nulo conta como concluída
+    private String notes;
+}
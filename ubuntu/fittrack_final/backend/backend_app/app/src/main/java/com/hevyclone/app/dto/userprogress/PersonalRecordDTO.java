@@ -0,0 +1,29 @@
+package com.hevyclone.app.dto.userprogress;
+
+import com.hevyclone.app.model.userprogress.PersonalRecordType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Recorde pessoal do usuário em um exercício
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonalRecordDTO {
+    // A ordem dos campos é a do construtor usado em PersonalRecordRepository (SELECT new ...)
+    private Long id;
+    private Long exerciseId;
+    private String exerciseName;
+    private PersonalRecordType recordType;
+    private BigDecimal value;
+    private String unit;
+    private Long exerciseSetId;
+    private LocalDateTime achievedAt;
+}
@@ -0,0 +1,21 @@
+package com.hevyclone.app.dto.userprogress;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Totais de treino de um dia ou de uma semana (periodStart é a segunda-feira no caso semanal)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainingPeriodStatsDTO {
+    private LocalDate periodStart;
+    private int workouts;
+    private long durationMinutes;
+}
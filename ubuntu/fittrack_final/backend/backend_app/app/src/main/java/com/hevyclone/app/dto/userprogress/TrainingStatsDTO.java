@@ -0,0 +1,30 @@
+package com.hevyclone.app.dto.userprogress;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Estatísticas de treino do usuário, calculadas a partir dos agregados semanais e diários
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainingStatsDTO {
+    private long totalWorkouts;
+    private long completedWorkouts;       // Todo log registrado é um treino concluído
+    private long totalDurationMinutes;
+    private double averageDuration;       // Média em minutos entre os treinos com duração informada
+    private int workoutsThisWeek;
+    private double averageWorkoutsPerWeek; // Desde a semana do primeiro treino
+    private int currentWeekStreak;        // Semanas consecutivas com treino, terminando nesta ou na anterior
+    private int longestWeekStreak;
+    private LocalDate firstWorkoutWeek;
+    private List<TrainingPeriodStatsDTO> recentWeeks; // Últimas 12 semanas, da mais antiga para a atual
+    private List<TrainingPeriodStatsDTO> recentDays;  // Últimos 30 dias, do mais antigo para hoje
+}
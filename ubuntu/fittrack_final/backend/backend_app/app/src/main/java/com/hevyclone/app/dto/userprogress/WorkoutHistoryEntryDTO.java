@@ -0,0 +1,25 @@
+package com.hevyclone.app.dto.userprogress;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha do histórico de treinos, projetada direto da consulta (sem carregar User/Workout/UserRoutine)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutHistoryEntryDTO {
+    // A ordem dos campos é a do construtor usado em UserWorkoutLogRepository (SELECT new ...)
+    private Long id;
+    private Long workoutId;
+    private String workoutName;
+    private Long userRoutineId;
+    private LocalDateTime completedAt;
+    private Integer durationMinutes;
+}
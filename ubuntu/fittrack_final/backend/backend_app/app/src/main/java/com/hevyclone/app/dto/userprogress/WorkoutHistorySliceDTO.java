@@ -0,0 +1,22 @@
+package com.hevyclone.app.dto.userprogress;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página do histórico por cursor; nextCursor é opaco e deve ser repassado na próxima chamada
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutHistorySliceDTO {
+    private List<WorkoutHistoryEntryDTO> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,34 @@
+package com.hevyclone.app.dto.userprogress;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Um log de treino gravado offline pelo cliente e reenviado na sincronização
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutLogSyncItemDTO {
+
+    @NotBlank(message = "A chave de idempotência é obrigatória")
+    @Size(max = 64, message = "A chave de idempotência deve ter no máximo 64 caracteres")
+    private String idempotencyKey; // Gerada no dispositivo (ex: UUID) e reutilizada nas retentativas
+
+    @NotNull(message = "O workout é obrigatório")
+    private Long workoutId;
+
+    private LocalDateTime completedAt;
+
+    private Integer durationMinutes;
+
+    private String notes;
+}
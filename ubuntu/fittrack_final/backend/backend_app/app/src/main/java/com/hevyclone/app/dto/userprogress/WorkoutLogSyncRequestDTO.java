@@ -0,0 +1,25 @@
+package com.hevyclone.app.dto.userprogress;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Lote de logs de treino enviados pelo cliente offline
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutLogSyncRequestDTO {
+
+    @NotEmpty(message = "O lote de sincronização não pode estar vazio")
+    @Size(max = 500, message = "O lote de sincronização deve ter no máximo 500 logs")
+    private List<@Valid WorkoutLogSyncItemDTO> logs;
+}
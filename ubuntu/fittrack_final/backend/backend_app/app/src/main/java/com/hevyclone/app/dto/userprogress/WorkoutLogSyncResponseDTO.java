@@ -0,0 +1,22 @@
+package com.hevyclone.app.dto.userprogress;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resposta da sincronização em lote, com um resultado por item na ordem recebida
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutLogSyncResponseDTO {
+    private int created;
+    private int duplicates;
+    private int rejected;
+    private List<WorkoutLogSyncResultDTO> results;
+}
@@ -0,0 +1,27 @@
+package com.hevyclone.app.dto.userprogress;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado da sincronização de um item do lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutLogSyncResultDTO {
+
+    public enum Status {
+        CREATED,    // Gravado nesta requisição
+        DUPLICATE,  // Chave já conhecida; logId aponta para o log original
+        REJECTED    // Não gravado (ex: workout inexistente); ver message
+    }
+
+    private String idempotencyKey;
+    private Status status;
+    private Long logId;
+    private String message;
+}
@@ -0,0 +1,35 @@
+package com.hevyclone.app.dto.userprogress;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Situação de uma sessão de treino (em andamento ou recém-finalizada)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutSessionDTO {
+
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    private Long workoutId;
+    private Status status;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private Integer duration; // Em segundos
+    private int totalSets;
+    private Map<Long, Integer> completedSetsByExercise;
+    private Long logId;       // Log gravado ao finalizar
+    private List<PersonalRecordDTO> newRecords;
+}
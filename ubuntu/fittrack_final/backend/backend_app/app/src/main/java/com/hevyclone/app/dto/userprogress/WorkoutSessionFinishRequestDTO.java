@@ -0,0 +1,21 @@
+package com.hevyclone.app.dto.userprogress;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dados de encerramento da sessão; sem duração, vale o tempo desde o início
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutSessionFinishRequestDTO {
+    private String notes;
+
+    @Min(0)
+    private Integer duration; // Em segundos
+}
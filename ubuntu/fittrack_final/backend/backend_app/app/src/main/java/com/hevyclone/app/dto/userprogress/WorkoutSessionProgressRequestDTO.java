@@ -0,0 +1,27 @@
+package com.hevyclone.app.dto.userprogress;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progresso informado pelo app durante a sessão (séries concluídas de um exercício)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutSessionProgressRequestDTO {
+
+    @NotNull
+    private Long exerciseId;
+
+    @NotNull
+    @Min(0)
+    private Integer completedSets;
+
+    private String notes;
+}
@@ -0,0 +1,37 @@
+package com.hevyclone.app.dto.userprogress;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Série registrada durante uma sessão de treino em andamento
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutSessionSetDTO {
+    private Long exerciseId;   // Preenchido a partir da URL
+    private Integer setNumber; // Atribuído pela sessão, em ordem por exercício
+
+    @Min(0)
+    private Integer reps;
+
+    private BigDecimal weight;
+
+    @Min(0)
+    private Integer restTime; // Descanso em segundos
+
+    @Min(0)
+    private Integer durationSeconds;
+
+    private BigDecimal distance;
+    private BigDecimal rpe;
+    private LocalDateTime loggedAt;
+}
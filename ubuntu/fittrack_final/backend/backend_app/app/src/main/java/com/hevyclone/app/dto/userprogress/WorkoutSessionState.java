@@ -0,0 +1,27 @@
+package com.hevyclone.app.dto.userprogress;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estado de uma sessão de treino em andamento; é o formato guardado no store e no checkpoint
+ */
+@Data
+@NoArgsConstructor
+public class WorkoutSessionState {
+    private String sessionId; // Também é a chave de idempotência do log gravado ao finalizar
+    private Long userId;
+    private Long workoutId;
+    private LocalDateTime startedAt;
+    private LocalDateTime lastActivityAt;
+    private String notes;
+    private Map<Long, Integer> completedSetsByExercise = new HashMap<>();
+    private List<WorkoutSessionSetDTO> sets = new ArrayList<>();
+    private long version; // Incrementada a cada alteração; o checkpoint só regrava versões novas
+}
@@ -0,0 +1,106 @@
+package com.hevyclone.app.model.counter;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Uma fatia de um contador (curtidas de um post, seguidores de um usuário...). O valor do
+// contador é a soma das fatias; cada flush soma numa fatia sorteada, para que réplicas
+// gravando o mesmo contador viral não disputem a mesma linha.
+@Entity
+@Table(name = "counter_shards")
+@IdClass(CounterShard.Key.class)
+public class CounterShard {
+
+    @Id
+    @Column(name = "counter_kind", length = 32)
+    private String kind;
+
+    @Id
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Id
+    private short shard;
+
+    @Column(name = "count_value", nullable = false)
+    private long countValue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Getters e Setters
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public short getShard() {
+        return shard;
+    }
+
+    public void setShard(short shard) {
+        this.shard = shard;
+    }
+
+    public long getCountValue() {
+        return countValue;
+    }
+
+    public void setCountValue(long countValue) {
+        this.countValue = countValue;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private String kind;
+        private Long entityId;
+        private short shard;
+
+        public Key() {}
+
+        public Key(String kind, Long entityId, short shard) {
+            this.kind = kind;
+            this.entityId = entityId;
+            this.shard = shard;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return shard == other.shard && Objects.equals(kind, other.kind) && Objects.equals(entityId, other.entityId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, entityId, shard);
+        }
+    }
+}
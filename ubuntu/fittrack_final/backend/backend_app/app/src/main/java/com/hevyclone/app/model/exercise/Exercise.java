@@ -11,7 +11,10 @@ import lombok.NoArgsConstructor;
  * Entidade que representa um exercício
  */
 @Entity
-@Table(name = "exercises")
+@Table(name = "exercises", uniqueConstraints = {
+        // Chave do upsert da importação do catálogo; exercícios criados à mão ficam com NULL
+        @UniqueConstraint(name = "uk_exercises_external_id", columnNames = "external_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
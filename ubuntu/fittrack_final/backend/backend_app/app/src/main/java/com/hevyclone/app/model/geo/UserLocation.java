@@ -0,0 +1,91 @@
+package com.hevyclone.app.model.geo;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Última localização compartilhada pelo usuário para a busca de pessoas próximas.
+// O geohash (precisão 9, ~5 m) é a chave de busca: células vizinhas viram buscas por prefixo.
+@Entity
+@Table(name = "user_locations", indexes = {
+        @Index(name = "idx_user_locations_geohash", columnList = "geohash"),
+        @Index(name = "idx_user_locations_updated", columnList = "updated_at")
+})
+public class UserLocation {
+
+    public static final int GEOHASH_PRECISION = 9;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId; // Uma linha por usuário, sobrescrita a cada atualização
+
+    @Column(nullable = false)
+    private double latitude;
+
+    @Column(nullable = false)
+    private double longitude;
+
+    @Column(nullable = false, length = 12)
+    private String geohash;
+
+    @Column(nullable = false)
+    private boolean active = true; // false quando o usuário para de compartilhar (mantém a linha para as réplicas verem a remoção)
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public UserLocation() {}
+
+    public UserLocation(Long userId) {
+        this.userId = userId;
+    }
+
+    // Getters e Setters
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(double latitude) {
+        this.latitude = latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(double longitude) {
+        this.longitude = longitude;
+    }
+
+    public String getGeohash() {
+        return geohash;
+    }
+
+    public void setGeohash(String geohash) {
+        this.geohash = geohash;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -5,7 +5,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at DESC"),
+        @Index(name = "idx_notifications_type_created", columnList = "type, created_at")
+})
 public class Notification {
 
     @Id
@@ -0,0 +1,100 @@
+package com.hevyclone.app.model.notification;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Notificação pendente gravada na transação de quem a gerou (outbox transacional).
+// O NotificationOutboxDispatcher consome em lotes, agrupa repetidas e grava em notifications.
+@Entity
+@Table(name = "notification_outbox")
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId; // Destinatário; sem carregar o User no caminho da requisição
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    @Column(nullable = false)
+    private String message;
+
+    private String link;
+
+    private String coalesceKey; // Entradas com a mesma chave viram uma única notificação
+
+    private String groupMessage; // Mensagem usada ao agrupar; {count} é substituído pelo total
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // Getters e Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+
+    public void setType(NotificationType type) {
+        this.type = type;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getLink() {
+        return link;
+    }
+
+    public void setLink(String link) {
+        this.link = link;
+    }
+
+    public String getCoalesceKey() {
+        return coalesceKey;
+    }
+
+    public void setCoalesceKey(String coalesceKey) {
+        this.coalesceKey = coalesceKey;
+    }
+
+    public String getGroupMessage() {
+        return groupMessage;
+    }
+
+    public void setGroupMessage(String groupMessage) {
+        this.groupMessage = groupMessage;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -7,7 +7,9 @@ import jakarta.persistence.*;
 import java.util.List;
 
 @Entity
-@Table(name = "workouts") // Um treino específico dentro de uma rotina (ex: Dia A, Dia B)
+@Table(name = "workouts", indexes = { // Um treino específico dentro de uma rotina (ex: Dia A, Dia B)
+        @Index(name = "idx_workouts_routine", columnList = "routine_id, id")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Workout {
 
@@ -0,0 +1,58 @@
+package com.hevyclone.app.model.scheduling;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Trava de job agendado compartilhada entre réplicas: uma linha por job.
+// A trava vale até lockedUntil, então um pod que morrer segurando o job não o bloqueia para sempre.
+@Entity
+@Table(name = "scheduled_job_locks")
+public class ScheduledJobLock {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(nullable = false)
+    private String lockedBy; // Instância que detém a trava
+
+    // Getters e Setters
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public LocalDateTime getLockedAt() {
+        return lockedAt;
+    }
+
+    public void setLockedAt(LocalDateTime lockedAt) {
+        this.lockedAt = lockedAt;
+    }
+
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+}
@@ -0,0 +1,7 @@
+package com.hevyclone.app.model.social;
+
+public enum PostType {
+    TEXT,       // Post só com texto
+    WORKOUT,    // Compartilhamento de um treino realizado
+    SHARE       // Repost de um post de outro usuário
+}
@@ -0,0 +1,62 @@
+package com.hevyclone.app.model.social;
+
+import com.hevyclone.app.user.model.User;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Bloqueio entre usuários: vale nos dois sentidos para busca, feed, sugestões e rankings
+@Entity
+@Table(name = "user_blocks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_blocks", columnNames = {"blocker_id", "blocked_id"}),
+        indexes = @Index(name = "idx_user_blocks_blocked", columnList = "blocked_id, blocker_id"))
+public class UserBlock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blocker_id", nullable = false)
+    private User blocker; // Quem bloqueou
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blocked_id", nullable = false)
+    private User blocked; // Quem foi bloqueado
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // Getters e Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getBlocker() {
+        return blocker;
+    }
+
+    public void setBlocker(User blocker) {
+        this.blocker = blocker;
+    }
+
+    public User getBlocked() {
+        return blocked;
+    }
+
+    public void setBlocked(User blocked) {
+        this.blocked = blocked;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,176 @@
+package com.hevyclone.app.model.userprogress;
+
+import com.hevyclone.app.model.exercise.Exercise;
+import com.hevyclone.app.user.model.User;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "exercise_sets", indexes = { // Uma série executada dentro de um treino registrado
+        @Index(name = "idx_exercise_sets_log", columnList = "user_workout_log_id"),
+        // Ordem de leitura do rebuild de recordes: todo o histórico de um exercício do usuário em sequência
+        @Index(name = "idx_exercise_sets_user_exercise", columnList = "user_id, exercise_id, id")
+})
+public class ExerciseSet {
+
+    // Sequência com alocação em blocos: sem IDENTITY o Hibernate agrupa os INSERTs das séries
+    // de um treino em lotes JDBC (hibernate.jdbc.batch_size)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exercise_sets_seq")
+    @SequenceGenerator(name = "exercise_sets_seq", sequenceName = "exercise_sets_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user; // Redundante com o log, mas evita o JOIN nas consultas de recordes
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_workout_log_id", nullable = false)
+    private UserWorkoutLog userWorkoutLog;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    private Exercise exercise;
+
+    @Column(nullable = false)
+    private Integer setNumber;
+
+    private Integer reps;
+
+    @Column(precision = 6, scale = 2)
+    private BigDecimal weight; // Em kg
+
+    @Column(precision = 8, scale = 2)
+    private BigDecimal distance; // Para exercícios de cardio
+
+    private Integer durationSeconds; // Para exercícios de tempo
+
+    private Integer restTimeSeconds;
+
+    @Column(precision = 3, scale = 1)
+    private BigDecimal rpe; // Rate of Perceived Exertion (1-10)
+
+    @Column(name = "is_completed", nullable = false)
+    private boolean completed = true; // Séries não concluídas não contam para recordes
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // Getters e Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public UserWorkoutLog getUserWorkoutLog() {
+        return userWorkoutLog;
+    }
+
+    public void setUserWorkoutLog(UserWorkoutLog userWorkoutLog) {
+        this.userWorkoutLog = userWorkoutLog;
+    }
+
+    public Exercise getExercise() {
+        return exercise;
+    }
+
+    public void setExercise(Exercise exercise) {
+        this.exercise = exercise;
+    }
+
+    public Integer getSetNumber() {
+        return setNumber;
+    }
+
+    public void setSetNumber(Integer setNumber) {
+        this.setNumber = setNumber;
+    }
+
+    public Integer getReps() {
+        return reps;
+    }
+
+    public void setReps(Integer reps) {
+        this.reps = reps;
+    }
+
+    public BigDecimal getWeight() {
+        return weight;
+    }
+
+    public void setWeight(BigDecimal weight) {
+        this.weight = weight;
+    }
+
+    public BigDecimal getDistance() {
+        return distance;
+    }
+
+    public void setDistance(BigDecimal distance) {
+        this.distance = distance;
+    }
+
+    public Integer getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public void setDurationSeconds(Integer durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    public Integer getRestTimeSeconds() {
+        return restTimeSeconds;
+    }
+
+    public void setRestTimeSeconds(Integer restTimeSeconds) {
+        this.restTimeSeconds = restTimeSeconds;
+    }
+
+    public BigDecimal getRpe() {
+        return rpe;
+    }
+
+    public void setRpe(BigDecimal rpe) {
+        this.rpe = rpe;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,109 @@
+package com.hevyclone.app.model.userprogress;
+
+import com.hevyclone.app.model.exercise.Exercise;
+import com.hevyclone.app.user.model.User;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "personal_records", uniqueConstraints = { // Melhor marca atual do usuário por exercício e tipo
+        @UniqueConstraint(name = "uk_personal_records_user_exercise_type", columnNames = {"user_id", "exercise_id", "record_type"})
+})
+public class PersonalRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    private Exercise exercise;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "record_type", nullable = false, length = 20)
+    private PersonalRecordType recordType;
+
+    @Column(name = "record_value", nullable = false, precision = 10, scale = 2)
+    private BigDecimal value;
+
+    @Column(name = "record_unit", length = 10)
+    private String unit; // kg, reps, sec
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exercise_set_id")
+    private ExerciseSet exerciseSet; // Série que estabeleceu o recorde
+
+    @Column(nullable = false)
+    private LocalDateTime achievedAt;
+
+    // Getters e Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public Exercise getExercise() {
+        return exercise;
+    }
+
+    public void setExercise(Exercise exercise) {
+        this.exercise = exercise;
+    }
+
+    public PersonalRecordType getRecordType() {
+        return recordType;
+    }
+
+    public void setRecordType(PersonalRecordType recordType) {
+        this.recordType = recordType;
+    }
+
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    public void setValue(BigDecimal value) {
+        this.value = value;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    public ExerciseSet getExerciseSet() {
+        return exerciseSet;
+    }
+
+    public void setExerciseSet(ExerciseSet exerciseSet) {
+        this.exerciseSet = exerciseSet;
+    }
+
+    public LocalDateTime getAchievedAt() {
+        return achievedAt;
+    }
+
+    public void setAchievedAt(LocalDateTime achievedAt) {
+        this.achievedAt = achievedAt;
+    }
+}
@@ -0,0 +1,9 @@
+package com.hevyclone.app.model.userprogress;
+
+public enum PersonalRecordType {
+    MAX_WEIGHT,     // Maior carga em uma série com pelo menos 1 repetição (kg)
+    MAX_REPS,       // Mais repetições em uma única série
+    MAX_VOLUME,     // Maior volume em uma única série: carga x repetições (kg)
+    BEST_TIME,      // Maior duração em uma série de tempo sem distância, ex: prancha (seg)
+    ESTIMATED_1RM   // 1RM estimado pela fórmula de Epley: carga x (1 + reps / 30) (kg)
+}
@@ -0,0 +1,89 @@
+package com.hevyclone.app.model.userprogress;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+// Agregado diário de treinos do usuário (um registro por usuário e dia)
+// Mantido em sincronia com user_workout_logs na mesma transação (ver TrainingStatsRollupService)
+@Entity
+@Table(name = "user_daily_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_daily_stats_user_stat_date", columnNames = {"user_id", "stat_date"})
+})
+public class UserDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // Apenas o id: o agregado é derivado e nunca navega até o usuário
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private int workoutCount; // Treinos registrados no período
+
+    @Column(nullable = false)
+    private int timedWorkoutCount; // Treinos com duração informada (base da duração média)
+
+    @Column(nullable = false)
+    private long totalDurationMinutes;
+
+    public UserDailyStats() {}
+
+    public UserDailyStats(Long userId, LocalDate statDate) {
+        this.userId = userId;
+        this.statDate = statDate;
+    }
+
+    // Getters e Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public void setStatDate(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public int getWorkoutCount() {
+        return workoutCount;
+    }
+
+    public void setWorkoutCount(int workoutCount) {
+        this.workoutCount = workoutCount;
+    }
+
+    public int getTimedWorkoutCount() {
+        return timedWorkoutCount;
+    }
+
+    public void setTimedWorkoutCount(int timedWorkoutCount) {
+        this.timedWorkoutCount = timedWorkoutCount;
+    }
+
+    public long getTotalDurationMinutes() {
+        return totalDurationMinutes;
+    }
+
+    public void setTotalDurationMinutes(long totalDurationMinutes) {
+        this.totalDurationMinutes = totalDurationMinutes;
+    }
+}
@@ -6,7 +6,9 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "user_routines")
+@Table(name = "user_routines", indexes = {
+        @Index(name = "idx_user_routines_user_active", columnList = "user_id, active")
+})
 public class UserRoutine {
 
     @Id
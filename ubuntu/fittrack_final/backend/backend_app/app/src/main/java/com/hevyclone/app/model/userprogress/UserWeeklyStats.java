@@ -0,0 +1,89 @@
+package com.hevyclone.app.model.userprogress;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+// Agregado semanal de treinos do usuário (semana ISO, identificada pela segunda-feira)
+// Mantido em sincronia com user_workout_logs na mesma transação (ver TrainingStatsRollupService)
+@Entity
+@Table(name = "user_weekly_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_weekly_stats_user_week_start", columnNames = {"user_id", "week_start"})
+})
+public class UserWeeklyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // Apenas o id: o agregado é derivado e nunca navega até o usuário
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(nullable = false)
+    private int workoutCount; // Treinos registrados no período
+
+    @Column(nullable = false)
+    private int timedWorkoutCount; // Treinos com duração informada (base da duração média)
+
+    @Column(nullable = false)
+    private long totalDurationMinutes;
+
+    public UserWeeklyStats() {}
+
+    public UserWeeklyStats(Long userId, LocalDate weekStart) {
+        this.userId = userId;
+        this.weekStart = weekStart;
+    }
+
+    // Getters e Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public int getWorkoutCount() {
+        return workoutCount;
+    }
+
+    public void setWorkoutCount(int workoutCount) {
+        this.workoutCount = workoutCount;
+    }
+
+    public int getTimedWorkoutCount() {
+        return timedWorkoutCount;
+    }
+
+    public void setTimedWorkoutCount(int timedWorkoutCount) {
+        this.timedWorkoutCount = timedWorkoutCount;
+    }
+
+    public long getTotalDurationMinutes() {
+        return totalDurationMinutes;
+    }
+
+    public void setTotalDurationMinutes(long totalDurationMinutes) {
+        this.totalDurationMinutes = totalDurationMinutes;
+    }
+}
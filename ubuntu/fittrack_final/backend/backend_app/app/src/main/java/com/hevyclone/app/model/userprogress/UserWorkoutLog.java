@@ -6,7 +6,15 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_workout_logs")
+@Table(name = "user_workout_logs", uniqueConstraints = {
+        // Chave de idempotência gerada pelo cliente (sync offline): reenvios não duplicam logs
+        @UniqueConstraint(name = "uk_user_workout_logs_user_idempotency", columnNames = {"user_id", "idempotency_key"})
+}, indexes = {
+        // Histórico do usuário por data; no Postgres o V4 recria este índice com INCLUDE (cobrindo a listagem)
+        @Index(name = "idx_user_workout_logs_user_completed", columnList = "user_id, completed_at DESC, id DESC"),
+        // Recálculo dos rankings: todos os logs de uma semana/mês, agrupados por usuário
+        @Index(name = "idx_user_workout_logs_completed", columnList = "completed_at")
+})
 public class UserWorkoutLog {
 
     @Id
@@ -30,9 +38,12 @@ public class UserWorkoutLog {
 
     private Integer durationMinutes; // Duração do treino em minutos
 
-    @Lob
+    @Column(columnDefinition = "TEXT")
     private String notes; // Anotações do usuário sobre este treino específico
 
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey; // Gerada pelo cliente; opcional para logs criados online
+
     // Aqui poderiam entrar detalhes sobre PRs alcançados neste treino específico,
     // ou isso poderia ser uma entidade separada UserExerciseLog ligada a esta.
     // Por simplicidade inicial, vamos manter assim.
@@ -94,5 +105,13 @@ public class UserWorkoutLog {
     public void setNotes(String notes) {
         this.notes = notes;
     }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
 }
 
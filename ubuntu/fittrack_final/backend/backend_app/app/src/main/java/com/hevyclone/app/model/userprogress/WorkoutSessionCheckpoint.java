@@ -0,0 +1,95 @@
+package com.hevyclone.app.model.userprogress;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Última cópia persistida de uma sessão de treino em andamento (uma por usuário).
+// Permite retomar a sessão após restart do pod ou troca de réplica. Ao finalizar ou cancelar,
+// a linha fica marcada com closedAt até expirar, para que nenhuma réplica ressuscite a sessão.
+@Entity
+@Table(name = "workout_session_checkpoints")
+public class WorkoutSessionCheckpoint {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId; // Um usuário tem no máximo uma sessão ativa
+
+    @Column(nullable = false)
+    private Long workoutId;
+
+    @Column(length = 36)
+    private String sessionId; // Distingue a sessão encerrada de uma nova sessão do mesmo usuário
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String stateJson; // WorkoutSessionState serializado
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime closedAt; // Preenchido no finish/cancel/expiração; nulo = em andamento
+
+    // Getters e Setters
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getWorkoutId() {
+        return workoutId;
+    }
+
+    public void setWorkoutId(Long workoutId) {
+        this.workoutId = workoutId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public String getStateJson() {
+        return stateJson;
+    }
+
+    public void setStateJson(String stateJson) {
+        this.stateJson = stateJson;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getClosedAt() {
+        return closedAt;
+    }
+
+    public void setClosedAt(LocalDateTime closedAt) {
+        this.closedAt = closedAt;
+    }
+
+    public boolean isClosed() {
+        return closedAt != null;
+    }
+}
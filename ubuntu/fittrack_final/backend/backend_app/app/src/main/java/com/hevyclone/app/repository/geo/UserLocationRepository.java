@@ -0,0 +1,33 @@
+package com.hevyclone.app.repository.geo;
+
+import com.hevyclone.app.model.geo.UserLocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UserLocationRepository extends JpaRepository<UserLocation, Long> {
+
+    // Localizações ativas de uma célula geohash: LIKE 'prefixo%' vira range scan no índice (V13)
+    List<UserLocation> findByGeohashStartingWithAndActiveTrue(String geohashPrefix);
+
+    // Carga do índice em memória em blocos de ids (keyset), só dentro da região quente
+    @Query("SELECT l FROM UserLocation l WHERE l.userId > :afterUserId AND l.active = true " +
+           "AND l.latitude BETWEEN :minLat AND :maxLat AND l.longitude BETWEEN :minLng AND :maxLng " +
+           "ORDER BY l.userId")
+    List<UserLocation> findActiveInRegionAfter(@Param("afterUserId") Long afterUserId,
+                                               @Param("minLat") double minLat,
+                                               @Param("minLng") double minLng,
+                                               @Param("maxLat") double maxLat,
+                                               @Param("maxLng") double maxLng,
+                                               Pageable limit);
+
+    // Alterações desde a última atualização do índice (inclusive desativações)
+    @Query("SELECT l FROM UserLocation l WHERE l.updatedAt >= :since ORDER BY l.updatedAt")
+    List<UserLocation> findUpdatedSince(@Param("since") LocalDateTime since, Pageable limit);
+}
@@ -0,0 +1,24 @@
+package com.hevyclone.app.repository.notification;
+
+import com.hevyclone.app.model.notification.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // FOR UPDATE SKIP LOCKED (lock.timeout = -2): cada réplica pega um lote diferente,
+    // sem esperar pelas linhas que outra já está processando
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o ORDER BY o.id")
+    List<NotificationOutbox> lockBatch(Pageable pageable);
+}
@@ -3,8 +3,13 @@ package com.hevyclone.app.repository.notification;
 import com.hevyclone.app.model.notification.Notification;
 import com.hevyclone.app.model.notification.NotificationType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,5 +17,27 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
     List<Notification> findByUserIdAndReadAtIsNullOrderByCreatedAtDesc(Long userId);
     List<Notification> findByUserIdAndTypeOrderByCreatedAtDesc(Long userId, NotificationType type);
-}
 
+    long countByUserIdAndReadAtIsNull(Long userId);
+
+    @Query("SELECT n.user.id AS userId, COUNT(n) AS unread FROM Notification n " +
+           "WHERE n.readAt IS NULL AND n.user.id IN :userIds GROUP BY n.user.id")
+    List<UnreadCountRef> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT MAX(n.id) FROM Notification n WHERE n.user.id = :userId")
+    Long findMaxIdByUserId(@Param("userId") Long userId);
+
+    // Marca como lidas, num único UPDATE, todas as não lidas do usuário com id <= upToId.
+    // O índice parcial de não lidas (V8) faz o custo depender só das linhas alteradas.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.readAt = :readAt " +
+           "WHERE n.user.id = :userId AND n.readAt IS NULL AND n.id <= :upToId")
+    int markReadUpTo(@Param("userId") Long userId,
+                     @Param("upToId") Long upToId,
+                     @Param("readAt") LocalDateTime readAt);
+
+    interface UnreadCountRef {
+        Long getUserId();
+        Long getUnread();
+    }
+}
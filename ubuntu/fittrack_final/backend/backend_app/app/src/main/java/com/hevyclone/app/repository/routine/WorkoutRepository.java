@@ -2,13 +2,24 @@ package com.hevyclone.app.repository.routine;
 
 import com.hevyclone.app.model.routine.Workout;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface WorkoutRepository extends JpaRepository<Workout, Long> {
     List<Workout> findByRoutineId(Long routineId);
+
+    // Pares (workout, rotina) sem hidratar entidades; usado para resolver lotes de logs
+    @Query("SELECT w.id AS workoutId, w.routine.id AS routineId FROM Workout w WHERE w.id IN :ids")
+    List<WorkoutRoutineRef> findRoutineRefsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface WorkoutRoutineRef {
+        Long getWorkoutId();
+        Long getRoutineId();
+    }
     // Outros métodos de busca personalizados podem ser adicionados aqui
 }
-
@@ -0,0 +1,36 @@
+package com.hevyclone.app.repository.scheduling;
+
+import com.hevyclone.app.model.scheduling.ScheduledJobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ScheduledJobLockRepository extends JpaRepository<ScheduledJobLock, String> {
+
+    // Só um UPDATE concorrente encontra a trava expirada; retorna 1 para quem a obteve
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :until, l.lockedAt = :now, l.lockedBy = :owner " +
+           "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquireIfExpired(@Param("name") String name,
+                         @Param("owner") String owner,
+                         @Param("now") LocalDateTime now,
+                         @Param("until") LocalDateTime until);
+
+    // Estende a trava só se ainda for do dono e não tiver expirado (outra réplica pode tê-la tomado)
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :until " +
+           "WHERE l.name = :name AND l.lockedBy = :owner AND l.lockedUntil > :now")
+    int extend(@Param("name") String name,
+               @Param("owner") String owner,
+               @Param("now") LocalDateTime now,
+               @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
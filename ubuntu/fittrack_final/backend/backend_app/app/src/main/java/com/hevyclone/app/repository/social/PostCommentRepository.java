@@ -0,0 +1,20 @@
+package com.hevyclone.app.repository.social;
+
+import com.hevyclone.app.dto.social.PostCommentDTO;
+import com.hevyclone.app.model.social.PostComment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostCommentRepository extends JpaRepository<PostComment, Long> {
+
+    // Comentários do post, mais antigos primeiro, já com o nome do autor
+    @Query("SELECT new com.hevyclone.app.dto.social.PostCommentDTO(c.id, c.text, " +
+           "new com.hevyclone.app.dto.social.UserSummaryDTO(a.id, a.username), c.createdAt) " +
+           "FROM PostComment c JOIN c.author a WHERE c.post.id = :postId ORDER BY c.id")
+    Slice<PostCommentDTO> findByPostId(@Param("postId") Long postId, Pageable pageable);
+}
@@ -0,0 +1,41 @@
+package com.hevyclone.app.repository.social;
+
+import com.hevyclone.app.model.social.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostRepository extends JpaRepository<Post, Long> {
+
+    // Carrega os posts de uma página do feed com autor e post original em uma consulta
+    @Query("SELECT p FROM Post p JOIN FETCH p.author " +
+           "LEFT JOIN FETCH p.originalPost o LEFT JOIN FETCH o.author " +
+           "WHERE p.id IN :ids")
+    List<Post> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Ids mais recentes de um conjunto de autores (montagem da timeline e merge de celebridades)
+    @Query("SELECT p.id FROM Post p WHERE p.author.id IN :authorIds AND p.id < :beforeId ORDER BY p.id DESC")
+    List<Long> findIdsByAuthorIdInBefore(@Param("authorIds") Collection<Long> authorIds,
+                                         @Param("beforeId") Long beforeId,
+                                         Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.isPublic = true ORDER BY p.id DESC")
+    Slice<Post> findPublicFeed(Pageable pageable);
+
+    // Posts de um autor; includePrivate para o próprio autor e seus seguidores
+    @Query("SELECT p FROM Post p JOIN FETCH p.author " +
+           "LEFT JOIN FETCH p.originalPost o LEFT JOIN FETCH o.author " +
+           "WHERE p.author.id = :authorId AND (p.isPublic = true OR :includePrivate = true) ORDER BY p.id DESC")
+    Slice<Post> findByAuthor(@Param("authorId") Long authorId,
+                             @Param("includePrivate") boolean includePrivate,
+                             Pageable pageable);
+
+    long countByAuthorId(Long authorId);
+}
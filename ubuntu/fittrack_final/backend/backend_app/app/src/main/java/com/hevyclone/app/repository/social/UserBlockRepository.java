@@ -0,0 +1,39 @@
+package com.hevyclone.app.repository.social;
+
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.model.social.UserBlock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserBlockRepository extends JpaRepository<UserBlock, Long> {
+
+    boolean existsByBlockerIdAndBlockedId(Long blockerId, Long blockedId);
+
+    @Modifying
+    @Query("DELETE FROM UserBlock b WHERE b.blocker.id = :blockerId AND b.blocked.id = :blockedId")
+    int deleteByBlockerIdAndBlockedId(@Param("blockerId") Long blockerId, @Param("blockedId") Long blockedId);
+
+    // Bloqueio em qualquer sentido entre os dois usuários (checagem exata nas escritas)
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM UserBlock b " +
+           "WHERE (b.blocker.id = :userId AND b.blocked.id = :otherId) " +
+           "OR (b.blocker.id = :otherId AND b.blocked.id = :userId)")
+    boolean existsBetween(@Param("userId") Long userId, @Param("otherId") Long otherId);
+
+    @Query(value = "SELECT new com.hevyclone.app.dto.social.UserSummaryDTO(u.id, u.username) " +
+                   "FROM UserBlock b JOIN b.blocked u WHERE b.blocker.id = :userId ORDER BY b.id DESC",
+           countQuery = "SELECT COUNT(b) FROM UserBlock b WHERE b.blocker.id = :userId")
+    Page<UserSummaryDTO> findBlockedUsers(@Param("userId") Long userId, Pageable pageable);
+
+    // Quem userId bloqueou e quem bloqueou userId: os dois lados somem um para o outro
+    @Query("SELECT CASE WHEN b.blocker.id = :userId THEN b.blocked.id ELSE b.blocker.id END " +
+           "FROM UserBlock b WHERE b.blocker.id = :userId OR b.blocked.id = :userId")
+    List<Long> findBlockedIdsInvolving(@Param("userId") Long userId);
+}
@@ -0,0 +1,72 @@
+package com.hevyclone.app.repository.social;
+
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.model.social.UserFollow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserFollowRepository extends JpaRepository<UserFollow, Long> {
+
+    boolean existsByFollowerIdAndFollowedId(Long followerId, Long followedId);
+
+    @Modifying
+    @Query("DELETE FROM UserFollow f WHERE f.follower.id = :followerId AND f.followed.id = :followedId")
+    int deleteByFollowerIdAndFollowedId(@Param("followerId") Long followerId, @Param("followedId") Long followedId);
+
+    long countByFollowerId(Long followerId);
+
+    long countByFollowedId(Long followedId);
+
+    @Query("SELECT f.follower.id FROM UserFollow f WHERE f.followed.id = :userId")
+    List<Long> findFollowerIds(@Param("userId") Long userId);
+
+    @Query("SELECT f.followed.id FROM UserFollow f WHERE f.follower.id = :userId")
+    List<Long> findFollowedIds(@Param("userId") Long userId);
+
+    // Quais dos usuários informados (ex.: celebridades) são seguidos por userId
+    @Query("SELECT f.followed.id FROM UserFollow f WHERE f.follower.id = :userId AND f.followed.id IN :candidates")
+    List<Long> findFollowedIdsIn(@Param("userId") Long userId, @Param("candidates") Collection<Long> candidates);
+
+    // Usuários com pelo menos minFollowers seguidores (contas "celebridade" do feed)
+    @Query("SELECT f.followed.id FROM UserFollow f GROUP BY f.followed.id HAVING COUNT(f) >= :minFollowers")
+    List<Long> findUserIdsWithFollowersAtLeast(@Param("minFollowers") long minFollowers);
+
+    @Query(value = "SELECT new com.hevyclone.app.dto.social.UserSummaryDTO(u.id, u.username) " +
+                   "FROM UserFollow f JOIN f.follower u WHERE f.followed.id = :userId ORDER BY f.id DESC",
+           countQuery = "SELECT COUNT(f) FROM UserFollow f WHERE f.followed.id = :userId")
+    Page<UserSummaryDTO> findFollowers(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = "SELECT new com.hevyclone.app.dto.social.UserSummaryDTO(u.id, u.username) " +
+                   "FROM UserFollow f JOIN f.followed u WHERE f.follower.id = :userId ORDER BY f.id DESC",
+           countQuery = "SELECT COUNT(f) FROM UserFollow f WHERE f.follower.id = :userId")
+    Page<UserSummaryDTO> findFollowing(@Param("userId") Long userId, Pageable pageable);
+
+    // Arestas do grafo em blocos de id (keyset), para montar o índice de sugestões
+    @Query("SELECT f.id AS id, f.follower.id AS followerId, f.followed.id AS followedId FROM UserFollow f " +
+           "WHERE f.id > :afterId ORDER BY f.id")
+    List<FollowEdge> findEdgesAfter(@Param("afterId") Long afterId, Pageable limit);
+
+    // Seguidores por usuário (só quem tem algum), para o peso do autocompletar
+    @Query("SELECT f.followed.id AS userId, COUNT(f) AS followers FROM UserFollow f GROUP BY f.followed.id")
+    List<FollowerCount> countFollowersByUser();
+
+    interface FollowEdge {
+        Long getId();
+        Long getFollowerId();
+        Long getFollowedId();
+    }
+
+    interface FollowerCount {
+        Long getUserId();
+        Long getFollowers();
+    }
+}
@@ -0,0 +1,20 @@
+package com.hevyclone.app.repository.social;
+
+import com.hevyclone.app.dto.social.PostCommentDTO;
+import com.hevyclone.app.model.social.WorkoutComment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WorkoutCommentRepository extends JpaRepository<WorkoutComment, Long> {
+
+    // Comentários do treino, mais antigos primeiro, no mesmo formato dos comentários de post
+    @Query("SELECT new com.hevyclone.app.dto.social.PostCommentDTO(c.id, c.text, " +
+           "new com.hevyclone.app.dto.social.UserSummaryDTO(a.id, a.username), c.createdAt) " +
+           "FROM WorkoutComment c JOIN c.author a WHERE c.workout.id = :workoutId ORDER BY c.id")
+    Slice<PostCommentDTO> findByWorkoutId(@Param("workoutId") Long workoutId, Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.hevyclone.app.repository.social;
+
+import com.hevyclone.app.model.social.WorkoutLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WorkoutLikeRepository extends JpaRepository<WorkoutLike, Long> {
+
+    boolean existsByWorkoutIdAndUserId(Long workoutId, Long userId);
+
+    @Modifying
+    @Query("DELETE FROM WorkoutLike l WHERE l.workout.id = :workoutId AND l.user.id = :userId")
+    int deleteByWorkoutIdAndUserId(@Param("workoutId") Long workoutId, @Param("userId") Long userId);
+}
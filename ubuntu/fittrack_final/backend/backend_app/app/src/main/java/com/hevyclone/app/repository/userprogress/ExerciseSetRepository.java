@@ -0,0 +1,22 @@
+package com.hevyclone.app.repository.userprogress;
+
+import com.hevyclone.app.model.userprogress.ExerciseSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ExerciseSetRepository extends JpaRepository<ExerciseSet, Long> {
+    List<ExerciseSet> findByUserWorkoutLogIdOrderBySetNumberAsc(Long userWorkoutLogId);
+
+    @Query("SELECT DISTINCT s.exercise.id FROM ExerciseSet s WHERE s.userWorkoutLog.id = :logId")
+    List<Long> findExerciseIdsByUserWorkoutLogId(@Param("logId") Long logId);
+
+    @Modifying
+    @Query("DELETE FROM ExerciseSet s WHERE s.userWorkoutLog.id = :logId")
+    int deleteByUserWorkoutLogId(@Param("logId") Long logId);
+}
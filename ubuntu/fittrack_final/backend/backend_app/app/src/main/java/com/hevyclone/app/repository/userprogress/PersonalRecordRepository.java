@@ -0,0 +1,52 @@
+package com.hevyclone.app.repository.userprogress;
+
+import com.hevyclone.app.dto.userprogress.PersonalRecordDTO;
+import com.hevyclone.app.model.userprogress.PersonalRecord;
+import com.hevyclone.app.model.userprogress.PersonalRecordType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PersonalRecordRepository extends JpaRepository<PersonalRecord, Long> {
+    // Trava a linha: duas réplicas batendo o mesmo recorde comparam com o valor gravado em série
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<PersonalRecord> findByUserIdAndExerciseIdAndRecordType(Long userId, Long exerciseId, PersonalRecordType recordType);
+
+    // Carga do cache de melhores marcas: só tipo e valor, sem entidades
+    @Query("SELECT p.recordType AS recordType, p.value AS value FROM PersonalRecord p " +
+           "WHERE p.user.id = :userId AND p.exercise.id = :exerciseId")
+    List<RecordValueRef> findValuesByUserIdAndExerciseId(@Param("userId") Long userId,
+                                                         @Param("exerciseId") Long exerciseId);
+
+    interface RecordValueRef {
+        PersonalRecordType getRecordType();
+        BigDecimal getValue();
+    }
+
+    @Query("SELECT new com.hevyclone.app.dto.userprogress.PersonalRecordDTO(" +
+           "p.id, e.id, e.name, p.recordType, p.value, p.unit, p.exerciseSet.id, p.achievedAt) " +
+           "FROM PersonalRecord p JOIN p.exercise e WHERE p.user.id = :userId " +
+           "ORDER BY e.name, p.recordType")
+    List<PersonalRecordDTO> findDtosByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.hevyclone.app.dto.userprogress.PersonalRecordDTO(" +
+           "p.id, e.id, e.name, p.recordType, p.value, p.unit, p.exerciseSet.id, p.achievedAt) " +
+           "FROM PersonalRecord p JOIN p.exercise e WHERE p.user.id = :userId AND e.id = :exerciseId " +
+           "ORDER BY p.recordType")
+    List<PersonalRecordDTO> findDtosByUserIdAndExerciseId(@Param("userId") Long userId,
+                                                          @Param("exerciseId") Long exerciseId);
+
+    @Modifying
+    @Query("DELETE FROM PersonalRecord p WHERE p.user.id = :userId AND p.exercise.id IN :exerciseIds")
+    int deleteByUserIdAndExerciseIdIn(@Param("userId") Long userId, @Param("exerciseIds") Collection<Long> exerciseIds);
+}
@@ -0,0 +1,32 @@
+package com.hevyclone.app.repository.userprogress;
+
+import com.hevyclone.app.model.userprogress.UserDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface UserDailyStatsRepository extends JpaRepository<UserDailyStats, Long> {
+    List<UserDailyStats> findByUserIdAndStatDateGreaterThanEqualOrderByStatDateAsc(Long userId, LocalDate from);
+
+    // Incremento atômico no próprio banco; retorna 0 se o dia ainda não tem linha
+    @Modifying
+    @Query("UPDATE UserDailyStats s SET s.workoutCount = s.workoutCount + :workouts, " +
+           "s.timedWorkoutCount = s.timedWorkoutCount + :timedWorkouts, " +
+           "s.totalDurationMinutes = s.totalDurationMinutes + :minutes " +
+           "WHERE s.userId = :userId AND s.statDate = :statDate")
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("statDate") LocalDate statDate,
+                   @Param("workouts") int workouts,
+                   @Param("timedWorkouts") int timedWorkouts,
+                   @Param("minutes") long minutes);
+
+    @Modifying
+    @Query("DELETE FROM UserDailyStats s WHERE s.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
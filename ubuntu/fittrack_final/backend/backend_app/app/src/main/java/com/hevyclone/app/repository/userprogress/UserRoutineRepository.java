@@ -1,7 +1,11 @@
 package com.hevyclone.app.repository.userprogress;
 
+import com.hevyclone.app.model.profile.UserProfileLevel;
 import com.hevyclone.app.model.userprogress.UserRoutine;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,5 +16,35 @@ public interface UserRoutineRepository extends JpaRepository<UserRoutine, Long>
     List<UserRoutine> findByUserId(Long userId);
     Optional<UserRoutine> findByUserIdAndActiveTrue(Long userId);
     List<UserRoutine> findByUserIdAndRoutineId(Long userId, Long routineId);
-}
 
+    // Retorna o id da rotina ativa do usuário somente se o workout pertencer a ela.
+    // Uma única consulta indexada, sem carregar a rotina nem a lista de workouts.
+    @Query("SELECT ur.id FROM UserRoutine ur " +
+           "WHERE ur.user.id = :userId AND ur.active = true " +
+           "AND EXISTS (SELECT 1 FROM Workout w WHERE w.id = :workoutId AND w.routine.id = ur.routine.id)")
+    Optional<Long> findActiveUserRoutineIdContainingWorkout(@Param("userId") Long userId,
+                                                            @Param("workoutId") Long workoutId);
+
+    @Query("SELECT ur.id AS userRoutineId, ur.routine.id AS routineId FROM UserRoutine ur " +
+           "WHERE ur.user.id = :userId AND ur.active = true")
+    Optional<ActiveRoutineRef> findActiveRoutineRefByUserId(@Param("userId") Long userId);
+
+    interface ActiveRoutineRef {
+        Long getUserRoutineId();
+        Long getRoutineId();
+    }
+
+    // Rotinas de todos os usuários em blocos de id, com o nível alvo (sugestões de quem seguir)
+    @Query("SELECT ur.id AS id, ur.user.id AS userId, r.id AS routineId, ur.active AS active, " +
+           "r.targetProfileLevel AS level FROM UserRoutine ur JOIN ur.routine r " +
+           "WHERE ur.id > :afterId ORDER BY ur.id")
+    List<RoutineProfileRef> findRoutineProfileRefsAfter(@Param("afterId") Long afterId, Pageable limit);
+
+    interface RoutineProfileRef {
+        Long getId();
+        Long getUserId();
+        Long getRoutineId();
+        Boolean getActive();
+        UserProfileLevel getLevel();
+    }
+}
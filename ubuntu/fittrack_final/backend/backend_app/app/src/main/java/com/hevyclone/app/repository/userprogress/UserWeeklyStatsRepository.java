@@ -0,0 +1,33 @@
+package com.hevyclone.app.repository.userprogress;
+
+import com.hevyclone.app.model.userprogress.UserWeeklyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface UserWeeklyStatsRepository extends JpaRepository<UserWeeklyStats, Long> {
+    // Semanas com pelo menos um treino: é tudo o que as estatísticas do perfil leem
+    List<UserWeeklyStats> findByUserIdAndWorkoutCountGreaterThanOrderByWeekStartAsc(Long userId, int minWorkouts);
+
+    // Incremento atômico no próprio banco; retorna 0 se a semana ainda não tem linha
+    @Modifying
+    @Query("UPDATE UserWeeklyStats s SET s.workoutCount = s.workoutCount + :workouts, " +
+           "s.timedWorkoutCount = s.timedWorkoutCount + :timedWorkouts, " +
+           "s.totalDurationMinutes = s.totalDurationMinutes + :minutes " +
+           "WHERE s.userId = :userId AND s.weekStart = :weekStart")
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("weekStart") LocalDate weekStart,
+                   @Param("workouts") int workouts,
+                   @Param("timedWorkouts") int timedWorkouts,
+                   @Param("minutes") long minutes);
+
+    @Modifying
+    @Query("DELETE FROM UserWeeklyStats s WHERE s.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -1,16 +1,94 @@
 package com.hevyclone.app.repository.userprogress;
 
+import com.hevyclone.app.dto.userprogress.WorkoutHistoryEntryDTO;
 import com.hevyclone.app.model.userprogress.UserWorkoutLog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface UserWorkoutLogRepository extends JpaRepository<UserWorkoutLog, Long> {
     List<UserWorkoutLog> findByUserId(Long userId);
     List<UserWorkoutLog> findByUserIdAndWorkoutId(Long userId, Long workoutId);
     List<UserWorkoutLog> findByUserRoutineId(Long userRoutineId);
+    Optional<UserWorkoutLog> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    // Resolve em uma única consulta quais chaves de idempotência já foram gravadas para o usuário
+    @Query("SELECT l.id AS id, l.idempotencyKey AS idempotencyKey FROM UserWorkoutLog l " +
+           "WHERE l.user.id = :userId AND l.idempotencyKey IN :keys")
+    List<IdempotentLogRef> findRefsByUserIdAndIdempotencyKeys(@Param("userId") Long userId,
+                                                             @Param("keys") Collection<String> keys);
+
+    interface IdempotentLogRef {
+        Long getId();
+        String getIdempotencyKey();
+    }
+
+    // Histórico paginado por offset no intervalo [from, to); usa o índice (user_id, completed_at DESC, id DESC)
+    @Query(value = "SELECT new com.hevyclone.app.dto.userprogress.WorkoutHistoryEntryDTO(" +
+                   "l.id, w.id, w.name, l.userRoutine.id, l.completedAt, l.durationMinutes) " +
+                   "FROM UserWorkoutLog l JOIN l.workout w " +
+                   "WHERE l.user.id = :userId AND l.completedAt >= :from AND l.completedAt < :to " +
+                   "ORDER BY l.completedAt DESC, l.id DESC",
+           countQuery = "SELECT COUNT(l) FROM UserWorkoutLog l " +
+                        "WHERE l.user.id = :userId AND l.completedAt >= :from AND l.completedAt < :to")
+    Page<WorkoutHistoryEntryDTO> findHistoryPage(@Param("userId") Long userId,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to,
+                                                 Pageable pageable);
+
+    // Histórico por cursor (keyset): continua estritamente depois de (beforeCompletedAt, beforeId).
+    // O custo independe da profundidade da página, ao contrário do OFFSET.
+    @Query("SELECT new com.hevyclone.app.dto.userprogress.WorkoutHistoryEntryDTO(" +
+           "l.id, w.id, w.name, l.userRoutine.id, l.completedAt, l.durationMinutes) " +
+           "FROM UserWorkoutLog l JOIN l.workout w " +
+           "WHERE l.user.id = :userId AND l.completedAt >= :from " +
+           "AND (l.completedAt < :beforeCompletedAt OR (l.completedAt = :beforeCompletedAt AND l.id < :beforeId)) " +
+           "ORDER BY l.completedAt DESC, l.id DESC")
+    List<WorkoutHistoryEntryDTO> findHistoryBefore(@Param("userId") Long userId,
+                                                   @Param("from") LocalDateTime from,
+                                                   @Param("beforeCompletedAt") LocalDateTime beforeCompletedAt,
+                                                   @Param("beforeId") Long beforeId,
+                                                   Pageable limit);
+
+    // Totais por dia de um usuário, usados pelo backfill dos agregados de estatísticas
+    @Query("SELECT CAST(l.completedAt AS LocalDate) AS day, COUNT(l) AS workouts, " +
+           "COUNT(l.durationMinutes) AS timedWorkouts, COALESCE(SUM(l.durationMinutes), 0) AS minutes " +
+           "FROM UserWorkoutLog l WHERE l.user.id = :userId " +
+           "GROUP BY CAST(l.completedAt AS LocalDate)")
+    List<DailyLogTotals> sumDailyTotalsByUserId(@Param("userId") Long userId);
+
+    interface DailyLogTotals {
+        LocalDate getDay();
+        Long getWorkouts();
+        Long getTimedWorkouts();
+        Long getMinutes();
+    }
+
+    // Totais por usuário no intervalo [from, to): recálculo dos rankings a partir do histórico
+    @Query("SELECT l.user.id AS userId, COUNT(l) AS workouts, COALESCE(SUM(l.durationMinutes), 0) AS minutes " +
+           "FROM UserWorkoutLog l WHERE l.completedAt >= :from AND l.completedAt < :to " +
+           "GROUP BY l.user.id")
+    List<UserPeriodTotals> sumTotalsByUserBetween(@Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+
+    interface UserPeriodTotals {
+        Long getUserId();
+        Long getWorkouts();
+        Long getMinutes();
+    }
+
+    // Usuários com logs, em ordem de id, para percorrer a base em blocos (keyset)
+    @Query("SELECT DISTINCT l.user.id FROM UserWorkoutLog l WHERE l.user.id > :afterUserId ORDER BY l.user.id")
+    List<Long> findUserIdsWithLogsAfter(@Param("afterUserId") Long afterUserId, Pageable limit);
     // Outros métodos de busca personalizados podem ser adicionados aqui
 }
-
@@ -0,0 +1,41 @@
+package com.hevyclone.app.repository.userprogress;
+
+import com.hevyclone.app.model.userprogress.WorkoutSessionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface WorkoutSessionCheckpointRepository extends JpaRepository<WorkoutSessionCheckpoint, Long> {
+
+    // Sessões abandonadas: checkpoint sem atualização desde o limite
+    @Modifying
+    @Query("DELETE FROM WorkoutSessionCheckpoint c WHERE c.updatedAt < :before")
+    int deleteStale(@Param("before") LocalDateTime before);
+
+    // Regrava o checkpoint, menos por cima da mesma sessão já encerrada (finish/cancel em outra
+    // réplica); retorna 0 também quando o usuário ainda não tem linha
+    @Modifying
+    @Query("UPDATE WorkoutSessionCheckpoint c SET c.sessionId = :sessionId, c.workoutId = :workoutId, " +
+           "c.stateJson = :stateJson, c.version = :version, c.updatedAt = :updatedAt, c.closedAt = NULL " +
+           "WHERE c.userId = :userId AND (c.closedAt IS NULL OR c.sessionId IS NULL OR c.sessionId <> :sessionId)")
+    int updateUnlessClosed(@Param("userId") Long userId,
+                           @Param("sessionId") String sessionId,
+                           @Param("workoutId") Long workoutId,
+                           @Param("stateJson") String stateJson,
+                           @Param("version") long version,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Encerra a sessão se ainda estiver aberta; o UPDATE trava a linha, então dois encerramentos
+    // simultâneos da mesma sessão (réplicas diferentes) resultam em 1 e 0
+    @Modifying
+    @Query("UPDATE WorkoutSessionCheckpoint c SET c.closedAt = :closedAt, c.updatedAt = :closedAt " +
+           "WHERE c.userId = :userId AND c.sessionId = :sessionId AND c.closedAt IS NULL")
+    int close(@Param("userId") Long userId,
+              @Param("sessionId") String sessionId,
+              @Param("closedAt") LocalDateTime closedAt);
+}
@@ -0,0 +1,53 @@
+package com.hevyclone.app.service.counter;
+
+/**
+ * Contadores mantidos em counter_shards, com a tabela de origem (FROM) e a coluna que identifica
+ * o contador nela. Delas saem a contagem exata e a lista de ids que a reconciliação percorre.
+ * Quando há, mirrorSql é o UPDATE que soma o mesmo delta numa coluna desnormalizada
+ * (parâmetros: delta, id).
+ */
+public enum CounterKind {
+    POST_LIKES("post_likes", "post_id"),
+    POST_COMMENTS("post_comments", "post_id"),
+    USER_POSTS("posts", "author_id"),
+    USER_LIKES_RECEIVED("post_likes l JOIN posts p ON p.id = l.post_id", "p.author_id"),
+    USER_COMMENTS_RECEIVED("post_comments c JOIN posts p ON p.id = c.post_id", "p.author_id"),
+    USER_FOLLOWERS("user_follows", "followed_id",
+                   "UPDATE users SET followers_count = followers_count + ? WHERE id = ?"),
+    USER_FOLLOWING("user_follows", "follower_id"),
+    WORKOUT_LIKES("workout_likes", "workout_id"),
+    WORKOUT_COMMENTS("workout_comments", "workout_id");
+
+    private final String sourceFrom;
+    private final String sourceIdColumn;
+    private final String mirrorSql;
+
+    CounterKind(String sourceFrom, String sourceIdColumn) {
+        this(sourceFrom, sourceIdColumn, null);
+    }
+
+    CounterKind(String sourceFrom, String sourceIdColumn, String mirrorSql) {
+        this.sourceFrom = sourceFrom;
+        this.sourceIdColumn = sourceIdColumn;
+        this.mirrorSql = mirrorSql;
+    }
+
+    /**
+     * Valor exato por id (parâmetro nomeado :ids).
+     */
+    public String getExactCountSql() {
+        return "SELECT " + sourceIdColumn + ", COUNT(*) FROM " + sourceFrom +
+               " WHERE " + sourceIdColumn + " IN (:ids) GROUP BY " + sourceIdColumn;
+    }
+
+    /**
+     * Ids com ao menos uma linha na origem, acima de um id (parâmetro posicional), como entity_id.
+     */
+    public String getSourceIdsSql() {
+        return "SELECT " + sourceIdColumn + " AS entity_id FROM " + sourceFrom + " WHERE " + sourceIdColumn + " > ?";
+    }
+
+    public String getMirrorSql() {
+        return mirrorSql;
+    }
+}
@@ -0,0 +1,294 @@
+package com.hevyclone.app.service.counter;
+
+import com.hevyclone.app.service.scheduling.ClusterJobLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Contadores de curtidas, comentários, posts e seguidores, sem COUNT(*) no caminho de leitura
+ * nem uma linha única disputada por todas as escritas.
+ *
+ * Escrita: o incremento entra, após o commit, num LongAdder por contador (sem lock entre
+ * threads) e o flush periódico soma o acumulado numa fatia sorteada de counter_shards.
+ * Leitura: soma das fatias em cache por cache-ttl-ms, mais o que esta réplica ainda não gravou;
+ * listas (páginas do feed) leem todos os ids faltantes numa consulta agrupada. Incrementos de
+ * outras réplicas aparecem quando o cache expira.
+ *
+ * A reconciliação percorre, em lotes, os ids da tabela de origem e os das fatias (inclusive
+ * contadores que nunca chegaram a counter_shards), recalcula os parados há reconcile-idle-ms
+ * e corrige a diferença somando-a numa fatia; contadores com incremento
+ * ainda não gravado nesta réplica ficam para a próxima rodada. Só uma réplica reconcilia por vez.
+ */
+@Service
+@Slf4j
+public class CounterService {
+
+    private static final String RECONCILE_LOCK = "counter-reconcile";
+
+    private final CounterShardStore store;
+    private final ClusterJobLock jobLock;
+    private final MeterRegistry meterRegistry;
+    private final int shards;
+    private final long cacheTtlMs;
+    private final int maxEntries;
+    private final long reconcileIdleMs;
+    private final int reconcileChunkSize;
+
+    private final Map<CounterKind, ConcurrentHashMap<Long, Cell>> cells = new EnumMap<>(CounterKind.class);
+    private final Map<CounterKind, Long> reconcileCursor = new EnumMap<>(CounterKind.class);
+    // Flush e correções seguram a escrita; recargas do banco, a leitura. Assim uma recarga nunca
+    // vê no banco um delta que ainda está no LongAdder (nem o contrário)
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    public CounterService(CounterShardStore store,
+                          ClusterJobLock jobLock,
+                          MeterRegistry meterRegistry,
+                          @Value("${saga.counters.shards:8}") int shards,
+                          @Value("${saga.counters.cache-ttl-ms:5000}") long cacheTtlMs,
+                          @Value("${saga.counters.max-entries:500000}") int maxEntries,
+                          @Value("${saga.counters.reconcile-idle-ms:60000}") long reconcileIdleMs,
+                          @Value("${saga.counters.reconcile-chunk-size:500}") int reconcileChunkSize) {
+        if (shards < 1 || shards > Short.MAX_VALUE) {
+            throw new IllegalStateException("saga.counters.shards deve estar entre 1 e " + Short.MAX_VALUE);
+        }
+        this.store = store;
+        this.jobLock = jobLock;
+        this.meterRegistry = meterRegistry;
+        this.shards = shards;
+        this.cacheTtlMs = cacheTtlMs;
+        this.maxEntries = maxEntries;
+        this.reconcileIdleMs = reconcileIdleMs;
+        this.reconcileChunkSize = reconcileChunkSize;
+        for (CounterKind kind : CounterKind.values()) {
+            ConcurrentHashMap<Long, Cell> map = new ConcurrentHashMap<>();
+            cells.put(kind, map);
+            meterRegistry.gaugeMapSize("saga.counters.cache.entries", List.of(Tag.of("kind", kind.name())), map);
+        }
+    }
+
+    public long get(CounterKind kind, Long id) {
+        return getAll(kind, List.of(id)).getOrDefault(id, 0L);
+    }
+
+    /**
+     * Valores de vários contadores do mesmo tipo; os que não estão em cache vêm numa consulta só.
+     */
+    public Map<Long, Long> getAll(CounterKind kind, Collection<Long> ids) {
+        ConcurrentHashMap<Long, Cell> map = cells.get(kind);
+        long now = System.currentTimeMillis();
+        Map<Long, Long> values = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            Cell cell = map.get(id);
+            if (cell != null && cell.loaded && now - cell.loadedAt < cacheTtlMs) {
+                values.put(id, cell.value());
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            meterRegistry.counter("saga.counters.lookups", "result", "miss").increment(missing.size());
+            evictIfFull();
+            flushLock.readLock().lock();
+            try {
+                Map<Long, Long> sums = store.sums(kind, missing);
+                for (Long id : missing) {
+                    Cell cell = map.computeIfAbsent(id, key -> new Cell());
+                    cell.base = sums.getOrDefault(id, 0L);
+                    cell.loadedAt = now;
+                    cell.loaded = true;
+                    values.put(id, cell.value());
+                }
+            } finally {
+                flushLock.readLock().unlock();
+            }
+        }
+        meterRegistry.counter("saga.counters.lookups", "result", "hit").increment(ids.size() - missing.size());
+        return values;
+    }
+
+    /**
+     * Soma delta ao contador quando a transação corrente confirmar; sem transação, na hora.
+     */
+    public void incrementAfterCommit(CounterKind kind, Long id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(kind, id, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(kind, id, delta);
+            }
+        });
+    }
+
+    /**
+     * Grava nas fatias o que foi acumulado desde o último flush. Um tipo que falhar continua
+     * acumulado e vai no próximo.
+     */
+    @Scheduled(fixedDelayString = "${saga.counters.flush-interval-ms:1000}")
+    @PreDestroy
+    public void flush() {
+        for (CounterKind kind : CounterKind.values()) {
+            Map<Long, Long> deltas = new HashMap<>();
+            Map<Long, Cell> flushed = new HashMap<>();
+            cells.get(kind).forEach((id, cell) -> {
+                long delta = cell.unflushed.sum();
+                if (delta != 0) {
+                    deltas.put(id, delta);
+                    flushed.put(id, cell);
+                }
+            });
+            if (deltas.isEmpty()) {
+                continue;
+            }
+            flushLock.writeLock().lock();
+            try {
+                store.add(kind, deltas, shards);
+                flushed.forEach((id, cell) -> cell.moveToBase(deltas.get(id)));
+                meterRegistry.counter("saga.counters.flushed", "kind", kind.name()).increment(deltas.size());
+            } catch (DataAccessException e) {
+                meterRegistry.counter("saga.counters.flush.failures", "kind", kind.name()).increment();
+                log.warn("Falha ao gravar {} contadores {}; nova tentativa no próximo flush: {}",
+                        deltas.size(), kind, e.getMessage());
+            } finally {
+                flushLock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${saga.counters.reconcile-interval-ms:300000}",
+               initialDelayString = "${saga.counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Duration lease = Duration.ofMinutes(10);
+        if (!jobLock.tryAcquire(RECONCILE_LOCK, lease)) {
+            return;
+        }
+        try {
+            for (CounterKind kind : CounterKind.values()) {
+                reconcile(kind, LocalDateTime.now().minus(Duration.ofMillis(reconcileIdleMs)));
+                if (!jobLock.extend(RECONCILE_LOCK, lease)) {
+                    log.warn("Trava da reconciliação de contadores perdida; restante fica para a próxima rodada");
+                    return;
+                }
+            }
+        } finally {
+            jobLock.release(RECONCILE_LOCK);
+        }
+    }
+
+    /**
+     * Reconcilia o próximo lote de contadores parados do tipo e devolve quantos foram corrigidos.
+     * Ao chegar ao fim dos ids, o cursor volta ao começo.
+     */
+    public int reconcile(CounterKind kind, LocalDateTime idleBefore) {
+        long after = reconcileCursor.getOrDefault(kind, 0L);
+        List<Long> ids = store.idleEntityIds(kind, after, idleBefore, reconcileChunkSize);
+        reconcileCursor.put(kind, ids.size() < reconcileChunkSize ? 0L : ids.get(ids.size() - 1));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        ConcurrentHashMap<Long, Cell> map = cells.get(kind);
+        Map<Long, Long> exact = store.exactCounts(kind, ids);
+        Map<Long, Long> corrections = new HashMap<>();
+        flushLock.writeLock().lock();
+        try {
+            Map<Long, Long> sums = store.sums(kind, ids);
+            for (Long id : ids) {
+                Cell cell = map.get(id);
+                if (cell != null && cell.unflushed.sum() != 0) {
+                    continue;
+                }
+                long drift = exact.getOrDefault(id, 0L) - sums.getOrDefault(id, 0L);
+                if (drift != 0) {
+                    corrections.put(id, drift);
+                }
+            }
+            if (!corrections.isEmpty()) {
+                store.add(kind, corrections, shards);
+                corrections.forEach((id, drift) -> {
+                    Cell cell = map.get(id);
+                    if (cell != null && cell.loaded) {
+                        cell.base += drift;
+                    }
+                });
+            }
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+        if (!corrections.isEmpty()) {
+            meterRegistry.counter("saga.counters.corrected", "kind", kind.name()).increment(corrections.size());
+            log.info("Reconciliação corrigiu {} contadores {}", corrections.size(), kind);
+        }
+        return corrections.size();
+    }
+
+    private void increment(CounterKind kind, Long id, long delta) {
+        // compute (e não computeIfAbsent + add) para não correr contra a remoção em evictIfFull
+        cells.get(kind).compute(id, (key, cell) -> {
+            Cell target = cell != null ? cell : new Cell();
+            target.unflushed.add(delta);
+            return target;
+        });
+    }
+
+    // Limite simples de memória: descarta as entradas sem incremento pendente
+    private void evictIfFull() {
+        int size = cells.values().stream().mapToInt(Map::size).sum();
+        if (size < maxEntries) {
+            return;
+        }
+        int evicted = 0;
+        for (ConcurrentHashMap<Long, Cell> map : cells.values()) {
+            for (Long id : map.keySet()) {
+                if (map.computeIfPresent(id, (key, cell) -> cell.unflushed.sum() == 0 ? null : cell) == null) {
+                    evicted++;
+                }
+            }
+        }
+        log.info("Cache de contadores atingiu {} entradas; {} descartadas", size, evicted);
+    }
+
+    private static final class Cell {
+        private final LongAdder unflushed = new LongAdder();
+        private volatile long base; // Soma das fatias na última leitura, mais o que esta réplica gravou depois
+        private volatile long loadedAt;
+        private volatile boolean loaded;
+
+        private long value() {
+            return Math.max(0L, base + unflushed.sum());
+        }
+
+        // O delta sai do acumulador e entra na base (se a base já foi lida do banco)
+        private void moveToBase(long delta) {
+            if (loaded) {
+                base += delta;
+            }
+            unflushed.add(-delta);
+        }
+    }
+}
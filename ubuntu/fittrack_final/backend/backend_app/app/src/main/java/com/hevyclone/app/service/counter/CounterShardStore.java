@@ -0,0 +1,133 @@
+package com.hevyclone.app.service.counter;
+
+import com.hevyclone.app.config.sql.SqlDialect;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Acesso JDBC às fatias dos contadores (counter_shards).
+ *
+ * Cada lote de incrementos de um tipo é gravado numa transação, com um upsert em lote na fatia
+ * sorteada de cada contador (SqlDialect): a fatia que outra réplica acabou de criar recebe a soma
+ * em vez de derrubar o lote. Tipos com coluna espelho (CounterKind.getMirrorSql) recebem o mesmo
+ * delta na mesma transação.
+ */
+@Component
+public class CounterShardStore {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO counter_shards (counter_kind, entity_id, shard, count_value, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?) ON CONFLICT (counter_kind, entity_id, shard) DO UPDATE SET " +
+            "count_value = counter_shards.count_value + EXCLUDED.count_value, updated_at = EXCLUDED.updated_at";
+
+    private static final String MERGE_SQL =
+            "MERGE INTO counter_shards t USING (VALUES (CAST(? AS VARCHAR(32)), CAST(? AS BIGINT), " +
+            "CAST(? AS SMALLINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) s (kind, id, shard, delta, at) " +
+            "ON t.counter_kind = s.kind AND t.entity_id = s.id AND t.shard = s.shard " +
+            "WHEN MATCHED THEN UPDATE SET count_value = t.count_value + s.delta, updated_at = s.at " +
+            "WHEN NOT MATCHED THEN INSERT (counter_kind, entity_id, shard, count_value, updated_at) " +
+            "VALUES (s.kind, s.id, s.shard, s.delta, s.at)";
+
+    private static final String SUM_SQL =
+            "SELECT entity_id, SUM(count_value) FROM counter_shards " +
+            "WHERE counter_kind = :kind AND entity_id IN (:ids) GROUP BY entity_id";
+
+    // Ids da origem mais os que só têm fatias (a origem esvaziou), sem os que tiveram escrita
+    // depois de idleBefore. %s é CounterKind.getSourceIdsSql()
+    private static final String IDLE_IDS_SQL =
+            "SELECT ids.entity_id FROM (%s UNION " +
+            "SELECT entity_id FROM counter_shards WHERE counter_kind = ? AND entity_id > ?) ids " +
+            "WHERE NOT EXISTS (SELECT 1 FROM counter_shards s WHERE s.counter_kind = ? " +
+            "AND s.entity_id = ids.entity_id AND s.updated_at >= ?) " +
+            "ORDER BY ids.entity_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SqlDialect sqlDialect;
+
+    public CounterShardStore(JdbcTemplate jdbcTemplate,
+                             NamedParameterJdbcTemplate namedJdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             SqlDialect sqlDialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sqlDialect = sqlDialect;
+    }
+
+    /**
+     * Soma das fatias por id; ids sem nenhuma fatia ficam fora do mapa (valor zero).
+     */
+    public Map<Long, Long> sums(CounterKind kind, Collection<Long> ids) {
+        Map<Long, Long> sums = new HashMap<>();
+        if (ids.isEmpty()) {
+            return sums;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("kind", kind.name()).addValue("ids", ids);
+        namedJdbcTemplate.query(SUM_SQL, params, rs -> {
+            sums.put(rs.getLong(1), rs.getLong(2));
+        });
+        return sums;
+    }
+
+    /**
+     * Soma os deltas (id → variação) numa fatia sorteada entre 0 e shards-1 de cada contador.
+     */
+    public void add(CounterKind kind, Map<Long, Long> deltas, int shards) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // Ids em ordem crescente nos dois lotes: flushes concorrentes travam as linhas na mesma
+        // ordem e não entram em deadlock (a iteração do HashMap depende da capacidade do mapa)
+        Map<Long, Long> sorted = new TreeMap<>(deltas);
+        List<Object[]> rows = new ArrayList<>(sorted.size());
+        sorted.forEach((id, delta) ->
+                rows.add(new Object[]{kind.name(), id, (short) ThreadLocalRandom.current().nextInt(shards), delta, now}));
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(sqlDialect.pick(UPSERT_SQL, MERGE_SQL), rows);
+            if (kind.getMirrorSql() != null) {
+                List<Object[]> mirror = new ArrayList<>(sorted.size());
+                sorted.forEach((id, delta) -> mirror.add(new Object[]{delta, id}));
+                jdbcTemplate.batchUpdate(kind.getMirrorSql(), mirror);
+            }
+        });
+    }
+
+    /**
+     * Ids com linhas na origem ou fatias e sem escrita nas fatias desde idleBefore, em ordem, a
+     * partir de afterId. Contadores que nunca tiveram fatia (perdidos antes do flush) entram também.
+     */
+    public List<Long> idleEntityIds(CounterKind kind, long afterId, LocalDateTime idleBefore, int limit) {
+        return jdbcTemplate.queryForList(String.format(IDLE_IDS_SQL, kind.getSourceIdsSql()), Long.class,
+                afterId, kind.name(), afterId, kind.name(), Timestamp.valueOf(idleBefore), limit);
+    }
+
+    /**
+     * Valor exato por id, contado na tabela de origem.
+     */
+    public Map<Long, Long> exactCounts(CounterKind kind, Collection<Long> ids) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (ids.isEmpty()) {
+            return counts;
+        }
+        namedJdbcTemplate.query(kind.getExactCountSql(), new MapSqlParameterSource("ids", ids), rs -> {
+            counts.put(rs.getLong(1), rs.getLong(2));
+        });
+        return counts;
+    }
+}
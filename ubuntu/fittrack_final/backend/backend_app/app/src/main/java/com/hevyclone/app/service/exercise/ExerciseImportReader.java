@@ -0,0 +1,252 @@
+package com.hevyclone.app.service.exercise;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lê o arquivo de importação do catálogo uma linha por vez, sem carregá-lo inteiro: CSV com
+ * cabeçalho (RFC 4180: aspas, "" e quebras de linha dentro de aspas) ou JSON com um array de
+ * objetos. Nomes de coluna são normalizados, então "externalId", "External ID" e
+ * "external_id" são a mesma coluna. Valores vazios viram null.
+ *
+ * Arquivo malformado gera IllegalArgumentException com a linha do problema; as linhas já
+ * lidas continuam válidas.
+ */
+public abstract class ExerciseImportReader implements Closeable {
+
+    public enum Format {
+        CSV, JSON;
+
+        /**
+         * Formato pedido explicitamente ou, na falta dele, deduzido do nome e do tipo do arquivo
+         */
+        public static Format detect(String requested, String filename, String contentType) {
+            if (requested != null && !requested.isBlank()) {
+                try {
+                    return valueOf(requested.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Formato de importação inválido: " + requested);
+                }
+            }
+            boolean json = (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".json"))
+                    || (contentType != null && contentType.contains("json"));
+            return json ? JSON : CSV;
+        }
+    }
+
+    /**
+     * Uma linha do arquivo: número da linha onde começa (para o relatório de erros) e colunas
+     */
+    public static final class Row {
+        private final long line;
+        private final Map<String, String> values;
+
+        Row(long line, Map<String, String> values) {
+            this.line = line;
+            this.values = values;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String get(String column) {
+            return values.get(column);
+        }
+    }
+
+    public static ExerciseImportReader open(InputStream in, Format format) throws IOException {
+        return format == Format.JSON ? new Json(in) : new Csv(in);
+    }
+
+    /**
+     * @return próxima linha, ou null no fim do arquivo
+     */
+    public abstract Row next() throws IOException;
+
+    // originalName, "Original Name" e original_name viram original_name
+    static String column(String name) {
+        String snake = name.trim().replaceAll("([a-z0-9])([A-Z])", "$1_$2");
+        return snake.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_").replaceAll("^_|_$", "");
+    }
+
+    private static String value(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String trimmed = raw.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static final class Csv extends ExerciseImportReader {
+        private final Reader reader;
+        private final List<String> header;
+        private long line = 1;
+        private int peeked = -2;
+
+        Csv(InputStream in) throws IOException {
+            reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+            if (peek() == '\uFEFF') {
+                read(); // BOM do Excel
+            }
+            List<String> columns = record();
+            if (columns == null) {
+                throw new IllegalArgumentException("Arquivo CSV vazio: o cabeçalho é obrigatório");
+            }
+            header = new ArrayList<>();
+            for (String name : columns) {
+                header.add(column(name));
+            }
+        }
+
+        @Override
+        public Row next() throws IOException {
+            List<String> fields;
+            long start;
+            do {
+                start = line;
+                fields = record();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank()); // Linhas em branco
+            if (fields.size() > header.size()) {
+                throw new IllegalArgumentException("Linha " + start + ": " + fields.size()
+                        + " colunas, mas o cabeçalho tem " + header.size());
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                values.put(header.get(i), value(fields.get(i)));
+            }
+            return new Row(start, values);
+        }
+
+        // Campos do próximo registro, ou null no fim do arquivo
+        private List<String> record() throws IOException {
+            if (peek() == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            long start = line;
+            while (true) {
+                int c = read();
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("Linha " + start + ": aspas não fechadas");
+                    } else if (c == '"') {
+                        if (peek() == '"') {
+                            field.append((char) read());
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r' && peek() == '\n') {
+                        read();
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+            }
+        }
+
+        private int peek() throws IOException {
+            if (peeked == -2) {
+                peeked = reader.read();
+            }
+            return peeked;
+        }
+
+        private int read() throws IOException {
+            int c = peek();
+            peeked = -2;
+            if (c == '\n') {
+                line++;
+            }
+            return c;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class Json extends ExerciseImportReader {
+        private final JsonParser parser;
+
+        Json(InputStream in) throws IOException {
+            parser = new JsonFactory().createParser(in);
+            try {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IllegalArgumentException("O JSON de importação deve ser um array de exercícios");
+                }
+            } catch (JsonProcessingException e) {
+                throw malformed(e);
+            }
+        }
+
+        @Override
+        public Row next() throws IOException {
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    return null;
+                }
+                long line = parser.getTokenLocation().getLineNr();
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IllegalArgumentException("Linha " + line + ": esperado um objeto de exercício");
+                }
+                Map<String, String> values = new HashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = column(parser.getCurrentName());
+                    JsonToken valueToken = parser.nextToken();
+                    if (valueToken == JsonToken.START_OBJECT || valueToken == JsonToken.START_ARRAY) {
+                        parser.skipChildren(); // Campos aninhados da fonte externa não são importados
+                    } else if (valueToken != JsonToken.VALUE_NULL) {
+                        values.put(name, value(parser.getText()));
+                    }
+                }
+                return new Row(line, values);
+            } catch (JsonProcessingException e) {
+                throw malformed(e);
+            }
+        }
+
+        private static IllegalArgumentException malformed(JsonProcessingException e) {
+            long line = e.getLocation() != null ? e.getLocation().getLineNr() : -1;
+            return new IllegalArgumentException("Linha " + line + ": JSON inválido (" + e.getOriginalMessage() + ")");
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
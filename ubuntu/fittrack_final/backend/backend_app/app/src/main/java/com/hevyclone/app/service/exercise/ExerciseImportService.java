@@ -0,0 +1,209 @@
+package com.hevyclone.app.service.exercise;
+
+import com.hevyclone.app.dto.exercise.ExerciseImportResultDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Importação do catálogo de exercícios em massa (CSV ou JSON), no lugar de um POST por
+ * exercício.
+ *
+ * O arquivo é lido em streaming; grupos musculares, equipamentos e níveis são carregados uma
+ * vez e resolvidos em memória (grupos e equipamentos por nome, nome em português ou id; níveis
+ * por nome ou número do nível). Linhas válidas acumulam em lotes de batch-size gravados pelo
+ * {@link ExerciseImportStore} (upsert por external_id), cada lote na sua transação: um lote que
+ * falha vira erro nas suas linhas e os demais seguem. Os caches de exercícios são limpos uma
+ * vez, no fim, e não a cada exercício.
+ *
+ * Colunas (CSV ou chaves do JSON): name (obrigatória), original_name, description,
+ * instructions, muscle_group, equipment, difficulty, image_url, video_url, animation_url,
+ * thumbnail_url e external_id. Sem muscle_group, vale o grupo padrão da requisição.
+ */
+@Service
+@Slf4j
+public class ExerciseImportService {
+
+    private final ExerciseImportStore store;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public ExerciseImportService(ExerciseImportStore store,
+                                 @Value("${saga.exercises.import.batch-size:500}") int batchSize,
+                                 @Value("${saga.exercises.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.store = store;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * @param defaultMuscleGroup Grupo (nome ou id) das linhas sem muscle_group; opcional
+     * @throws IllegalArgumentException se o grupo padrão não existir ou o arquivo não puder ser aberto
+     */
+    @CacheEvict(value = {"exercises", "exercisesPaginated", "exercise", "exercisesByMuscleGroup",
+                         "exercisesByDifficultyLevel", "exercisesByEquipment"}, allEntries = true)
+    public ExerciseImportResultDTO importExercises(InputStream in, ExerciseImportReader.Format format,
+                                                   String defaultMuscleGroup) throws IOException {
+        long start = System.nanoTime();
+        Import run = new Import(store.muscleGroups(), store.equipments(), store.difficultyLevels());
+        if (defaultMuscleGroup != null && !defaultMuscleGroup.isBlank()) {
+            run.defaultMuscleGroupId = run.muscleGroups.get(ExerciseImportStore.lookupKey(defaultMuscleGroup));
+            if (run.defaultMuscleGroupId == null) {
+                throw new IllegalArgumentException("Grupo muscular padrão não encontrado: " + defaultMuscleGroup);
+            }
+        }
+
+        try (ExerciseImportReader reader = ExerciseImportReader.open(in, format)) {
+            ExerciseImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                run.processed++;
+                run.add(row);
+            }
+        } catch (IllegalArgumentException e) {
+            // Arquivo malformado no meio: o que veio antes é gravado, o resto não é lido
+            run.error(-1, null, e.getMessage());
+        } finally {
+            run.flush();
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Importação de exercícios: {} linhas, {} inseridos, {} atualizados, {} com erro em {} ms",
+                run.processed, run.inserted, run.updated, run.failed, durationMs);
+        return ExerciseImportResultDTO.builder()
+                .processed(run.processed)
+                .inserted(run.inserted)
+                .updated(run.updated)
+                .failed(run.failed)
+                .durationMs(durationMs)
+                .errors(run.errors)
+                .build();
+    }
+
+    // Estado de uma importação: referências resolvidas, lote pendente e totais
+    private final class Import {
+        private final Map<String, Long> muscleGroups;
+        private final Map<String, Long> equipments;
+        private final Map<String, Long> difficultyLevels;
+        private Long defaultMuscleGroupId;
+
+        // Chave do upsert → linha; a linha do arquivo fica junto para o relatório de erros
+        private final Map<String, ExerciseImportStore.ExerciseRow> batch = new LinkedHashMap<>();
+        private final Map<String, Long> batchLines = new LinkedHashMap<>();
+
+        private long processed;
+        private long inserted;
+        private long updated;
+        private long failed;
+        private final List<ExerciseImportResultDTO.RowError> errors = new ArrayList<>();
+
+        Import(Map<String, Long> muscleGroups, Map<String, Long> equipments, Map<String, Long> difficultyLevels) {
+            this.muscleGroups = muscleGroups;
+            this.equipments = equipments;
+            this.difficultyLevels = difficultyLevels;
+        }
+
+        void add(ExerciseImportReader.Row row) {
+            String externalId = row.get("external_id");
+            String error = validate(row);
+            if (error != null) {
+                error(row.getLine(), externalId, error);
+                return;
+            }
+            ExerciseImportStore.ExerciseRow exercise = ExerciseImportStore.ExerciseRow.builder()
+                    .name(row.get("name"))
+                    .originalName(row.get("original_name"))
+                    .description(row.get("description"))
+                    .instructions(row.get("instructions"))
+                    .primaryMuscleGroupId(row.get("muscle_group") != null
+                            ? resolve(muscleGroups, row.get("muscle_group")) : defaultMuscleGroupId)
+                    .equipmentId(resolve(equipments, row.get("equipment")))
+                    .difficultyLevelId(resolve(difficultyLevels, row.get("difficulty")))
+                    .imageUrl(row.get("image_url"))
+                    .videoUrl(row.get("video_url"))
+                    .animationUrl(row.get("animation_url"))
+                    .thumbnailUrl(row.get("thumbnail_url"))
+                    .externalId(externalId)
+                    .build();
+            // A mesma chave duas vezes no lote: grava o lote antes, e a última linha prevalece
+            if (batch.containsKey(exercise.key())) {
+                flush();
+            }
+            batch.put(exercise.key(), exercise);
+            batchLines.put(exercise.key(), row.getLine());
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        // Mesmas regras do ExerciseRequestDTO
+        private String validate(ExerciseImportReader.Row row) {
+            String name = row.get("name");
+            if (name == null) {
+                return "O nome do exercício é obrigatório";
+            }
+            if (name.length() < 3 || name.length() > 100) {
+                return "O nome deve ter entre 3 e 100 caracteres";
+            }
+            if (row.get("description") != null && row.get("description").length() > 1000) {
+                return "A descrição deve ter no máximo 1000 caracteres";
+            }
+            if (row.get("instructions") != null && row.get("instructions").length() > 500) {
+                return "As instruções devem ter no máximo 500 caracteres";
+            }
+            if (row.get("external_id") != null && row.get("external_id").length() > 255) {
+                return "O ID externo deve ter no máximo 255 caracteres";
+            }
+            String muscleGroup = row.get("muscle_group");
+            if (muscleGroup == null && defaultMuscleGroupId == null) {
+                return "O grupo muscular é obrigatório";
+            }
+            if (muscleGroup != null && resolve(muscleGroups, muscleGroup) == null) {
+                return "Grupo muscular não encontrado: " + muscleGroup;
+            }
+            if (row.get("equipment") != null && resolve(equipments, row.get("equipment")) == null) {
+                return "Equipamento não encontrado: " + row.get("equipment");
+            }
+            if (row.get("difficulty") != null && resolve(difficultyLevels, row.get("difficulty")) == null) {
+                return "Nível de dificuldade não encontrado: " + row.get("difficulty");
+            }
+            return null;
+        }
+
+        private Long resolve(Map<String, Long> ids, String name) {
+            return name != null ? ids.get(ExerciseImportStore.lookupKey(name)) : null;
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                int[] counts = store.upsert(batch.values());
+                inserted += counts[0];
+                updated += counts[1];
+            } catch (DataAccessException e) {
+                log.warn("Lote da importação de exercícios falhou: {}", e.getMostSpecificCause().getMessage());
+                String message = "Lote não gravado: " + e.getMostSpecificCause().getMessage();
+                batch.forEach((key, exercise) -> error(batchLines.get(key), exercise.getExternalId(), message));
+            }
+            batch.clear();
+            batchLines.clear();
+        }
+
+        void error(long line, String externalId, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ExerciseImportResultDTO.RowError(line, externalId, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.hevyclone.app.service.exercise;
+
+import com.hevyclone.app.config.sql.SqlDialect;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Acesso JDBC da importação do catálogo.
+ *
+ * Linhas com external_id são gravadas por upsert atômico em lote (SqlDialect): INSERT ... ON
+ * CONFLICT (external_id) DO UPDATE no Postgres, MERGE no H2. Outra importação ou um POST com o
+ * mesmo external_id ao mesmo tempo vira UPDATE em vez de derrubar o lote no índice único.
+ * Linhas sem external_id casam pelo nome com exercícios que também não têm external_id; sem
+ * índice único por nome, seguem com consulta + UPDATE/INSERT em lote. Tudo numa transação.
+ *
+ * A contagem de inseridos e atualizados vem da consulta feita antes da gravação: uma chave
+ * criada por outra transação nesse meio tempo conta como inserida.
+ *
+ * No UPDATE, colunas opcionais vazias no arquivo mantêm o valor atual.
+ */
+@Component
+public class ExerciseImportStore {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final String BY_EXTERNAL_ID_SQL =
+            "SELECT external_id, id FROM exercises WHERE external_id IN (:keys)";
+
+    private static final String BY_NAME_SQL =
+            "SELECT LOWER(name), id FROM exercises WHERE external_id IS NULL AND LOWER(name) IN (:keys)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO exercises (name, original_name, description, instructions, primary_muscle_group_id, " +
+            "equipment_id, difficulty_level_id, image_url, video_url, animation_url, thumbnail_url, external_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_SQL = INSERT_SQL + " ON CONFLICT (external_id) DO UPDATE SET " +
+            "name = EXCLUDED.name, original_name = COALESCE(EXCLUDED.original_name, exercises.original_name), " +
+            "description = COALESCE(EXCLUDED.description, exercises.description), " +
+            "instructions = COALESCE(EXCLUDED.instructions, exercises.instructions), " +
+            "primary_muscle_group_id = EXCLUDED.primary_muscle_group_id, " +
+            "equipment_id = COALESCE(EXCLUDED.equipment_id, exercises.equipment_id), " +
+            "difficulty_level_id = COALESCE(EXCLUDED.difficulty_level_id, exercises.difficulty_level_id), " +
+            "image_url = COALESCE(EXCLUDED.image_url, exercises.image_url), " +
+            "video_url = COALESCE(EXCLUDED.video_url, exercises.video_url), " +
+            "animation_url = COALESCE(EXCLUDED.animation_url, exercises.animation_url), " +
+            "thumbnail_url = COALESCE(EXCLUDED.thumbnail_url, exercises.thumbnail_url)";
+
+    private static final String MERGE_SQL =
+            "MERGE INTO exercises t USING (VALUES (CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), " +
+            "CAST(? AS VARCHAR), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS VARCHAR), " +
+            "CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR))) " +
+            "s (name, original_name, description, instructions, primary_muscle_group_id, equipment_id, " +
+            "difficulty_level_id, image_url, video_url, animation_url, thumbnail_url, external_id) " +
+            "ON t.external_id = s.external_id " +
+            "WHEN MATCHED THEN UPDATE SET name = s.name, original_name = COALESCE(s.original_name, t.original_name), " +
+            "description = COALESCE(s.description, t.description), " +
+            "instructions = COALESCE(s.instructions, t.instructions), " +
+            "primary_muscle_group_id = s.primary_muscle_group_id, " +
+            "equipment_id = COALESCE(s.equipment_id, t.equipment_id), " +
+            "difficulty_level_id = COALESCE(s.difficulty_level_id, t.difficulty_level_id), " +
+            "image_url = COALESCE(s.image_url, t.image_url), video_url = COALESCE(s.video_url, t.video_url), " +
+            "animation_url = COALESCE(s.animation_url, t.animation_url), " +
+            "thumbnail_url = COALESCE(s.thumbnail_url, t.thumbnail_url) " +
+            "WHEN NOT MATCHED THEN INSERT (name, original_name, description, instructions, primary_muscle_group_id, " +
+            "equipment_id, difficulty_level_id, image_url, video_url, animation_url, thumbnail_url, external_id) " +
+            "VALUES (s.name, s.original_name, s.description, s.instructions, s.primary_muscle_group_id, " +
+            "s.equipment_id, s.difficulty_level_id, s.image_url, s.video_url, s.animation_url, s.thumbnail_url, " +
+            "s.external_id)";
+
+    // Linhas sem external_id, casadas pelo nome
+    private static final String UPDATE_SQL =
+            "UPDATE exercises SET name = ?, original_name = COALESCE(?, original_name), " +
+            "description = COALESCE(?, description), instructions = COALESCE(?, instructions), " +
+            "primary_muscle_group_id = ?, equipment_id = COALESCE(?, equipment_id), " +
+            "difficulty_level_id = COALESCE(?, difficulty_level_id), image_url = COALESCE(?, image_url), " +
+            "video_url = COALESCE(?, video_url), animation_url = COALESCE(?, animation_url), " +
+            "thumbnail_url = COALESCE(?, thumbnail_url), external_id = COALESCE(?, external_id) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SqlDialect sqlDialect;
+
+    public ExerciseImportStore(JdbcTemplate jdbcTemplate,
+                               NamedParameterJdbcTemplate namedJdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               SqlDialect sqlDialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sqlDialect = sqlDialect;
+    }
+
+    /**
+     * Exercício já validado, com as referências resolvidas para ids
+     */
+    @Data
+    @Builder
+    public static class ExerciseRow {
+        private String name;
+        private String originalName;
+        private String description;
+        private String instructions;
+        private Long primaryMuscleGroupId;
+        private Long equipmentId;
+        private Long difficultyLevelId;
+        private String imageUrl;
+        private String videoUrl;
+        private String animationUrl;
+        private String thumbnailUrl;
+        private String externalId;
+
+        /**
+         * Chave do upsert dentro de um lote
+         */
+        public String key() {
+            return externalId != null ? "id:" + externalId : "name:" + name.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Grupos musculares por nome, nome em português e id, com chaves de {@link #lookupKey}
+     */
+    public Map<String, Long> muscleGroups() {
+        return lookup("SELECT id, name, name_pt FROM muscle_groups", true);
+    }
+
+    public Map<String, Long> equipments() {
+        return lookup("SELECT id, name, name_pt FROM equipments", true);
+    }
+
+    /**
+     * Níveis de dificuldade por nome e pelo número do nível (1, 2, 3), não pelo id
+     */
+    public Map<String, Long> difficultyLevels() {
+        return lookup("SELECT id, name, CAST(level AS VARCHAR(10)) FROM difficulty_levels", false);
+    }
+
+    /**
+     * Sem acento e em minúsculas: "Braços", "bracos" e "BRAÇOS" são a mesma chave
+     */
+    public static String lookupKey(String text) {
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(text.trim(), Normalizer.Form.NFD)).replaceAll("");
+        return stripped.toLowerCase(Locale.ROOT);
+    }
+
+    private Map<String, Long> lookup(String sql, boolean byId) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            long id = rs.getLong(1);
+            if (byId) {
+                ids.put(String.valueOf(id), id);
+            }
+            for (int column = 2; column <= 3; column++) {
+                String name = rs.getString(column);
+                if (name != null) {
+                    ids.putIfAbsent(lookupKey(name), id);
+                }
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * Grava um lote numa transação.
+     * @param rows Exercícios com chaves distintas (ver {@link ExerciseRow#key()})
+     * @return {inseridos, atualizados}
+     */
+    public int[] upsert(Collection<ExerciseRow> rows) {
+        return transactionTemplate.execute(status -> {
+            Map<String, Long> existing = existingIds(rows);
+            List<Object[]> upserts = new ArrayList<>();
+            List<Object[]> inserts = new ArrayList<>();
+            List<Object[]> updates = new ArrayList<>();
+            int inserted = 0;
+            for (ExerciseRow row : rows) {
+                Long id = existing.get(row.key());
+                if (id == null) {
+                    inserted++;
+                }
+                if (row.getExternalId() != null) {
+                    upserts.add(values(row));
+                } else if (id == null) {
+                    inserts.add(values(row));
+                } else {
+                    Object[] values = values(row);
+                    Object[] update = Arrays.copyOf(values, values.length + 1);
+                    update[values.length] = id;
+                    updates.add(update);
+                }
+            }
+            if (!upserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(sqlDialect.pick(UPSERT_SQL, MERGE_SQL), upserts);
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            }
+            return new int[]{inserted, rows.size() - inserted};
+        });
+    }
+
+    private Map<String, Long> existingIds(Collection<ExerciseRow> rows) {
+        List<String> externalIds = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (ExerciseRow row : rows) {
+            if (row.getExternalId() != null) {
+                externalIds.add(row.getExternalId());
+            } else {
+                names.add(row.getName().toLowerCase(Locale.ROOT));
+            }
+        }
+        Map<String, Long> ids = new HashMap<>();
+        if (!externalIds.isEmpty()) {
+            namedJdbcTemplate.query(BY_EXTERNAL_ID_SQL, new MapSqlParameterSource("keys", externalIds),
+                    rs -> {
+                        ids.put("id:" + rs.getString(1), rs.getLong(2));
+                    });
+        }
+        if (!names.isEmpty()) {
+            namedJdbcTemplate.query(BY_NAME_SQL, new MapSqlParameterSource("keys", names),
+                    rs -> {
+                        ids.putIfAbsent("name:" + rs.getString(1), rs.getLong(2));
+                    });
+        }
+        return ids;
+    }
+
+    private static Object[] values(ExerciseRow row) {
+        return new Object[]{row.getName(), row.getOriginalName(), row.getDescription(), row.getInstructions(),
+                row.getPrimaryMuscleGroupId(), row.getEquipmentId(), row.getDifficultyLevelId(), row.getImageUrl(),
+                row.getVideoUrl(), row.getAnimationUrl(), row.getThumbnailUrl(), row.getExternalId()};
+    }
+}
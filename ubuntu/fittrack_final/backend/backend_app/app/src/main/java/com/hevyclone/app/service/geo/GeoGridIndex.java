@@ -0,0 +1,223 @@
+package com.hevyclone.app.service.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice em memória das localizações de uma região (a "região quente", onde está a maior parte
+ * dos usuários), em grade de células geohash de precisão fixa.
+ *
+ * Cada célula guarda ids e coordenadas em arrays paralelos. Uma busca por raio visita só as
+ * células que intersectam o retângulo do círculo, descarta pela latitude e confirma com a
+ * distância exata, mantendo os limit mais próximos em um heap. Escritas são serializadas no
+ * índice; leituras travam apenas a célula que estão percorrendo.
+ */
+public final class GeoGridIndex {
+
+    private final int precision;
+    private final double minLat;
+    private final double minLng;
+    private final double maxLat;
+    private final double maxLng;
+    private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Long> cellOfUser = new ConcurrentHashMap<>();
+
+    public GeoGridIndex(int precision, double minLat, double minLng, double maxLat, double maxLng) {
+        this.precision = precision;
+        this.minLat = minLat;
+        this.minLng = minLng;
+        this.maxLat = maxLat;
+        this.maxLng = maxLng;
+    }
+
+    public boolean contains(double lat, double lng) {
+        return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+    }
+
+    /**
+     * Se o círculo inteiro está na região; fora dela a busca precisa ir ao banco.
+     */
+    public boolean covers(double lat, double lng, double radiusKm) {
+        double[] box = GeoHash.boundingBox(lat, lng, radiusKm);
+        return box[0] >= minLat && box[1] >= minLng && box[2] <= maxLat && box[3] <= maxLng;
+    }
+
+    public synchronized void put(long userId, double lat, double lng) {
+        if (!contains(lat, lng)) {
+            remove(userId);
+            return;
+        }
+        long key = GeoHash.encodeBits(lat, lng, precision);
+        Long previous = cellOfUser.put(userId, key);
+        if (previous != null && previous == key) {
+            cells.get(key).update(userId, lat, lng);
+            return;
+        }
+        if (previous != null) {
+            removeFromCell(previous, userId);
+        }
+        cells.computeIfAbsent(key, k -> new Cell()).append(userId, lat, lng);
+    }
+
+    public synchronized void remove(long userId) {
+        Long previous = cellOfUser.remove(userId);
+        if (previous != null) {
+            removeFromCell(previous, userId);
+        }
+    }
+
+    public synchronized void clear() {
+        cells.clear();
+        cellOfUser.clear();
+    }
+
+    /**
+     * Até limit usuários a no máximo radiusKm do ponto, do mais próximo ao mais distante.
+     */
+    public List<Match> within(double lat, double lng, double radiusKm, int limit) {
+        double latDelta = radiusKm / 111.32;
+        // Células da mais próxima para a mais distante: com o heap cheio, uma célula cuja borda
+        // já está mais longe que o pior resultado atual encerra a busca
+        List<long[]> candidates = new ArrayList<>();
+        for (Long key : GeoHash.cellsCovering(lat, lng, radiusKm, precision)) {
+            if (cells.containsKey(key)) {
+                candidates.add(new long[]{key, Double.doubleToLongBits(minDistanceKm(key, lat, lng))});
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(candidate -> Double.longBitsToDouble(candidate[1])));
+        PriorityQueue<Match> nearest = new PriorityQueue<>(Comparator.comparingDouble(Match::getDistanceKm).reversed());
+        for (long[] candidate : candidates) {
+            double cellDistance = Double.longBitsToDouble(candidate[1]);
+            if (cellDistance > radiusKm || (nearest.size() >= limit && cellDistance > nearest.peek().getDistanceKm())) {
+                break;
+            }
+            Cell cell = cells.get(candidate[0]);
+            if (cell != null) {
+                cell.collect(lat, lng, latDelta, radiusKm, limit, nearest);
+            }
+        }
+        List<Match> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(Match::getDistanceKm));
+        return result;
+    }
+
+    public int size() {
+        return cellOfUser.size();
+    }
+
+    // Limite inferior da distância do ponto até a célula (ponto da célula mais próximo em lat/lng)
+    private double minDistanceKm(long key, double lat, double lng) {
+        double[] box = GeoHash.bounds(key, precision);
+        double nearestLat = Math.max(box[0], Math.min(lat, box[2]));
+        double nearestLng = Math.max(box[1], Math.min(lng, box[3]));
+        return GeoHash.distanceKm(lat, lng, nearestLat, nearestLng) * 0.99;
+    }
+
+    private void removeFromCell(long key, long userId) {
+        Cell cell = cells.get(key);
+        if (cell != null && cell.remove(userId) && cell.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    private static final class Cell {
+        private long[] ids = new long[4];
+        private double[] lats = new double[4];
+        private double[] lngs = new double[4];
+        private int size;
+
+        synchronized void append(long userId, double lat, double lng) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                lats = Arrays.copyOf(lats, capacity);
+                lngs = Arrays.copyOf(lngs, capacity);
+            }
+            ids[size] = userId;
+            lats[size] = lat;
+            lngs[size] = lng;
+            size++;
+        }
+
+        synchronized void update(long userId, double lat, double lng) {
+            int position = indexOf(userId);
+            if (position >= 0) {
+                lats[position] = lat;
+                lngs[position] = lng;
+            } else {
+                append(userId, lat, lng);
+            }
+        }
+
+        // Remoção por troca com o último: a ordem dentro da célula não importa
+        synchronized boolean remove(long userId) {
+            int position = indexOf(userId);
+            if (position < 0) {
+                return false;
+            }
+            size--;
+            ids[position] = ids[size];
+            lats[position] = lats[size];
+            lngs[position] = lngs[size];
+            return true;
+        }
+
+        synchronized boolean isEmpty() {
+            return size == 0;
+        }
+
+        synchronized void collect(double lat, double lng, double latDelta, double radiusKm,
+                                  int limit, PriorityQueue<Match> nearest) {
+            for (int i = 0; i < size; i++) {
+                if (Math.abs(lats[i] - lat) > latDelta) {
+                    continue;
+                }
+                double distance = GeoHash.distanceKm(lat, lng, lats[i], lngs[i]);
+                if (distance > radiusKm) {
+                    continue;
+                }
+                if (nearest.size() < limit) {
+                    nearest.add(new Match(ids[i], distance));
+                } else if (distance < nearest.peek().getDistanceKm()) {
+                    nearest.poll();
+                    nearest.add(new Match(ids[i], distance));
+                }
+            }
+        }
+
+        private int indexOf(long userId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == userId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Usuário encontrado e sua distância exata até o ponto da busca.
+     */
+    public static final class Match {
+        private final long userId;
+        private final double distanceKm;
+
+        public Match(long userId, double distanceKm) {
+            this.userId = userId;
+            this.distanceKm = distanceKm;
+        }
+
+        public long getUserId() {
+            return userId;
+        }
+
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+    }
+}
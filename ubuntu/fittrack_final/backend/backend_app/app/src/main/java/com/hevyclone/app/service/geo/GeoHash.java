@@ -0,0 +1,170 @@
+package com.hevyclone.app.service.geo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Geohash: divide o globo em células retangulares identificadas por um prefixo base32;
+ * cada caractere a mais refina a célula (precisão 4 ≈ 39 x 20 km, 5 ≈ 4,9 x 4,9 km no equador).
+ * Pontos na mesma célula compartilham o prefixo, então "usuários da célula X" é uma busca por
+ * prefixo em um índice B-tree comum.
+ *
+ * As células também são representadas como long (5 bits por caractere, longitude no bit mais
+ * alto), que é a chave usada pelo índice em memória.
+ */
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private GeoHash() {
+    }
+
+    public static long encodeBits(double lat, double lng, int precision) {
+        checkPrecision(precision);
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        long bits = 0;
+        int totalBits = precision * 5;
+        for (int i = 0; i < totalBits; i++) {
+            bits <<= 1;
+            if (i % 2 == 0) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) {
+                    bits |= 1;
+                    minLng = mid;
+                } else {
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    bits |= 1;
+                    minLat = mid;
+                } else {
+                    maxLat = mid;
+                }
+            }
+        }
+        return bits;
+    }
+
+    public static String encode(double lat, double lng, int precision) {
+        return toBase32(encodeBits(lat, lng, precision), precision);
+    }
+
+    public static String toBase32(long bits, int precision) {
+        char[] chars = new char[precision];
+        for (int i = precision - 1; i >= 0; i--) {
+            chars[i] = BASE32.charAt((int) (bits & 31));
+            bits >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * [minLat, minLng, maxLat, maxLng] da célula.
+     */
+    public static double[] bounds(long bits, int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        int totalBits = precision * 5;
+        for (int i = 0; i < totalBits; i++) {
+            boolean set = ((bits >>> (totalBits - 1 - i)) & 1) == 1;
+            if (i % 2 == 0) {
+                double mid = (minLng + maxLng) / 2;
+                if (set) {
+                    minLng = mid;
+                } else {
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (set) {
+                    minLat = mid;
+                } else {
+                    maxLat = mid;
+                }
+            }
+        }
+        return new double[]{minLat, minLng, maxLat, maxLng};
+    }
+
+    public static double cellHeightDegrees(int precision) {
+        return 180.0 / (1L << (precision * 5 / 2));
+    }
+
+    public static double cellWidthDegrees(int precision) {
+        return 360.0 / (1L << ((precision * 5 + 1) / 2));
+    }
+
+    /**
+     * Maior precisão cujas células, na latitude informada, medem pelo menos radiusKm nos dois
+     * lados: assim o círculo cabe em no máximo 3 x 3 células vizinhas.
+     */
+    public static int precisionFor(double radiusKm, double lat) {
+        double kmPerDegreeLng = KM_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+        for (int precision = MAX_PRECISION; precision > 1; precision--) {
+            if (cellHeightDegrees(precision) * KM_PER_DEGREE_LAT >= radiusKm
+                    && cellWidthDegrees(precision) * kmPerDegreeLng >= radiusKm) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Células da precisão informada que intersectam o retângulo envolvente do círculo.
+     */
+    public static List<Long> cellsCovering(double lat, double lng, double radiusKm, int precision) {
+        double[] box = boundingBox(lat, lng, radiusKm);
+        double height = cellHeightDegrees(precision);
+        double width = cellWidthDegrees(precision);
+        Set<Long> cells = new LinkedHashSet<>();
+        double firstRow = Math.floor((box[0] + 90) / height) * height - 90;
+        double firstColumn = Math.floor((box[1] + 180) / width) * width - 180;
+        for (double row = firstRow; row <= box[2]; row += height) {
+            double centerLat = Math.min(row + height / 2, 90 - height / 2);
+            for (double column = firstColumn; column <= box[3]; column += width) {
+                cells.add(encodeBits(centerLat, normalizeLng(column + width / 2), precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    /**
+     * [minLat, minLng, maxLat, maxLng] do círculo; a longitude pode passar de ±180 perto do
+     * antimeridiano e é normalizada por quem converte em célula.
+     */
+    public static double[] boundingBox(double lat, double lng, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LAT;
+        double cos = Math.cos(Math.toRadians(lat));
+        double lngDelta = cos < 1e-6 ? 180 : Math.min(180, radiusKm / (KM_PER_DEGREE_LAT * cos));
+        return new double[]{
+                Math.max(-90, lat - latDelta), lng - lngDelta,
+                Math.min(90, lat + latDelta), lng + lngDelta
+        };
+    }
+
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static double normalizeLng(double lng) {
+        return ((lng + 180) % 360 + 360) % 360 - 180;
+    }
+
+    private static void checkPrecision(int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precisão de geohash inválida: " + precision);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.hevyclone.app.service.geo;
+
+import com.hevyclone.app.dto.geo.NearbyUserDTO;
+import com.hevyclone.app.dto.geo.NearbyUsersDTO;
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.model.geo.UserLocation;
+import com.hevyclone.app.repository.geo.UserLocationRepository;
+import com.hevyclone.app.service.social.BlockListCache;
+import com.hevyclone.app.service.social.BlockSet;
+import com.hevyclone.app.user.model.User;
+import com.hevyclone.app.user.repository.UserPrivacySettingsRepository;
+import com.hevyclone.app.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Busca de usuários próximos por raio.
+ *
+ * As localizações ficam em user_locations com um geohash indexado. Buscas dentro da região
+ * quente (saga.geo.hot-region) usam o índice em grade na memória, carregado na subida e mantido
+ * pelas próprias atualizações e por uma varredura periódica de updated_at (alterações feitas
+ * em outras réplicas). Fora da região, ou enquanto o índice carrega, a busca vai ao banco pelas
+ * até 9 células geohash vizinhas e refina com a distância exata. Perfis privados, quem desligou
+ * "aparecer em pessoas próximas" e usuários bloqueados são removidos do resultado.
+ */
+@Service
+@Slf4j
+public class NearbyUserService {
+
+    public static final double MAX_RADIUS_KM = 50;
+    public static final int MAX_LIMIT = 100;
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+    private static final int REFRESH_CHUNK_SIZE = 5000;
+
+    private final UserLocationRepository userLocationRepository;
+    private final UserPrivacySettingsRepository userPrivacySettingsRepository;
+    private final UserRepository userRepository;
+    private final BlockListCache blockListCache;
+    private final MeterRegistry meterRegistry;
+    private final GeoGridIndex index;
+    private final double[] hotRegion;
+    private final int maxIndexedUsers;
+
+    private volatile boolean indexReady;
+    private volatile LocalDateTime refreshedUpTo;
+
+    public NearbyUserService(UserLocationRepository userLocationRepository,
+                             UserPrivacySettingsRepository userPrivacySettingsRepository,
+                             UserRepository userRepository,
+                             BlockListCache blockListCache,
+                             MeterRegistry meterRegistry,
+                             @Value("${saga.geo.hot-region:-34.0,-74.0,5.5,-34.0}") double[] hotRegion,
+                             @Value("${saga.geo.grid-precision:5}") int gridPrecision,
+                             @Value("${saga.geo.max-indexed-users:2000000}") int maxIndexedUsers) {
+        if (hotRegion.length != 4) {
+            throw new IllegalStateException("saga.geo.hot-region deve ser minLat,minLng,maxLat,maxLng");
+        }
+        this.userLocationRepository = userLocationRepository;
+        this.userPrivacySettingsRepository = userPrivacySettingsRepository;
+        this.userRepository = userRepository;
+        this.blockListCache = blockListCache;
+        this.meterRegistry = meterRegistry;
+        this.hotRegion = hotRegion;
+        this.maxIndexedUsers = maxIndexedUsers;
+        this.index = new GeoGridIndex(gridPrecision, hotRegion[0], hotRegion[1], hotRegion[2], hotRegion[3]);
+        meterRegistry.gauge("saga.geo.index.users", index, GeoGridIndex::size);
+    }
+
+    @Transactional
+    public void updateLocation(Long userId, double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordenadas inválidas");
+        }
+        UserLocation location = userLocationRepository.findById(userId).orElseGet(() -> new UserLocation(userId));
+        location.setLatitude(latitude);
+        location.setLongitude(longitude);
+        location.setGeohash(GeoHash.encode(latitude, longitude, UserLocation.GEOHASH_PRECISION));
+        location.setActive(true);
+        location.setUpdatedAt(LocalDateTime.now());
+        userLocationRepository.save(location);
+        afterCommit(() -> index.put(userId, latitude, longitude));
+    }
+
+    @Transactional
+    public void clearLocation(Long userId) {
+        userLocationRepository.findById(userId).ifPresent(location -> {
+            location.setActive(false);
+            location.setUpdatedAt(LocalDateTime.now());
+        });
+        afterCommit(() -> index.remove(userId));
+    }
+
+    public NearbyUsersDTO findNearby(Long viewerId, double lat, double lng, double radiusKm, int limit) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new IllegalArgumentException("Coordenadas inválidas");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("O raio deve estar entre 0 e " + MAX_RADIUS_KM + " km");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_LIMIT);
+        }
+        // Busca alguns a mais para compensar o próprio usuário, os ocultos pela privacidade e os bloqueados
+        BlockSet blocked = blockListCache.blockedIds(viewerId);
+        int fetch = limit * 2 + 1 + Math.min(blocked.size(), MAX_LIMIT);
+        boolean fromIndex = indexReady && index.covers(lat, lng, radiusKm);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<GeoGridIndex.Match> matches = fromIndex
+                ? index.within(lat, lng, radiusKm, fetch)
+                : searchDatabase(lat, lng, radiusKm, fetch);
+        sample.stop(meterRegistry.timer("saga.geo.nearby", "source", fromIndex ? "index" : "database"));
+
+        List<Long> candidateIds = matches.stream()
+                .map(GeoGridIndex.Match::getUserId)
+                .filter(id -> !id.equals(viewerId) && !blocked.contains(id))
+                .collect(Collectors.toList());
+        Set<Long> hidden = candidateIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userPrivacySettingsRepository.findHiddenFromNearby(candidateIds));
+        Map<Long, String> names = new HashMap<>();
+        if (!candidateIds.isEmpty()) {
+            for (User user : userRepository.findAllById(candidateIds)) {
+                names.put(user.getId(), user.getUsername());
+            }
+        }
+
+        List<NearbyUserDTO> content = new ArrayList<>();
+        for (GeoGridIndex.Match match : matches) {
+            long userId = match.getUserId();
+            if (userId == viewerId || blocked.contains(userId) || hidden.contains(userId) || !names.containsKey(userId)) {
+                continue;
+            }
+            content.add(NearbyUserDTO.builder()
+                    .user(UserSummaryDTO.builder().id(userId).name(names.get(userId)).build())
+                    .distanceKm(Math.max(1, Math.round(match.getDistanceKm())))
+                    .build());
+            if (content.size() == limit) {
+                break;
+            }
+        }
+        return NearbyUsersDTO.builder().content(content).radiusKm(radiusKm).build();
+    }
+
+    /**
+     * Carrega a região quente em blocos de ids. Até terminar, as buscas vão ao banco.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long start = System.currentTimeMillis();
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        index.clear();
+        Long lastUserId = 0L;
+        List<UserLocation> chunk;
+        do {
+            chunk = userLocationRepository.findActiveInRegionAfter(lastUserId,
+                    hotRegion[0], hotRegion[1], hotRegion[2], hotRegion[3], PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (UserLocation location : chunk) {
+                index.put(location.getUserId(), location.getLatitude(), location.getLongitude());
+                lastUserId = location.getUserId();
+            }
+            if (index.size() > maxIndexedUsers) {
+                log.warn("Índice geográfico passou de {} usuários; buscas seguem pelo banco", maxIndexedUsers);
+                index.clear();
+                return;
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+        refreshedUpTo = loadStartedAt;
+        indexReady = true;
+        log.info("Índice geográfico carregado: {} usuários em {} ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Aplica ao índice as localizações alteradas desde a última rodada, inclusive por outras
+     * réplicas. A janela começa um pouco antes da anterior: reaplicar uma linha é inofensivo.
+     */
+    @Scheduled(fixedDelayString = "${saga.geo.refresh-interval-ms:30000}", initialDelayString = "${saga.geo.refresh-interval-ms:30000}")
+    public void refreshIndex() {
+        if (!indexReady) {
+            return;
+        }
+        LocalDateTime since = refreshedUpTo.minusSeconds(5);
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<UserLocation> changes;
+        int applied = 0;
+        boolean advanced;
+        do {
+            LocalDateTime chunkSince = since;
+            changes = userLocationRepository.findUpdatedSince(chunkSince, PageRequest.of(0, REFRESH_CHUNK_SIZE));
+            for (UserLocation location : changes) {
+                if (location.isActive()) {
+                    index.put(location.getUserId(), location.getLatitude(), location.getLongitude());
+                } else {
+                    index.remove(location.getUserId());
+                }
+                since = location.getUpdatedAt();
+                applied++;
+            }
+            // Evita laço infinito se um bloco inteiro tiver o mesmo updated_at
+            advanced = since.isAfter(chunkSince);
+        } while (changes.size() == REFRESH_CHUNK_SIZE && advanced);
+        refreshedUpTo = startedAt;
+        if (applied > 0) {
+            log.debug("Índice geográfico: {} alterações aplicadas", applied);
+        }
+    }
+
+    // Até 9 células vizinhas na precisão em que cada célula é maior que o raio
+    private List<GeoGridIndex.Match> searchDatabase(double lat, double lng, double radiusKm, int limit) {
+        int precision = Math.min(GeoHash.precisionFor(radiusKm, lat), UserLocation.GEOHASH_PRECISION);
+        PriorityQueue<GeoGridIndex.Match> nearest =
+                new PriorityQueue<>(Comparator.comparingDouble(GeoGridIndex.Match::getDistanceKm).reversed());
+        for (Long cell : GeoHash.cellsCovering(lat, lng, radiusKm, precision)) {
+            String prefix = GeoHash.toBase32(cell, precision);
+            for (UserLocation location : userLocationRepository.findByGeohashStartingWithAndActiveTrue(prefix)) {
+                double distance = GeoHash.distanceKm(lat, lng, location.getLatitude(), location.getLongitude());
+                if (distance > radiusKm) {
+                    continue;
+                }
+                nearest.add(new GeoGridIndex.Match(location.getUserId(), distance));
+                if (nearest.size() > limit) {
+                    nearest.poll();
+                }
+            }
+        }
+        List<GeoGridIndex.Match> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(GeoGridIndex.Match::getDistanceKm));
+        return result;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
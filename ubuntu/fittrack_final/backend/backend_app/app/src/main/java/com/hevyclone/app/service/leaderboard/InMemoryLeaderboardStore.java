@@ -0,0 +1,107 @@
+package com.hevyclone.app.service.leaderboard;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Quadros em skip lists na memória da JVM, um lock por quadro.
+ *
+ * Os incrementos só chegam à réplica que gravou o treino, então este modo serve para uma
+ * única réplica (ou testes); com várias, usar saga.leaderboard.store=redis.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.leaderboard.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLeaderboardStore implements LeaderboardStore {
+
+    private final Map<String, ScoreSkipList> boards = new ConcurrentHashMap<>();
+
+    public InMemoryLeaderboardStore(MeterRegistry meterRegistry) {
+        meterRegistry.gaugeMapSize("saga.leaderboard.boards", List.of(), boards);
+    }
+
+    @Override
+    public boolean isLoaded(String board) {
+        return boards.containsKey(board);
+    }
+
+    @Override
+    public void load(String board, Map<Long, Long> scores) {
+        ScoreSkipList list = new ScoreSkipList();
+        scores.forEach(list::set);
+        boards.put(board, list);
+    }
+
+    @Override
+    public void incrementIfLoaded(String board, long userId, long delta) {
+        ScoreSkipList list = boards.get(board);
+        if (list != null) {
+            synchronized (list) {
+                list.increment(userId, delta);
+            }
+        }
+    }
+
+    @Override
+    public long rank(String board, long userId) {
+        ScoreSkipList list = boards.get(board);
+        if (list == null) {
+            return -1;
+        }
+        synchronized (list) {
+            return list.rank(userId);
+        }
+    }
+
+    @Override
+    public List<ScoreSkipList.Entry> range(String board, int offset, int limit) {
+        ScoreSkipList list = boards.get(board);
+        if (list == null) {
+            return List.of();
+        }
+        synchronized (list) {
+            return list.range(offset, limit);
+        }
+    }
+
+    @Override
+    public Map<Long, Long> scores(String board, Collection<Long> userIds) {
+        ScoreSkipList list = boards.get(board);
+        Map<Long, Long> result = new HashMap<>();
+        if (list == null) {
+            return result;
+        }
+        synchronized (list) {
+            for (Long userId : userIds) {
+                Long score = list.score(userId);
+                if (score != null) {
+                    result.put(userId, score);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long size(String board) {
+        ScoreSkipList list = boards.get(board);
+        if (list == null) {
+            return 0;
+        }
+        synchronized (list) {
+            return list.size();
+        }
+    }
+
+    @Override
+    public void retain(Set<String> liveBoards) {
+        boards.keySet().retainAll(liveBoards);
+    }
+}
@@ -0,0 +1,18 @@
+package com.hevyclone.app.service.leaderboard;
+
+/**
+ * O que o ranking soma no período: treinos registrados ou minutos de treino.
+ */
+public enum LeaderboardMetric {
+    WORKOUTS,
+    MINUTES;
+
+    public static LeaderboardMetric from(String value) {
+        for (LeaderboardMetric metric : values()) {
+            if (metric.name().equalsIgnoreCase(value)) {
+                return metric;
+            }
+        }
+        throw new IllegalArgumentException("Métrica inválida: " + value + " (use workouts ou minutes)");
+    }
+}
@@ -0,0 +1,37 @@
+package com.hevyclone.app.service.leaderboard;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Período de um ranking. Cada período tem um quadro próprio, identificado pela data de início;
+ * a virada de semana ou de mês apenas passa a usar outro quadro.
+ */
+public enum LeaderboardPeriod {
+    WEEK,
+    MONTH;
+
+    public LocalDate startOf(LocalDate date) {
+        return this == WEEK
+                ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : date.withDayOfMonth(1);
+    }
+
+    public LocalDate nextStart(LocalDate start) {
+        return this == WEEK ? start.plusWeeks(1) : start.plusMonths(1);
+    }
+
+    public LocalDate previousStart(LocalDate start) {
+        return this == WEEK ? start.minusWeeks(1) : start.minusMonths(1);
+    }
+
+    public static LeaderboardPeriod from(String value) {
+        for (LeaderboardPeriod period : values()) {
+            if (period.name().equalsIgnoreCase(value)) {
+                return period;
+            }
+        }
+        throw new IllegalArgumentException("Período inválido: " + value + " (use week ou month)");
+    }
+}
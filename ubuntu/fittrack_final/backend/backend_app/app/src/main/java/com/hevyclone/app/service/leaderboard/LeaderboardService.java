@@ -0,0 +1,304 @@
+package com.hevyclone.app.service.leaderboard;
+
+import com.hevyclone.app.dto.leaderboard.LeaderboardEntryDTO;
+import com.hevyclone.app.dto.leaderboard.LeaderboardPageDTO;
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.repository.social.UserFollowRepository;
+import com.hevyclone.app.repository.userprogress.UserWorkoutLogRepository;
+import com.hevyclone.app.repository.userprogress.UserWorkoutLogRepository.UserPeriodTotals;
+import com.hevyclone.app.service.social.BlockListCache;
+import com.hevyclone.app.service.social.BlockSet;
+import com.hevyclone.app.user.model.User;
+import com.hevyclone.app.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Rankings semanais e mensais de treinos e minutos, mantidos incrementalmente.
+ *
+ * Cada treino gravado vira, após o commit, um incremento no quadro do período em que foi
+ * realizado (semana e mês, nas duas métricas); só os quadros do período atual e do anterior
+ * existem. Posição do usuário e páginas do topo custam O(log n) na skip list ou no sorted set,
+ * sem GROUP BY por requisição. Um quadro é carregado do histórico (user_workout_logs) na
+ * primeira leitura, e os quadros vivos são recalculados do histórico de madrugada para corrigir
+ * incrementos perdidos (ex.: reinício entre o commit e o incremento).
+ *
+ * Usuários bloqueados (nos dois sentidos) somem do quadro de quem consulta: as posições são
+ * contadas sem eles, com uma consulta de posição por bloqueado em vez de filtrar o quadro inteiro.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final LeaderboardStore leaderboardStore;
+    private final UserWorkoutLogRepository userWorkoutLogRepository;
+    private final UserFollowRepository userFollowRepository;
+    private final UserRepository userRepository;
+    private final BlockListCache blockListCache;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Object> loadLocks = new ConcurrentHashMap<>();
+
+    /**
+     * Registra, para depois do commit, a variação de treinos e minutos de um dia do usuário.
+     * Deltas negativos (treino removido ou movido de data) retiram a pontuação.
+     */
+    public void recordAfterCommit(Long userId, LocalDate day, int workouts, long minutes) {
+        if (workouts == 0 && minutes == 0) {
+            return;
+        }
+        Runnable action = () -> record(userId, day, workouts, minutes);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public LeaderboardPageDTO getLeaderboard(Long viewerId, LeaderboardPeriod period, LeaderboardMetric metric,
+                                             boolean friendsOnly, boolean previous, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Página inválida: page >= 0 e size entre 1 e " + MAX_PAGE_SIZE);
+        }
+        LocalDate start = period.startOf(LocalDate.now());
+        if (previous) {
+            start = period.previousStart(start);
+        }
+        String board = boardKey(period, metric, start);
+        ensureLoaded(period, start);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        BlockSet blocked = blockListCache.blockedIds(viewerId);
+        int offset = page * size;
+        List<ScoreSkipList.Entry> entries;
+        long total;
+        long viewerRank;
+        Long viewerScore;
+        if (friendsOnly) {
+            // Quadro dos amigos: pontuações dos seguidos + o próprio usuário, ordenadas aqui
+            Set<Long> members = new HashSet<>(userFollowRepository.findFollowedIds(viewerId));
+            members.removeIf(blocked::contains);
+            members.add(viewerId);
+            List<ScoreSkipList.Entry> ranked = leaderboardStore.scores(board, members).entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .map(entry -> new ScoreSkipList.Entry(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingLong(ScoreSkipList.Entry::getScore).reversed()
+                            .thenComparingLong(ScoreSkipList.Entry::getUserId))
+                    .collect(Collectors.toList());
+            total = ranked.size();
+            entries = offset >= ranked.size() ? List.of() : ranked.subList(offset, Math.min(ranked.size(), offset + size));
+            viewerRank = -1;
+            viewerScore = null;
+            for (int i = 0; i < ranked.size(); i++) {
+                if (ranked.get(i).getUserId() == viewerId) {
+                    viewerRank = i;
+                    viewerScore = ranked.get(i).getScore();
+                    break;
+                }
+            }
+        } else if (blocked.isEmpty()) {
+            entries = leaderboardStore.range(board, offset, size);
+            total = leaderboardStore.size(board);
+            viewerRank = leaderboardStore.rank(board, viewerId);
+            viewerScore = viewerRank >= 0 ? leaderboardStore.scores(board, List.of(viewerId)).get(viewerId) : null;
+        } else {
+            long[] blockedRanks = blockedRanks(board, blocked);
+            // Posição no quadro completo onde começa a página sem os bloqueados
+            long from = offset;
+            for (long blockedRank : blockedRanks) {
+                if (blockedRank <= from) {
+                    from++;
+                } else {
+                    break;
+                }
+            }
+            entries = leaderboardStore.range(board, (int) from, size + blockedRanks.length).stream()
+                    .filter(entry -> !blocked.contains(entry.getUserId()))
+                    .limit(size)
+                    .collect(Collectors.toList());
+            total = leaderboardStore.size(board) - blockedRanks.length;
+            long rank = leaderboardStore.rank(board, viewerId);
+            viewerRank = rank >= 0 ? rank - Arrays.stream(blockedRanks).filter(blockedRank -> blockedRank < rank).count() : -1;
+            viewerScore = viewerRank >= 0 ? leaderboardStore.scores(board, List.of(viewerId)).get(viewerId) : null;
+        }
+
+        Set<Long> userIds = entries.stream().map(ScoreSkipList.Entry::getUserId).collect(Collectors.toCollection(HashSet::new));
+        userIds.add(viewerId);
+        Map<Long, UserSummaryDTO> users = loadUsers(userIds);
+        List<LeaderboardEntryDTO> content = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            ScoreSkipList.Entry entry = entries.get(i);
+            content.add(LeaderboardEntryDTO.builder()
+                    .rank(offset + i + 1L)
+                    .user(users.get(entry.getUserId()))
+                    .score(entry.getScore())
+                    .build());
+        }
+        LeaderboardEntryDTO me = viewerRank >= 0 && viewerScore != null
+                ? LeaderboardEntryDTO.builder().rank(viewerRank + 1).user(users.get(viewerId)).score(viewerScore).build()
+                : null;
+        sample.stop(meterRegistry.timer("saga.leaderboard.read", "scope", friendsOnly ? "friends" : "global"));
+
+        return LeaderboardPageDTO.builder()
+                .period(period.name().toLowerCase(Locale.ROOT))
+                .metric(metric.name().toLowerCase(Locale.ROOT))
+                .scope(friendsOnly ? "friends" : "global")
+                .periodStart(start)
+                .periodEnd(period.nextStart(start))
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalEntries(total)
+                .hasNext(offset + entries.size() < total)
+                .me(me)
+                .build();
+    }
+
+    /**
+     * Recalcula do histórico os quadros (nas duas métricas) do período que começa em start,
+     * substituindo o conteúdo atual. Incrementos confirmados durante a consulta podem ser
+     * contados duas vezes ou perdidos até o próximo recálculo.
+     */
+    public int rebuild(LeaderboardPeriod period, LocalDate start) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<UserPeriodTotals> totals = userWorkoutLogRepository.sumTotalsByUserBetween(
+                start.atStartOfDay(), period.nextStart(start).atStartOfDay());
+        Map<LeaderboardMetric, Map<Long, Long>> scores = new EnumMap<>(LeaderboardMetric.class);
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            scores.put(metric, new HashMap<>());
+        }
+        for (UserPeriodTotals row : totals) {
+            scores.get(LeaderboardMetric.WORKOUTS).put(row.getUserId(), row.getWorkouts());
+            scores.get(LeaderboardMetric.MINUTES).put(row.getUserId(), row.getMinutes());
+        }
+        scores.forEach((metric, values) -> leaderboardStore.load(boardKey(period, metric, start), values));
+        sample.stop(meterRegistry.timer("saga.leaderboard.rebuild", "period", period.name()));
+        log.info("Ranking {} de {} recalculado: {} usuários", period, start, totals.size());
+        return totals.size();
+    }
+
+    /**
+     * Virada de período: descarta os quadros que deixaram de ser o atual ou o anterior e
+     * carrega os novos.
+     */
+    @Scheduled(cron = "${saga.leaderboard.rollover-cron:0 1 0 * * *}")
+    public void rollover() {
+        leaderboardStore.retain(liveBoards(LocalDate.now()));
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            ensureLoaded(period, period.startOf(LocalDate.now()));
+        }
+    }
+
+    @Scheduled(cron = "${saga.leaderboard.recompute-cron:0 15 4 * * *}")
+    public void recomputeLiveBoards() {
+        LocalDate today = LocalDate.now();
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            LocalDate current = period.startOf(today);
+            rebuild(period, current);
+            rebuild(period, period.previousStart(current));
+        }
+    }
+
+    private void record(Long userId, LocalDate day, int workouts, long minutes) {
+        Set<String> live = liveBoards(LocalDate.now());
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            LocalDate start = period.startOf(day);
+            String workoutsBoard = boardKey(period, LeaderboardMetric.WORKOUTS, start);
+            if (!live.contains(workoutsBoard)) {
+                continue; // Treino retroativo de um período já encerrado
+            }
+            if (workouts != 0) {
+                leaderboardStore.incrementIfLoaded(workoutsBoard, userId, workouts);
+            }
+            if (minutes != 0) {
+                leaderboardStore.incrementIfLoaded(boardKey(period, LeaderboardMetric.MINUTES, start), userId, minutes);
+            }
+        }
+    }
+
+    private void ensureLoaded(LeaderboardPeriod period, LocalDate start) {
+        if (isLoaded(period, start)) {
+            return;
+        }
+        String lockKey = period.name() + ":" + start;
+        synchronized (loadLocks.computeIfAbsent(lockKey, key -> new Object())) {
+            if (!isLoaded(period, start)) {
+                rebuild(period, start);
+            }
+        }
+        loadLocks.remove(lockKey);
+    }
+
+    // rebuild carrega uma métrica por vez: outra réplica pode ler entre as duas cargas, ou cair
+    // no meio, então só conta como carregado se os quadros de todas as métricas existirem
+    private boolean isLoaded(LeaderboardPeriod period, LocalDate start) {
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            if (!leaderboardStore.isLoaded(boardKey(period, metric, start))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Posições, em ordem, dos bloqueados que estão no quadro
+    private long[] blockedRanks(String board, BlockSet blocked) {
+        return Arrays.stream(blocked.toArray())
+                .map(userId -> leaderboardStore.rank(board, userId))
+                .filter(rank -> rank >= 0)
+                .sorted()
+                .toArray();
+    }
+
+    private Map<Long, UserSummaryDTO> loadUsers(Collection<Long> userIds) {
+        Map<Long, UserSummaryDTO> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getId(), UserSummaryDTO.builder().id(user.getId()).name(user.getUsername()).build());
+        }
+        return users;
+    }
+
+    private static Set<String> liveBoards(LocalDate today) {
+        Set<String> boards = new HashSet<>();
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            LocalDate current = period.startOf(today);
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                boards.add(boardKey(period, metric, current));
+                boards.add(boardKey(period, metric, period.previousStart(current)));
+            }
+        }
+        return boards;
+    }
+
+    static String boardKey(LeaderboardPeriod period, LeaderboardMetric metric, LocalDate start) {
+        return period.name().toLowerCase(Locale.ROOT) + ":" + metric.name().toLowerCase(Locale.ROOT) + ":" + start;
+    }
+}
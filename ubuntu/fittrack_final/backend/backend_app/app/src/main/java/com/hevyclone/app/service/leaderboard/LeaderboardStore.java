@@ -0,0 +1,44 @@
+package com.hevyclone.app.service.leaderboard;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Quadros de ranking (usuário → pontuação), cada um identificado por uma chave
+ * período/métrica/início.
+ *
+ * Um quadro só recebe incrementos depois de carregado do histórico; antes disso os incrementos
+ * são ignorados, e a carga (feita na primeira leitura) já os inclui.
+ */
+public interface LeaderboardStore {
+
+    boolean isLoaded(String board);
+
+    /**
+     * Cria (ou substitui) o quadro com as pontuações informadas.
+     */
+    void load(String board, Map<Long, Long> scores);
+
+    void incrementIfLoaded(String board, long userId, long delta);
+
+    /**
+     * Posição do usuário a partir de 0, ou -1 se ele não pontuou.
+     */
+    long rank(String board, long userId);
+
+    List<ScoreSkipList.Entry> range(String board, int offset, int limit);
+
+    /**
+     * Pontuações dos usuários informados que estão no quadro.
+     */
+    Map<Long, Long> scores(String board, Collection<Long> userIds);
+
+    long size(String board);
+
+    /**
+     * Descarta os quadros fora do conjunto informado (períodos encerrados).
+     */
+    void retain(Set<String> liveBoards);
+}
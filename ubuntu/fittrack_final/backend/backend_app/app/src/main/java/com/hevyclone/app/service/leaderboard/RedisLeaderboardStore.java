@@ -0,0 +1,148 @@
+package com.hevyclone.app.service.leaderboard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Quadros em sorted sets do Redis (ZREVRANK/ZREVRANGE), compartilhados entre réplicas.
+ *
+ * Uma chave marcadora indica que o quadro foi carregado, já que um sorted set vazio não existe
+ * no Redis. A carga grava em uma chave temporária e faz RENAME, então leitores nunca veem um
+ * quadro pela metade. Quadros de períodos encerrados expiram por TTL. No empate, o Redis
+ * ordena pelo membro (id em texto), não pelo id numérico como a versão em memória.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.leaderboard.store", havingValue = "redis")
+public class RedisLeaderboardStore implements LeaderboardStore {
+
+    private static final String KEY_PREFIX = "saga:leaderboard:";
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    // KEYS[1] = quadro, KEYS[2] = marcador; ARGV = usuário, delta, TTL em segundos
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return 0 end " +
+            "local score = tonumber(redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])) " +
+            "if score <= 0 then redis.call('ZREM', KEYS[1], ARGV[1]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisLeaderboardStore(StringRedisTemplate redisTemplate,
+                                 @Value("${saga.leaderboard.redis-ttl-days:70}") long ttlDays) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    @Override
+    public boolean isLoaded(String board) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(markerKey(board)));
+    }
+
+    @Override
+    public void load(String board, Map<Long, Long> scores) {
+        String key = key(board);
+        if (scores.isEmpty()) {
+            redisTemplate.delete(key);
+        } else {
+            String tempKey = key + ":tmp:" + UUID.randomUUID();
+            Set<ZSetOperations.TypedTuple<String>> chunk = new HashSet<>();
+            for (Map.Entry<Long, Long> entry : scores.entrySet()) {
+                if (entry.getValue() > 0) {
+                    chunk.add(ZSetOperations.TypedTuple.of(entry.getKey().toString(), entry.getValue().doubleValue()));
+                }
+                if (chunk.size() == LOAD_CHUNK_SIZE) {
+                    redisTemplate.opsForZSet().add(tempKey, chunk);
+                    chunk = new HashSet<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                redisTemplate.opsForZSet().add(tempKey, chunk);
+            }
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(tempKey))) {
+                redisTemplate.rename(tempKey, key);
+                redisTemplate.expire(key, ttl);
+            } else {
+                redisTemplate.delete(key);
+            }
+        }
+        redisTemplate.opsForValue().set(markerKey(board), "1", ttl);
+    }
+
+    @Override
+    public void incrementIfLoaded(String board, long userId, long delta) {
+        redisTemplate.execute(INCREMENT_SCRIPT, List.of(key(board), markerKey(board)),
+                Long.toString(userId), Long.toString(delta), Long.toString(ttl.toSeconds()));
+    }
+
+    @Override
+    public long rank(String board, long userId) {
+        Long rank = redisTemplate.opsForZSet().reverseRank(key(board), Long.toString(userId));
+        return rank != null ? rank : -1;
+    }
+
+    @Override
+    public List<ScoreSkipList.Entry> range(String board, int offset, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(key(board), offset, offset + limit - 1L);
+        List<ScoreSkipList.Entry> entries = new ArrayList<>();
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                entries.add(new ScoreSkipList.Entry(Long.parseLong(tuple.getValue()), tuple.getScore().longValue()));
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public Map<Long, Long> scores(String board, Collection<Long> userIds) {
+        Map<Long, Long> result = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return result;
+        }
+        List<Long> ids = new ArrayList<>(userIds);
+        List<Double> scores = redisTemplate.opsForZSet().score(key(board),
+                ids.stream().map(String::valueOf).toArray());
+        for (int i = 0; scores != null && i < ids.size(); i++) {
+            if (scores.get(i) != null) {
+                result.put(ids.get(i), scores.get(i).longValue());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long size(String board) {
+        Long size = redisTemplate.opsForZSet().zCard(key(board));
+        return size != null ? size : 0;
+    }
+
+    @Override
+    public void retain(Set<String> liveBoards) {
+        // Quadros encerrados expiram sozinhos (saga.leaderboard.redis-ttl-days)
+    }
+
+    private static String key(String board) {
+        return KEY_PREFIX + board;
+    }
+
+    private static String markerKey(String board) {
+        return KEY_PREFIX + board + ":loaded";
+    }
+}
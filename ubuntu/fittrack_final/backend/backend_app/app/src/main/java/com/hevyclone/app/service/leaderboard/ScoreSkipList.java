@@ -0,0 +1,229 @@
+package com.hevyclone.app.service.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ranking ordenado por pontuação (maior primeiro, empate pelo menor id de usuário).
+ *
+ * Skip list com "span" em cada ponteiro, no mesmo desenho do sorted set do Redis: cada nível
+ * sabe quantos nós pula, então posição de um usuário e acesso pela posição custam O(log n),
+ * assim como incrementar uma pontuação (remove e reinsere). Um mapa usuário → pontuação
+ * localiza o nó sem percorrer a lista. Usuários com pontuação zero ou negativa saem do ranking.
+ *
+ * Não é thread-safe: o chamador sincroniza (ver InMemoryLeaderboardStore).
+ */
+public final class ScoreSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    private final Node head = new Node(Long.MIN_VALUE, 0, MAX_LEVEL);
+    private final Map<Long, Long> scores = new HashMap<>();
+    private int level = 1;
+    private int size;
+
+    /**
+     * Soma delta à pontuação do usuário e devolve a nova pontuação.
+     */
+    public long increment(long userId, long delta) {
+        Long current = scores.get(userId);
+        long updated = (current != null ? current : 0) + delta;
+        set(userId, updated);
+        return updated;
+    }
+
+    public void set(long userId, long score) {
+        Long current = scores.get(userId);
+        if (current != null) {
+            if (current == score) {
+                return;
+            }
+            delete(userId, current);
+        }
+        if (score > 0) {
+            insert(userId, score);
+        } else {
+            scores.remove(userId);
+        }
+    }
+
+    public boolean remove(long userId) {
+        Long current = scores.get(userId);
+        if (current == null) {
+            return false;
+        }
+        delete(userId, current);
+        scores.remove(userId);
+        return true;
+    }
+
+    public Long score(long userId) {
+        return scores.get(userId);
+    }
+
+    /**
+     * Posição do usuário a partir de 0, ou -1 se ele não está no ranking.
+     */
+    public int rank(long userId) {
+        Long score = scores.get(userId);
+        if (score == null) {
+            return -1;
+        }
+        int traversed = 0;
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && (precedes(node.next[i], score, userId) || node.next[i].userId == userId)) {
+                traversed += node.span[i];
+                node = node.next[i];
+            }
+            if (node.userId == userId) {
+                return traversed - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Até limit entradas a partir da posição offset.
+     */
+    public List<Entry> range(int offset, int limit) {
+        if (offset < 0 || limit <= 0 || offset >= size) {
+            return Collections.emptyList();
+        }
+        // Desce pelos spans até o nó na posição offset (1-based: offset + 1)
+        int traversed = 0;
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && traversed + node.span[i] <= offset + 1) {
+                traversed += node.span[i];
+                node = node.next[i];
+            }
+        }
+        List<Entry> entries = new ArrayList<>(Math.min(limit, size - offset));
+        while (node != null && entries.size() < limit) {
+            entries.add(new Entry(node.userId, node.score));
+            node = node.next[0];
+        }
+        return entries;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void insert(long userId, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (node.next[i] != null && precedes(node.next[i], score, userId)) {
+                rank[i] += node.span[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = newLevel;
+        }
+        Node created = new Node(userId, score, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            created.next[i] = update[i].next[i];
+            update[i].next[i] = created;
+            created.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        scores.put(userId, score);
+        size++;
+    }
+
+    private void delete(long userId, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && precedes(node.next[i], score, userId)) {
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+        Node target = node.next[0];
+        if (target == null || target.userId != userId) {
+            throw new IllegalStateException("Skip list inconsistente para o usuário " + userId);
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    // Ordem do ranking: maior pontuação antes; no empate, menor id antes
+    private static boolean precedes(Node node, long score, long userId) {
+        return node.score > score || (node.score == score && node.userId < userId);
+    }
+
+    private static int randomLevel() {
+        int newLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (newLevel < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            newLevel++;
+        }
+        return newLevel;
+    }
+
+    private static final class Node {
+        private final long userId;
+        private final long score;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(long userId, long score, int level) {
+            this.userId = userId;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    /**
+     * Usuário e pontuação em uma posição do ranking.
+     */
+    public static final class Entry {
+        private final long userId;
+        private final long score;
+
+        public Entry(long userId, long score) {
+            this.userId = userId;
+            this.score = score;
+        }
+
+        public long getUserId() {
+            return userId;
+        }
+
+        public long getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.hevyclone.app.service.notification;
+
+import com.hevyclone.app.dto.notification.NotificationPushEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broker dentro do próprio processo. Suficiente para uma réplica só e para testes;
+ * com várias réplicas, só entrega aos clientes conectados no pod que publicou.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.notifications.push.broker", havingValue = "local", matchIfMissing = true)
+public class LocalNotificationBroker implements NotificationBroker {
+
+    private final List<Consumer<NotificationPushEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(NotificationPushEvent event) {
+        listeners.forEach(listener -> listener.accept(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationPushEvent> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,16 @@
+package com.hevyclone.app.service.notification;
+
+import com.hevyclone.app.dto.notification.NotificationPushEvent;
+
+import java.util.function.Consumer;
+
+/**
+ * Distribui eventos de push entre as réplicas. Cada réplica assina o broker e entrega
+ * aos clientes conectados nela; quem publica não precisa saber onde o usuário está.
+ */
+public interface NotificationBroker {
+
+    void publish(NotificationPushEvent event);
+
+    void subscribe(Consumer<NotificationPushEvent> listener);
+}
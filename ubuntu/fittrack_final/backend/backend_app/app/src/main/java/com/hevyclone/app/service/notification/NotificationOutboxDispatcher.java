@@ -0,0 +1,156 @@
+package com.hevyclone.app.service.notification;
+
+import com.hevyclone.app.dto.notification.NotificationPushEvent;
+import com.hevyclone.app.model.notification.NotificationOutbox;
+import com.hevyclone.app.repository.notification.NotificationOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Consome a outbox de notificações em lotes.
+ *
+ * Cada lote roda numa transação: trava até batch-size entradas com SKIP LOCKED (as 3 réplicas
+ * dividem o trabalho sem se bloquear), agrupa as repetidas, grava as notificações com um
+ * INSERT em lote e apaga as entradas consumidas. Contador de não lidas e push só são
+ * atualizados após o commit. Se o lote falhar, nada é apagado e ele volta na próxima rodada.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxDispatcher {
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO notifications (user_id, type, message, link, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationUnreadCounter unreadCounter;
+    private final NotificationPushHub pushHub;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${saga.notifications.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${saga.notifications.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${saga.notifications.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer consumed;
+            try {
+                consumed = transactionTemplate.execute(status -> dispatchBatch());
+            } catch (RuntimeException e) {
+                meterRegistry.counter("saga.notifications.outbox.failures").increment();
+                log.warn("Falha ao despachar lote da outbox de notificações: {}", e.getMessage());
+                return;
+            }
+            if (consumed == null || consumed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private int dispatchBatch() {
+        List<NotificationOutbox> entries = outboxRepository.lockBatch(PageRequest.of(0, batchSize));
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        List<NotificationPushEvent> notifications = coalesce(entries);
+        insertAll(notifications);
+
+        Map<Long, Long> createdPerUser = new HashMap<>();
+        for (NotificationPushEvent notification : notifications) {
+            createdPerUser.merge(notification.getUserId(), 1L, Long::sum);
+            pushHub.publishAfterCommit(notification);
+        }
+        createdPerUser.forEach(unreadCounter::adjustAfterCommit);
+
+        outboxRepository.deleteAllByIdInBatch(entries.stream().map(NotificationOutbox::getId).collect(Collectors.toList()));
+
+        sample.stop(meterRegistry.timer("saga.notifications.outbox.dispatch"));
+        meterRegistry.counter("saga.notifications.outbox.consumed").increment(entries.size());
+        meterRegistry.counter("saga.notifications.outbox.created").increment(notifications.size());
+        log.debug("Outbox: {} entradas viraram {} notificações", entries.size(), notifications.size());
+        return entries.size();
+    }
+
+    /**
+     * Entradas com a mesma chave de agrupamento (ou, sem chave, com o mesmo texto e link)
+     * para o mesmo usuário e tipo viram uma só notificação, com a data da mais recente.
+     */
+    public static List<NotificationPushEvent> coalesce(List<NotificationOutbox> entries) {
+        Map<String, List<NotificationOutbox>> groups = new LinkedHashMap<>();
+        for (NotificationOutbox entry : entries) {
+            String key = entry.getUserId() + "|" + entry.getType() + "|" + (entry.getCoalesceKey() != null
+                    ? "k:" + entry.getCoalesceKey()
+                    : "m:" + entry.getMessage() + "|" + entry.getLink());
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        }
+        List<NotificationPushEvent> notifications = new ArrayList<>(groups.size());
+        for (List<NotificationOutbox> group : groups.values()) {
+            NotificationOutbox latest = group.get(group.size() - 1);
+            String message = group.size() > 1 && latest.getGroupMessage() != null
+                    ? latest.getGroupMessage().replace("{count}", String.valueOf(group.size()))
+                    : latest.getMessage();
+            notifications.add(NotificationPushEvent.builder()
+                    .userId(latest.getUserId())
+                    .type(latest.getType())
+                    .message(message)
+                    .link(latest.getLink())
+                    .createdAt(latest.getCreatedAt())
+                    .build());
+        }
+        return notifications;
+    }
+
+    private void insertAll(List<NotificationPushEvent> notifications) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_NOTIFICATION_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationPushEvent notification = notifications.get(i);
+                        ps.setLong(1, notification.getUserId());
+                        ps.setString(2, notification.getType().name());
+                        ps.setString(3, notification.getMessage());
+                        ps.setString(4, notification.getLink());
+                        ps.setTimestamp(5, Timestamp.valueOf(notification.getCreatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return notifications.size();
+                    }
+                }, keyHolder);
+        // Nome da coluna de chave varia por driver (id/ID); há uma só por linha
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < notifications.size(); i++) {
+            notifications.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.hevyclone.app.service.notification;
+
+import com.hevyclone.app.dto.notification.NotificationPushEvent;
+import com.hevyclone.app.model.notification.Notification;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Canal de push de notificações via Server-Sent Events.
+ *
+ * Cada conexão tem uma fila limitada; um pool pequeno de threads esvazia as filas, de modo
+ * que conexões ociosas não prendem thread nenhuma (o Tomcat as mantém em modo assíncrono).
+ * Se um cliente lento enche a fila, os eventos pendentes são descartados e substituídos por
+ * um único "resync", que faz o app recarregar a lista. Um heartbeat periódico mantém proxies
+ * e balanceadores com a conexão aberta e detecta clientes que sumiram.
+ */
+@Component
+@Slf4j
+public class NotificationPushHub {
+
+    private static final PushItem HEARTBEAT = PushItem.comment("hb");
+    private static final PushItem RESYNC = PushItem.event("resync", "{}");
+
+    private final NotificationBroker broker;
+    private final NotificationUnreadCounter unreadCounter;
+    private final MeterRegistry meterRegistry;
+    private final int queueCapacity;
+    private final long timeoutMs;
+    private final int maxConnectionsPerUser;
+    private final ExecutorService sender;
+
+    private final Map<Long, Set<PushConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong connectionSequence = new AtomicLong();
+
+    public NotificationPushHub(NotificationBroker broker,
+                               NotificationUnreadCounter unreadCounter,
+                               MeterRegistry meterRegistry,
+                               @Value("${saga.notifications.push.queue-capacity:32}") int queueCapacity,
+                               @Value("${saga.notifications.push.timeout-ms:1800000}") long timeoutMs,
+                               @Value("${saga.notifications.push.max-connections-per-user:5}") int maxConnectionsPerUser,
+                               @Value("${saga.notifications.push.sender-threads:4}") int senderThreads) {
+        this.broker = broker;
+        this.unreadCounter = unreadCounter;
+        this.meterRegistry = meterRegistry;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMs = timeoutMs;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-push-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gauge("saga.notifications.push.connections", connectionCount);
+        broker.subscribe(this::deliver);
+    }
+
+    /**
+     * Abre uma conexão SSE para o usuário. Acima do limite por usuário, a conexão mais
+     * antiga é encerrada (tipicamente uma aba ou app que não fechou a anterior).
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = newEmitter(timeoutMs);
+        PushConnection connection = new PushConnection(connectionSequence.incrementAndGet(), userId, emitter, queueCapacity);
+        // Inclusão dentro do compute para não correr com a remoção do conjunto vazio em remove()
+        Set<PushConnection> userConnections = connections.compute(userId, (id, set) -> {
+            Set<PushConnection> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(connection);
+            return target;
+        });
+        connectionCount.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> {
+            remove(connection);
+            emitter.complete();
+        });
+        emitter.onError(error -> remove(connection));
+
+        if (userConnections.size() > maxConnectionsPerUser) {
+            userConnections.stream()
+                    .filter(other -> other != connection)
+                    .min((a, b) -> Long.compare(a.id, b.id))
+                    .ifPresent(oldest -> {
+                        remove(oldest);
+                        oldest.emitter.complete();
+                    });
+        }
+
+        // Primeiro evento força o envio dos cabeçalhos através de proxies com buffer
+        offer(connection, PushItem.event("connected", "{}"));
+        return emitter;
+    }
+
+    // Ponto de extensão para os testes observarem o que é enviado a cada conexão
+    protected SseEmitter newEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    /**
+     * Publica a notificação no broker quando a transação que a criou confirmar.
+     */
+    public void publishAfterCommit(Notification notification) {
+        publishAfterCommit(NotificationPushEvent.builder()
+                .id(notification.getId())
+                .userId(notification.getUser().getId())
+                .type(notification.getType())
+                .message(notification.getMessage())
+                .link(notification.getLink())
+                .createdAt(notification.getCreatedAt())
+                .build());
+    }
+
+    public void publishAfterCommit(NotificationPushEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(event);
+            }
+        });
+    }
+
+    @Scheduled(fixedRateString = "${saga.notifications.push.heartbeat-ms:25000}")
+    public void heartbeat() {
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> {
+            // Fila com eventos pendentes já mantém a conexão viva
+            if (connection.queue.isEmpty()) {
+                offer(connection, HEARTBEAT);
+            }
+        }));
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> connection.emitter.complete()));
+        sender.shutdownNow();
+    }
+
+    private void publish(NotificationPushEvent event) {
+        try {
+            // Contagem para o badge: o contador já recebeu o +1 desta notificação no mesmo commit.
+            // Só vai se já estiver em cache; um lote do outbox para usuários sem conexão aberta
+            // viraria um COUNT por evento. Sem ela (null), o cliente consulta /unread-count
+            event.setUnreadCount(unreadCounter.getIfCached(event.getUserId()));
+            broker.publish(event);
+        } catch (RuntimeException e) {
+            // Push é melhor esforço: a notificação já está gravada e aparece na listagem
+            log.warn("Falha ao publicar notificação {} no canal de push: {}", event.getId(), e.getMessage());
+        }
+    }
+
+    private void deliver(NotificationPushEvent event) {
+        Set<PushConnection> userConnections = connections.get(event.getUserId());
+        if (userConnections == null) {
+            return;
+        }
+        PushItem item = PushItem.event("notification", event, String.valueOf(event.getId()));
+        userConnections.forEach(connection -> offer(connection, item));
+    }
+
+    private void offer(PushConnection connection, PushItem item) {
+        if (!connection.queue.offer(item)) {
+            // Cliente não acompanha: descarta o que está pendente e pede para recarregar
+            int dropped = connection.queue.size();
+            connection.queue.clear();
+            connection.queue.offer(RESYNC);
+            meterRegistry.counter("saga.notifications.push.dropped").increment(dropped);
+        }
+        if (connection.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(connection));
+        }
+    }
+
+    private void drain(PushConnection connection) {
+        while (true) {
+            PushItem item = connection.queue.poll();
+            if (item == null) {
+                connection.draining.set(false);
+                // Item oferecido entre o poll vazio e a liberação da flag
+                if (connection.queue.isEmpty() || !connection.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                connection.emitter.send(item.toEvent());
+                meterRegistry.counter("saga.notifications.push.sent", "kind", item.name).increment();
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectou; o container completa o emitter
+                remove(connection);
+                connection.queue.clear();
+                connection.draining.set(false);
+                return;
+            }
+        }
+    }
+
+    private void remove(PushConnection connection) {
+        Set<PushConnection> userConnections = connections.get(connection.userId);
+        if (userConnections != null && userConnections.remove(connection)) {
+            connectionCount.decrementAndGet();
+            connections.computeIfPresent(connection.userId, (id, set) -> set.isEmpty() ? null : set);
+        }
+    }
+
+    private static final class PushConnection {
+        private final long id;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<PushItem> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private PushConnection(long id, Long userId, SseEmitter emitter, int queueCapacity) {
+            this.id = id;
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+
+    // O builder do SseEmitter acumula estado a cada build(); por isso a fila guarda os dados
+    // e cada envio monta um builder novo
+    private static final class PushItem {
+        private final String name;
+        private final Object data;
+        private final String eventId;
+        private final boolean comment;
+
+        private PushItem(String name, Object data, String eventId, boolean comment) {
+            this.name = name;
+            this.data = data;
+            this.eventId = eventId;
+            this.comment = comment;
+        }
+
+        private static PushItem event(String name, Object data) {
+            return new PushItem(name, data, null, false);
+        }
+
+        private static PushItem event(String name, Object data, String eventId) {
+            return new PushItem(name, data, eventId, false);
+        }
+
+        private static PushItem comment(String text) {
+            return new PushItem("heartbeat", text, null, true);
+        }
+
+        private SseEmitter.SseEventBuilder toEvent() {
+            if (comment) {
+                return SseEmitter.event().comment((String) data);
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(name).data(data);
+            if (eventId != null) {
+                builder.id(eventId);
+            }
+            return builder;
+        }
+    }
+}
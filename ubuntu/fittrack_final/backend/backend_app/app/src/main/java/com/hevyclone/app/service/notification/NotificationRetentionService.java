@@ -0,0 +1,251 @@
+package com.hevyclone.app.service.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hevyclone.app.model.notification.NotificationType;
+import com.hevyclone.app.service.scheduling.ClusterJobLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Retenção da tabela notifications.
+ *
+ * Cada NotificationType tem seu prazo em dias (saga.notifications.retention.ttl-days.TIPO,
+ * com um padrão para os demais; 0 = manter para sempre). A limpeza roda em pedaços de
+ * chunk-size linhas, cada um em transação própria e com pausa entre eles, para não segurar
+ * locks nem inflar o WAL. Opcionalmente as linhas são gravadas antes em arquivos JSONL
+ * compactados. Só uma réplica executa por vez, via ClusterJobLock: a trava vale lock-minutes e
+ * é renovada a cada pedaço, então uma limpeza longa não a perde no meio; se ainda assim ela for
+ * perdida (pausa de GC, banco lento), o job para no pedaço seguinte.
+ */
+@Service
+@Slf4j
+public class NotificationRetentionService {
+
+    private static final String LOCK_NAME = "notification-retention";
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static final String SELECT_EXPIRED_SQL =
+            "SELECT id, user_id, type, message, link, created_at, read_at FROM notifications " +
+            "WHERE type = ? AND created_at < ? ORDER BY created_at LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobLock jobLock;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Value("${saga.notifications.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${saga.notifications.retention.default-ttl-days:180}")
+    private int defaultTtlDays;
+
+    @Value("${saga.notifications.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${saga.notifications.retention.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    @Value("${saga.notifications.retention.lock-minutes:10}")
+    private long lockMinutes;
+
+    @Value("${saga.notifications.retention.archive-dir:}")
+    private String archiveDir;
+
+    public NotificationRetentionService(JdbcTemplate jdbcTemplate,
+                                        TransactionTemplate transactionTemplate,
+                                        ClusterJobLock jobLock,
+                                        ObjectMapper objectMapper,
+                                        MeterRegistry meterRegistry,
+                                        Environment environment) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.jobLock = jobLock;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+    }
+
+    @Scheduled(cron = "${saga.notifications.retention.cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        Duration lease = Duration.ofMinutes(lockMinutes);
+        if (!jobLock.tryAcquire(LOCK_NAME, lease)) {
+            log.debug("Retenção de notificações já está rodando em outra réplica");
+            return;
+        }
+        try {
+            purgeExpired(LocalDateTime.now(), () -> jobLock.extend(LOCK_NAME, lease));
+        } finally {
+            jobLock.release(LOCK_NAME);
+        }
+    }
+
+    /**
+     * Remove as notificações vencidas em relação a now e devolve quantas saíram por tipo.
+     */
+    public Map<NotificationType, Long> purgeExpired(LocalDateTime now) {
+        return purgeExpired(now, () -> true);
+    }
+
+    /**
+     * @param renewLock Chamado após cada pedaço; false encerra a limpeza (trava perdida)
+     */
+    private Map<NotificationType, Long> purgeExpired(LocalDateTime now, BooleanSupplier renewLock) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<NotificationType, Long> purged = new EnumMap<>(NotificationType.class);
+        try (Archive archive = openArchive(now)) {
+            for (NotificationType type : NotificationType.values()) {
+                int ttlDays = ttlDaysOf(type);
+                if (ttlDays <= 0) {
+                    continue;
+                }
+                if (!purgeType(type, now.minusDays(ttlDays), archive, renewLock, purged)) {
+                    log.warn("Trava da retenção de notificações perdida; limpeza interrompida em {}", type);
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o arquivo de notificações", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Retenção de notificações interrompida");
+        }
+        sample.stop(meterRegistry.timer("saga.notifications.retention.run"));
+        if (!purged.isEmpty()) {
+            log.info("Retenção de notificações removeu {}", purged);
+        }
+        return purged;
+    }
+
+    public int ttlDaysOf(NotificationType type) {
+        return environment.getProperty("saga.notifications.retention.ttl-days." + type.name(), Integer.class, defaultTtlDays);
+    }
+
+    // Soma em purged o que saiu do tipo; devolve false se a trava não pôde ser renovada
+    private boolean purgeType(NotificationType type, LocalDateTime cutoff, Archive archive,
+                              BooleanSupplier renewLock, Map<NotificationType, Long> purged) throws InterruptedException {
+        while (true) {
+            Integer removed = transactionTemplate.execute(status -> purgeChunk(type, cutoff, archive));
+            int count = removed != null ? removed : 0;
+            if (count > 0) {
+                purged.merge(type, (long) count, Long::sum);
+            }
+            meterRegistry.counter("saga.notifications.retention.purged", "type", type.name()).increment(count);
+            if (!renewLock.getAsBoolean()) {
+                return false;
+            }
+            if (count < chunkSize) {
+                return true;
+            }
+            Thread.sleep(chunkPauseMs);
+        }
+    }
+
+    private int purgeChunk(NotificationType type, LocalDateTime cutoff, Archive archive) {
+        List<Map<String, Object>> rows = jdbcTemplate.query(SELECT_EXPIRED_SQL, (rs, rowNum) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", rs.getLong("id"));
+            row.put("userId", rs.getLong("user_id"));
+            row.put("type", rs.getString("type"));
+            row.put("message", rs.getString("message"));
+            row.put("link", rs.getString("link"));
+            row.put("createdAt", toText(rs.getTimestamp("created_at")));
+            row.put("readAt", toText(rs.getTimestamp("read_at")));
+            return row;
+        }, type.name(), Timestamp.valueOf(cutoff), chunkSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        // Arquivo gravado antes do DELETE: se a transação falhar, a linha fica no banco e pode
+        // sair duplicada no arquivo, mas nunca é perdida
+        archive.write(rows);
+        List<Object> ids = rows.stream().map(row -> row.get("id")).collect(Collectors.toList());
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM notifications WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+
+    private Archive openArchive(LocalDateTime now) throws IOException {
+        if (archiveDir == null || archiveDir.isBlank()) {
+            return new Archive(null);
+        }
+        Path dir = Paths.get(archiveDir);
+        Files.createDirectories(dir);
+        Path file = dir.resolve("notifications-" + FILE_STAMP.format(now) + ".jsonl.gz");
+        return new Archive(file);
+    }
+
+    private static String toText(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+
+    // Arquivo JSONL compactado, aberto só quando a primeira linha for arquivada
+    private final class Archive implements AutoCloseable {
+        private final Path file;
+        private Writer writer;
+
+        private Archive(Path file) {
+            this.file = file;
+        }
+
+        private void write(List<Map<String, Object>> rows) {
+            if (file == null) {
+                return;
+            }
+            try {
+                if (writer == null) {
+                    writer = new BufferedWriter(new OutputStreamWriter(
+                            new GZIPOutputStream(Files.newOutputStream(file), true), StandardCharsets.UTF_8));
+                }
+                for (Map<String, Object> row : rows) {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                writer.flush(); // Sync flush do gzip antes do commit do DELETE
+                meterRegistry.counter("saga.notifications.retention.archived").increment(rows.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao arquivar notificações em " + file, e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+                log.info("Notificações arquivadas em {}", file);
+            }
+        }
+    }
+}
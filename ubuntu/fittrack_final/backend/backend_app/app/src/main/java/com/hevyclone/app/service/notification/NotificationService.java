@@ -1,7 +1,10 @@
 package com.hevyclone.app.service.notification;
 
+import com.hevyclone.app.dto.notification.NotificationReadResultDTO;
 import com.hevyclone.app.model.notification.Notification;
+import com.hevyclone.app.model.notification.NotificationOutbox;
 import com.hevyclone.app.model.notification.NotificationType;
+import com.hevyclone.app.repository.notification.NotificationOutboxRepository;
 import com.hevyclone.app.repository.notification.NotificationRepository;
 import com.hevyclone.app.user.model.User;
 import com.hevyclone.app.user.repository.UserRepository;
@@ -22,6 +25,15 @@ public class NotificationService {
     @Autowired
     private UserRepository userRepository; // Para buscar o usuário ao criar uma notificação
 
+    @Autowired
+    private NotificationUnreadCounter unreadCounter;
+
+    @Autowired
+    private NotificationPushHub pushHub;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
     @Transactional
     public Notification createNotification(Long userId, NotificationType type, String message, String link) {
         User user = userRepository.findById(userId)
@@ -35,7 +47,38 @@ public class NotificationService {
         notification.setCreatedAt(LocalDateTime.now());
         notification.setReadAt(null); // Nova notificação não está lida
 
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        unreadCounter.adjustAfterCommit(userId, 1);
+        pushHub.publishAfterCommit(saved);
+        return saved;
+    }
+
+    /**
+     * Registra a notificação na outbox, dentro da transação de quem a gerou: um único INSERT,
+     * sem buscar o usuário. O NotificationOutboxDispatcher a entrega logo depois, em lote.
+     */
+    @Transactional
+    public void enqueueNotification(Long userId, NotificationType type, String message, String link) {
+        enqueueNotification(userId, type, message, link, null, null);
+    }
+
+    /**
+     * Como {@link #enqueueNotification(Long, NotificationType, String, String)}, mas entradas
+     * pendentes com a mesma coalesceKey viram uma só notificação com groupMessage
+     * (ex.: "{count} pessoas curtiram seu treino").
+     */
+    @Transactional
+    public void enqueueNotification(Long userId, NotificationType type, String message, String link,
+                                    String coalesceKey, String groupMessage) {
+        NotificationOutbox entry = new NotificationOutbox();
+        entry.setUserId(userId);
+        entry.setType(type);
+        entry.setMessage(message);
+        entry.setLink(link);
+        entry.setCoalesceKey(coalesceKey);
+        entry.setGroupMessage(groupMessage);
+        entry.setCreatedAt(LocalDateTime.now());
+        outboxRepository.save(entry);
     }
 
     @Transactional(readOnly = true)
@@ -58,27 +101,43 @@ public class NotificationService {
         
         if (notification.getReadAt() == null) {
             notification.setReadAt(LocalDateTime.now());
+            unreadCounter.adjustAfterCommit(notification.getUser().getId(), -1);
             return notificationRepository.save(notification);
         }
         return notification; // Já estava lida
     }
 
+    /**
+     * Marca como lidas todas as notificações do usuário até o id informado (high-water mark).
+     * Sem upToId, usa a mais recente existente agora, de modo que notificações que chegarem
+     * durante a chamada continuam não lidas. Executa um único UPDATE e devolve só a contagem.
+     */
     @Transactional
-    public List<Notification> markAllAsRead(Long userId) {
-        List<Notification> unreadNotifications = notificationRepository.findByUserIdAndReadAtIsNullOrderByCreatedAtDesc(userId);
-        LocalDateTime now = LocalDateTime.now();
-        for (Notification notification : unreadNotifications) {
-            notification.setReadAt(now);
+    public NotificationReadResultDTO markAllAsRead(Long userId, Long upToId) {
+        Long latestId = notificationRepository.findMaxIdByUserId(userId);
+        if (latestId == null) {
+            return NotificationReadResultDTO.builder().readUpToId(0L).updated(0).build();
         }
-        return notificationRepository.saveAll(unreadNotifications);
+        long readUpToId = upToId != null ? Math.min(upToId, latestId) : latestId;
+        int updated = notificationRepository.markReadUpTo(userId, readUpToId, LocalDateTime.now());
+        unreadCounter.adjustAfterCommit(userId, -updated);
+        return NotificationReadResultDTO.builder().readUpToId(readUpToId).updated(updated).build();
     }
 
     @Transactional
     public void deleteNotification(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new RuntimeException("Notificação não encontrada com o id: " + notificationId));
+        if (notification.getReadAt() == null) {
+            unreadCounter.adjustAfterCommit(notification.getUser().getId(), -1);
+        }
         notificationRepository.delete(notification);
     }
+
+    // Leitura do badge: consulta ao contador em memória, sem varrer a tabela
+    public long getUnreadCount(Long userId) {
+        return unreadCounter.get(userId);
+    }
     
     // Métodos para criar tipos específicos de notificação podem ser adicionados aqui
     // Ex: createWorkoutReminderNotification, createNewPRNotification, etc.
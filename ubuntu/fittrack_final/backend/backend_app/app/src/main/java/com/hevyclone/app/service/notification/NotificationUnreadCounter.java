@@ -0,0 +1,144 @@
+package com.hevyclone.app.service.notification;
+
+import com.hevyclone.app.repository.notification.NotificationRepository;
+import com.hevyclone.app.repository.notification.NotificationRepository.UnreadCountRef;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contador de notificações não lidas por usuário, mantido em memória.
+ *
+ * A leitura do badge é uma consulta ao mapa; só o primeiro acesso de um usuário conta
+ * no banco. Criação, leitura e exclusão aplicam a variação após o commit, e apenas a
+ * usuários já carregados (os demais leem o valor certo do banco quando pedirem).
+ * Como cada réplica vê só as próprias escritas, uma reconciliação periódica reconta
+ * os usuários em cache; a divergência entre réplicas dura no máximo um intervalo.
+ */
+@Component
+@Slf4j
+public class NotificationUnreadCounter {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final NotificationRepository notificationRepository;
+    private final MeterRegistry meterRegistry;
+    private final int maxEntries;
+
+    private final Map<Long, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    public NotificationUnreadCounter(NotificationRepository notificationRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${saga.notifications.unread-cache-max-entries:200000}") int maxEntries) {
+        this.notificationRepository = notificationRepository;
+        this.meterRegistry = meterRegistry;
+        this.maxEntries = maxEntries;
+        meterRegistry.gaugeMapSize("saga.notifications.unread.cache.entries", List.of(), counts);
+    }
+
+    public long get(Long userId) {
+        AtomicLong count = counts.get(userId);
+        if (count == null) {
+            meterRegistry.counter("saga.notifications.unread.lookups", "result", "miss").increment();
+            count = load(userId);
+        } else {
+            meterRegistry.counter("saga.notifications.unread.lookups", "result", "hit").increment();
+        }
+        return Math.max(0L, count.get());
+    }
+
+    /**
+     * Contagem só se o usuário já estiver em cache (null caso contrário): nunca consulta o banco.
+     */
+    public Long getIfCached(Long userId) {
+        AtomicLong count = counts.get(userId);
+        return count != null ? Math.max(0L, count.get()) : null;
+    }
+
+    /**
+     * Aplica a variação quando a transação corrente confirmar; sem transação, aplica na hora.
+     */
+    public void adjustAfterCommit(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            adjust(userId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                adjust(userId, delta);
+            }
+        });
+    }
+
+    public void evict(Long userId) {
+        counts.remove(userId);
+    }
+
+    /**
+     * Reconta no banco os usuários em cache, em lotes de uma consulta agrupada cada.
+     * Só substitui o valor se ele não mudou durante a consulta; se mudou, fica para a próxima.
+     */
+    @Scheduled(fixedDelayString = "${saga.notifications.unread-reconcile-interval-ms:60000}")
+    public void reconcile() {
+        List<Long> userIds = new ArrayList<>(counts.keySet());
+        int corrected = 0;
+        for (int from = 0; from < userIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, userIds.size()));
+            Map<Long, Long> expected = new HashMap<>();
+            for (Long userId : chunk) {
+                AtomicLong count = counts.get(userId);
+                if (count != null) {
+                    expected.put(userId, count.get());
+                }
+            }
+            Map<Long, Long> actual = new HashMap<>();
+            for (UnreadCountRef ref : notificationRepository.countUnreadByUserIds(expected.keySet())) {
+                actual.put(ref.getUserId(), ref.getUnread());
+            }
+            for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+                long dbValue = actual.getOrDefault(entry.getKey(), 0L);
+                AtomicLong count = counts.get(entry.getKey());
+                if (count != null && entry.getValue() != dbValue && count.compareAndSet(entry.getValue(), dbValue)) {
+                    corrected++;
+                }
+            }
+        }
+        if (corrected > 0) {
+            meterRegistry.counter("saga.notifications.unread.corrected").increment(corrected);
+            log.debug("Reconciliação de não lidas corrigiu {} de {} usuários", corrected, userIds.size());
+        }
+    }
+
+    private void adjust(Long userId, long delta) {
+        counts.computeIfPresent(userId, (id, count) -> {
+            count.addAndGet(delta);
+            return count;
+        });
+    }
+
+    private AtomicLong load(Long userId) {
+        if (counts.size() >= maxEntries) {
+            // Limite simples de memória: as contagens são recarregadas sob demanda
+            log.info("Cache de não lidas atingiu {} entradas; limpando", counts.size());
+            counts.clear();
+        }
+        AtomicLong loaded = new AtomicLong(notificationRepository.countByUserIdAndReadAtIsNull(userId));
+        AtomicLong existing = counts.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+}
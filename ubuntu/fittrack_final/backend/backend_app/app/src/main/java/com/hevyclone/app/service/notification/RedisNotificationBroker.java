@@ -0,0 +1,76 @@
+package com.hevyclone.app.service.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hevyclone.app.dto.notification.NotificationPushEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broker via Redis pub/sub: cada réplica recebe todos os eventos e entrega apenas aos
+ * usuários conectados nela. Não há garantia de entrega; quem estava desconectado
+ * recupera as notificações pela listagem normal.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.notifications.push.broker", havingValue = "redis")
+@Slf4j
+public class RedisNotificationBroker implements NotificationBroker {
+
+    private static final String CHANNEL = "saga:notifications";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer container;
+    private final List<Consumer<NotificationPushEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisNotificationBroker(StringRedisTemplate redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> dispatch(message.getBody()), new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    public void publish(NotificationPushEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o evento de notificação", e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationPushEvent> listener) {
+        listeners.add(listener);
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        container.destroy();
+    }
+
+    private void dispatch(byte[] body) {
+        try {
+            NotificationPushEvent event = objectMapper.readValue(new String(body, StandardCharsets.UTF_8), NotificationPushEvent.class);
+            listeners.forEach(listener -> listener.accept(event));
+        } catch (Exception e) {
+            log.warn("Evento de notificação inválido recebido do Redis: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.hevyclone.app.service.scheduling;
+
+import com.hevyclone.app.model.scheduling.ScheduledJobLock;
+import com.hevyclone.app.repository.scheduling.ScheduledJobLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Garante que um job agendado rode em uma réplica por vez, usando a tabela scheduled_job_locks.
+ *
+ * A trava expira após o tempo máximo informado, cobrindo o caso de um pod que cai no meio do
+ * job. Jobs longos pedem um prazo curto e o renovam com {@link #extend} a cada etapa, em vez
+ * de um prazo para o pior caso. Cada operação roda em transação própria e curta, independente
+ * da do chamador.
+ */
+@Component
+@Slf4j
+public class ClusterJobLock {
+
+    private final ScheduledJobLockRepository lockRepository;
+    private final TransactionTemplate requiresNew;
+    private final String owner;
+
+    public ClusterJobLock(ScheduledJobLockRepository lockRepository, PlatformTransactionManager transactionManager) {
+        this.lockRepository = lockRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public boolean tryAcquire(String name, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lockAtMostFor);
+        Integer updated = requiresNew.execute(status -> lockRepository.acquireIfExpired(name, owner, now, until));
+        if (updated != null && updated == 1) {
+            return true;
+        }
+        try {
+            // Primeira execução do job: cria a linha já travada; se outra réplica criou antes, perdemos
+            return Boolean.TRUE.equals(requiresNew.execute(status -> {
+                if (lockRepository.existsById(name)) {
+                    return false;
+                }
+                ScheduledJobLock lock = new ScheduledJobLock();
+                lock.setName(name);
+                lock.setLockedAt(now);
+                lock.setLockedUntil(until);
+                lock.setLockedBy(owner);
+                lockRepository.saveAndFlush(lock);
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Renova a trava por mais lockAtMostFor a partir de agora.
+     *
+     * @return false se a trava expirou ou passou para outra réplica; o job deve parar
+     */
+    public boolean extend(String name, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = requiresNew.execute(status -> lockRepository.extend(name, owner, now, now.plus(lockAtMostFor)));
+        return updated != null && updated == 1;
+    }
+
+    public void release(String name) {
+        requiresNew.execute(status -> lockRepository.release(name, owner, LocalDateTime.now()));
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
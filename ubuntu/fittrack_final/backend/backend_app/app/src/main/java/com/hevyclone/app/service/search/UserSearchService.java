@@ -0,0 +1,259 @@
+package com.hevyclone.app.service.search;
+
+import com.hevyclone.app.dto.search.UserSearchPageDTO;
+import com.hevyclone.app.dto.search.UserSearchResultDTO;
+import com.hevyclone.app.repository.social.UserFollowRepository;
+import com.hevyclone.app.service.social.BlockListCache;
+import com.hevyclone.app.service.social.BlockSet;
+import com.hevyclone.app.user.repository.UserRepository;
+import com.hevyclone.app.user.repository.UserRepository.UserSearchRow;
+import com.hevyclone.app.user.repository.UserRepository.UsernameRef;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Busca de usuários por nome.
+ *
+ * A busca (/search) vai ao banco: LIKE por trecho sobre lower(username), atendido no Postgres pelo
+ * índice GIN de trigramas, ordenado por users.followers_count e paginado pelo cursor
+ * (seguidores, id). O
+ * autocompletar usa a trie em memória, montada na subida e a cada saga.search.rebuild-interval-ms
+ * (pesos atualizados e cadastros feitos em outras réplicas); cadastros e trocas de nome desta
+ * réplica entram logo após o commit. Usuários bloqueados, nos dois sentidos, saem dos resultados
+ * pelo BlockListCache.
+ */
+@Service
+@Slf4j
+public class UserSearchService {
+
+    public static final int MIN_QUERY_LENGTH = 3; // Abaixo de um trigrama o índice não ajuda
+    public static final int MAX_PAGE_SIZE = 50;
+    public static final int MAX_AUTOCOMPLETE_LIMIT = 20;
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private final UserRepository userRepository;
+    private final UserFollowRepository userFollowRepository;
+    private final BlockListCache blockListCache;
+    private final MeterRegistry meterRegistry;
+    private final int topSize;
+    private final int maxPrefixLength;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Object indexLock = new Object();
+    private volatile UsernameTrie trie; // null até a primeira montagem
+    private List<Consumer<UsernameTrie>> pendingDuringRebuild; // Alterações durante a montagem, reaplicadas na troca
+
+    public UserSearchService(UserRepository userRepository,
+                             UserFollowRepository userFollowRepository,
+                             BlockListCache blockListCache,
+                             MeterRegistry meterRegistry,
+                             @Value("${saga.search.autocomplete-top:30}") int topSize,
+                             @Value("${saga.search.max-prefix-length:12}") int maxPrefixLength) {
+        if (topSize < MAX_AUTOCOMPLETE_LIMIT) {
+            throw new IllegalStateException("saga.search.autocomplete-top deve ser pelo menos " + MAX_AUTOCOMPLETE_LIMIT);
+        }
+        this.userRepository = userRepository;
+        this.userFollowRepository = userFollowRepository;
+        this.blockListCache = blockListCache;
+        this.meterRegistry = meterRegistry;
+        this.topSize = topSize;
+        this.maxPrefixLength = maxPrefixLength;
+        meterRegistry.gauge("saga.search.index.users", this, service -> {
+            UsernameTrie current = service.trie;
+            return current != null ? current.size() : 0;
+        });
+    }
+
+    public UserSearchPageDTO search(Long viewerId, String query, String cursor, int size) {
+        String term = query != null ? query.trim().toLowerCase(Locale.ROOT) : "";
+        if (term.length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("A busca deve ter pelo menos " + MIN_QUERY_LENGTH + " caracteres");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        long[] after = parseCursor(cursor);
+        BlockSet blocked = blockListCache.blockedIds(viewerId);
+        String pattern = "%" + escapeLike(term) + "%";
+
+        // Busca alguns a mais para compensar os bloqueados; repete se ainda faltar
+        int fetch = size + 1 + Math.min(blocked.size(), MAX_PAGE_SIZE);
+        List<UserSearchResultDTO> content = new ArrayList<>(size + 1);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<UserSearchRow> rows;
+        do {
+            rows = userRepository.searchByName(pattern, after[0], after[1], PageRequest.of(0, fetch));
+            for (UserSearchRow row : rows) {
+                after[0] = row.getFollowers();
+                after[1] = row.getId();
+                if (blocked.contains(row.getId())) {
+                    continue;
+                }
+                content.add(UserSearchResultDTO.builder()
+                        .id(row.getId())
+                        .name(row.getUsername())
+                        .followersCount(row.getFollowers())
+                        .build());
+                if (content.size() > size) {
+                    break;
+                }
+            }
+        } while (content.size() <= size && rows.size() == fetch);
+        sample.stop(meterRegistry.timer("saga.search.users"));
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        UserSearchResultDTO last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return UserSearchPageDTO.builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? last.getFollowersCount() + ":" + last.getId() : null)
+                .build();
+    }
+
+    public UserSearchPageDTO autocomplete(Long viewerId, String prefix, int limit) {
+        if (limit < 1 || limit > MAX_AUTOCOMPLETE_LIMIT) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_AUTOCOMPLETE_LIMIT);
+        }
+        String normalized = UsernameTrie.normalize(prefix);
+        UsernameTrie current = trie;
+        if (current == null || normalized.length() > current.getMaxDepth()) {
+            // Índice em montagem ou prefixo além da profundidade da trie: vai ao banco
+            if (normalized.length() < MIN_QUERY_LENGTH) {
+                return UserSearchPageDTO.builder().content(List.of()).size(limit).build();
+            }
+            return search(viewerId, prefix, null, limit);
+        }
+        BlockSet blocked = blockListCache.blockedIds(viewerId);
+        List<UserSearchResultDTO> content = new ArrayList<>(limit);
+        for (UsernameTrie.Match match : current.suggest(normalized, topSize)) {
+            if (blocked.contains(match.getUserId())) {
+                continue;
+            }
+            content.add(UserSearchResultDTO.builder()
+                    .id(match.getUserId())
+                    .name(match.getName())
+                    .followersCount(match.getWeight())
+                    .build());
+            if (content.size() == limit) {
+                break;
+            }
+        }
+        return UserSearchPageDTO.builder().content(content).size(limit).build();
+    }
+
+    public void onUserRegistered(Long userId, String username) {
+        afterCommit(() -> apply(index -> index.put(userId, username, 0)));
+    }
+
+    public void onUsernameChanged(Long userId, String username) {
+        afterCommit(() -> apply(index -> index.rename(userId, username)));
+    }
+
+    /**
+     * Monta uma trie nova (nomes em blocos de id e seguidores por usuário) e troca pela atual.
+     * Alterações feitas durante a montagem são reaplicadas na nova antes da troca.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${saga.search.rebuild-interval-ms:600000}",
+               initialDelayString = "${saga.search.rebuild-interval-ms:600000}")
+    public void rebuildIndex() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        synchronized (indexLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        try {
+            Map<Long, Long> followers = new HashMap<>();
+            userFollowRepository.countFollowersByUser()
+                    .forEach(count -> followers.put(count.getUserId(), count.getFollowers()));
+            UsernameTrie fresh = new UsernameTrie(topSize, maxPrefixLength);
+            Long lastId = 0L;
+            List<UsernameRef> chunk;
+            do {
+                chunk = userRepository.findUsernamesAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (UsernameRef ref : chunk) {
+                    fresh.put(ref.getId(), ref.getUsername(), followers.getOrDefault(ref.getId(), 0L));
+                    lastId = ref.getId();
+                }
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+            synchronized (indexLock) {
+                pendingDuringRebuild.forEach(action -> action.accept(fresh));
+                trie = fresh;
+            }
+            log.info("Índice de autocompletar montado: {} usuários em {} ms", fresh.size(), System.currentTimeMillis() - start);
+        } finally {
+            synchronized (indexLock) {
+                pendingDuringRebuild = null;
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    private void apply(Consumer<UsernameTrie> action) {
+        synchronized (indexLock) {
+            if (trie != null) {
+                action.accept(trie);
+            }
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(action);
+            }
+        }
+    }
+
+    // Cursor "seguidores:id" da última linha entregue; sem cursor, começa do topo
+    private static long[] parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new long[]{Long.MAX_VALUE, 0};
+        }
+        String[] parts = cursor.split(":");
+        try {
+            if (parts.length == 2) {
+                return new long[]{Long.parseLong(parts[0]), Long.parseLong(parts[1])};
+            }
+        } catch (NumberFormatException e) {
+            // Cai no erro abaixo
+        }
+        throw new IllegalArgumentException("Cursor inválido");
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
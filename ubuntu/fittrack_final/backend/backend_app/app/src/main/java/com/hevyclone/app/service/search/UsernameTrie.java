@@ -0,0 +1,374 @@
+package com.hevyclone.app.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Trie de nomes de usuário para o autocompletar.
+ *
+ * Os nomes entram normalizados (minúsculas, sem acentos) a partir do início e de cada palavra,
+ * então "soc" encontra "Usuário Social 2". Cada nó guarda os topSize usuários da sua subárvore
+ * com maior peso (seguidores), e a consulta por prefixo é só a descida até o nó: não percorre
+ * a subárvore. Os caminhos param em maxDepth caracteres; prefixos mais longos ficam com a busca
+ * no banco.
+ *
+ * Ao remover alguém do top de um nó grande, o nó fica com uma vaga até a próxima remontagem
+ * (completar exigiria percorrer a subárvore inteira); nós com até REFILL_LIMIT usuários são
+ * completados na hora. Leituras concorrentes, escritas exclusivas.
+ */
+public final class UsernameTrie {
+
+    static final int REFILL_LIMIT = 4096;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final int topSize;
+    private final int maxDepth;
+    private final Node root = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public UsernameTrie(int topSize, int maxDepth) {
+        if (topSize < 1 || maxDepth < 1) {
+            throw new IllegalArgumentException("topSize e maxDepth devem ser positivos");
+        }
+        this.topSize = topSize;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Minúsculas e sem acentos, com espaços repetidos colapsados.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return stripped.toLowerCase().trim().replaceAll("\\s+", " ");
+    }
+
+    public int getTopSize() {
+        return topSize;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Insere ou atualiza o usuário; um nome anterior diferente sai do índice.
+     */
+    public void put(long userId, String name, long weight) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.get(userId);
+            if (previous != null) {
+                removeLocked(userId, previous);
+            }
+            Entry entry = new Entry(name, normalize(name), weight);
+            if (entry.normalized.isEmpty()) {
+                return;
+            }
+            entries.put(userId, entry);
+            for (String token : tokens(entry.normalized)) {
+                terminalOf(token).addTerminal(userId);
+            }
+            for (Node node : pathNodes(entry.normalized, true)) {
+                node.count++;
+                node.offer(userId, weight, topSize);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Troca o nome mantendo o peso atual (zero para quem ainda não está no índice).
+     */
+    public void rename(long userId, String name) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.get(userId);
+            put(userId, name, previous != null ? previous.weight : 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(userId);
+            if (entry != null) {
+                removeLocked(userId, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Até limit usuários (no máximo topSize) cujo nome ou alguma palavra começa com o prefixo,
+     * do maior para o menor peso.
+     */
+    public List<Match> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || normalized.length() > maxDepth) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < normalized.length() && node != null; i++) {
+                node = node.child(normalized.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            int count = Math.min(limit, node.topCount);
+            List<Match> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long userId = node.topIds[i];
+                result.add(new Match(userId, entries.get(userId).name, node.topWeights[i]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long userId, Entry entry) {
+        entries.remove(userId);
+        for (String token : tokens(entry.normalized)) {
+            Node terminal = find(token);
+            if (terminal != null) {
+                terminal.removeTerminal(userId);
+            }
+        }
+        for (Node node : pathNodes(entry.normalized, false)) {
+            node.count--;
+            if (node.removeTop(userId) && node.count > node.topCount && node.count <= REFILL_LIMIT) {
+                refill(node);
+            }
+        }
+    }
+
+    // Recalcula o top do nó a partir dos usuários que terminam na subárvore
+    private void refill(Node node) {
+        Set<Long> seen = new HashSet<>();
+        node.topCount = 0;
+        collect(node, seen);
+        for (Long userId : seen) {
+            node.offer(userId, entries.get(userId).weight, topSize);
+        }
+    }
+
+    private static void collect(Node node, Set<Long> seen) {
+        for (int i = 0; i < node.terminalCount; i++) {
+            seen.add(node.terminals[i]);
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            collect(node.children[i], seen);
+        }
+    }
+
+    // Nós distintos em todos os caminhos do nome (um nó pode ser alcançado por duas palavras)
+    private Set<Node> pathNodes(String normalized, boolean create) {
+        Set<Node> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String token : tokens(normalized)) {
+            Node node = root;
+            for (int i = 0; i < token.length(); i++) {
+                Node next = node.child(token.charAt(i));
+                if (next == null) {
+                    if (!create) {
+                        break;
+                    }
+                    next = node.addChild(token.charAt(i));
+                }
+                node = next;
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    private Node terminalOf(String token) {
+        Node node = root;
+        for (int i = 0; i < token.length(); i++) {
+            Node next = node.child(token.charAt(i));
+            node = next != null ? next : node.addChild(token.charAt(i));
+        }
+        return node;
+    }
+
+    private Node find(String token) {
+        Node node = root;
+        for (int i = 0; i < token.length() && node != null; i++) {
+            node = node.child(token.charAt(i));
+        }
+        return node;
+    }
+
+    // O nome inteiro e o sufixo a partir de cada palavra, cortados em maxDepth
+    private List<String> tokens(String normalized) {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || (isSeparator(normalized.charAt(i - 1)) && !isSeparator(normalized.charAt(i)))) {
+                String token = normalized.substring(i, Math.min(normalized.length(), i + maxDepth));
+                if (!tokens.contains(token)) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '_' || c == '.' || c == '-';
+    }
+
+    public static final class Match {
+        private final long userId;
+        private final String name;
+        private final long weight;
+
+        public Match(long userId, String name, long weight) {
+            this.userId = userId;
+            this.name = name;
+            this.weight = weight;
+        }
+
+        public long getUserId() {
+            return userId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final String normalized;
+        private final long weight;
+
+        private Entry(String name, String normalized, long weight) {
+            this.name = name;
+            this.normalized = normalized;
+            this.weight = weight;
+        }
+    }
+
+    // Filhos em arrays ordenados por caractere; top ordenado por (peso desc, id asc)
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final long[] NO_IDS = new long[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int childCount;
+        private long[] topIds = NO_IDS;
+        private long[] topWeights = NO_IDS;
+        private int topCount;
+        private long[] terminals = NO_IDS;
+        private int terminalCount;
+        private int count;
+
+        private Node child(char key) {
+            int i = Arrays.binarySearch(keys, 0, childCount, key);
+            return i >= 0 ? children[i] : null;
+        }
+
+        private Node addChild(char key) {
+            int i = -Arrays.binarySearch(keys, 0, childCount, key) - 1;
+            if (childCount == keys.length) {
+                int capacity = Math.max(1, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, i, keys, i + 1, childCount - i);
+            System.arraycopy(children, i, children, i + 1, childCount - i);
+            Node node = new Node();
+            keys[i] = key;
+            children[i] = node;
+            childCount++;
+            return node;
+        }
+
+        private void offer(long userId, long weight, int topSize) {
+            int position = 0;
+            while (position < topCount && (topWeights[position] > weight
+                    || (topWeights[position] == weight && topIds[position] < userId))) {
+                position++;
+            }
+            if (position == topSize) {
+                return;
+            }
+            if (topCount < topSize) {
+                if (topCount == topIds.length) {
+                    int capacity = Math.min(topSize, Math.max(1, topCount * 2));
+                    topIds = Arrays.copyOf(topIds, capacity);
+                    topWeights = Arrays.copyOf(topWeights, capacity);
+                }
+                topCount++;
+            }
+            System.arraycopy(topIds, position, topIds, position + 1, topCount - 1 - position);
+            System.arraycopy(topWeights, position, topWeights, position + 1, topCount - 1 - position);
+            topIds[position] = userId;
+            topWeights[position] = weight;
+        }
+
+        private boolean removeTop(long userId) {
+            for (int i = 0; i < topCount; i++) {
+                if (topIds[i] == userId) {
+                    System.arraycopy(topIds, i + 1, topIds, i, topCount - i - 1);
+                    System.arraycopy(topWeights, i + 1, topWeights, i, topCount - i - 1);
+                    topCount--;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void addTerminal(long userId) {
+            if (terminalCount == terminals.length) {
+                terminals = Arrays.copyOf(terminals, Math.max(1, terminalCount * 2));
+            }
+            terminals[terminalCount++] = userId;
+        }
+
+        private void removeTerminal(long userId) {
+            for (int i = 0; i < terminalCount; i++) {
+                if (terminals[i] == userId) {
+                    terminals[i] = terminals[--terminalCount];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.hevyclone.app.service.social;
+
+import com.hevyclone.app.repository.social.UserBlockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bloqueios por usuário, nos dois sentidos, em cache na memória.
+ *
+ * Feed, busca, sugestões, pessoas próximas e ranking filtram os resultados aqui, depois da
+ * consulta, em vez de uma subconsulta NOT EXISTS por linha; quem filtra busca alguns itens a
+ * mais para compensar os removidos. O conjunto de um usuário é carregado no primeiro acesso
+ * e descartado, para os dois envolvidos, após o commit de um bloqueio ou desbloqueio.
+ * Bloqueios feitos em outras réplicas valem aqui quando a entrada expira (cache-ttl-ms).
+ */
+@Component
+@Slf4j
+public class BlockListCache {
+
+    private final UserBlockRepository userBlockRepository;
+    private final MeterRegistry meterRegistry;
+    private final long ttlMs;
+    private final int maxEntries;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    // Muda a cada invalidação; uma carga que começou antes dela não entra no cache
+    private final AtomicLong generation = new AtomicLong();
+
+    public BlockListCache(UserBlockRepository userBlockRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${saga.blocks.cache-ttl-ms:60000}") long ttlMs,
+                          @Value("${saga.blocks.cache-max-entries:200000}") int maxEntries) {
+        this.userBlockRepository = userBlockRepository;
+        this.meterRegistry = meterRegistry;
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+        meterRegistry.gaugeMapSize("saga.blocks.cache.entries", List.of(), entries);
+    }
+
+    /**
+     * Quem o usuário bloqueou e quem o bloqueou.
+     */
+    public BlockSet blockedIds(Long userId) {
+        if (userId == null) {
+            return BlockSet.EMPTY;
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && now - entry.loadedAt < ttlMs) {
+            meterRegistry.counter("saga.blocks.lookups", "result", "hit").increment();
+            return entry.set;
+        }
+        meterRegistry.counter("saga.blocks.lookups", "result", "miss").increment();
+        long loadGeneration = generation.get();
+        BlockSet set = BlockSet.of(userBlockRepository.findBlockedIdsInvolving(userId));
+        if (entries.size() >= maxEntries) {
+            // Limite simples de memória: os conjuntos são recarregados sob demanda
+            log.info("Cache de bloqueios atingiu {} entradas; limpando", entries.size());
+            entries.clear();
+        }
+        if (generation.get() == loadGeneration) {
+            entries.put(userId, new Entry(set, now));
+        }
+        return set;
+    }
+
+    /**
+     * Se há bloqueio entre os dois, em qualquer sentido.
+     */
+    public boolean isBlocked(Long userId, Long otherId) {
+        return blockedIds(userId).contains(otherId);
+    }
+
+    /**
+     * Descarta os conjuntos dos dois usuários quando a transação corrente confirmar.
+     */
+    public void invalidateAfterCommit(Long userId, Long otherId) {
+        Runnable action = () -> {
+            generation.incrementAndGet();
+            entries.remove(userId);
+            entries.remove(otherId);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Entry {
+        private final BlockSet set;
+        private final long loadedAt;
+
+        private Entry(BlockSet set, long loadedAt) {
+            this.set = set;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.hevyclone.app.service.social;
+
+import com.hevyclone.app.dto.social.BlockResponseDTO;
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.model.social.UserBlock;
+import com.hevyclone.app.repository.social.UserBlockRepository;
+import com.hevyclone.app.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bloqueio entre usuários.
+ *
+ * Bloquear desfaz os follows nos dois sentidos (o que também ajusta feed, sugestões e
+ * contadores) e descarta do BlockListCache os conjuntos dos dois usuários após o commit.
+ */
+@Service
+@RequiredArgsConstructor
+public class BlockService {
+
+    private final UserBlockRepository userBlockRepository;
+    private final UserRepository userRepository;
+    private final FollowService followService;
+    private final BlockListCache blockListCache;
+
+    @Transactional
+    public BlockResponseDTO block(Long blockerId, Long blockedId) {
+        if (blockerId.equals(blockedId)) {
+            throw new IllegalArgumentException("Você não pode bloquear a si mesmo");
+        }
+        if (!userRepository.existsById(blockedId)) {
+            throw new EntityNotFoundException("Usuário não encontrado com o id: " + blockedId);
+        }
+        // Repetir o bloqueio é idempotente
+        if (!userBlockRepository.existsByBlockerIdAndBlockedId(blockerId, blockedId)) {
+            UserBlock block = new UserBlock();
+            block.setBlocker(userRepository.getReferenceById(blockerId));
+            block.setBlocked(userRepository.getReferenceById(blockedId));
+            block.setCreatedAt(LocalDateTime.now());
+            userBlockRepository.save(block);
+
+            followService.unfollow(blockerId, blockedId);
+            followService.unfollow(blockedId, blockerId);
+            blockListCache.invalidateAfterCommit(blockerId, blockedId);
+        }
+        return BlockResponseDTO.builder().blocked(true).message("Usuário bloqueado com sucesso").build();
+    }
+
+    @Transactional
+    public BlockResponseDTO unblock(Long blockerId, Long blockedId) {
+        if (userBlockRepository.deleteByBlockerIdAndBlockedId(blockerId, blockedId) > 0) {
+            blockListCache.invalidateAfterCommit(blockerId, blockedId);
+        }
+        return BlockResponseDTO.builder().blocked(false).message("Usuário desbloqueado com sucesso").build();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<UserSummaryDTO> getBlocked(Long userId, int page, int size) {
+        return userBlockRepository.findBlockedUsers(userId,
+                PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.hevyclone.app.service.social;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Conjunto imutável de ids bloqueados de um usuário: array ordenado, consulta por busca binária.
+ *
+ * Oito bytes por id e nenhum objeto por elemento; as listas de bloqueio são curtas, então a
+ * busca binária empata com um hash e o cache de milhares de usuários cabe em pouca memória.
+ */
+public final class BlockSet {
+
+    public static final BlockSet EMPTY = new BlockSet(new long[0]);
+
+    private final long[] ids;
+
+    private BlockSet(long[] sortedIds) {
+        this.ids = sortedIds;
+    }
+
+    public static BlockSet of(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new BlockSet(sorted);
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long[] toArray() {
+        return ids.clone();
+    }
+}
@@ -0,0 +1,202 @@
+package com.hevyclone.app.service.social;
+
+import com.hevyclone.app.repository.social.PostRepository;
+import com.hevyclone.app.repository.social.UserFollowRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feed "fan-out na escrita" com exceção para celebridades.
+ *
+ * Ao publicar, o id do post é empurrado para as timelines materializadas dos seguidores
+ * (fora da requisição, após o commit). Autores com pelo menos celebrity-follower-threshold
+ * seguidores não fazem fan-out: seus posts são mesclados na leitura, com uma consulta
+ * indexada pelos autores celebridade que o leitor segue. A timeline de um usuário é montada
+ * do banco na primeira leitura e descartada quando ele segue ou deixa de seguir alguém.
+ */
+@Service
+@Slf4j
+public class FeedService {
+
+    private final FeedTimelineStore timelineStore;
+    private final PostRepository postRepository;
+    private final UserFollowRepository userFollowRepository;
+    private final MeterRegistry meterRegistry;
+    private final int timelineCapacity;
+    private final long celebrityThreshold;
+    private final ExecutorService fanoutExecutor;
+
+    private final Set<Long> celebrities = ConcurrentHashMap.newKeySet();
+
+    public FeedService(FeedTimelineStore timelineStore,
+                       PostRepository postRepository,
+                       UserFollowRepository userFollowRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${saga.feed.timeline-capacity:800}") int timelineCapacity,
+                       @Value("${saga.feed.celebrity-follower-threshold:10000}") long celebrityThreshold,
+                       @Value("${saga.feed.fanout-threads:2}") int fanoutThreads) {
+        this.timelineStore = timelineStore;
+        this.postRepository = postRepository;
+        this.userFollowRepository = userFollowRepository;
+        this.meterRegistry = meterRegistry;
+        this.timelineCapacity = timelineCapacity;
+        this.celebrityThreshold = celebrityThreshold;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.fanoutExecutor = Executors.newFixedThreadPool(fanoutThreads, runnable -> {
+            Thread thread = new Thread(runnable, "feed-fanout-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gaugeCollectionSize("saga.feed.celebrities", List.of(), celebrities);
+    }
+
+    /**
+     * Agenda o fan-out do post para depois do commit de quem o criou.
+     */
+    public void onPostCreated(Long authorId, long postId) {
+        afterCommit(() -> fanoutExecutor.execute(() -> fanOut(authorId, postId)));
+    }
+
+    public void onPostDeleted(Long authorId, long postId) {
+        afterCommit(() -> fanoutExecutor.execute(() -> {
+            if (!celebrities.contains(authorId)) {
+                timelineStore.removePost(userFollowRepository.findFollowerIds(authorId), postId);
+            }
+        }));
+    }
+
+    /**
+     * Seguir ou deixar de seguir muda quais autores entram na timeline; ela é remontada na
+     * próxima leitura. Também promove o seguido a celebridade ao cruzar o limite.
+     */
+    public void onFollowChanged(Long followerId, Long followedId, boolean following) {
+        afterCommit(() -> {
+            timelineStore.evict(followerId);
+            if (following && !celebrities.contains(followedId)
+                    && userFollowRepository.countByFollowedId(followedId) >= celebrityThreshold) {
+                celebrities.add(followedId);
+            }
+        });
+    }
+
+    /**
+     * Ids de posts do feed mais antigos que beforeId, do mais novo para o mais antigo.
+     */
+    public List<Long> idsBefore(Long userId, long beforeId, int limit) {
+        ensureMaterialized(userId);
+        long[] fromTimeline = timelineStore.before(userId, beforeId, limit);
+        return mergeCelebrities(userId, fromTimeline, beforeId, limit);
+    }
+
+    /**
+     * Ids de posts do feed na posição offset (paginação por número de página). A timeline
+     * guarda os timeline-capacity posts mais recentes; páginas além disso voltam vazias.
+     */
+    public List<Long> idsPage(Long userId, int offset, int limit) {
+        ensureMaterialized(userId);
+        long[] fromTimeline = timelineStore.page(userId, 0, offset + limit);
+        List<Long> merged = mergeCelebrities(userId, fromTimeline, Long.MAX_VALUE, offset + limit);
+        return offset >= merged.size() ? List.of() : merged.subList(offset, merged.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${saga.feed.celebrity-refresh-ms:300000}", initialDelayString = "${saga.feed.celebrity-refresh-ms:300000}")
+    public void refreshCelebrities() {
+        Set<Long> current = new HashSet<>(userFollowRepository.findUserIdsWithFollowersAtLeast(celebrityThreshold));
+        celebrities.retainAll(current);
+        celebrities.addAll(current);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanoutExecutor.shutdown();
+    }
+
+    private void fanOut(Long authorId, long postId) {
+        try {
+            if (celebrities.contains(authorId)) {
+                meterRegistry.counter("saga.feed.fanout.skipped").increment();
+                return;
+            }
+            List<Long> followerIds = userFollowRepository.findFollowerIds(authorId);
+            timelineStore.push(followerIds, postId);
+            meterRegistry.counter("saga.feed.fanout.pushes").increment(followerIds.size());
+        } catch (RuntimeException e) {
+            // Timelines que perderam o post voltam a ficar corretas quando forem remontadas
+            log.warn("Falha no fan-out do post {}: {}", postId, e.getMessage());
+        }
+    }
+
+    private void ensureMaterialized(Long userId) {
+        if (timelineStore.isMaterialized(userId)) {
+            meterRegistry.counter("saga.feed.timeline.reads", "result", "hit").increment();
+            return;
+        }
+        meterRegistry.counter("saga.feed.timeline.reads", "result", "rebuild").increment();
+        List<Long> authors = new ArrayList<>(userFollowRepository.findFollowedIds(userId));
+        authors.removeAll(celebrities);
+        long[] ids = authors.isEmpty()
+                ? new long[0]
+                : postRepository.findIdsByAuthorIdInBefore(authors, Long.MAX_VALUE, PageRequest.of(0, timelineCapacity))
+                        .stream().mapToLong(Long::longValue).toArray();
+        timelineStore.materialize(userId, ids);
+    }
+
+    private List<Long> mergeCelebrities(Long userId, long[] fromTimeline, long beforeId, int limit) {
+        List<Long> followedCelebrities = celebrities.isEmpty()
+                ? List.of()
+                : userFollowRepository.findFollowedIdsIn(userId, new ArrayList<>(celebrities));
+        List<Long> fromCelebrities = followedCelebrities.isEmpty()
+                ? List.of()
+                : postRepository.findIdsByAuthorIdInBefore(followedCelebrities, beforeId, PageRequest.of(0, limit));
+
+        // Merge de duas listas decrescentes. Um autor promovido a celebridade pode ter posts
+        // antigos ainda na timeline, por isso ids iguais entram uma vez só
+        List<Long> merged = new ArrayList<>(Math.min(limit, fromTimeline.length + fromCelebrities.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < fromTimeline.length || j < fromCelebrities.size())) {
+            if (j >= fromCelebrities.size() || (i < fromTimeline.length && fromTimeline[i] > fromCelebrities.get(j))) {
+                merged.add(fromTimeline[i++]);
+            } else {
+                long next = fromCelebrities.get(j++);
+                if (i < fromTimeline.length && fromTimeline[i] == next) {
+                    i++;
+                }
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.hevyclone.app.service.social;
+
+import java.util.Arrays;
+
+/**
+ * Timeline de um usuário: ids de posts em ordem crescente, com no máximo capacity itens.
+ *
+ * Como os ids de post são crescentes, quase toda inserção é no fim do array. Ao encher,
+ * descarta o mais antigo. Leituras por cursor usam busca binária; por posição, acesso direto.
+ */
+public final class FeedTimeline {
+
+    private final long[] ids;
+    private int size;
+
+    public FeedTimeline(int capacity) {
+        this.ids = new long[capacity];
+    }
+
+    public FeedTimeline(int capacity, long[] initialIdsDescending) {
+        this(capacity);
+        int count = Math.min(capacity, initialIdsDescending.length);
+        // Mantém os mais recentes (início do array recebido), gravando em ordem crescente
+        for (int i = 0; i < count; i++) {
+            ids[count - 1 - i] = initialIdsDescending[i];
+        }
+        size = count;
+        Arrays.sort(ids, 0, size);
+    }
+
+    public synchronized void add(long postId) {
+        int pos = Arrays.binarySearch(ids, 0, size, postId);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        if (size == ids.length) {
+            if (insertAt == 0) {
+                return; // Mais antigo que tudo que cabe na timeline
+            }
+            // Descarta o mais antigo deslocando o trecho anterior à posição de inserção
+            System.arraycopy(ids, 1, ids, 0, insertAt - 1);
+            ids[insertAt - 1] = postId;
+            return;
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = postId;
+        size++;
+    }
+
+    public synchronized void remove(long postId) {
+        int pos = Arrays.binarySearch(ids, 0, size, postId);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+    }
+
+    /**
+     * Até limit ids menores que beforeId, do mais novo para o mais antigo.
+     */
+    public synchronized long[] before(long beforeId, int limit) {
+        int pos = Arrays.binarySearch(ids, 0, size, beforeId);
+        int end = pos >= 0 ? pos : -pos - 1; // Primeiro índice com id >= beforeId
+        return copyDescending(end, limit);
+    }
+
+    /**
+     * Até limit ids a partir da posição offset, contando do mais novo.
+     */
+    public synchronized long[] page(int offset, int limit) {
+        return copyDescending(size - offset, limit);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return ids.length;
+    }
+
+    private long[] copyDescending(int end, int limit) {
+        int count = Math.max(0, Math.min(limit, end));
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = ids[end - 1 - i];
+        }
+        return result;
+    }
+}
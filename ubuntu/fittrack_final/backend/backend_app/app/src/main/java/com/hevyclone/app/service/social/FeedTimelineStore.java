@@ -0,0 +1,34 @@
+package com.hevyclone.app.service.social;
+
+import java.util.Collection;
+
+/**
+ * Armazena as timelines materializadas do feed (ids de posts por usuário).
+ *
+ * Uma timeline só existe depois de materializada na primeira leitura; o fan-out grava
+ * apenas em timelines existentes, e os demais usuários montam a sua do banco quando lerem.
+ */
+public interface FeedTimelineStore {
+
+    boolean isMaterialized(Long userId);
+
+    /**
+     * Cria (ou substitui) a timeline com os ids informados, do mais novo para o mais antigo.
+     */
+    void materialize(Long userId, long[] postIdsDescending);
+
+    /**
+     * Adiciona o post às timelines já materializadas dos usuários informados.
+     */
+    void push(Collection<Long> userIds, long postId);
+
+    void removePost(Collection<Long> userIds, long postId);
+
+    void evict(Long userId);
+
+    long[] before(Long userId, long beforeId, int limit);
+
+    long[] page(Long userId, int offset, int limit);
+
+    int size();
+}
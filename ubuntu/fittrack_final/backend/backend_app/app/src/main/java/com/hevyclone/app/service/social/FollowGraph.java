@@ -0,0 +1,165 @@
+package com.hevyclone.app.service.social;
+
+import java.util.Arrays;
+
+/**
+ * Grafo de seguidores em formato CSR (compressed sparse row), imutável.
+ *
+ * Os usuários recebem índices densos 0..n-1 na ordem dos ids; quem o usuário i segue são os
+ * índices targets[offsets[i]..offsets[i+1]), em ordem crescente. Uma aresta custa 4 bytes e
+ * um usuário 16 (id, offset e grau de entrada), sem objetos por nó nem por aresta; um
+ * HashSet<Long> gastaria dezenas de bytes por aresta.
+ */
+public final class FollowGraph {
+
+    private static final int[] NO_NEIGHBORS = new int[0];
+
+    private final long[] userIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] inDegrees;
+
+    private FollowGraph(long[] userIds, int[] offsets, int[] targets, int[] inDegrees) {
+        this.userIds = userIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.inDegrees = inDegrees;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int userCount() {
+        return userIds.length;
+    }
+
+    public long edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Índice denso do usuário, ou -1 se ele não tem arestas no grafo.
+     */
+    public int indexOf(long userId) {
+        int index = Arrays.binarySearch(userIds, userId);
+        return index >= 0 ? index : -1;
+    }
+
+    public long userIdAt(int index) {
+        return userIds[index];
+    }
+
+    public int outDegree(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    public int inDegree(int index) {
+        return inDegrees[index];
+    }
+
+    public int neighborStart(int index) {
+        return offsets[index];
+    }
+
+    public int neighborEnd(int index) {
+        return offsets[index + 1];
+    }
+
+    public int neighborAt(int position) {
+        return targets[position];
+    }
+
+    public int[] neighbors(int index) {
+        return index < 0 ? NO_NEIGHBORS : Arrays.copyOfRange(targets, offsets[index], offsets[index + 1]);
+    }
+
+    public boolean follows(int follower, int followed) {
+        return Arrays.binarySearch(targets, offsets[follower], offsets[follower + 1], followed) >= 0;
+    }
+
+    /**
+     * Bytes ocupados pelos arrays do grafo (sem cabeçalhos de objeto).
+     */
+    public long memoryBytes() {
+        return (long) userIds.length * Long.BYTES
+                + (long) offsets.length * Integer.BYTES
+                + (long) targets.length * Integer.BYTES
+                + (long) inDegrees.length * Integer.BYTES;
+    }
+
+    /**
+     * Acumula arestas (id de quem segue, id de quem é seguido) e monta o CSR. Arestas repetidas
+     * e laços são descartados.
+     */
+    public static final class Builder {
+        private long[] followers = new long[1024];
+        private long[] followeds = new long[1024];
+        private int size;
+
+        public Builder addEdge(long followerId, long followedId) {
+            if (followerId == followedId) {
+                return this;
+            }
+            if (size == followers.length) {
+                followers = Arrays.copyOf(followers, size * 2);
+                followeds = Arrays.copyOf(followeds, size * 2);
+            }
+            followers[size] = followerId;
+            followeds[size] = followedId;
+            size++;
+            return this;
+        }
+
+        public FollowGraph build() {
+            long[] ids = new long[size * 2];
+            System.arraycopy(followers, 0, ids, 0, size);
+            System.arraycopy(followeds, 0, ids, size, size);
+            Arrays.sort(ids);
+            int unique = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (i == 0 || ids[i] != ids[i - 1]) {
+                    ids[unique++] = ids[i];
+                }
+            }
+            long[] userIds = Arrays.copyOf(ids, unique);
+
+            int[] from = new int[size];
+            int[] to = new int[size];
+            int[] offsets = new int[unique + 1];
+            for (int e = 0; e < size; e++) {
+                from[e] = Arrays.binarySearch(userIds, followers[e]);
+                to[e] = Arrays.binarySearch(userIds, followeds[e]);
+                offsets[from[e] + 1]++;
+            }
+            for (int i = 0; i < unique; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+            int[] cursor = Arrays.copyOf(offsets, unique);
+            int[] targets = new int[size];
+            for (int e = 0; e < size; e++) {
+                targets[cursor[from[e]]++] = to[e];
+            }
+
+            // Ordena cada lista e remove repetidas, compactando o array de destinos
+            int[] inDegrees = new int[unique];
+            int write = 0;
+            int start = 0;
+            for (int i = 0; i < unique; i++) {
+                int end = offsets[i + 1];
+                Arrays.sort(targets, start, end);
+                int listStart = write;
+                for (int p = start; p < end; p++) {
+                    if (p == start || targets[p] != targets[p - 1]) {
+                        targets[write++] = targets[p];
+                        inDegrees[targets[p]]++;
+                    }
+                }
+                start = end;
+                offsets[i] = listStart;
+            }
+            offsets[unique] = write;
+            return new FollowGraph(userIds, offsets, Arrays.copyOf(targets, write), inDegrees);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.hevyclone.app.service.social;
+
+import com.hevyclone.app.dto.social.FollowResponseDTO;
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.model.notification.NotificationType;
+import com.hevyclone.app.model.social.UserFollow;
+import com.hevyclone.app.repository.social.UserBlockRepository;
+import com.hevyclone.app.repository.social.UserFollowRepository;
+import com.hevyclone.app.service.counter.CounterKind;
+import com.hevyclone.app.service.counter.CounterService;
+import com.hevyclone.app.service.notification.NotificationService;
+import com.hevyclone.app.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Relações de seguir entre usuários. As contagens de seguidores vêm do CounterService.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FollowService {
+
+    private final UserFollowRepository userFollowRepository;
+    private final UserRepository userRepository;
+    private final FeedService feedService;
+    private final SuggestionService suggestionService;
+    private final NotificationService notificationService;
+    private final CounterService counterService;
+    private final UserBlockRepository userBlockRepository;
+
+    @Transactional
+    public FollowResponseDTO follow(Long followerId, Long followedId) {
+        if (followerId.equals(followedId)) {
+            throw new IllegalArgumentException("Você não pode seguir a si mesmo");
+        }
+        if (!userRepository.existsById(followedId)) {
+            throw new EntityNotFoundException("Usuário não encontrado com o id: " + followedId);
+        }
+        // Checagem exata no banco: o cache de bloqueios pode estar atrasado em outra réplica
+        if (userBlockRepository.existsBetween(followerId, followedId)) {
+            throw new AccessDeniedException("Usuário bloqueado");
+        }
+        // Repetir o follow é idempotente
+        if (!userFollowRepository.existsByFollowerIdAndFollowedId(followerId, followedId)) {
+            UserFollow follow = new UserFollow();
+            follow.setFollower(userRepository.getReferenceById(followerId));
+            follow.setFollowed(userRepository.getReferenceById(followedId));
+            follow.setCreatedAt(LocalDateTime.now());
+            userFollowRepository.save(follow);
+
+            feedService.onFollowChanged(followerId, followedId, true);
+            suggestionService.onFollowChanged(followerId, followedId, true);
+            counterService.incrementAfterCommit(CounterKind.USER_FOLLOWERS, followedId, 1);
+            counterService.incrementAfterCommit(CounterKind.USER_FOLLOWING, followerId, 1);
+            notificationService.enqueueNotification(followedId, NotificationType.FRIEND_ACTIVITY,
+                    "Você tem um novo seguidor", "/users/" + followerId,
+                    "follow:" + followedId, "{count} pessoas começaram a seguir você");
+        }
+        return FollowResponseDTO.builder().following(true).message("Usuário seguido com sucesso").build();
+    }
+
+    @Transactional
+    public FollowResponseDTO unfollow(Long followerId, Long followedId) {
+        if (userFollowRepository.deleteByFollowerIdAndFollowedId(followerId, followedId) > 0) {
+            feedService.onFollowChanged(followerId, followedId, false);
+            suggestionService.onFollowChanged(followerId, followedId, false);
+            counterService.incrementAfterCommit(CounterKind.USER_FOLLOWERS, followedId, -1);
+            counterService.incrementAfterCommit(CounterKind.USER_FOLLOWING, followerId, -1);
+        }
+        return FollowResponseDTO.builder().following(false).message("Deixou de seguir o usuário").build();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<UserSummaryDTO> getFollowers(Long userId, int page, int size) {
+        return userFollowRepository.findFollowers(userId, PageRequest.of(Math.max(page, 0), clampSize(size)));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<UserSummaryDTO> getFollowing(Long userId, int page, int size) {
+        return userFollowRepository.findFollowing(userId, PageRequest.of(Math.max(page, 0), clampSize(size)));
+    }
+
+    public long countFollowers(Long userId) {
+        return counterService.get(CounterKind.USER_FOLLOWERS, userId);
+    }
+
+    public long countFollowing(Long userId) {
+        return counterService.get(CounterKind.USER_FOLLOWING, userId);
+    }
+
+    private static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), 100);
+    }
+}
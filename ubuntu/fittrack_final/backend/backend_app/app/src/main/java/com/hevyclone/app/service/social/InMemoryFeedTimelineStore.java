@@ -0,0 +1,94 @@
+package com.hevyclone.app.service.social;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timelines na memória da JVM. Cada réplica materializa as dos usuários que atende;
+ * o fan-out de cada post chega a todas as réplicas que publicaram ou leram, o que basta
+ * com afinidade de sessão. Sem afinidade, usar saga.feed.store=redis.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.feed.store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryFeedTimelineStore implements FeedTimelineStore {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final int capacity;
+    private final int maxTimelines;
+    private final Map<Long, FeedTimeline> timelines = new ConcurrentHashMap<>();
+
+    public InMemoryFeedTimelineStore(@Value("${saga.feed.timeline-capacity:800}") int capacity,
+                                     @Value("${saga.feed.max-timelines:100000}") int maxTimelines,
+                                     MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        this.maxTimelines = maxTimelines;
+        meterRegistry.gaugeMapSize("saga.feed.timelines", List.of(), timelines);
+    }
+
+    @Override
+    public boolean isMaterialized(Long userId) {
+        return timelines.containsKey(userId);
+    }
+
+    @Override
+    public void materialize(Long userId, long[] postIdsDescending) {
+        if (timelines.size() >= maxTimelines) {
+            // Limite simples de memória: as timelines são remontadas sob demanda
+            log.info("Store de timelines atingiu {} entradas; limpando", timelines.size());
+            timelines.clear();
+        }
+        timelines.put(userId, new FeedTimeline(capacity, postIdsDescending));
+    }
+
+    @Override
+    public void push(Collection<Long> userIds, long postId) {
+        for (Long userId : userIds) {
+            FeedTimeline timeline = timelines.get(userId);
+            if (timeline != null) {
+                timeline.add(postId);
+            }
+        }
+    }
+
+    @Override
+    public void removePost(Collection<Long> userIds, long postId) {
+        for (Long userId : userIds) {
+            FeedTimeline timeline = timelines.get(userId);
+            if (timeline != null) {
+                timeline.remove(postId);
+            }
+        }
+    }
+
+    @Override
+    public void evict(Long userId) {
+        timelines.remove(userId);
+    }
+
+    @Override
+    public long[] before(Long userId, long beforeId, int limit) {
+        FeedTimeline timeline = timelines.get(userId);
+        return timeline != null ? timeline.before(beforeId, limit) : EMPTY;
+    }
+
+    @Override
+    public long[] page(Long userId, int offset, int limit) {
+        FeedTimeline timeline = timelines.get(userId);
+        return timeline != null ? timeline.page(offset, limit) : EMPTY;
+    }
+
+    @Override
+    public int size() {
+        return timelines.size();
+    }
+}
@@ -0,0 +1,165 @@
+package com.hevyclone.app.service.social;
+
+import com.hevyclone.app.dto.social.PostCommentDTO;
+import com.hevyclone.app.dto.social.PostLikeResponseDTO;
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.model.notification.NotificationType;
+import com.hevyclone.app.model.social.Post;
+import com.hevyclone.app.model.social.PostComment;
+import com.hevyclone.app.model.social.PostLike;
+import com.hevyclone.app.repository.social.PostCommentRepository;
+import com.hevyclone.app.repository.social.PostLikeRepository;
+import com.hevyclone.app.repository.social.PostRepository;
+import com.hevyclone.app.repository.social.UserBlockRepository;
+import com.hevyclone.app.service.counter.CounterKind;
+import com.hevyclone.app.service.counter.CounterService;
+import com.hevyclone.app.service.notification.NotificationService;
+import com.hevyclone.app.user.model.User;
+import com.hevyclone.app.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Curtidas e comentários em posts.
+ *
+ * As linhas ficam em post_likes/post_comments; as contagens exibidas vêm do CounterService,
+ * atualizado após o commit. Por isso a contagem devolvida aqui soma a própria ação ao valor lido.
+ *
+ * Curtir, comentar e ler comentários exigem que o usuário possa ver o post (PostService.canView);
+ * antes de gravar, o bloqueio com o autor é conferido no banco, e não no cache, para que quem
+ * bloqueou nunca receba a notificação. Comentários de autores bloqueados ficam fora da leitura.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostInteractionService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostCommentRepository postCommentRepository;
+    private final UserRepository userRepository;
+    private final CounterService counterService;
+    private final NotificationService notificationService;
+    private final PostService postService;
+    private final UserBlockRepository userBlockRepository;
+    private final BlockListCache blockListCache;
+
+    @Transactional
+    public PostLikeResponseDTO like(Long userId, Long postId) {
+        Post post = findVisiblePost(userId, postId);
+        long added = 0;
+        // Curtir de novo é idempotente
+        if (!postLikeRepository.existsByPostIdAndUserId(postId, userId)) {
+            PostLike like = new PostLike();
+            like.setPost(post);
+            like.setUser(userRepository.getReferenceById(userId));
+            like.setCreatedAt(LocalDateTime.now());
+            postLikeRepository.save(like);
+            added = 1;
+
+            Long authorId = post.getAuthor().getId();
+            counterService.incrementAfterCommit(CounterKind.POST_LIKES, postId, 1);
+            counterService.incrementAfterCommit(CounterKind.USER_LIKES_RECEIVED, authorId, 1);
+            if (!authorId.equals(userId)) {
+                notificationService.enqueueNotification(authorId, NotificationType.FRIEND_ACTIVITY,
+                        "Alguém curtiu seu post", "/posts/" + postId,
+                        "like:post:" + postId, "{count} pessoas curtiram seu post");
+            }
+        }
+        return PostLikeResponseDTO.builder()
+                .liked(true)
+                .likesCount(counterService.get(CounterKind.POST_LIKES, postId) + added)
+                .build();
+    }
+
+    @Transactional
+    public PostLikeResponseDTO unlike(Long userId, Long postId) {
+        Post post = findPost(postId);
+        long removed = 0;
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) > 0) {
+            removed = 1;
+            counterService.incrementAfterCommit(CounterKind.POST_LIKES, postId, -1);
+            counterService.incrementAfterCommit(CounterKind.USER_LIKES_RECEIVED, post.getAuthor().getId(), -1);
+        }
+        return PostLikeResponseDTO.builder()
+                .liked(false)
+                .likesCount(Math.max(0L, counterService.get(CounterKind.POST_LIKES, postId) - removed))
+                .build();
+    }
+
+    @Transactional
+    public PostCommentDTO addComment(Long userId, Long postId, String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("O comentário não pode estar em branco");
+        }
+        Post post = findVisiblePost(userId, postId);
+        User author = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("Usuário não encontrado com o id: " + userId));
+
+        PostComment comment = new PostComment();
+        comment.setPost(post);
+        comment.setAuthor(author);
+        comment.setText(text.trim());
+        comment.setCreatedAt(LocalDateTime.now());
+        PostComment saved = postCommentRepository.save(comment);
+
+        Long postAuthorId = post.getAuthor().getId();
+        counterService.incrementAfterCommit(CounterKind.POST_COMMENTS, postId, 1);
+        counterService.incrementAfterCommit(CounterKind.USER_COMMENTS_RECEIVED, postAuthorId, 1);
+        if (!postAuthorId.equals(userId)) {
+            notificationService.enqueueNotification(postAuthorId, NotificationType.FRIEND_ACTIVITY,
+                    author.getUsername() + " comentou no seu post", "/posts/" + postId,
+                    "comment:post:" + postId, "{count} novos comentários no seu post");
+        }
+        return PostCommentDTO.builder()
+                .id(saved.getId())
+                .text(saved.getText())
+                .author(UserSummaryDTO.builder().id(author.getId()).name(author.getUsername()).build())
+                .createdAt(saved.getCreatedAt())
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<PostCommentDTO> getComments(Long viewerId, Long postId, int page, int size) {
+        if (!postService.canView(viewerId, findPost(postId))) {
+            throw new AccessDeniedException("Post não visível para o usuário");
+        }
+        Slice<PostCommentDTO> comments = postCommentRepository.findByPostId(postId,
+                PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+        return new SliceImpl<>(withoutBlockedAuthors(comments.getContent(), blockListCache.blockedIds(viewerId)),
+                comments.getPageable(), comments.hasNext());
+    }
+
+    /**
+     * Remove os comentários de autores com bloqueio em relação ao leitor.
+     */
+    public static List<PostCommentDTO> withoutBlockedAuthors(List<PostCommentDTO> comments, BlockSet blocked) {
+        if (blocked.isEmpty()) {
+            return comments;
+        }
+        return comments.stream().filter(comment -> !blocked.contains(comment.getAuthor().getId())).toList();
+    }
+
+    private Post findPost(Long postId) {
+        return postRepository.findById(postId)
+                .orElseThrow(() -> new EntityNotFoundException("Post não encontrado com o id: " + postId));
+    }
+
+    private Post findVisiblePost(Long userId, Long postId) {
+        Post post = findPost(postId);
+        if (userBlockRepository.existsBetween(userId, post.getAuthor().getId()) || !postService.canView(userId, post)) {
+            throw new AccessDeniedException("Post não visível para o usuário");
+        }
+        return post;
+    }
+}
@@ -0,0 +1,292 @@
+package com.hevyclone.app.service.social;
+
+import com.hevyclone.app.dto.social.FeedSliceDTO;
+import com.hevyclone.app.dto.social.PostCommentDTO;
+import com.hevyclone.app.dto.social.PostDTO;
+import com.hevyclone.app.dto.social.PostRequestDTO;
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.model.social.Post;
+import com.hevyclone.app.model.social.PostType;
+import com.hevyclone.app.repository.social.PostCommentRepository;
+import com.hevyclone.app.repository.social.PostRepository;
+import com.hevyclone.app.repository.social.UserFollowRepository;
+import com.hevyclone.app.service.counter.CounterKind;
+import com.hevyclone.app.service.counter.CounterService;
+import com.hevyclone.app.user.model.User;
+import com.hevyclone.app.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Posts do feed social: criação, detalhe e montagem das páginas do feed.
+ *
+ * As páginas do feed vêm do FeedService como listas de ids; aqui elas viram DTOs com uma
+ * única consulta (autor e post original via JOIN FETCH), preservando a ordem da timeline.
+ * Curtidas e comentários da página vêm do CounterService em uma leitura por tipo.
+ *
+ * Posts de usuários bloqueados (nos dois sentidos, inclusive como autor do post original de um
+ * repost) saem das páginas pelo BlockListCache. O feed por cursor busca ids a mais para
+ * completar a página; nas páginas por número a página pode vir menor que size. O detalhe de
+ * um post e o repost seguem a mesma regra de getUserPosts (ver canView). Nas listas, um repost
+ * cujo original é privado para o leitor também sai, como no detalhe: do contrário o conteúdo
+ * privado iria junto no originalPost para quem não segue o autor.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int DETAIL_COMMENTS = 20;
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final FeedService feedService;
+    private final PostCommentRepository postCommentRepository;
+    private final CounterService counterService;
+    private final BlockListCache blockListCache;
+    private final UserFollowRepository userFollowRepository;
+
+    @Transactional
+    public PostDTO createPost(Long userId, PostRequestDTO request) {
+        User author = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("Usuário não encontrado com o id: " + userId));
+        PostType type = request.getType() != null ? request.getType() : PostType.TEXT;
+
+        Post post = new Post();
+        post.setAuthor(author);
+        post.setContent(request.getContent());
+        post.setType(type);
+        post.setPublic(request.getIsPublic() == null || request.getIsPublic());
+        post.setCreatedAt(LocalDateTime.now());
+        if (type == PostType.WORKOUT) {
+            post.setWorkoutId(request.getWorkoutId());
+        }
+        if (type == PostType.SHARE) {
+            if (request.getOriginalPostId() == null) {
+                throw new IllegalArgumentException("originalPostId é obrigatório para posts do tipo SHARE");
+            }
+            Post original = postRepository.findById(request.getOriginalPostId())
+                    .orElseThrow(() -> new EntityNotFoundException("Post não encontrado com o id: " + request.getOriginalPostId()));
+            if (!canView(userId, original)) {
+                throw new AccessDeniedException("Post não visível para o usuário");
+            }
+            post.setOriginalPost(original);
+        } else if (request.getContent() == null || request.getContent().isBlank()) {
+            throw new IllegalArgumentException("O conteúdo do post é obrigatório");
+        }
+
+        Post saved = postRepository.save(post);
+        feedService.onPostCreated(userId, saved.getId());
+        counterService.incrementAfterCommit(CounterKind.USER_POSTS, userId, 1);
+        return toDtos(List.of(saved), true).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public PostDTO getPost(Long viewerId, Long postId) {
+        List<Post> posts = postRepository.findAllWithAuthorByIdIn(List.of(postId));
+        if (posts.isEmpty()) {
+            throw new EntityNotFoundException("Post não encontrado com o id: " + postId);
+        }
+        if (!canView(viewerId, posts.get(0))) {
+            throw new AccessDeniedException("Post não visível para o usuário");
+        }
+        PostDTO post = toDtos(posts, true).get(0);
+        List<PostCommentDTO> comments = PostInteractionService.withoutBlockedAuthors(
+                postCommentRepository.findByPostId(postId, PageRequest.of(0, DETAIL_COMMENTS)).getContent(),
+                blockListCache.blockedIds(viewerId));
+        post.setComments(comments);
+        return post;
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<PostDTO> getFeedPage(Long userId, int page, int size) {
+        int pageSize = clampSize(size);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize);
+        List<Long> ids = feedService.idsPage(userId, (int) pageable.getOffset(), pageSize + 1);
+        boolean hasNext = ids.size() > pageSize;
+        List<Post> posts = withVisibleOriginals(userId,
+                visible(loadInOrder(hasNext ? ids.subList(0, pageSize) : ids), blockListCache.blockedIds(userId)));
+        return new SliceImpl<>(toDtos(posts, true), pageable, hasNext);
+    }
+
+    /**
+     * Feed por cursor (id do último post recebido): custo constante por página.
+     */
+    @Transactional(readOnly = true)
+    public FeedSliceDTO scrollFeed(Long userId, Long cursor, int size) {
+        int pageSize = clampSize(size);
+        BlockSet blocked = blockListCache.blockedIds(userId);
+        // Busca alguns a mais para compensar os bloqueados; repete se ainda faltar
+        int fetch = pageSize + 1 + Math.min(blocked.size(), MAX_PAGE_SIZE);
+        long before = cursor != null ? cursor : Long.MAX_VALUE;
+        List<Post> posts = new ArrayList<>(pageSize + 1);
+        List<Long> ids;
+        do {
+            ids = feedService.idsBefore(userId, before, fetch);
+            for (Post post : withVisibleOriginals(userId, visible(loadInOrder(ids), blocked))) {
+                posts.add(post);
+                if (posts.size() > pageSize) {
+                    break;
+                }
+            }
+            if (!ids.isEmpty()) {
+                before = ids.get(ids.size() - 1);
+            }
+        } while (posts.size() <= pageSize && ids.size() == fetch);
+
+        boolean hasNext = posts.size() > pageSize;
+        List<Post> page = hasNext ? posts.subList(0, pageSize) : posts;
+        return FeedSliceDTO.builder()
+                .content(toDtos(page, true))
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<PostDTO> getPublicFeed(Long viewerId, int page, int size) {
+        Slice<Post> posts = postRepository.findPublicFeed(PageRequest.of(Math.max(page, 0), clampSize(size)));
+        List<Post> content = visible(posts.getContent(), blockListCache.blockedIds(viewerId));
+        return new SliceImpl<>(toDtos(content, false), posts.getPageable(), posts.hasNext());
+    }
+
+    /**
+     * Posts de um autor: todos para ele mesmo e seus seguidores, só os públicos para os demais.
+     */
+    @Transactional(readOnly = true)
+    public Slice<PostDTO> getUserPosts(Long viewerId, Long authorId, int page, int size) {
+        if (blockListCache.isBlocked(viewerId, authorId)) {
+            throw new AccessDeniedException("Usuário bloqueado");
+        }
+        if (!userRepository.existsById(authorId)) {
+            throw new EntityNotFoundException("Usuário não encontrado com o id: " + authorId);
+        }
+        boolean includePrivate = viewerId.equals(authorId)
+                || userFollowRepository.existsByFollowerIdAndFollowedId(viewerId, authorId);
+        Slice<Post> posts = postRepository.findByAuthor(authorId, includePrivate,
+                PageRequest.of(Math.max(page, 0), clampSize(size)));
+        List<Post> content = withVisibleOriginals(viewerId, visible(posts.getContent(), blockListCache.blockedIds(viewerId)));
+        return new SliceImpl<>(toDtos(content, true), posts.getPageable(), posts.hasNext());
+    }
+
+    /**
+     * Regra de getUserPosts aplicada a um post e ao seu original, se for repost: nenhum bloqueio
+     * entre leitor e autor e, se o post for privado, o leitor é o autor ou o segue.
+     */
+    public boolean canView(Long viewerId, Post post) {
+        Post original = post.getOriginalPost();
+        return isVisibleTo(viewerId, post) && (original == null || isVisibleTo(viewerId, original));
+    }
+
+    private boolean isVisibleTo(Long viewerId, Post post) {
+        Long authorId = post.getAuthor().getId();
+        if (blockListCache.isBlocked(viewerId, authorId)) {
+            return false;
+        }
+        return post.isPublic()
+                || viewerId.equals(authorId)
+                || userFollowRepository.existsByFollowerIdAndFollowedId(viewerId, authorId);
+    }
+
+    private List<Post> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> byId = postRepository.findAllWithAuthorByIdIn(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        // Posts apagados depois de entrarem na timeline são ignorados
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // Regra de canView para o original dos reposts da página, com os follows lidos numa consulta
+    private List<Post> withVisibleOriginals(Long viewerId, List<Post> posts) {
+        Set<Long> privateAuthorIds = posts.stream()
+                .map(Post::getOriginalPost)
+                .filter(original -> original != null && !original.isPublic())
+                .map(original -> original.getAuthor().getId())
+                .filter(authorId -> !authorId.equals(viewerId))
+                .collect(Collectors.toSet());
+        if (privateAuthorIds.isEmpty()) {
+            return posts;
+        }
+        Set<Long> followed = new HashSet<>(userFollowRepository.findFollowedIdsIn(viewerId, privateAuthorIds));
+        return posts.stream()
+                .filter(post -> {
+                    Post original = post.getOriginalPost();
+                    return original == null || original.isPublic()
+                            || original.getAuthor().getId().equals(viewerId)
+                            || followed.contains(original.getAuthor().getId());
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static List<Post> visible(List<Post> posts, BlockSet blocked) {
+        if (blocked.isEmpty()) {
+            return posts;
+        }
+        return posts.stream().filter(post -> isVisible(post, blocked)).collect(Collectors.toList());
+    }
+
+    private static boolean isVisible(Post post, BlockSet blocked) {
+        Post original = post.getOriginalPost();
+        return !blocked.contains(post.getAuthor().getId())
+                && (original == null || !blocked.contains(original.getAuthor().getId()));
+    }
+
+    private List<PostDTO> toDtos(List<Post> posts, boolean withOriginal) {
+        List<Long> ids = posts.stream().map(Post::getId).collect(Collectors.toList());
+        Map<Long, Long> likes = counterService.getAll(CounterKind.POST_LIKES, ids);
+        Map<Long, Long> comments = counterService.getAll(CounterKind.POST_COMMENTS, ids);
+        return posts.stream()
+                .map(post -> {
+                    PostDTO dto = toDto(post, withOriginal);
+                    dto.setLikesCount(likes.getOrDefault(post.getId(), 0L));
+                    dto.setCommentsCount(comments.getOrDefault(post.getId(), 0L));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private PostDTO toDto(Post post, boolean withOriginal) {
+        return PostDTO.builder()
+                .id(post.getId())
+                .author(UserSummaryDTO.builder()
+                        .id(post.getAuthor().getId())
+                        .name(post.getAuthor().getUsername())
+                        .build())
+                .content(post.getContent())
+                .type(post.getType())
+                .isPublic(post.isPublic())
+                .workoutId(post.getWorkoutId())
+                .originalPost(withOriginal && post.getOriginalPost() != null ? toDto(post.getOriginalPost(), false) : null)
+                .createdAt(post.getCreatedAt())
+                .build();
+    }
+
+    private static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+}
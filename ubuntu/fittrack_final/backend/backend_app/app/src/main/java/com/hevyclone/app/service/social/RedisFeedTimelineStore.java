@@ -0,0 +1,130 @@
+package com.hevyclone.app.service.social;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Timelines em sorted sets do Redis (score = id do post), compartilhadas entre réplicas.
+ *
+ * Cada timeline tem um membro sentinela de score 0 para distinguir "materializada e vazia"
+ * de "não existe". O fan-out roda um script Lua por lote de chaves: só grava nas timelines
+ * existentes e já corta o excedente, tudo em uma ida ao Redis.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.feed.store", havingValue = "redis")
+public class RedisFeedTimelineStore implements FeedTimelineStore {
+
+    private static final String KEY_PREFIX = "saga:feed:";
+    private static final String SENTINEL = "0";
+    private static final int PUSH_CHUNK_SIZE = 500;
+
+    // ARGV[1] = id do post, ARGV[2] = capacidade; rank 0 é o sentinela e nunca é cortado
+    private static final RedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>(
+            "local pushed = 0 " +
+            "for i, key in ipairs(KEYS) do " +
+            "  if redis.call('EXISTS', key) == 1 then " +
+            "    redis.call('ZADD', key, ARGV[1], ARGV[1]) " +
+            "    redis.call('ZREMRANGEBYRANK', key, 1, -(tonumber(ARGV[2]) + 1)) " +
+            "    pushed = pushed + 1 " +
+            "  end " +
+            "end " +
+            "return pushed", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int capacity;
+    private final Duration ttl;
+
+    public RedisFeedTimelineStore(StringRedisTemplate redisTemplate,
+                                  @Value("${saga.feed.timeline-capacity:800}") int capacity,
+                                  @Value("${saga.feed.timeline-ttl-days:7}") long ttlDays) {
+        this.redisTemplate = redisTemplate;
+        this.capacity = capacity;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    @Override
+    public boolean isMaterialized(Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(userId)));
+    }
+
+    @Override
+    public void materialize(Long userId, long[] postIdsDescending) {
+        String key = key(userId);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(ZSetOperations.TypedTuple.of(SENTINEL, 0d));
+        for (int i = 0; i < Math.min(capacity, postIdsDescending.length); i++) {
+            tuples.add(ZSetOperations.TypedTuple.of(Long.toString(postIdsDescending[i]), (double) postIdsDescending[i]));
+        }
+        redisTemplate.delete(key);
+        redisTemplate.opsForZSet().add(key, tuples);
+        redisTemplate.expire(key, ttl);
+    }
+
+    @Override
+    public void push(Collection<Long> userIds, long postId) {
+        List<String> keys = userIds.stream().map(RedisFeedTimelineStore::key).collect(Collectors.toList());
+        for (int from = 0; from < keys.size(); from += PUSH_CHUNK_SIZE) {
+            redisTemplate.execute(PUSH_SCRIPT, keys.subList(from, Math.min(from + PUSH_CHUNK_SIZE, keys.size())),
+                    Long.toString(postId), Integer.toString(capacity));
+        }
+    }
+
+    @Override
+    public void removePost(Collection<Long> userIds, long postId) {
+        String member = Long.toString(postId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            userIds.forEach(userId -> redis.zRem(key(userId), member));
+            return null;
+        });
+    }
+
+    @Override
+    public void evict(Long userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    @Override
+    public long[] before(Long userId, long beforeId, int limit) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .reverseRangeByScore(key(userId), 1, beforeId - 1, 0, limit);
+        return toIds(members);
+    }
+
+    @Override
+    public long[] page(Long userId, int offset, int limit) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .reverseRangeByScore(key(userId), 1, Double.MAX_VALUE, offset, limit);
+        return toIds(members);
+    }
+
+    @Override
+    public int size() {
+        return -1; // Não rastreado no Redis
+    }
+
+    private static long[] toIds(Set<String> members) {
+        if (members == null) {
+            return new long[0];
+        }
+        return members.stream().mapToLong(Long::parseLong).toArray();
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,273 @@
+package com.hevyclone.app.service.social;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Calcula sugestões de quem seguir sobre um FollowGraph.
+ *
+ * Candidatos são os amigos de amigos (seguidos por quem o usuário segue) que ele ainda não
+ * segue. A pontuação soma seguidores em comum (caminhos de dois passos), rotinas em comum e
+ * mesmo nível de treino (o nível alvo da rotina ativa). Sem amigos de amigos, o usuário recebe
+ * as contas mais seguidas do grafo.
+ *
+ * O cálculo em lote usa só o CSR e um contador denso por thread; o cálculo individual aceita
+ * uma função de "quem segue quem" para incluir follows feitos depois da montagem do grafo.
+ */
+public final class SuggestionEngine {
+
+    private static final int POPULAR_COUNT = 100;
+
+    private final FollowGraph graph;
+    private final int[] routineOffsets;
+    private final long[] routineIds;
+    private final byte[] levels;
+    private final int mutualWeight;
+    private final int routineWeight;
+    private final int levelWeight;
+    private final int[] popular;
+    private final ThreadLocal<Scratch> scratch;
+
+    /**
+     * @param routinesByUser rotinas de cada usuário (ids ordenados), por id de usuário
+     * @param levelByUser    nível (ordinal) da rotina ativa, por id de usuário
+     */
+    public SuggestionEngine(FollowGraph graph, Map<Long, long[]> routinesByUser, Map<Long, Integer> levelByUser,
+                            int mutualWeight, int routineWeight, int levelWeight) {
+        this.graph = graph;
+        this.mutualWeight = mutualWeight;
+        this.routineWeight = routineWeight;
+        this.levelWeight = levelWeight;
+        int users = graph.userCount();
+        this.routineOffsets = new int[users + 1];
+        this.levels = new byte[users];
+        Arrays.fill(levels, (byte) -1);
+        long[][] perUser = new long[users][];
+        int totalRoutines = 0;
+        for (int i = 0; i < users; i++) {
+            long userId = graph.userIdAt(i);
+            perUser[i] = routinesByUser.get(userId);
+            totalRoutines += perUser[i] != null ? perUser[i].length : 0;
+            Integer level = levelByUser.get(userId);
+            if (level != null) {
+                levels[i] = level.byteValue();
+            }
+        }
+        this.routineIds = new long[totalRoutines];
+        for (int i = 0; i < users; i++) {
+            int length = perUser[i] != null ? perUser[i].length : 0;
+            routineOffsets[i + 1] = routineOffsets[i] + length;
+            if (length > 0) {
+                System.arraycopy(perUser[i], 0, routineIds, routineOffsets[i], length);
+            }
+        }
+        this.popular = IntStream.range(0, users).boxed()
+                .sorted(Comparator.comparingInt(graph::inDegree).reversed().thenComparingInt(i -> i))
+                .limit(POPULAR_COUNT)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(users));
+    }
+
+    public FollowGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Top-k de todos os usuários do grafo em paralelo, em um array plano: as sugestões do
+     * usuário de índice i estão em [i * k, (i + 1) * k), completadas com -1.
+     */
+    public int[] computeAll(int k) {
+        int[] result = new int[graph.userCount() * k];
+        Arrays.fill(result, -1);
+        IntStream.range(0, graph.userCount()).parallel().forEach(user -> {
+            int[] top = topK(user, k);
+            System.arraycopy(top, 0, result, user * k, top.length);
+        });
+        return result;
+    }
+
+    /**
+     * Top-k do usuário de índice denso (só o grafo montado), do melhor para o pior.
+     */
+    public int[] topK(int user, int k) {
+        Scratch s = scratch.get();
+        s.generation++;
+        for (int p = graph.neighborStart(user); p < graph.neighborEnd(user); p++) {
+            s.followed[graph.neighborAt(p)] = s.generation;
+        }
+        int touched = 0;
+        for (int p = graph.neighborStart(user); p < graph.neighborEnd(user); p++) {
+            int friend = graph.neighborAt(p);
+            for (int q = graph.neighborStart(friend); q < graph.neighborEnd(friend); q++) {
+                int candidate = graph.neighborAt(q);
+                if (candidate == user || s.followed[candidate] == s.generation) {
+                    continue;
+                }
+                if (s.counts[candidate]++ == 0) {
+                    if (touched == s.touched.length) {
+                        s.touched = Arrays.copyOf(s.touched, touched * 2);
+                    }
+                    s.touched[touched++] = candidate;
+                }
+            }
+        }
+
+        // Heap mínimo de tamanho k sobre (pontuação, índice)
+        PriorityQueue<long[]> best = new PriorityQueue<>(k + 1, SuggestionEngine::compareWorstFirst);
+        for (int t = 0; t < touched; t++) {
+            int candidate = s.touched[t];
+            long score = score(user, candidate, s.counts[candidate]);
+            s.counts[candidate] = 0;
+            offer(best, k, score, candidate);
+        }
+        if (best.isEmpty()) {
+            for (int rank = 0; rank < popular.length; rank++) {
+                int candidate = popular[rank];
+                if (candidate != user && s.followed[candidate] != s.generation) {
+                    offer(best, k, popularScore(user, candidate, rank), candidate);
+                }
+            }
+        }
+        return drain(best);
+    }
+
+    /**
+     * Top-k do usuário considerando follows posteriores ao grafo: following(id) devolve quem o
+     * id segue agora. Candidatos fora do grafo (contas novas) só entram na próxima montagem.
+     * Devolve ids de usuário, não índices.
+     */
+    public long[] topK(long userId, int k, LongFunction<long[]> following) {
+        int user = graph.indexOf(userId);
+        long[] myFollowing = following.apply(userId);
+        Set<Long> followed = new HashSet<>();
+        for (long id : myFollowing) {
+            followed.add(id);
+        }
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (long friendId : myFollowing) {
+            for (long candidateId : following.apply(friendId)) {
+                if (candidateId == userId || followed.contains(candidateId)) {
+                    continue;
+                }
+                int candidate = graph.indexOf(candidateId);
+                if (candidate >= 0) {
+                    counts.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+        PriorityQueue<long[]> best = new PriorityQueue<>(k + 1, SuggestionEngine::compareWorstFirst);
+        counts.forEach((candidate, mutual) -> offer(best, k, score(user, candidate, mutual), candidate));
+        if (best.isEmpty()) {
+            for (int rank = 0; rank < popular.length; rank++) {
+                int candidate = popular[rank];
+                long candidateId = graph.userIdAt(candidate);
+                if (candidateId != userId && !followed.contains(candidateId)) {
+                    offer(best, k, popularScore(user, candidate, rank), candidate);
+                }
+            }
+        }
+        int[] top = drain(best);
+        long[] ids = new long[top.length];
+        for (int i = 0; i < top.length; i++) {
+            ids[i] = graph.userIdAt(top[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * Seguidores em comum entre o usuário e o candidato (ids), para exibir na sugestão.
+     */
+    public int mutualCount(long userId, long candidateId, LongFunction<long[]> following) {
+        int candidate = graph.indexOf(candidateId);
+        if (candidate < 0) {
+            return 0;
+        }
+        int mutual = 0;
+        for (long friendId : following.apply(userId)) {
+            int friend = graph.indexOf(friendId);
+            if (friend >= 0 && graph.follows(friend, candidate)) {
+                mutual++;
+            }
+        }
+        return mutual;
+    }
+
+    private long score(int user, int candidate, int mutual) {
+        long score = (long) mutual * mutualWeight;
+        if (user >= 0) {
+            score += (long) sharedRoutines(user, candidate) * routineWeight;
+            if (levels[user] >= 0 && levels[user] == levels[candidate]) {
+                score += levelWeight;
+            }
+        }
+        return score;
+    }
+
+    // Sem amigos de amigos: afinidade primeiro, e entre empatados o mais seguido
+    private long popularScore(int user, int candidate, int rank) {
+        return score(user, candidate, 0) * (POPULAR_COUNT + 1) + (POPULAR_COUNT - rank);
+    }
+
+    private int sharedRoutines(int a, int b) {
+        int i = routineOffsets[a];
+        int j = routineOffsets[b];
+        int shared = 0;
+        while (i < routineOffsets[a + 1] && j < routineOffsets[b + 1]) {
+            if (routineIds[i] == routineIds[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (routineIds[i] < routineIds[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    private static void offer(PriorityQueue<long[]> best, int k, long score, int candidate) {
+        best.add(new long[]{score, candidate});
+        if (best.size() > k) {
+            best.poll();
+        }
+    }
+
+    // Pior primeiro: menor pontuação; no empate, maior índice (índices menores vencem)
+    private static int compareWorstFirst(long[] a, long[] b) {
+        int byScore = Long.compare(a[0], b[0]);
+        return byScore != 0 ? byScore : Long.compare(b[1], a[1]);
+    }
+
+    private static int[] drain(PriorityQueue<long[]> best) {
+        List<long[]> entries = new ArrayList<>(best);
+        entries.sort((a, b) -> compareWorstFirst(b, a));
+        int[] top = new int[entries.size()];
+        for (int i = 0; i < top.length; i++) {
+            top[i] = (int) entries.get(i)[1];
+        }
+        return top;
+    }
+
+    private static final class Scratch {
+        private final int[] counts;
+        private final int[] followed;
+        private int[] touched = new int[256];
+        private int generation;
+
+        private Scratch(int users) {
+            this.counts = new int[users];
+            this.followed = new int[users];
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.hevyclone.app.service.social;
+
+import com.hevyclone.app.dto.social.SuggestionDTO;
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.repository.social.UserFollowRepository;
+import com.hevyclone.app.repository.social.UserFollowRepository.FollowEdge;
+import com.hevyclone.app.repository.userprogress.UserRoutineRepository;
+import com.hevyclone.app.repository.userprogress.UserRoutineRepository.RoutineProfileRef;
+import com.hevyclone.app.user.model.User;
+import com.hevyclone.app.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sugestões de quem seguir, pré-calculadas.
+ *
+ * Uma montagem periódica lê o grafo de follows e as rotinas em blocos, monta o CSR e calcula o
+ * top-k de todos os usuários em paralelo; a leitura só copia a lista pronta. Follows feitos
+ * depois da montagem ficam em uma sobreposição (quem segue → mudanças) e marcam como
+ * desatualizados quem seguiu e os seguidores dele, cuja lista é recalculada na próxima leitura
+ * com o grafo mais a sobreposição. A montagem seguinte incorpora a sobreposição e a descarta.
+ * Sobreposição e marcas são locais à réplica que recebeu o follow; por isso a leitura ainda
+ * confere no banco quais candidatos o usuário já segue (uma consulta limitada ao top-k) e os
+ * retira. Bloqueados saem na leitura (BlockListCache); a lista guarda top-k, mais que o limite
+ * pedido.
+ */
+@Service
+@Slf4j
+public class SuggestionService {
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    private final UserFollowRepository userFollowRepository;
+    private final UserRoutineRepository userRoutineRepository;
+    private final UserRepository userRepository;
+    private final BlockListCache blockListCache;
+    private final MeterRegistry meterRegistry;
+    private final int topK;
+    private final int mutualWeight;
+    private final int routineWeight;
+    private final int levelWeight;
+    private final int maxStaleFanout;
+
+    private volatile Snapshot snapshot;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong changeSequence = new AtomicLong();
+    private final AtomicLong graphEdges = new AtomicLong();
+    private final Map<Long, Map<Long, FollowChange>> overlay = new ConcurrentHashMap<>();
+    private final Map<Long, long[]> refreshed = new ConcurrentHashMap<>();
+    private final Set<Long> stale = ConcurrentHashMap.newKeySet();
+
+    public SuggestionService(UserFollowRepository userFollowRepository,
+                             UserRoutineRepository userRoutineRepository,
+                             UserRepository userRepository,
+                             BlockListCache blockListCache,
+                             MeterRegistry meterRegistry,
+                             @Value("${saga.suggestions.top-k:20}") int topK,
+                             @Value("${saga.suggestions.weight.mutual:10}") int mutualWeight,
+                             @Value("${saga.suggestions.weight.routine:3}") int routineWeight,
+                             @Value("${saga.suggestions.weight.level:2}") int levelWeight,
+                             @Value("${saga.suggestions.max-stale-fanout:10000}") int maxStaleFanout) {
+        this.userFollowRepository = userFollowRepository;
+        this.userRoutineRepository = userRoutineRepository;
+        this.userRepository = userRepository;
+        this.blockListCache = blockListCache;
+        this.meterRegistry = meterRegistry;
+        this.topK = topK;
+        this.mutualWeight = mutualWeight;
+        this.routineWeight = routineWeight;
+        this.levelWeight = levelWeight;
+        this.maxStaleFanout = maxStaleFanout;
+        meterRegistry.gaugeMapSize("saga.suggestions.overlay", List.of(), overlay);
+        meterRegistry.gauge("saga.suggestions.graph.edges", graphEdges);
+    }
+
+    /**
+     * Registra o follow/unfollow após o commit e marca as listas afetadas para recálculo.
+     */
+    public void onFollowChanged(Long followerId, Long followedId, boolean following) {
+        afterCommit(() -> {
+            FollowChange change = new FollowChange(following, changeSequence.incrementAndGet());
+            overlay.computeIfAbsent(followerId, id -> new ConcurrentHashMap<>()).put(followedId, change);
+            markStale(followerId);
+            // Quem segue o follower ganha ou perde um amigo de amigo; contas com muitos seguidores
+            // não têm os ids carregados e esperam a próxima montagem
+            if (userFollowRepository.countByFollowedId(followerId) <= maxStaleFanout) {
+                userFollowRepository.findFollowerIds(followerId).forEach(this::markStale);
+            }
+        });
+    }
+
+    public List<SuggestionDTO> getSuggestions(Long userId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_LIMIT);
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            return List.of(); // Índice ainda em montagem
+        }
+        long[] ids = refreshed.get(userId);
+        if (ids == null) {
+            int index = current.engine.getGraph().indexOf(userId);
+            if (stale.contains(userId) || index < 0) {
+                ids = current.engine.topK(userId, topK, id -> following(current, id));
+                refreshed.put(userId, ids);
+                stale.remove(userId);
+                meterRegistry.counter("saga.suggestions.recomputed").increment();
+            } else {
+                ids = current.listOf(index, topK);
+            }
+        }
+        BlockSet blocked = blockListCache.blockedIds(userId);
+        if (!blocked.isEmpty()) {
+            ids = Arrays.stream(ids).filter(id -> !blocked.contains(id)).toArray();
+        }
+        // Follows feitos em outra réplica depois da montagem não estão na sobreposição local
+        if (ids.length > 0) {
+            Set<Long> followed = new HashSet<>(userFollowRepository.findFollowedIdsIn(userId,
+                    Arrays.stream(ids).boxed().toList()));
+            if (!followed.isEmpty()) {
+                ids = Arrays.stream(ids).filter(id -> !followed.contains(id)).toArray();
+            }
+        }
+        ids = Arrays.copyOf(ids, Math.min(limit, ids.length));
+
+        Map<Long, String> names = new HashMap<>();
+        for (User user : userRepository.findAllById(Arrays.stream(ids).boxed().toList())) {
+            names.put(user.getId(), user.getUsername());
+        }
+        List<SuggestionDTO> suggestions = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            if (names.containsKey(id)) {
+                suggestions.add(SuggestionDTO.builder()
+                        .user(UserSummaryDTO.builder().id(id).name(names.get(id)).build())
+                        .mutualFollows(current.engine.mutualCount(userId, id, followedId -> following(current, followedId)))
+                        .build());
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Remonta o grafo e recalcula todas as listas. Follows registrados até o início da leitura
+     * já estão no banco e saem da sobreposição; os posteriores continuam nela.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${saga.suggestions.rebuild-cron:0 0 5 * * *}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            long sequenceAtStart = changeSequence.get();
+            FollowGraph graph = loadGraph();
+            Map<Long, long[]> routines = new HashMap<>();
+            Map<Long, Integer> levels = new HashMap<>();
+            loadRoutines(routines, levels);
+            SuggestionEngine engine = new SuggestionEngine(graph, routines, levels, mutualWeight, routineWeight, levelWeight);
+            long loadedAt = System.currentTimeMillis();
+            int[] lists = engine.computeAll(topK);
+
+            snapshot = new Snapshot(engine, lists);
+            refreshed.clear();
+            stale.clear();
+            overlay.values().forEach(changes -> changes.values().removeIf(change -> change.sequence <= sequenceAtStart));
+            overlay.values().removeIf(Map::isEmpty);
+            overlay.keySet().forEach(this::markStale);
+
+            graphEdges.set(graph.edgeCount());
+            log.info("Sugestões recalculadas: {} usuários, {} arestas ({} KB), carga {} ms, cálculo {} ms",
+                    graph.userCount(), graph.edgeCount(), graph.memoryBytes() / 1024,
+                    loadedAt - start, System.currentTimeMillis() - loadedAt);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    // Quem o usuário segue agora: grafo do snapshot lido pelo chamador mais a sobreposição
+    // (o campo snapshot pode ser trocado por uma montagem no meio da leitura)
+    private long[] following(Snapshot current, long userId) {
+        FollowGraph graph = current.engine.getGraph();
+        int index = graph.indexOf(userId);
+        Map<Long, FollowChange> changes = overlay.get(userId);
+        if (changes == null) {
+            int[] neighbors = graph.neighbors(index);
+            long[] ids = new long[neighbors.length];
+            for (int i = 0; i < neighbors.length; i++) {
+                ids[i] = graph.userIdAt(neighbors[i]);
+            }
+            return ids;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (int neighbor : graph.neighbors(index)) {
+            ids.add(graph.userIdAt(neighbor));
+        }
+        changes.forEach((followedId, change) -> {
+            if (change.following) {
+                ids.add(followedId);
+            } else {
+                ids.remove(followedId);
+            }
+        });
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void markStale(Long userId) {
+        refreshed.remove(userId);
+        stale.add(userId);
+    }
+
+    private FollowGraph loadGraph() {
+        FollowGraph.Builder builder = FollowGraph.builder();
+        Long lastId = 0L;
+        List<FollowEdge> chunk;
+        do {
+            chunk = userFollowRepository.findEdgesAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (FollowEdge edge : chunk) {
+                builder.addEdge(edge.getFollowerId(), edge.getFollowedId());
+                lastId = edge.getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+        return builder.build();
+    }
+
+    private void loadRoutines(Map<Long, long[]> routines, Map<Long, Integer> levels) {
+        Map<Long, Set<Long>> routineSets = new HashMap<>();
+        Long lastId = 0L;
+        List<RoutineProfileRef> chunk;
+        do {
+            chunk = userRoutineRepository.findRoutineProfileRefsAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (RoutineProfileRef ref : chunk) {
+                routineSets.computeIfAbsent(ref.getUserId(), id -> new LinkedHashSet<>()).add(ref.getRoutineId());
+                if (Boolean.TRUE.equals(ref.getActive()) && ref.getLevel() != null) {
+                    levels.put(ref.getUserId(), ref.getLevel().ordinal());
+                }
+                lastId = ref.getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+        routineSets.forEach((userId, ids) -> {
+            long[] sorted = ids.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            routines.put(userId, sorted);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class FollowChange {
+        private final boolean following;
+        private final long sequence;
+
+        private FollowChange(boolean following, long sequence) {
+            this.following = following;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class Snapshot {
+        private final SuggestionEngine engine;
+        private final int[] lists;
+
+        private Snapshot(SuggestionEngine engine, int[] lists) {
+            this.engine = engine;
+            this.lists = lists;
+        }
+
+        private long[] listOf(int index, int k) {
+            FollowGraph graph = engine.getGraph();
+            long[] ids = new long[k];
+            int count = 0;
+            for (int i = index * k; i < (index + 1) * k && lists[i] >= 0; i++) {
+                ids[count++] = graph.userIdAt(lists[i]);
+            }
+            return Arrays.copyOf(ids, count);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.hevyclone.app.service.social;
+
+import com.hevyclone.app.dto.social.PostCommentDTO;
+import com.hevyclone.app.dto.social.PostLikeResponseDTO;
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.model.routine.Workout;
+import com.hevyclone.app.model.social.WorkoutComment;
+import com.hevyclone.app.model.social.WorkoutLike;
+import com.hevyclone.app.repository.routine.WorkoutRepository;
+import com.hevyclone.app.repository.social.WorkoutCommentRepository;
+import com.hevyclone.app.repository.social.WorkoutLikeRepository;
+import com.hevyclone.app.service.counter.CounterKind;
+import com.hevyclone.app.service.counter.CounterService;
+import com.hevyclone.app.user.model.User;
+import com.hevyclone.app.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Curtidas e comentários em treinos (workout_likes/workout_comments).
+ *
+ * Mesmo modelo dos posts (PostInteractionService): as contagens vêm dos contadores
+ * WORKOUT_LIKES e WORKOUT_COMMENTS, atualizados após o commit, e as respostas usam os mesmos
+ * DTOs. Treinos não têm autor, então não há notificação; comentários de autores bloqueados
+ * ficam fora da leitura, como nos posts.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkoutInteractionService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final WorkoutRepository workoutRepository;
+    private final WorkoutLikeRepository workoutLikeRepository;
+    private final WorkoutCommentRepository workoutCommentRepository;
+    private final UserRepository userRepository;
+    private final CounterService counterService;
+    private final BlockListCache blockListCache;
+
+    @Transactional
+    public PostLikeResponseDTO like(Long userId, Long workoutId) {
+        Workout workout = findWorkout(workoutId);
+        long added = 0;
+        // Curtir de novo é idempotente
+        if (!workoutLikeRepository.existsByWorkoutIdAndUserId(workoutId, userId)) {
+            WorkoutLike like = new WorkoutLike();
+            like.setWorkout(workout);
+            like.setUser(userRepository.getReferenceById(userId));
+            like.setCreatedAt(LocalDateTime.now());
+            workoutLikeRepository.save(like);
+            added = 1;
+            counterService.incrementAfterCommit(CounterKind.WORKOUT_LIKES, workoutId, 1);
+        }
+        return PostLikeResponseDTO.builder()
+                .liked(true)
+                .likesCount(counterService.get(CounterKind.WORKOUT_LIKES, workoutId) + added)
+                .build();
+    }
+
+    @Transactional
+    public PostLikeResponseDTO unlike(Long userId, Long workoutId) {
+        findWorkout(workoutId);
+        long removed = 0;
+        if (workoutLikeRepository.deleteByWorkoutIdAndUserId(workoutId, userId) > 0) {
+            removed = 1;
+            counterService.incrementAfterCommit(CounterKind.WORKOUT_LIKES, workoutId, -1);
+        }
+        return PostLikeResponseDTO.builder()
+                .liked(false)
+                .likesCount(Math.max(0L, counterService.get(CounterKind.WORKOUT_LIKES, workoutId) - removed))
+                .build();
+    }
+
+    @Transactional
+    public PostCommentDTO addComment(Long userId, Long workoutId, String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("O comentário não pode estar em branco");
+        }
+        Workout workout = findWorkout(workoutId);
+        User author = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("Usuário não encontrado com o id: " + userId));
+
+        WorkoutComment comment = new WorkoutComment();
+        comment.setWorkout(workout);
+        comment.setAuthor(author);
+        comment.setText(text.trim());
+        comment.setCreatedAt(LocalDateTime.now());
+        comment.setUpdatedAt(comment.getCreatedAt());
+        WorkoutComment saved = workoutCommentRepository.save(comment);
+
+        counterService.incrementAfterCommit(CounterKind.WORKOUT_COMMENTS, workoutId, 1);
+        return PostCommentDTO.builder()
+                .id(saved.getId())
+                .text(saved.getText())
+                .author(UserSummaryDTO.builder().id(author.getId()).name(author.getUsername()).build())
+                .createdAt(saved.getCreatedAt())
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<PostCommentDTO> getComments(Long viewerId, Long workoutId, int page, int size) {
+        if (!workoutRepository.existsById(workoutId)) {
+            throw new EntityNotFoundException("Treino não encontrado com o id: " + workoutId);
+        }
+        Slice<PostCommentDTO> comments = workoutCommentRepository.findByWorkoutId(workoutId,
+                PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+        return new SliceImpl<>(PostInteractionService.withoutBlockedAuthors(comments.getContent(),
+                blockListCache.blockedIds(viewerId)), comments.getPageable(), comments.hasNext());
+    }
+
+    private Workout findWorkout(Long workoutId) {
+        return workoutRepository.findById(workoutId)
+                .orElseThrow(() -> new EntityNotFoundException("Treino não encontrado com o id: " + workoutId));
+    }
+}
@@ -0,0 +1,131 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.hevyclone.app.dto.userprogress.ExerciseSetBatchResponseDTO;
+import com.hevyclone.app.dto.userprogress.ExerciseSetRequestDTO;
+import com.hevyclone.app.dto.userprogress.PersonalRecordDTO;
+import com.hevyclone.app.model.exercise.Exercise;
+import com.hevyclone.app.model.notification.NotificationType;
+import com.hevyclone.app.model.userprogress.ExerciseSet;
+import com.hevyclone.app.model.userprogress.PersonalRecord;
+import com.hevyclone.app.model.userprogress.UserWorkoutLog;
+import com.hevyclone.app.repository.exercise.ExerciseRepository;
+import com.hevyclone.app.repository.userprogress.ExerciseSetRepository;
+import com.hevyclone.app.repository.userprogress.PersonalRecordRepository;
+import com.hevyclone.app.repository.userprogress.UserWorkoutLogRepository;
+import com.hevyclone.app.service.notification.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registro das séries executadas em um treino e disparo da detecção de recordes pessoais.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExerciseSetService {
+
+    private final ExerciseSetRepository exerciseSetRepository;
+    private final UserWorkoutLogRepository userWorkoutLogRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final PersonalRecordRepository personalRecordRepository;
+    private final PersonalRecordService personalRecordService;
+    private final PersonalRecordRebuildService personalRecordRebuildService;
+    private final NotificationService notificationService;
+
+    @Transactional(readOnly = true)
+    public List<ExerciseSet> getSetsByLogId(Long logId) {
+        return exerciseSetRepository.findByUserWorkoutLogIdOrderBySetNumberAsc(logId);
+    }
+
+    /**
+     * Grava as séries de um log do usuário e retorna os recordes batidos por elas.
+     */
+    @Transactional
+    public ExerciseSetBatchResponseDTO logSets(Long userId, Long logId, List<ExerciseSetRequestDTO> sets) {
+        UserWorkoutLog workoutLog = userWorkoutLogRepository.findById(logId)
+                .orElseThrow(() -> new RuntimeException("Log de treino não encontrado com o id: " + logId));
+        if (!workoutLog.getUser().getId().equals(userId)) {
+            throw new AccessDeniedException("Log de treino pertence a outro usuário");
+        }
+
+        List<Long> exerciseIds = sets.stream().map(ExerciseSetRequestDTO::getExerciseId).distinct().collect(Collectors.toList());
+        Map<Long, Exercise> exercises = exerciseRepository.findAllById(exerciseIds).stream()
+                .collect(Collectors.toMap(Exercise::getId, Function.identity()));
+        for (Long exerciseId : exerciseIds) {
+            if (!exercises.containsKey(exerciseId)) {
+                throw new IllegalArgumentException("Exercício não encontrado com o id: " + exerciseId);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ExerciseSet> entities = new ArrayList<>(sets.size());
+        for (ExerciseSetRequestDTO dto : sets) {
+            ExerciseSet set = new ExerciseSet();
+            set.setUser(workoutLog.getUser());
+            set.setUserWorkoutLog(workoutLog);
+            set.setExercise(exercises.get(dto.getExerciseId()));
+            set.setSetNumber(dto.getSetNumber());
+            set.setReps(dto.getReps());
+            set.setWeight(dto.getWeight());
+            set.setDistance(dto.getDistance());
+            set.setDurationSeconds(dto.getDurationSeconds());
+            set.setRestTimeSeconds(dto.getRestTimeSeconds());
+            set.setRpe(dto.getRpe());
+            set.setCompleted(dto.getCompleted() == null || dto.getCompleted());
+            set.setNotes(dto.getNotes());
+            set.setCreatedAt(now);
+            entities.add(set);
+        }
+        List<ExerciseSet> saved = exerciseSetRepository.saveAll(entities);
+
+        List<PersonalRecord> records = personalRecordService.evaluateSets(userId, saved);
+        if (!records.isEmpty()) {
+            String message = records.size() == 1
+                    ? "Novo recorde pessoal em " + records.get(0).getExercise().getName() + "!"
+                    : "Você bateu " + records.size() + " recordes pessoais neste treino!";
+            notificationService.enqueueNotification(userId, NotificationType.NEW_PR_ALERT, message, "/records");
+        }
+
+        return ExerciseSetBatchResponseDTO.builder()
+                .setIds(saved.stream().map(ExerciseSet::getId).collect(Collectors.toList()))
+                .newRecords(records.stream().map(this::toDto).collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Remove as séries de um log e recalcula os recordes dos exercícios afetados,
+     * já que a série removida pode ter sido a que estabeleceu um recorde.
+     */
+    @Transactional
+    public void deleteSetsOfLog(Long userId, Long logId) {
+        List<Long> exerciseIds = exerciseSetRepository.findExerciseIdsByUserWorkoutLogId(logId);
+        if (exerciseIds.isEmpty()) {
+            return;
+        }
+        // Os recordes apontam para as séries (FK): saem antes e são recalculados sem elas
+        personalRecordRepository.deleteByUserIdAndExerciseIdIn(userId, exerciseIds);
+        exerciseSetRepository.deleteByUserWorkoutLogId(logId);
+        personalRecordRebuildService.rebuild(userId, exerciseIds);
+    }
+
+    private PersonalRecordDTO toDto(PersonalRecord record) {
+        return PersonalRecordDTO.builder()
+                .id(record.getId())
+                .exerciseId(record.getExercise().getId())
+                .exerciseName(record.getExercise().getName())
+                .recordType(record.getRecordType())
+                .value(record.getValue())
+                .unit(record.getUnit())
+                .exerciseSetId(record.getExerciseSet().getId())
+                .achievedAt(record.getAchievedAt())
+                .build();
+    }
+}
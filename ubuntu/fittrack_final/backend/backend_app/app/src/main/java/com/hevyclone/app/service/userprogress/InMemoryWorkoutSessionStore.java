@@ -0,0 +1,55 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.hevyclone.app.dto.userprogress.WorkoutSessionState;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sessões na memória da JVM. Sobrevive a restart apenas pelo checkpoint no banco.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.sessions.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryWorkoutSessionStore implements WorkoutSessionStore {
+
+    private final Map<Long, WorkoutSessionState> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<WorkoutSessionState> get(Long userId) {
+        return Optional.ofNullable(sessions.get(userId));
+    }
+
+    @Override
+    public boolean compareAndSet(WorkoutSessionState state, Long expectedVersion) {
+        boolean[] written = new boolean[1];
+        sessions.compute(state.getUserId(), (userId, current) -> {
+            // get devolve a própria instância guardada: alterada no lugar, a versão já mudou
+            boolean unchanged = expectedVersion == null
+                    ? current == null
+                    : current != null && (current == state || current.getVersion() == expectedVersion);
+            written[0] = unchanged;
+            return unchanged ? state : current;
+        });
+        return written[0];
+    }
+
+    @Override
+    public void remove(Long userId) {
+        sessions.remove(userId);
+    }
+
+    @Override
+    public Collection<WorkoutSessionState> localSessions() {
+        return List.copyOf(sessions.values());
+    }
+
+    @Override
+    public long size() {
+        return sessions.size();
+    }
+}
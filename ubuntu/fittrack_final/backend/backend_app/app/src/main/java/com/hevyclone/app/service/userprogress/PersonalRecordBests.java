@@ -0,0 +1,93 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.hevyclone.app.model.userprogress.PersonalRecordType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Melhores marcas conhecidas de um usuário em um exercício, uma por tipo de recorde.
+ *
+ * Avaliar uma série é O(1): calcula os candidatos da série e compara com os valores guardados.
+ * Os métodos são sincronizados porque a mesma instância é compartilhada pelo cache do
+ * PersonalRecordService entre requisições concorrentes do mesmo usuário.
+ */
+public final class PersonalRecordBests {
+
+    // Acima disso a fórmula de Epley superestima o 1RM; a série ainda conta para os outros tipos
+    static final int MAX_REPS_FOR_1RM_ESTIMATE = 12;
+
+    private static final BigDecimal THIRTY = BigDecimal.valueOf(30);
+
+    private final EnumMap<PersonalRecordType, BigDecimal> values = new EnumMap<>(PersonalRecordType.class);
+
+    /**
+     * Valores que a série produziria para cada tipo de recorde aplicável.
+     */
+    public static Map<PersonalRecordType, BigDecimal> candidates(Integer reps, BigDecimal weight,
+                                                                BigDecimal distance, Integer durationSeconds) {
+        EnumMap<PersonalRecordType, BigDecimal> candidates = new EnumMap<>(PersonalRecordType.class);
+        boolean hasReps = reps != null && reps > 0;
+        boolean hasWeight = weight != null && weight.signum() > 0;
+
+        if (hasReps) {
+            candidates.put(PersonalRecordType.MAX_REPS, BigDecimal.valueOf(reps));
+        }
+        if (hasReps && hasWeight) {
+            BigDecimal repsValue = BigDecimal.valueOf(reps);
+            candidates.put(PersonalRecordType.MAX_WEIGHT, scale(weight));
+            candidates.put(PersonalRecordType.MAX_VOLUME, scale(weight.multiply(repsValue)));
+            if (reps <= MAX_REPS_FOR_1RM_ESTIMATE) {
+                // Epley: 1RM = carga x (1 + reps / 30); para 1 repetição vale a própria carga
+                BigDecimal estimate = reps == 1
+                        ? weight
+                        : weight.multiply(BigDecimal.ONE.add(repsValue.divide(THIRTY, 6, RoundingMode.HALF_UP)));
+                candidates.put(PersonalRecordType.ESTIMATED_1RM, scale(estimate));
+            }
+        }
+        if (durationSeconds != null && durationSeconds > 0 && distance == null) {
+            candidates.put(PersonalRecordType.BEST_TIME, BigDecimal.valueOf(durationSeconds));
+        }
+        return candidates;
+    }
+
+    public static String unitOf(PersonalRecordType type) {
+        switch (type) {
+            case MAX_REPS:
+                return "reps";
+            case BEST_TIME:
+                return "sec";
+            default:
+                return "kg";
+        }
+    }
+
+    /**
+     * Registra os candidatos que superam a marca atual e retorna apenas esses.
+     */
+    public synchronized Map<PersonalRecordType, BigDecimal> offer(Map<PersonalRecordType, BigDecimal> candidates) {
+        EnumMap<PersonalRecordType, BigDecimal> improved = new EnumMap<>(PersonalRecordType.class);
+        candidates.forEach((type, value) -> {
+            BigDecimal current = values.get(type);
+            if (current == null || value.compareTo(current) > 0) {
+                values.put(type, value);
+                improved.put(type, value);
+            }
+        });
+        return improved;
+    }
+
+    public synchronized void set(PersonalRecordType type, BigDecimal value) {
+        values.put(type, value);
+    }
+
+    public synchronized BigDecimal get(PersonalRecordType type) {
+        return values.get(type);
+    }
+
+    private static BigDecimal scale(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP);
+    }
+}
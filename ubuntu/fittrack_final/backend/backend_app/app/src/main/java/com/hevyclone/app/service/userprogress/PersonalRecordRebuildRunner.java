@@ -0,0 +1,28 @@
+package com.hevyclone.app.service.userprogress;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconstrói personal_records a partir de exercise_sets na subida da aplicação.
+ * Ligar com saga.pr.rebuild-on-startup=true para popular a tabela ou corrigir divergências.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "saga.pr.rebuild-on-startup", havingValue = "true")
+public class PersonalRecordRebuildRunner implements ApplicationRunner {
+
+    private final PersonalRecordRebuildService personalRecordRebuildService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        int records = personalRecordRebuildService.rebuildAll();
+        log.info("Rebuild de recordes concluído: {} recordes em {} ms", records, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,157 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.hevyclone.app.model.userprogress.PersonalRecordType;
+import com.hevyclone.app.repository.userprogress.PersonalRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reconstrução dos recordes pessoais a partir de exercise_sets.
+ *
+ * Lê o histórico em fluxo, ordenado por (usuário, exercício, série), com fetch size fixo para
+ * que o driver não materialize a tabela inteira em memória. Cada grupo (usuário, exercício)
+ * é avaliado com o mesmo PersonalRecordBests usado no caminho online; ao fechar o grupo, os
+ * recordes vão para um lote de INSERTs.
+ */
+@Service
+@Slf4j
+public class PersonalRecordRebuildService {
+
+    private static final String SELECT_SETS_SQL =
+            "SELECT s.id, s.user_id, s.exercise_id, s.reps, s.weight, s.distance, s.duration_seconds, l.completed_at " +
+            "FROM exercise_sets s JOIN user_workout_logs l ON l.id = s.user_workout_log_id " +
+            "WHERE s.is_completed = TRUE";
+
+    private static final String ORDER_BY_SQL = " ORDER BY s.user_id, s.exercise_id, s.id";
+
+    private static final String INSERT_RECORD_SQL =
+            "INSERT INTO personal_records " +
+            "(user_id, exercise_id, record_type, record_value, record_unit, exercise_set_id, achieved_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final PersonalRecordRepository personalRecordRepository;
+    private final PersonalRecordService personalRecordService;
+    private final int insertBatchSize;
+
+    public PersonalRecordRebuildService(DataSource dataSource,
+                                        PersonalRecordRepository personalRecordRepository,
+                                        PersonalRecordService personalRecordService,
+                                        @Value("${saga.pr.rebuild.fetch-size:1000}") int fetchSize,
+                                        @Value("${saga.pr.rebuild.batch-size:500}") int insertBatchSize) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.personalRecordRepository = personalRecordRepository;
+        this.personalRecordService = personalRecordService;
+        this.insertBatchSize = insertBatchSize;
+    }
+
+    /**
+     * Recalcula todos os recordes da base. O Postgres só usa cursor (fetch size) dentro de
+     * transação, por isso o método é transacional mesmo sendo dominado por leitura.
+     */
+    @Transactional
+    public int rebuildAll() {
+        streamingJdbcTemplate.update("DELETE FROM personal_records");
+        RecordWriter writer = new RecordWriter();
+        streamingJdbcTemplate.query(SELECT_SETS_SQL + ORDER_BY_SQL, writer);
+        writer.finish();
+        personalRecordService.evictAll();
+        log.info("Recordes pessoais reconstruídos: {} séries lidas, {} recordes gravados", writer.setsRead, writer.recordsWritten);
+        return writer.recordsWritten;
+    }
+
+    /**
+     * Recalcula os recordes de alguns exercícios de um usuário (ex: após excluir séries).
+     */
+    @Transactional
+    public int rebuild(Long userId, Collection<Long> exerciseIds) {
+        if (exerciseIds.isEmpty()) {
+            return 0;
+        }
+        personalRecordRepository.deleteByUserIdAndExerciseIdIn(userId, exerciseIds);
+        RecordWriter writer = new RecordWriter();
+        for (Long exerciseId : exerciseIds) {
+            streamingJdbcTemplate.query(SELECT_SETS_SQL + " AND s.user_id = ? AND s.exercise_id = ?" + ORDER_BY_SQL,
+                    writer, userId, exerciseId);
+        }
+        writer.finish();
+        personalRecordService.evict(userId, exerciseIds);
+        return writer.recordsWritten;
+    }
+
+    /**
+     * Acumula o grupo (usuário, exercício) corrente e grava os recordes em lotes.
+     */
+    private final class RecordWriter implements RowCallbackHandler {
+        private long currentUserId = -1;
+        private long currentExerciseId = -1;
+        private PersonalRecordBests bests = new PersonalRecordBests();
+        private final Map<PersonalRecordType, Object[]> bestRows = new EnumMap<>(PersonalRecordType.class);
+        private final List<Object[]> pending = new ArrayList<>();
+        private int setsRead;
+        private int recordsWritten;
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long setId = rs.getLong("id");
+            long userId = rs.getLong("user_id");
+            long exerciseId = rs.getLong("exercise_id");
+            if (userId != currentUserId || exerciseId != currentExerciseId) {
+                closeGroup();
+                currentUserId = userId;
+                currentExerciseId = exerciseId;
+                bests = new PersonalRecordBests();
+            }
+            setsRead++;
+
+            Integer reps = rs.getObject("reps", Integer.class);
+            BigDecimal weight = rs.getBigDecimal("weight");
+            BigDecimal distance = rs.getBigDecimal("distance");
+            Integer durationSeconds = rs.getObject("duration_seconds", Integer.class);
+            Timestamp achievedAt = rs.getTimestamp("completed_at");
+
+            bests.offer(PersonalRecordBests.candidates(reps, weight, distance, durationSeconds))
+                    .forEach((type, value) -> bestRows.put(type, new Object[]{
+                            userId, exerciseId, type.name(), value, PersonalRecordBests.unitOf(type), setId, achievedAt
+                    }));
+        }
+
+        private void closeGroup() {
+            pending.addAll(bestRows.values());
+            bestRows.clear();
+            if (pending.size() >= insertBatchSize) {
+                flush();
+            }
+        }
+
+        void finish() {
+            closeGroup();
+            flush();
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            streamingJdbcTemplate.batchUpdate(INSERT_RECORD_SQL, pending);
+            recordsWritten += pending.size();
+            pending.clear();
+        }
+    }
+}
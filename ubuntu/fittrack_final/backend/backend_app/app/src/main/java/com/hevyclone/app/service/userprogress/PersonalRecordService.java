@@ -0,0 +1,190 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.hevyclone.app.dto.userprogress.PersonalRecordDTO;
+import com.hevyclone.app.model.exercise.Exercise;
+import com.hevyclone.app.model.userprogress.ExerciseSet;
+import com.hevyclone.app.model.userprogress.PersonalRecord;
+import com.hevyclone.app.model.userprogress.PersonalRecordType;
+import com.hevyclone.app.repository.userprogress.PersonalRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detecção de recordes pessoais (PRs) série a série.
+ *
+ * Mantém em memória as melhores marcas por (usuário, exercício). A primeira série de um par
+ * carrega as marcas com uma consulta indexada; a partir daí cada série é avaliada em O(1),
+ * sem varrer o histórico, e só há escrita em personal_records quando um recorde é batido.
+ * Se a transação for desfeita, as entradas tocadas são descartadas e recarregadas do banco.
+ *
+ * O cache é por JVM: outra réplica pode ter gravado uma marca maior. Antes de gravar, o valor
+ * da linha (travada) é comparado com o novo; se já for igual ou maior, nada é gravado e o cache
+ * passa a usar o valor do banco.
+ */
+@Service
+@Slf4j
+public class PersonalRecordService {
+
+    private final PersonalRecordRepository personalRecordRepository;
+    private final MeterRegistry meterRegistry;
+    private final int cacheMaxEntries;
+
+    private final Map<BestsKey, PersonalRecordBests> bestsCache = new ConcurrentHashMap<>();
+
+    public PersonalRecordService(PersonalRecordRepository personalRecordRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${saga.pr.cache-max-entries:100000}") int cacheMaxEntries) {
+        this.personalRecordRepository = personalRecordRepository;
+        this.meterRegistry = meterRegistry;
+        this.cacheMaxEntries = cacheMaxEntries;
+        meterRegistry.gaugeMapSize("saga.pr.cache.entries", List.of(), bestsCache);
+    }
+
+    /**
+     * Avalia as séries recém-gravadas e grava os recordes batidos. Deve rodar na mesma
+     * transação que gravou as séries.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<PersonalRecord> evaluateSets(Long userId, Collection<ExerciseSet> sets) {
+        List<PersonalRecord> newRecords = new ArrayList<>();
+        Set<BestsKey> touched = new HashSet<>();
+        for (ExerciseSet set : sets) {
+            if (!set.isCompleted()) {
+                continue;
+            }
+            Exercise exercise = set.getExercise();
+            BestsKey key = new BestsKey(userId, exercise.getId());
+            PersonalRecordBests bests = bestsFor(key);
+            Map<PersonalRecordType, BigDecimal> improved = bests.offer(PersonalRecordBests.candidates(
+                    set.getReps(), set.getWeight(), set.getDistance(), set.getDurationSeconds()));
+            if (improved.isEmpty()) {
+                continue;
+            }
+            touched.add(key);
+            improved.forEach((type, value) -> saveRecord(set, exercise, type, value, bests).ifPresent(newRecords::add));
+        }
+
+        if (!touched.isEmpty()) {
+            evictOnRollback(touched);
+            meterRegistry.counter("saga.pr.detected").increment(newRecords.size());
+        }
+        return newRecords;
+    }
+
+    @Transactional(readOnly = true)
+    public List<PersonalRecordDTO> getRecords(Long userId) {
+        return personalRecordRepository.findDtosByUserId(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PersonalRecordDTO> getRecords(Long userId, Long exerciseId) {
+        return personalRecordRepository.findDtosByUserIdAndExerciseId(userId, exerciseId);
+    }
+
+    /**
+     * Descarta as marcas em memória de um usuário (após rebuild ou exclusão de séries).
+     */
+    public void evict(Long userId, Collection<Long> exerciseIds) {
+        exerciseIds.forEach(exerciseId -> bestsCache.remove(new BestsKey(userId, exerciseId)));
+    }
+
+    public void evictAll() {
+        bestsCache.clear();
+    }
+
+    private PersonalRecordBests bestsFor(BestsKey key) {
+        PersonalRecordBests bests = bestsCache.get(key);
+        if (bests != null) {
+            return bests;
+        }
+        if (bestsCache.size() >= cacheMaxEntries) {
+            // Limite simples de memória: as entradas são recarregadas sob demanda
+            log.info("Cache de recordes atingiu {} entradas; limpando", bestsCache.size());
+            bestsCache.clear();
+        }
+        PersonalRecordBests loaded = new PersonalRecordBests();
+        personalRecordRepository.findValuesByUserIdAndExerciseId(key.userId, key.exerciseId)
+                .forEach(ref -> loaded.set(ref.getRecordType(), ref.getValue()));
+        PersonalRecordBests existing = bestsCache.putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    // Vazio se o banco já tem marca igual ou maior, gravada por outra réplica
+    private Optional<PersonalRecord> saveRecord(ExerciseSet set, Exercise exercise, PersonalRecordType type,
+                                                BigDecimal value, PersonalRecordBests bests) {
+        Optional<PersonalRecord> existing = personalRecordRepository
+                .findByUserIdAndExerciseIdAndRecordType(set.getUser().getId(), exercise.getId(), type);
+        if (existing.isPresent() && existing.get().getValue().compareTo(value) >= 0) {
+            bests.set(type, existing.get().getValue());
+            return Optional.empty();
+        }
+        PersonalRecord record = existing
+                .orElseGet(() -> {
+                    PersonalRecord created = new PersonalRecord();
+                    created.setUser(set.getUser());
+                    created.setExercise(exercise);
+                    created.setRecordType(type);
+                    created.setUnit(PersonalRecordBests.unitOf(type));
+                    return created;
+                });
+        record.setValue(value);
+        record.setExerciseSet(set);
+        record.setAchievedAt(set.getUserWorkoutLog().getCompletedAt());
+        return Optional.of(personalRecordRepository.save(record));
+    }
+
+    private void evictOnRollback(Set<BestsKey> keys) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    keys.forEach(bestsCache::remove);
+                }
+            }
+        });
+    }
+
+    private static final class BestsKey {
+        private final long userId;
+        private final long exerciseId;
+
+        private BestsKey(long userId, long exerciseId) {
+            this.userId = userId;
+            this.exerciseId = exerciseId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BestsKey)) {
+                return false;
+            }
+            BestsKey other = (BestsKey) o;
+            return userId == other.userId && exerciseId == other.exerciseId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, exerciseId);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sessões no Redis (JSON por usuário, com TTL renovado a cada alteração). Usado quando as
+ * réplicas não têm afinidade de sessão: qualquer pod lê o estado mais recente, e a gravação
+ * só acontece se a versão no Redis ainda for a lida (script Lua).
+ */
+@Component
+@ConditionalOnProperty(name = "saga.sessions.store", havingValue = "redis")
+public class RedisWorkoutSessionStore implements WorkoutSessionStore {
+
+    private static final String KEY_PREFIX = "saga:session:";
+    private static final String INDEX_KEY = "saga:sessions";
+
+    // KEYS[1] = sessão, KEYS[2] = índice; ARGV = versão esperada ('' se ausente), JSON, TTL em
+    // segundos, usuário. Comparar e gravar no mesmo script evita que outra réplica grave no meio
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if ARGV[1] == '' then " +
+            "  if current then return 0 end " +
+            "elseif not current or cjson.decode(current).version ~= tonumber(ARGV[1]) then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "redis.call('SADD', KEYS[2], ARGV[4]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public RedisWorkoutSessionStore(StringRedisTemplate redisTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${saga.sessions.ttl-hours:12}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    @Override
+    public Optional<WorkoutSessionState> get(Long userId) {
+        String json = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, WorkoutSessionState.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Sessão de treino corrompida no Redis para o usuário " + userId, e);
+        }
+    }
+
+    @Override
+    public boolean compareAndSet(WorkoutSessionState state, Long expectedVersion) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar a sessão de treino", e);
+        }
+        Long written = redisTemplate.execute(COMPARE_AND_SET_SCRIPT,
+                List.of(KEY_PREFIX + state.getUserId(), INDEX_KEY),
+                expectedVersion == null ? "" : expectedVersion.toString(), json,
+                String.valueOf(ttl.getSeconds()), state.getUserId().toString());
+        return written != null && written == 1;
+    }
+
+    @Override
+    public void remove(Long userId) {
+        redisTemplate.delete(KEY_PREFIX + userId);
+        redisTemplate.opsForSet().remove(INDEX_KEY, userId.toString());
+    }
+
+    @Override
+    public Collection<WorkoutSessionState> localSessions() {
+        return List.of(); // Expiração pelo TTL das chaves
+    }
+
+    @Override
+    public long size() {
+        // O índice pode conter ids de sessões expiradas pelo TTL; é uma métrica aproximada
+        Long size = redisTemplate.opsForSet().size(INDEX_KEY);
+        return size != null ? size : 0;
+    }
+}
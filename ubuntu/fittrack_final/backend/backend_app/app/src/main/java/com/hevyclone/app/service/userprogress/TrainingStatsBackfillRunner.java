@@ -0,0 +1,29 @@
+package com.hevyclone.app.service.userprogress;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executa o backfill dos agregados de estatísticas na subida da aplicação.
+ * Ligar com saga.stats.backfill-on-startup=true apenas na implantação que cria as tabelas
+ * (ou para corrigir divergências) e desligar em seguida.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "saga.stats.backfill-on-startup", havingValue = "true")
+public class TrainingStatsBackfillRunner implements ApplicationRunner {
+
+    private final TrainingStatsBackfillService trainingStatsBackfillService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        int rebuilt = trainingStatsBackfillService.rebuildAll();
+        log.info("Backfill de estatísticas concluído: {} usuários em {} ms", rebuilt, System.currentTimeMillis() - start);
+    }
+}
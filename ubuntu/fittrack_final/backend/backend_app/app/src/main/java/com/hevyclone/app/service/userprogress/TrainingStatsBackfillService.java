@@ -0,0 +1,93 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.hevyclone.app.model.userprogress.UserDailyStats;
+import com.hevyclone.app.model.userprogress.UserWeeklyStats;
+import com.hevyclone.app.repository.userprogress.UserDailyStatsRepository;
+import com.hevyclone.app.repository.userprogress.UserWeeklyStatsRepository;
+import com.hevyclone.app.repository.userprogress.UserWorkoutLogRepository;
+import com.hevyclone.app.repository.userprogress.UserWorkoutLogRepository.DailyLogTotals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Recalcula do zero os agregados de estatísticas a partir de user_workout_logs.
+ *
+ * Usado para popular as tabelas na primeira implantação e para corrigir divergências.
+ * Cada usuário é reconstruído em sua própria transação, com uma consulta GROUP BY por dia;
+ * as semanas são derivadas dos dias em memória.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrainingStatsBackfillService {
+
+    private static final int USER_CHUNK_SIZE = 500;
+
+    private final UserWorkoutLogRepository userWorkoutLogRepository;
+    private final UserDailyStatsRepository userDailyStatsRepository;
+    private final UserWeeklyStatsRepository userWeeklyStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional
+    public void rebuildUser(Long userId) {
+        rebuild(userId);
+    }
+
+    /**
+     * Percorre todos os usuários com logs em blocos de ids. Não é transacional: cada usuário
+     * é confirmado de forma independente, e uma falha não desfaz os anteriores.
+     */
+    public int rebuildAll() {
+        int rebuilt = 0;
+        Long lastUserId = 0L;
+        List<Long> userIds;
+        do {
+            userIds = userWorkoutLogRepository.findUserIdsWithLogsAfter(lastUserId, PageRequest.of(0, USER_CHUNK_SIZE));
+            for (Long userId : userIds) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> rebuild(userId));
+                    rebuilt++;
+                } catch (RuntimeException e) {
+                    log.error("Falha ao reconstruir estatísticas do usuário {}", userId, e);
+                }
+                lastUserId = userId;
+            }
+            log.info("Backfill de estatísticas: {} usuários reconstruídos até o id {}", rebuilt, lastUserId);
+        } while (userIds.size() == USER_CHUNK_SIZE);
+        return rebuilt;
+    }
+
+    private void rebuild(Long userId) {
+        userDailyStatsRepository.deleteAllByUserId(userId);
+        userWeeklyStatsRepository.deleteAllByUserId(userId);
+
+        List<UserDailyStats> days = new ArrayList<>();
+        Map<LocalDate, UserWeeklyStats> weeks = new TreeMap<>();
+        for (DailyLogTotals totals : userWorkoutLogRepository.sumDailyTotalsByUserId(userId)) {
+            UserDailyStats day = new UserDailyStats(userId, totals.getDay());
+            day.setWorkoutCount(totals.getWorkouts().intValue());
+            day.setTimedWorkoutCount(totals.getTimedWorkouts().intValue());
+            day.setTotalDurationMinutes(totals.getMinutes());
+            days.add(day);
+
+            UserWeeklyStats week = weeks.computeIfAbsent(TrainingStatsRollupService.weekStartOf(totals.getDay()),
+                    weekStart -> new UserWeeklyStats(userId, weekStart));
+            week.setWorkoutCount(week.getWorkoutCount() + day.getWorkoutCount());
+            week.setTimedWorkoutCount(week.getTimedWorkoutCount() + day.getTimedWorkoutCount());
+            week.setTotalDurationMinutes(week.getTotalDurationMinutes() + day.getTotalDurationMinutes());
+        }
+
+        userDailyStatsRepository.saveAll(days);
+        userWeeklyStatsRepository.saveAll(weeks.values());
+    }
+}
@@ -0,0 +1,174 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.hevyclone.app.config.sql.SqlDialect;
+import com.hevyclone.app.repository.userprogress.UserDailyStatsRepository;
+import com.hevyclone.app.repository.userprogress.UserWeeklyStatsRepository;
+import com.hevyclone.app.service.leaderboard.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Manutenção incremental dos agregados diários e semanais de treino.
+ *
+ * Cada alteração em user_workout_logs vira um delta (+1/-1 treino, +/- minutos) aplicado
+ * atomicamente na linha do dia e da semana. Delta que acrescenta treinos é um upsert (a linha
+ * nasce no primeiro treino do período, mesmo com dois chegando ao mesmo tempo); os demais são
+ * UPDATE numa linha que já existe. Os métodos exigem transação aberta: o agregado é gravado
+ * junto com o log ou nada é gravado. Os mesmos deltas diários alimentam os rankings após o commit.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrainingStatsRollupService {
+
+    // %1$s tabela, %2$s coluna do período (stat_date ou week_start)
+    private static final String UPSERT_SQL =
+            "INSERT INTO %1$s (user_id, %2$s, workout_count, timed_workout_count, total_duration_minutes) " +
+            "VALUES (?, ?, ?, ?, ?) ON CONFLICT (user_id, %2$s) DO UPDATE SET " +
+            "workout_count = %1$s.workout_count + EXCLUDED.workout_count, " +
+            "timed_workout_count = %1$s.timed_workout_count + EXCLUDED.timed_workout_count, " +
+            "total_duration_minutes = %1$s.total_duration_minutes + EXCLUDED.total_duration_minutes";
+
+    private static final String MERGE_SQL =
+            "MERGE INTO %1$s t USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS INT), CAST(? AS INT), " +
+            "CAST(? AS BIGINT))) s (user_id, period, workouts, timed_workouts, minutes) " +
+            "ON t.user_id = s.user_id AND t.%2$s = s.period " +
+            "WHEN MATCHED THEN UPDATE SET workout_count = t.workout_count + s.workouts, " +
+            "timed_workout_count = t.timed_workout_count + s.timed_workouts, " +
+            "total_duration_minutes = t.total_duration_minutes + s.minutes " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, %2$s, workout_count, timed_workout_count, total_duration_minutes) " +
+            "VALUES (s.user_id, s.period, s.workouts, s.timed_workouts, s.minutes)";
+
+    private final UserDailyStatsRepository userDailyStatsRepository;
+    private final UserWeeklyStatsRepository userWeeklyStatsRepository;
+    private final LeaderboardService leaderboardService;
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlDialect sqlDialect;
+
+    /**
+     * Segunda-feira da semana ISO que contém a data.
+     */
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordLog(Long userId, LocalDateTime completedAt, Integer durationMinutes) {
+        applyChanges(userId, List.of(LogChange.added(completedAt, durationMinutes)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordLogs(Long userId, Collection<LogChange> changes) {
+        applyChanges(userId, changes);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void replaceLog(Long userId,
+                           LocalDateTime oldCompletedAt, Integer oldDurationMinutes,
+                           LocalDateTime newCompletedAt, Integer newDurationMinutes) {
+        applyChanges(userId, List.of(
+                LogChange.removed(oldCompletedAt, oldDurationMinutes),
+                LogChange.added(newCompletedAt, newDurationMinutes)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeLog(Long userId, LocalDateTime completedAt, Integer durationMinutes) {
+        applyChanges(userId, List.of(LogChange.removed(completedAt, durationMinutes)));
+    }
+
+    private void applyChanges(Long userId, Collection<LogChange> changes) {
+        // Consolida por período antes de ir ao banco: um lote de sync com 200 logs na mesma
+        // semana vira um único UPDATE semanal. TreeMap mantém a ordem das linhas tocadas igual
+        // entre transações concorrentes, evitando deadlock.
+        Map<LocalDate, Delta> daily = new TreeMap<>();
+        Map<LocalDate, Delta> weekly = new TreeMap<>();
+        for (LogChange change : changes) {
+            LocalDate day = change.completedAt.toLocalDate();
+            daily.computeIfAbsent(day, d -> new Delta()).add(change);
+            weekly.computeIfAbsent(weekStartOf(day), d -> new Delta()).add(change);
+        }
+
+        daily.forEach((day, delta) -> {
+            if (delta.isEmpty()) {
+                return;
+            }
+            leaderboardService.recordAfterCommit(userId, day, delta.workouts, delta.minutes);
+            if (delta.workouts > 0) {
+                upsert("user_daily_stats", "stat_date", userId, day, delta);
+            } else if (userDailyStatsRepository.applyDelta(userId, day, delta.workouts, delta.timedWorkouts, delta.minutes) == 0) {
+                log.warn("Agregado diário ausente para o usuário {} em {}; execute o backfill", userId, day);
+            }
+        });
+
+        weekly.forEach((weekStart, delta) -> {
+            if (delta.isEmpty()) {
+                return;
+            }
+            if (delta.workouts > 0) {
+                upsert("user_weekly_stats", "week_start", userId, weekStart, delta);
+            } else if (userWeeklyStatsRepository.applyDelta(userId, weekStart, delta.workouts, delta.timedWorkouts, delta.minutes) == 0) {
+                log.warn("Agregado semanal ausente para o usuário {} na semana {}; execute o backfill", userId, weekStart);
+            }
+        });
+    }
+
+    // JdbcTemplate participa da transação JPA corrente (mesma conexão)
+    private void upsert(String table, String periodColumn, Long userId, LocalDate period, Delta delta) {
+        String sql = String.format(sqlDialect.pick(UPSERT_SQL, MERGE_SQL), table, periodColumn);
+        jdbcTemplate.update(sql, userId, period, delta.workouts, delta.timedWorkouts, delta.minutes);
+    }
+
+    /**
+     * Alteração de um log do ponto de vista dos agregados.
+     */
+    public static final class LogChange {
+        private final LocalDateTime completedAt;
+        private final Integer durationMinutes;
+        private final int sign;
+
+        private LogChange(LocalDateTime completedAt, Integer durationMinutes, int sign) {
+            this.completedAt = completedAt;
+            this.durationMinutes = durationMinutes;
+            this.sign = sign;
+        }
+
+        public static LogChange added(LocalDateTime completedAt, Integer durationMinutes) {
+            return new LogChange(completedAt, durationMinutes, 1);
+        }
+
+        public static LogChange removed(LocalDateTime completedAt, Integer durationMinutes) {
+            return new LogChange(completedAt, durationMinutes, -1);
+        }
+    }
+
+    private static final class Delta {
+        private int workouts;
+        private int timedWorkouts;
+        private long minutes;
+
+        void add(LogChange change) {
+            workouts += change.sign;
+            if (change.durationMinutes != null) {
+                timedWorkouts += change.sign;
+                minutes += (long) change.sign * change.durationMinutes;
+            }
+        }
+
+        boolean isEmpty() {
+            return workouts == 0 && timedWorkouts == 0 && minutes == 0;
+        }
+    }
+}
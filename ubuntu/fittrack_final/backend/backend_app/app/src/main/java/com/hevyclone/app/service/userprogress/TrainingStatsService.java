@@ -0,0 +1,130 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.hevyclone.app.dto.userprogress.TrainingPeriodStatsDTO;
+import com.hevyclone.app.dto.userprogress.TrainingStatsDTO;
+import com.hevyclone.app.model.userprogress.UserDailyStats;
+import com.hevyclone.app.model.userprogress.UserWeeklyStats;
+import com.hevyclone.app.repository.userprogress.UserDailyStatsRepository;
+import com.hevyclone.app.repository.userprogress.UserWeeklyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leitura das estatísticas de treino do usuário.
+ *
+ * Totais, médias e sequências vêm das linhas semanais (uma por semana com treino) e a
+ * tendência recente das linhas diárias dos últimos 30 dias. O custo cresce com o número
+ * de semanas treinadas, não com o número de logs.
+ */
+@Service
+@RequiredArgsConstructor
+public class TrainingStatsService {
+
+    static final int RECENT_WEEKS = 12;
+    static final int RECENT_DAYS = 30;
+
+    private final UserWeeklyStatsRepository userWeeklyStatsRepository;
+    private final UserDailyStatsRepository userDailyStatsRepository;
+
+    @Transactional(readOnly = true)
+    public TrainingStatsDTO getStats(Long userId) {
+        return getStats(userId, LocalDate.now());
+    }
+
+    @Transactional(readOnly = true)
+    public TrainingStatsDTO getStats(Long userId, LocalDate today) {
+        List<UserWeeklyStats> weeks = userWeeklyStatsRepository.findByUserIdAndWorkoutCountGreaterThanOrderByWeekStartAsc(userId, 0);
+        LocalDate thisWeek = TrainingStatsRollupService.weekStartOf(today);
+
+        long totalWorkouts = 0;
+        long timedWorkouts = 0;
+        long totalMinutes = 0;
+        int workoutsThisWeek = 0;
+        int run = 0;
+        int longestRun = 0;
+        LocalDate previousWeek = null;
+        Map<LocalDate, UserWeeklyStats> weeksByStart = new HashMap<>();
+        for (UserWeeklyStats week : weeks) {
+            totalWorkouts += week.getWorkoutCount();
+            timedWorkouts += week.getTimedWorkoutCount();
+            totalMinutes += week.getTotalDurationMinutes();
+            run = previousWeek != null && previousWeek.plusWeeks(1).equals(week.getWeekStart()) ? run + 1 : 1;
+            longestRun = Math.max(longestRun, run);
+            previousWeek = week.getWeekStart();
+            if (week.getWeekStart().equals(thisWeek)) {
+                workoutsThisWeek = week.getWorkoutCount();
+            }
+            weeksByStart.put(week.getWeekStart(), week);
+        }
+
+        // A semana atual ainda está em andamento: a sequência continua viva se a última semana
+        // com treino for esta ou a anterior
+        int currentRun = previousWeek != null && !previousWeek.isBefore(thisWeek.minusWeeks(1)) ? run : 0;
+
+        LocalDate firstWeek = weeks.isEmpty() ? null : weeks.get(0).getWeekStart();
+        double averagePerWeek = 0.0;
+        if (firstWeek != null) {
+            long weekSpan = Math.max(ChronoUnit.WEEKS.between(firstWeek, thisWeek) + 1, 1);
+            averagePerWeek = round((double) totalWorkouts / weekSpan);
+        }
+
+        List<TrainingPeriodStatsDTO> recentWeeks = new ArrayList<>(RECENT_WEEKS);
+        for (int i = RECENT_WEEKS - 1; i >= 0; i--) {
+            LocalDate weekStart = thisWeek.minusWeeks(i);
+            UserWeeklyStats week = weeksByStart.get(weekStart);
+            recentWeeks.add(period(weekStart,
+                    week != null ? week.getWorkoutCount() : 0,
+                    week != null ? week.getTotalDurationMinutes() : 0));
+        }
+
+        return TrainingStatsDTO.builder()
+                .totalWorkouts(totalWorkouts)
+                .completedWorkouts(totalWorkouts)
+                .totalDurationMinutes(totalMinutes)
+                .averageDuration(timedWorkouts > 0 ? round((double) totalMinutes / timedWorkouts) : 0.0)
+                .workoutsThisWeek(workoutsThisWeek)
+                .averageWorkoutsPerWeek(averagePerWeek)
+                .currentWeekStreak(currentRun)
+                .longestWeekStreak(longestRun)
+                .firstWorkoutWeek(firstWeek)
+                .recentWeeks(recentWeeks)
+                .recentDays(recentDays(userId, today))
+                .build();
+    }
+
+    private List<TrainingPeriodStatsDTO> recentDays(Long userId, LocalDate today) {
+        LocalDate from = today.minusDays(RECENT_DAYS - 1);
+        Map<LocalDate, UserDailyStats> daysByDate = new HashMap<>();
+        userDailyStatsRepository.findByUserIdAndStatDateGreaterThanEqualOrderByStatDateAsc(userId, from)
+                .forEach(day -> daysByDate.put(day.getStatDate(), day));
+
+        List<TrainingPeriodStatsDTO> days = new ArrayList<>(RECENT_DAYS);
+        for (LocalDate date = from; !date.isAfter(today); date = date.plusDays(1)) {
+            UserDailyStats day = daysByDate.get(date);
+            days.add(period(date,
+                    day != null ? day.getWorkoutCount() : 0,
+                    day != null ? day.getTotalDurationMinutes() : 0));
+        }
+        return days;
+    }
+
+    private TrainingPeriodStatsDTO period(LocalDate start, int workouts, long minutes) {
+        return TrainingPeriodStatsDTO.builder()
+                .periodStart(start)
+                .workouts(workouts)
+                .durationMinutes(minutes)
+                .build();
+    }
+
+    private double round(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
@@ -1,7 +1,6 @@
 package com.hevyclone.app.service.userprogress;
 
 import com.hevyclone.app.model.routine.Workout;
-import com.hevyclone.app.model.userprogress.UserRoutine;
 import com.hevyclone.app.model.userprogress.UserWorkoutLog;
 import com.hevyclone.app.repository.routine.WorkoutRepository;
 import com.hevyclone.app.repository.userprogress.UserRoutineRepository;
@@ -31,6 +30,12 @@ public class UserWorkoutLogService {
     @Autowired
     private UserRoutineRepository userRoutineRepository; // Para associar o log à rotina ativa do usuário
 
+    @Autowired
+    private TrainingStatsRollupService trainingStatsRollupService; // Agregados diários/semanais do perfil
+
+    @Autowired
+    private ExerciseSetService exerciseSetService; // Séries do log e recordes derivados delas
+
     @Transactional(readOnly = true)
     public List<UserWorkoutLog> getLogsByUserId(Long userId) {
         return userWorkoutLogRepository.findByUserId(userId);
@@ -48,10 +53,19 @@ public class UserWorkoutLogService {
 
     @Transactional
     public UserWorkoutLog logWorkout(Long userId, Long workoutId, UserWorkoutLog logDetails) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado com o id: " + userId));
-        Workout workout = workoutRepository.findById(workoutId)
-                .orElseThrow(() -> new RuntimeException("Workout não encontrado com o id: " + workoutId));
+        // Reenvio com a mesma chave de idempotência devolve o log já gravado
+        if (logDetails.getIdempotencyKey() != null) {
+            Optional<UserWorkoutLog> existingLog = userWorkoutLogRepository
+                    .findByUserIdAndIdempotencyKey(userId, logDetails.getIdempotencyKey());
+            if (existingLog.isPresent()) {
+                return existingLog.get();
+            }
+        }
+
+        // Usuário e workout entram como referências (proxies): nenhum SELECT extra.
+        // Se o workout não existir, a FK falha no INSERT e o controller responde 400.
+        User user = userRepository.getReferenceById(userId);
+        Workout workout = workoutRepository.getReferenceById(workoutId);
 
         UserWorkoutLog newLog = new UserWorkoutLog();
         newLog.setUser(user);
@@ -59,28 +73,28 @@ public class UserWorkoutLogService {
         newLog.setCompletedAt(logDetails.getCompletedAt() != null ? logDetails.getCompletedAt() : LocalDateTime.now());
         newLog.setDurationMinutes(logDetails.getDurationMinutes());
         newLog.setNotes(logDetails.getNotes());
+        newLog.setIdempotencyKey(logDetails.getIdempotencyKey());
 
-        // Tenta associar à rotina ativa do usuário, se houver uma e se o workout pertencer a essa rotina
-        Optional<UserRoutine> activeUserRoutineOpt = userRoutineRepository.findByUserIdAndActiveTrue(userId);
-        if (activeUserRoutineOpt.isPresent()) {
-            UserRoutine activeUserRoutine = activeUserRoutineOpt.get();
-            // Verifica se o workout logado pertence à rotina ativa
-            boolean workoutBelongsToActiveRoutine = activeUserRoutine.getRoutine().getWorkouts().stream()
-                .anyMatch(w -> w.getId().equals(workoutId));
-            if (workoutBelongsToActiveRoutine) {
-                 newLog.setUserRoutine(activeUserRoutine);
-            }
-        }
-        
-        // Aqui poderiam ser disparados eventos para verificar PRs ou notificar amigos, por exemplo.
+        // Associa à rotina ativa do usuário somente se o workout pertencer a ela.
+        // Uma consulta de existência indexada substitui o carregamento de routine.getWorkouts(),
+        // então o custo não depende do tamanho da rotina.
+        userRoutineRepository.findActiveUserRoutineIdContainingWorkout(userId, workoutId)
+                .map(userRoutineRepository::getReferenceById)
+                .ifPresent(newLog::setUserRoutine);
+
+        // Os PRs são avaliados quando as séries do treino são registradas (ExerciseSetService.logSets).
 
-        return userWorkoutLogRepository.save(newLog);
+        UserWorkoutLog savedLog = userWorkoutLogRepository.save(newLog);
+        trainingStatsRollupService.recordLog(userId, savedLog.getCompletedAt(), savedLog.getDurationMinutes());
+        return savedLog;
     }
 
     @Transactional
     public UserWorkoutLog updateWorkoutLog(Long logId, UserWorkoutLog logDetails) {
         UserWorkoutLog existingLog = userWorkoutLogRepository.findById(logId)
                 .orElseThrow(() -> new RuntimeException("Log de treino não encontrado com o id: " + logId));
+        LocalDateTime previousCompletedAt = existingLog.getCompletedAt();
+        Integer previousDurationMinutes = existingLog.getDurationMinutes();
 
         // Apenas alguns campos são tipicamente editáveis após o log inicial
         existingLog.setDurationMinutes(logDetails.getDurationMinutes());
@@ -90,6 +104,9 @@ public class UserWorkoutLogService {
         }
         // O usuário e o workout geralmente não são alterados em um log existente.
 
+        trainingStatsRollupService.replaceLog(existingLog.getUser().getId(),
+                previousCompletedAt, previousDurationMinutes,
+                existingLog.getCompletedAt(), existingLog.getDurationMinutes());
         return userWorkoutLogRepository.save(existingLog);
     }
 
@@ -97,7 +114,10 @@ public class UserWorkoutLogService {
     public void deleteWorkoutLog(Long logId) {
         UserWorkoutLog existingLog = userWorkoutLogRepository.findById(logId)
                 .orElseThrow(() -> new RuntimeException("Log de treino não encontrado com o id: " + logId));
+        exerciseSetService.deleteSetsOfLog(existingLog.getUser().getId(), logId);
         userWorkoutLogRepository.delete(existingLog);
+        trainingStatsRollupService.removeLog(existingLog.getUser().getId(),
+                existingLog.getCompletedAt(), existingLog.getDurationMinutes());
     }
 }
 
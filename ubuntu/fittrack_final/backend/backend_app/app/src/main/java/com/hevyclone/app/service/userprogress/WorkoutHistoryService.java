@@ -0,0 +1,115 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.hevyclone.app.dto.userprogress.WorkoutHistoryEntryDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutHistorySliceDTO;
+import com.hevyclone.app.repository.userprogress.UserWorkoutLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Consultas do histórico de treinos do usuário.
+ *
+ * As duas formas de paginação leem apenas o intervalo pedido pelo índice
+ * (user_id, completed_at DESC, id DESC) e projetam direto para DTO, sem carregar entidades.
+ * A paginação por cursor é a recomendada para o app: o custo de cada página é o mesmo
+ * para um usuário novo e para quem tem anos de histórico.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkoutHistoryService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Limites usados quando o cliente não informa o período
+    private static final LocalDateTime MIN_COMPLETED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_COMPLETED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final UserWorkoutLogRepository userWorkoutLogRepository;
+
+    /**
+     * Histórico paginado por número de página; startDate e endDate são inclusivos e opcionais.
+     */
+    @Transactional(readOnly = true)
+    public Page<WorkoutHistoryEntryDTO> getHistoryPage(Long userId, LocalDate startDate, LocalDate endDate, int page, int size) {
+        return userWorkoutLogRepository.findHistoryPage(
+                userId, lowerBound(startDate), upperBound(endDate), PageRequest.of(Math.max(page, 0), clampSize(size)));
+    }
+
+    /**
+     * Histórico paginado por cursor. Sem cursor, começa pelo treino mais recente até endDate.
+     */
+    @Transactional(readOnly = true)
+    public WorkoutHistorySliceDTO getHistorySlice(Long userId, LocalDate startDate, LocalDate endDate, String cursor, int size) {
+        int pageSize = clampSize(size);
+        LocalDateTime beforeCompletedAt;
+        long beforeId;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            try {
+                beforeCompletedAt = LocalDateTime.parse(position[0]);
+                beforeId = Long.parseLong(position[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Cursor de histórico inválido", e);
+            }
+        } else {
+            // (to, 0) exclui tudo a partir de "to", o mesmo limite superior da paginação por página
+            beforeCompletedAt = upperBound(endDate);
+            beforeId = 0L;
+        }
+
+        // Busca um item a mais para saber se existe próxima página sem precisar de COUNT
+        List<WorkoutHistoryEntryDTO> rows = userWorkoutLogRepository.findHistoryBefore(
+                userId, lowerBound(startDate), beforeCompletedAt, beforeId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<WorkoutHistoryEntryDTO> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1)) : null;
+
+        return WorkoutHistorySliceDTO.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private LocalDateTime lowerBound(LocalDate startDate) {
+        return startDate != null ? startDate.atStartOfDay() : MIN_COMPLETED_AT;
+    }
+
+    private LocalDateTime upperBound(LocalDate endDate) {
+        return endDate != null ? endDate.plusDays(1).atStartOfDay() : MAX_COMPLETED_AT;
+    }
+
+    private String encodeCursor(WorkoutHistoryEntryDTO last) {
+        String raw = last.getCompletedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor de histórico inválido", e);
+        }
+        String[] position = raw.split("\\|");
+        if (position.length != 2) {
+            throw new IllegalArgumentException("Cursor de histórico inválido");
+        }
+        return position;
+    }
+}
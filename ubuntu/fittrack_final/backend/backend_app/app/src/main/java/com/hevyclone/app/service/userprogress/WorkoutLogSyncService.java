@@ -0,0 +1,213 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.hevyclone.app.config.sql.SqlDialect;
+import com.hevyclone.app.dto.userprogress.WorkoutLogSyncItemDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutLogSyncResponseDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutLogSyncResultDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutLogSyncResultDTO.Status;
+import com.hevyclone.app.repository.routine.WorkoutRepository;
+import com.hevyclone.app.repository.userprogress.UserRoutineRepository;
+import com.hevyclone.app.repository.userprogress.UserRoutineRepository.ActiveRoutineRef;
+import com.hevyclone.app.repository.userprogress.UserWorkoutLogRepository;
+import com.hevyclone.app.repository.userprogress.UserWorkoutLogRepository.IdempotentLogRef;
+import com.hevyclone.app.service.userprogress.TrainingStatsRollupService.LogChange;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Sincronização em lote dos logs de treino gravados offline pelo app móvel.
+ *
+ * Cada item traz uma chave de idempotência gerada no dispositivo; reenvios do mesmo
+ * item retornam DUPLICATE com o id original. O custo por lote é fixo: uma consulta de
+ * chaves existentes, uma de workouts, uma da rotina ativa, os INSERTs em lotes JDBC,
+ * uma consulta final para devolver os ids gerados e um UPDATE por dia/semana nos agregados.
+ *
+ * Dois lotes concorrentes com a mesma chave não falham: o INSERT ignora a linha que bate no
+ * índice único (user_id, idempotency_key) — ON CONFLICT DO NOTHING no Postgres, MERGE no H2 —
+ * e o item volta como DUPLICATE com o id gravado pelo outro lote. A contagem de linhas por
+ * comando do lote JDBC diz quais itens foram inseridos (sem reWriteBatchedInserts no driver).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkoutLogSyncService {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private static final String INSERT_LOG_SQL =
+            "INSERT INTO user_workout_logs " +
+            "(user_id, workout_id, user_routine_id, completed_at, duration_minutes, notes, idempotency_key) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (user_id, idempotency_key) DO NOTHING";
+
+    private static final String MERGE_LOG_SQL =
+            "MERGE INTO user_workout_logs t USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), " +
+            "CAST(? AS BIGINT), CAST(? AS TIMESTAMP), CAST(? AS INTEGER), CAST(? AS VARCHAR), " +
+            "CAST(? AS VARCHAR(64)))) s (user_id, workout_id, user_routine_id, completed_at, duration_minutes, " +
+            "notes, idempotency_key) ON t.user_id = s.user_id AND t.idempotency_key = s.idempotency_key " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(user_id, workout_id, user_routine_id, completed_at, duration_minutes, notes, idempotency_key) " +
+            "VALUES (s.user_id, s.workout_id, s.user_routine_id, s.completed_at, s.duration_minutes, s.notes, " +
+            "s.idempotency_key)";
+
+    private final UserWorkoutLogRepository userWorkoutLogRepository;
+    private final WorkoutRepository workoutRepository;
+    private final UserRoutineRepository userRoutineRepository;
+    private final TrainingStatsRollupService trainingStatsRollupService;
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlDialect sqlDialect;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${saga.sync.jdbc-batch-size:100}")
+    private int jdbcBatchSize;
+
+    @Transactional
+    public WorkoutLogSyncResponseDTO syncLogs(Long userId, List<WorkoutLogSyncItemDTO> items) {
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("O lote de sincronização deve ter no máximo " + MAX_BATCH_SIZE + " logs");
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        // Chaves repetidas dentro do mesmo lote valem como um único log
+        Map<String, WorkoutLogSyncItemDTO> uniqueItems = new LinkedHashMap<>();
+        for (WorkoutLogSyncItemDTO item : items) {
+            uniqueItems.putIfAbsent(item.getIdempotencyKey(), item);
+        }
+
+        Map<String, Long> existingIds = new HashMap<>(findLogIds(userId, uniqueItems.keySet()));
+
+        List<Long> workoutIds = uniqueItems.values().stream()
+                .map(WorkoutLogSyncItemDTO::getWorkoutId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Long> routineByWorkout = new HashMap<>();
+        workoutRepository.findRoutineRefsByIdIn(workoutIds)
+                .forEach(ref -> routineByWorkout.put(ref.getWorkoutId(), ref.getRoutineId()));
+
+        Optional<ActiveRoutineRef> activeRoutine = userRoutineRepository.findActiveRoutineRefByUserId(userId);
+
+        Map<String, String> rejections = new HashMap<>();
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (WorkoutLogSyncItemDTO item : uniqueItems.values()) {
+            if (existingIds.containsKey(item.getIdempotencyKey())) {
+                continue;
+            }
+            Long routineId = routineByWorkout.get(item.getWorkoutId());
+            if (routineId == null) {
+                rejections.put(item.getIdempotencyKey(), "Workout não encontrado com o id: " + item.getWorkoutId());
+                continue;
+            }
+            // Mesma regra de logWorkout: só vincula à rotina ativa se o workout pertencer a ela
+            Long userRoutineId = activeRoutine
+                    .filter(active -> active.getRoutineId().equals(routineId))
+                    .map(ActiveRoutineRef::getUserRoutineId)
+                    .orElse(null);
+            LocalDateTime completedAt = item.getCompletedAt() != null ? item.getCompletedAt() : now;
+            rows.add(new Object[]{
+                    userId, item.getWorkoutId(), userRoutineId, Timestamp.valueOf(completedAt),
+                    item.getDurationMinutes(), item.getNotes(), item.getIdempotencyKey()
+            });
+        }
+
+        Map<String, Long> createdIds = new HashMap<>();
+        if (!rows.isEmpty()) {
+            int[][] counts = jdbcTemplate.batchUpdate(sqlDialect.pick(INSERT_LOG_SQL, MERGE_LOG_SQL), rows, jdbcBatchSize, (ps, row) -> {
+                ps.setLong(1, (Long) row[0]);
+                ps.setLong(2, (Long) row[1]);
+                ps.setObject(3, row[2], Types.BIGINT);
+                ps.setTimestamp(4, (Timestamp) row[3]);
+                ps.setObject(5, row[4], Types.INTEGER);
+                ps.setString(6, (String) row[5]);
+                ps.setString(7, (String) row[6]);
+            });
+            Map<String, Long> ids = findLogIds(userId, rows.stream().map(row -> (String) row[6]).collect(Collectors.toList()));
+            List<LogChange> added = new ArrayList<>(rows.size());
+            int index = 0;
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    Object[] row = rows.get(index++);
+                    String key = (String) row[6];
+                    if (count == 0) {
+                        // Gravado por um lote concorrente entre a consulta inicial e o INSERT
+                        existingIds.put(key, ids.get(key));
+                    } else {
+                        createdIds.put(key, ids.get(key));
+                        added.add(LogChange.added(((Timestamp) row[3]).toLocalDateTime(), (Integer) row[4]));
+                    }
+                }
+            }
+            if (!added.isEmpty()) {
+                trainingStatsRollupService.recordLogs(userId, added);
+            }
+        }
+
+        WorkoutLogSyncResponseDTO response = buildResponse(items, existingIds, createdIds, rejections);
+        sample.stop(meterRegistry.timer("saga.workout.logs.sync"));
+        meterRegistry.counter("saga.workout.logs.sync.items", "status", "created").increment(response.getCreated());
+        meterRegistry.counter("saga.workout.logs.sync.items", "status", "duplicate").increment(response.getDuplicates());
+        meterRegistry.counter("saga.workout.logs.sync.items", "status", "rejected").increment(response.getRejected());
+        log.debug("Sincronização do usuário {}: {} criados, {} duplicados, {} rejeitados",
+                userId, response.getCreated(), response.getDuplicates(), response.getRejected());
+        return response;
+    }
+
+    private Map<String, Long> findLogIds(Long userId, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        return userWorkoutLogRepository.findRefsByUserIdAndIdempotencyKeys(userId, keys).stream()
+                .collect(Collectors.toMap(IdempotentLogRef::getIdempotencyKey, IdempotentLogRef::getId));
+    }
+
+    private WorkoutLogSyncResponseDTO buildResponse(List<WorkoutLogSyncItemDTO> items,
+                                                    Map<String, Long> existingIds,
+                                                    Map<String, Long> createdIds,
+                                                    Map<String, String> rejections) {
+        List<WorkoutLogSyncResultDTO> results = new ArrayList<>(items.size());
+        Map<String, Boolean> reported = new HashMap<>();
+        int created = 0;
+        int duplicates = 0;
+        int rejected = 0;
+        for (WorkoutLogSyncItemDTO item : items) {
+            String key = item.getIdempotencyKey();
+            WorkoutLogSyncResultDTO.WorkoutLogSyncResultDTOBuilder result = WorkoutLogSyncResultDTO.builder()
+                    .idempotencyKey(key);
+            if (rejections.containsKey(key)) {
+                result.status(Status.REJECTED).message(rejections.get(key));
+                rejected++;
+            } else if (createdIds.containsKey(key) && reported.putIfAbsent(key, Boolean.TRUE) == null) {
+                result.status(Status.CREATED).logId(createdIds.get(key));
+                created++;
+            } else {
+                Long logId = existingIds.containsKey(key) ? existingIds.get(key) : createdIds.get(key);
+                result.status(Status.DUPLICATE).logId(logId);
+                duplicates++;
+            }
+            results.add(result.build());
+        }
+        return WorkoutLogSyncResponseDTO.builder()
+                .created(created)
+                .duplicates(duplicates)
+                .rejected(rejected)
+                .results(results)
+                .build();
+    }
+}
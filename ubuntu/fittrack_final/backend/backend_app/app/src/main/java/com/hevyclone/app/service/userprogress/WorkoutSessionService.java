@@ -0,0 +1,439 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hevyclone.app.dto.userprogress.ExerciseSetRequestDTO;
+import com.hevyclone.app.dto.userprogress.PersonalRecordDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionFinishRequestDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionProgressRequestDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionSetDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionState;
+import com.hevyclone.app.model.userprogress.UserWorkoutLog;
+import com.hevyclone.app.model.userprogress.WorkoutSessionCheckpoint;
+import com.hevyclone.app.repository.exercise.ExerciseRepository;
+import com.hevyclone.app.repository.routine.WorkoutRepository;
+import com.hevyclone.app.repository.userprogress.WorkoutSessionCheckpointRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Sessões de treino ao vivo (start → progress/sets → finish) com persistência write-behind.
+ *
+ * Durante a sessão, séries e progresso ficam apenas no WorkoutSessionStore; o banco recebe
+ * um checkpoint periódico por sessão alterada (workout_session_checkpoints), usado para
+ * retomar a sessão após restart ou troca de réplica. No finish, o log, as séries, os
+ * recordes e os agregados são gravados em uma única transação.
+ *
+ * As alterações de um mesmo usuário são serializadas por locks listrados; o checkpoint
+ * usa o mesmo lock, então nunca regrava uma sessão que acabou de ser finalizada. Entre
+ * réplicas, o store só aceita a gravação se a versão lida não mudou (compareAndSet); em
+ * conflito a alteração é refeita sobre o estado novo. Finish, cancel e expiração marcam o
+ * checkpoint como encerrado (closed_at) em vez de apagá-lo: uma réplica com cópia antiga da
+ * sessão não consegue regravá-la, descarta a cópia no próximo checkpoint e não a finaliza de
+ * novo; restore e retomada ignoram a marca.
+ */
+@Service
+@Slf4j
+public class WorkoutSessionService {
+
+    private static final int LOCK_STRIPES = 256;
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+
+    private final WorkoutSessionStore sessionStore;
+    private final WorkoutSessionCheckpointRepository checkpointRepository;
+    private final WorkoutRepository workoutRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final UserWorkoutLogService userWorkoutLogService;
+    private final ExerciseSetService exerciseSetService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration sessionTtl;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    public WorkoutSessionService(WorkoutSessionStore sessionStore,
+                                 WorkoutSessionCheckpointRepository checkpointRepository,
+                                 WorkoutRepository workoutRepository,
+                                 ExerciseRepository exerciseRepository,
+                                 UserWorkoutLogService userWorkoutLogService,
+                                 ExerciseSetService exerciseSetService,
+                                 TransactionTemplate transactionTemplate,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${saga.sessions.ttl-hours:12}") long ttlHours) {
+        this.sessionStore = sessionStore;
+        this.checkpointRepository = checkpointRepository;
+        this.workoutRepository = workoutRepository;
+        this.exerciseRepository = exerciseRepository;
+        this.userWorkoutLogService = userWorkoutLogService;
+        this.exerciseSetService = exerciseSetService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.sessionTtl = Duration.ofHours(ttlHours);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        Gauge.builder("saga.sessions.active", sessionStore, WorkoutSessionStore::size)
+                .description("Sessões de treino em andamento")
+                .register(meterRegistry);
+    }
+
+    public WorkoutSessionDTO start(Long userId, Long workoutId) {
+        if (!workoutRepository.existsById(workoutId)) {
+            throw new RuntimeException("Workout não encontrado com o id: " + workoutId);
+        }
+        synchronized (lockFor(userId)) {
+            for (int attempt = 0; attempt < MAX_WRITE_ATTEMPTS; attempt++) {
+                Optional<WorkoutSessionState> current = find(userId);
+                if (current.isPresent()) {
+                    if (current.get().getWorkoutId().equals(workoutId)) {
+                        return toDto(current.get()); // Start repetido devolve a sessão existente
+                    }
+                    throw new IllegalStateException("Já existe uma sessão em andamento para o workout " + current.get().getWorkoutId());
+                }
+                LocalDateTime now = LocalDateTime.now();
+                WorkoutSessionState state = new WorkoutSessionState();
+                state.setSessionId(UUID.randomUUID().toString());
+                state.setUserId(userId);
+                state.setWorkoutId(workoutId);
+                state.setStartedAt(now);
+                state.setLastActivityAt(now);
+                if (save(state, null)) {
+                    return toDto(state);
+                }
+                // Start simultâneo em outra réplica: relê a sessão que ela criou
+            }
+            throw concurrentUpdate(workoutId);
+        }
+    }
+
+    public WorkoutSessionDTO getStatus(Long userId, Long workoutId) {
+        synchronized (lockFor(userId)) {
+            return toDto(require(userId, workoutId));
+        }
+    }
+
+    public WorkoutSessionDTO recordProgress(Long userId, Long workoutId, WorkoutSessionProgressRequestDTO progress) {
+        WorkoutSessionState state = mutate(userId, workoutId, session -> {
+            session.getCompletedSetsByExercise().put(progress.getExerciseId(), progress.getCompletedSets());
+            if (progress.getNotes() != null) {
+                session.setNotes(progress.getNotes());
+            }
+        });
+        return toDto(state);
+    }
+
+    public List<WorkoutSessionSetDTO> addSets(Long userId, Long workoutId, Long exerciseId, List<WorkoutSessionSetDTO> sets) {
+        if (!exerciseRepository.existsById(exerciseId)) {
+            throw new IllegalArgumentException("Exercício não encontrado com o id: " + exerciseId);
+        }
+        List<WorkoutSessionSetDTO> added = new ArrayList<>(sets.size());
+        mutate(userId, workoutId, session -> {
+            added.clear(); // Em conflito a alteração é refeita sobre o estado relido
+            int nextSetNumber = (int) session.getSets().stream()
+                    .filter(set -> set.getExerciseId().equals(exerciseId))
+                    .count() + 1;
+            LocalDateTime now = LocalDateTime.now();
+            for (WorkoutSessionSetDTO set : sets) {
+                set.setExerciseId(exerciseId);
+                set.setSetNumber(nextSetNumber++);
+                set.setLoggedAt(now);
+                session.getSets().add(set);
+                added.add(set);
+            }
+        });
+        return added;
+    }
+
+    /**
+     * Encerra a sessão gravando tudo em uma transação: log, séries (INSERT em lote),
+     * recordes, agregados de estatísticas e encerramento do checkpoint.
+     */
+    public WorkoutSessionDTO finish(Long userId, Long workoutId, WorkoutSessionFinishRequestDTO request) {
+        synchronized (lockFor(userId)) {
+            WorkoutSessionState state = require(userId, workoutId);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            WorkoutSessionDTO result = transactionTemplate.execute(status -> flush(state, request));
+            forget(userId);
+            if (result == null) {
+                throw new RuntimeException("Nenhuma sessão em andamento para o workout " + workoutId);
+            }
+            sample.stop(meterRegistry.timer("saga.sessions.flush"));
+            return result;
+        }
+    }
+
+    public void cancel(Long userId, Long workoutId) {
+        synchronized (lockFor(userId)) {
+            discard(require(userId, workoutId));
+        }
+    }
+
+    /**
+     * Grava o checkpoint das sessões alteradas desde a última execução e expira as abandonadas.
+     */
+    @Scheduled(fixedDelayString = "${saga.sessions.checkpoint-interval-ms:30000}")
+    public void checkpoint() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(sessionTtl);
+        for (WorkoutSessionState state : sessionStore.localSessions()) {
+            if (state.getLastActivityAt().isBefore(expiredBefore)) {
+                synchronized (lockFor(state.getUserId())) {
+                    log.info("Sessão de treino do usuário {} expirada sem finalização", state.getUserId());
+                    discard(state);
+                }
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.deleteStale(expiredBefore));
+
+        int written = 0;
+        for (Long userId : List.copyOf(dirtyUsers)) {
+            synchronized (lockFor(userId)) {
+                dirtyUsers.remove(userId);
+                Optional<WorkoutSessionState> state = sessionStore.get(userId);
+                if (state.isEmpty()) {
+                    continue;
+                }
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> writeCheckpoint(state.get())))) {
+                        written++;
+                    } else {
+                        log.info("Sessão de treino do usuário {} já encerrada em outra réplica", userId);
+                        sessionStore.remove(userId);
+                    }
+                } catch (RuntimeException e) {
+                    dirtyUsers.add(userId); // Tenta de novo no próximo ciclo
+                    log.warn("Falha ao gravar checkpoint da sessão do usuário {}", userId, e);
+                }
+            }
+        }
+        if (written > 0) {
+            meterRegistry.counter("saga.sessions.checkpoints").increment(written);
+        }
+    }
+
+    /**
+     * Recarrega no store as sessões com checkpoint recente (ex: após restart do pod).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreFromCheckpoints() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(sessionTtl);
+        int restored = 0;
+        for (WorkoutSessionCheckpoint checkpoint : checkpointRepository.findAll()) {
+            if (checkpoint.isClosed() || checkpoint.getUpdatedAt().isBefore(expiredBefore)
+                    || sessionStore.get(checkpoint.getUserId()).isPresent()) {
+                continue;
+            }
+            if (sessionStore.compareAndSet(fromCheckpoint(checkpoint), null)) {
+                restored++;
+            }
+        }
+        if (restored > 0) {
+            log.info("{} sessões de treino restauradas a partir do checkpoint", restored);
+        }
+    }
+
+    // null se a sessão já foi encerrada em outra réplica (nada é gravado)
+    private WorkoutSessionDTO flush(WorkoutSessionState state, WorkoutSessionFinishRequestDTO request) {
+        LocalDateTime completedAt = LocalDateTime.now();
+        if (!close(state, completedAt)) {
+            return null;
+        }
+        int durationSeconds = request != null && request.getDuration() != null
+                ? request.getDuration()
+                : (int) Duration.between(state.getStartedAt(), completedAt).getSeconds();
+        String notes = request != null && request.getNotes() != null ? request.getNotes() : state.getNotes();
+
+        UserWorkoutLog logDetails = new UserWorkoutLog();
+        logDetails.setCompletedAt(completedAt);
+        logDetails.setDurationMinutes((int) Math.round(durationSeconds / 60.0));
+        logDetails.setNotes(notes);
+        logDetails.setIdempotencyKey(state.getSessionId());
+        UserWorkoutLog workoutLog = userWorkoutLogService.logWorkout(state.getUserId(), state.getWorkoutId(), logDetails);
+
+        List<PersonalRecordDTO> newRecords = List.of();
+        if (!state.getSets().isEmpty()) {
+            List<ExerciseSetRequestDTO> sets = state.getSets().stream()
+                    .map(set -> ExerciseSetRequestDTO.builder()
+                            .exerciseId(set.getExerciseId())
+                            .setNumber(set.getSetNumber())
+                            .reps(set.getReps())
+                            .weight(set.getWeight())
+                            .distance(set.getDistance())
+                            .durationSeconds(set.getDurationSeconds())
+                            .restTimeSeconds(set.getRestTime())
+                            .rpe(set.getRpe())
+                            .build())
+                    .collect(Collectors.toList());
+            newRecords = exerciseSetService.logSets(state.getUserId(), workoutLog.getId(), sets).getNewRecords();
+        }
+
+        return WorkoutSessionDTO.builder()
+                .workoutId(state.getWorkoutId())
+                .status(WorkoutSessionDTO.Status.COMPLETED)
+                .startedAt(state.getStartedAt())
+                .completedAt(completedAt)
+                .duration(durationSeconds)
+                .totalSets(state.getSets().size())
+                .completedSetsByExercise(state.getCompletedSetsByExercise())
+                .logId(workoutLog.getId())
+                .newRecords(newRecords)
+                .build();
+    }
+
+    // O lock serializa as alterações desta JVM; entre réplicas, a troca condicionada à versão
+    // faz a alteração ser refeita sobre o estado gravado pela outra réplica
+    private WorkoutSessionState mutate(Long userId, Long workoutId, Consumer<WorkoutSessionState> change) {
+        synchronized (lockFor(userId)) {
+            for (int attempt = 0; attempt < MAX_WRITE_ATTEMPTS; attempt++) {
+                WorkoutSessionState state = require(userId, workoutId);
+                long readVersion = state.getVersion();
+                change.accept(state);
+                state.setLastActivityAt(LocalDateTime.now());
+                if (save(state, readVersion)) {
+                    return state;
+                }
+            }
+            throw concurrentUpdate(workoutId);
+        }
+    }
+
+    private boolean save(WorkoutSessionState state, Long expectedVersion) {
+        state.setVersion(state.getVersion() + 1);
+        if (!sessionStore.compareAndSet(state, expectedVersion)) {
+            return false;
+        }
+        dirtyUsers.add(state.getUserId());
+        return true;
+    }
+
+    private static IllegalStateException concurrentUpdate(Long workoutId) {
+        return new IllegalStateException("Sessão do workout " + workoutId + " alterada em paralelo; tente novamente");
+    }
+
+    private void discard(WorkoutSessionState state) {
+        forget(state.getUserId());
+        transactionTemplate.executeWithoutResult(status -> close(state, LocalDateTime.now()));
+    }
+
+    private void forget(Long userId) {
+        sessionStore.remove(userId);
+        dirtyUsers.remove(userId);
+    }
+
+    /**
+     * Marca o checkpoint da sessão como encerrado, criando a marca se a sessão nunca teve
+     * checkpoint. Retorna false se a mesma sessão já estava encerrada.
+     */
+    private boolean close(WorkoutSessionState state, LocalDateTime closedAt) {
+        if (checkpointRepository.close(state.getUserId(), state.getSessionId(), closedAt) > 0) {
+            return true;
+        }
+        Optional<WorkoutSessionCheckpoint> existing = checkpointRepository.findById(state.getUserId());
+        if (existing.filter(checkpoint -> state.getSessionId().equals(checkpoint.getSessionId())).isPresent()) {
+            return false;
+        }
+        WorkoutSessionCheckpoint closed = toCheckpoint(state);
+        closed.setUpdatedAt(closedAt);
+        closed.setClosedAt(closedAt);
+        checkpointRepository.save(closed);
+        return true;
+    }
+
+    // false se a sessão foi encerrada em outra réplica: a linha existe, mas não aceitou a escrita
+    private boolean writeCheckpoint(WorkoutSessionState state) {
+        WorkoutSessionCheckpoint checkpoint = toCheckpoint(state);
+        if (checkpointRepository.updateUnlessClosed(checkpoint.getUserId(), checkpoint.getSessionId(),
+                checkpoint.getWorkoutId(), checkpoint.getStateJson(), checkpoint.getVersion(), checkpoint.getUpdatedAt()) > 0) {
+            return true;
+        }
+        if (checkpointRepository.existsById(state.getUserId())) {
+            return false;
+        }
+        checkpointRepository.save(checkpoint);
+        return true;
+    }
+
+    private WorkoutSessionState require(Long userId, Long workoutId) {
+        return find(userId)
+                .filter(state -> state.getWorkoutId().equals(workoutId))
+                .orElseThrow(() -> new RuntimeException("Nenhuma sessão em andamento para o workout " + workoutId));
+    }
+
+    // Sem a sessão no store (ex: outra réplica com store em memória), retoma do último checkpoint
+    // aberto
+    private Optional<WorkoutSessionState> find(Long userId) {
+        Optional<WorkoutSessionState> state = sessionStore.get(userId);
+        if (state.isPresent()) {
+            return state;
+        }
+        Optional<WorkoutSessionState> restored = checkpointRepository.findById(userId)
+                .filter(checkpoint -> !checkpoint.isClosed())
+                .map(this::fromCheckpoint);
+        if (restored.isPresent() && !sessionStore.compareAndSet(restored.get(), null)) {
+            return sessionStore.get(userId); // Outra réplica retomou ou começou a sessão antes
+        }
+        return restored;
+    }
+
+    private Object lockFor(Long userId) {
+        return locks[(int) Math.floorMod(userId, (long) LOCK_STRIPES)];
+    }
+
+    private WorkoutSessionCheckpoint toCheckpoint(WorkoutSessionState state) {
+        WorkoutSessionCheckpoint checkpoint = new WorkoutSessionCheckpoint();
+        checkpoint.setUserId(state.getUserId());
+        checkpoint.setWorkoutId(state.getWorkoutId());
+        checkpoint.setSessionId(state.getSessionId());
+        checkpoint.setVersion(state.getVersion());
+        checkpoint.setUpdatedAt(state.getLastActivityAt());
+        try {
+            checkpoint.setStateJson(objectMapper.writeValueAsString(state));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar a sessão de treino", e);
+        }
+        return checkpoint;
+    }
+
+    private WorkoutSessionState fromCheckpoint(WorkoutSessionCheckpoint checkpoint) {
+        try {
+            return objectMapper.readValue(checkpoint.getStateJson(), WorkoutSessionState.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Checkpoint de sessão corrompido para o usuário " + checkpoint.getUserId(), e);
+        }
+    }
+
+    private WorkoutSessionDTO toDto(WorkoutSessionState state) {
+        return WorkoutSessionDTO.builder()
+                .workoutId(state.getWorkoutId())
+                .status(WorkoutSessionDTO.Status.IN_PROGRESS)
+                .startedAt(state.getStartedAt())
+                .duration((int) Duration.between(state.getStartedAt(), LocalDateTime.now()).getSeconds())
+                .totalSets(state.getSets().size())
+                .completedSetsByExercise(new HashMap<>(state.getCompletedSetsByExercise()))
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.hevyclone.app.service.userprogress;
+
+import com.hevyclone.app.dto.userprogress.WorkoutSessionState;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Armazenamento das sessões de treino em andamento, indexado pelo usuário.
+ *
+ * A implementação padrão fica na memória da JVM; com saga.sessions.store=redis as sessões
+ * ficam no Redis e qualquer réplica pode continuar a sessão. A escrita é condicionada à versão
+ * lida (compareAndSet), então duas réplicas alterando a mesma sessão não se sobrescrevem.
+ */
+public interface WorkoutSessionStore {
+
+    Optional<WorkoutSessionState> get(Long userId);
+
+    /**
+     * Grava o estado só se a versão guardada ainda for expectedVersion (null: só se não houver
+     * sessão para o usuário). Retorna false se a sessão mudou desde a leitura.
+     */
+    boolean compareAndSet(WorkoutSessionState state, Long expectedVersion);
+
+    void remove(Long userId);
+
+    /**
+     * Sessões mantidas por esta JVM, para expiração local; stores externos retornam vazio
+     * e delegam a expiração ao TTL.
+     */
+    Collection<WorkoutSessionState> localSessions();
+
+    long size();
+}
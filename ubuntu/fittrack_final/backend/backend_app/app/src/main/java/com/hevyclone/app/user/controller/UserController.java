@@ -1,6 +1,8 @@
 package com.hevyclone.app.user.controller;
 
+import com.hevyclone.app.user.dto.UserPrivacyDTO;
 import com.hevyclone.app.user.dto.UserProfileResponseDTO;
+import com.hevyclone.app.user.dto.UserStatsResponseDTO;
 import com.hevyclone.app.user.dto.UserUpdateRequestDTO;
 import com.hevyclone.app.user.service.UserService;
 
@@ -35,6 +37,12 @@ public class UserController {
         return ResponseEntity.ok(profile);
     }
 
+    // Estatísticas públicas do perfil (qualquer usuário autenticado pode consultar)
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<UserStatsResponseDTO> getStats(@PathVariable Long id) {
+        return ResponseEntity.ok(userService.getStats(id));
+    }
+
     @PutMapping("/profile")
     public ResponseEntity<Void> updateAuthenticatedProfile(
             @Valid @RequestBody UserUpdateRequestDTO dto) {
@@ -67,6 +75,15 @@ public class UserController {
         return ResponseEntity.ok(profile);
     }
 
-    
+    @GetMapping("/privacy")
+    public ResponseEntity<UserPrivacyDTO> getPrivacy(@AuthenticationPrincipal UserDetailsImpl principal) {
+        return ResponseEntity.ok(userService.getPrivacy(principal.getId()));
+    }
+
+    @PutMapping("/privacy")
+    public ResponseEntity<UserPrivacyDTO> updatePrivacy(@AuthenticationPrincipal UserDetailsImpl principal,
+                                                        @RequestBody UserPrivacyDTO dto) {
+        return ResponseEntity.ok(userService.updatePrivacy(principal.getId(), dto));
+    }
 
 }
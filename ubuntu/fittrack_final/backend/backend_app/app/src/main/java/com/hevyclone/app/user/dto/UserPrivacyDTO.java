@@ -0,0 +1,20 @@
+package com.hevyclone.app.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Preferências de privacidade; no PUT, campos nulos mantêm o valor atual
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPrivacyDTO {
+    private Boolean privateProfile;
+    private Boolean showWorkouts;
+    private Boolean showFollowers;
+    private Boolean showInNearby;
+}
@@ -16,6 +16,8 @@ public class UserProfileResponseDTO {
     private String weight;
     private String age;
     private String fitnessGoal;
+    private long followersCount;
+    private long followingCount;
 
     public Long getId() {
         return id;
@@ -80,4 +82,20 @@ public class UserProfileResponseDTO {
     public void setFitnessGoal(String fitnessGoal) {
         this.fitnessGoal = fitnessGoal;
     }
+
+    public long getFollowersCount() {
+        return followersCount;
+    }
+
+    public void setFollowersCount(long followersCount) {
+        this.followersCount = followersCount;
+    }
+
+    public long getFollowingCount() {
+        return followingCount;
+    }
+
+    public void setFollowingCount(long followingCount) {
+        this.followingCount = followingCount;
+    }
 }
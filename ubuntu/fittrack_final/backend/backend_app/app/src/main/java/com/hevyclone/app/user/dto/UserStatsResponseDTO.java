@@ -0,0 +1,28 @@
+package com.hevyclone.app.user.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStatsResponseDTO {
+    private Long userId;
+    private String username;
+
+    // Treino (agregados semanais)
+    private long totalWorkouts;
+    private long totalDurationMinutes;
+    private double averageDuration;
+    private int workoutsThisWeek;
+    private int currentWeekStreak;
+    private int longestWeekStreak;
+
+    // Social (contadores)
+    private long totalPosts;
+    private long totalLikes; // Curtidas recebidas nos posts
+    private long totalComments; // Comentários recebidos nos posts
+    private long followersCount;
+    private long followingCount;
+}
@@ -1,6 +1,7 @@
 package com.hevyclone.app.user.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "users")
@@ -21,6 +22,12 @@ public class User {
     private String age;
     private String fitnessGoal;
 
+    // Espelho do contador USER_FOLLOWERS, gravado pelo CounterShardStore junto com as fatias.
+    // Só leitura aqui, para o save de um usuário não sobrescrever o valor
+    @ColumnDefault("0")
+    @Column(name = "followers_count", nullable = false, insertable = false, updatable = false)
+    private long followersCount;
+
     public User() {}
 
     // Métodos getter e setter para os atributos
@@ -97,6 +104,10 @@ public class User {
         this.fitnessGoal = fitnessGoal;
     }
 
+    public long getFollowersCount() {
+        return followersCount;
+    }
+
     public User(String username, String email, String password) {
         this.username = username;
         this.email = email;
@@ -0,0 +1,85 @@
+package com.hevyclone.app.user.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Preferências de privacidade do usuário; sem linha, valem os padrões (perfil público)
+@Entity
+@Table(name = "user_privacy_settings")
+public class UserPrivacySettings {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private boolean privateProfile; // Perfil privado não aparece em buscas nem em "pessoas próximas"
+
+    @Column(nullable = false)
+    private boolean showWorkouts = true;
+
+    @Column(nullable = false)
+    private boolean showFollowers = true;
+
+    @Column(nullable = false)
+    private boolean showInNearby = true;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public UserPrivacySettings() {}
+
+    public UserPrivacySettings(Long userId) {
+        this.userId = userId;
+    }
+
+    // Getters e Setters
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public boolean isPrivateProfile() {
+        return privateProfile;
+    }
+
+    public void setPrivateProfile(boolean privateProfile) {
+        this.privateProfile = privateProfile;
+    }
+
+    public boolean isShowWorkouts() {
+        return showWorkouts;
+    }
+
+    public void setShowWorkouts(boolean showWorkouts) {
+        this.showWorkouts = showWorkouts;
+    }
+
+    public boolean isShowFollowers() {
+        return showFollowers;
+    }
+
+    public void setShowFollowers(boolean showFollowers) {
+        this.showFollowers = showFollowers;
+    }
+
+    public boolean isShowInNearby() {
+        return showInNearby;
+    }
+
+    public void setShowInNearby(boolean showInNearby) {
+        this.showInNearby = showInNearby;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
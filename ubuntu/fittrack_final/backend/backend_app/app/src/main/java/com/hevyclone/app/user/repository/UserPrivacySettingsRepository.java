@@ -0,0 +1,19 @@
+package com.hevyclone.app.user.repository;
+
+import com.hevyclone.app.user.model.UserPrivacySettings;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserPrivacySettingsRepository extends JpaRepository<UserPrivacySettings, Long> {
+
+    // Quais dos usuários informados não podem aparecer em "pessoas próximas"
+    @Query("SELECT p.userId FROM UserPrivacySettings p WHERE p.userId IN :userIds " +
+           "AND (p.privateProfile = true OR p.showInNearby = false)")
+    List<Long> findHiddenFromNearby(@Param("userIds") Collection<Long> userIds);
+}
@@ -1,9 +1,13 @@
 package com.hevyclone.app.user.repository;
 
 import com.hevyclone.app.user.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +19,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    // Busca por trecho do nome, da conta mais seguida para a menos seguida. LOWER(username) é a
+    // expressão do índice de trigramas; o cursor é (seguidores, id) da última linha já entregue e
+    // filtra no WHERE, sobre a contagem gravada em followers_count (sem JOIN nem GROUP BY)
+    @Query("SELECT u.id AS id, u.username AS username, u.followersCount AS followers FROM User u " +
+           "WHERE LOWER(u.username) LIKE :pattern ESCAPE '\\' " +
+           "AND (u.followersCount < :afterFollowers OR (u.followersCount = :afterFollowers AND u.id > :afterId)) " +
+           "ORDER BY u.followersCount DESC, u.id")
+    List<UserSearchRow> searchByName(@Param("pattern") String pattern,
+                                     @Param("afterFollowers") long afterFollowers,
+                                     @Param("afterId") long afterId,
+                                     Pageable limit);
+
+    // Nomes em blocos de id (keyset), para montar o índice de autocompletar
+    @Query("SELECT u.id AS id, u.username AS username FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UsernameRef> findUsernamesAfter(@Param("afterId") Long afterId, Pageable limit);
+
+    interface UserSearchRow {
+        Long getId();
+        String getUsername();
+        Long getFollowers();
+    }
+
+    interface UsernameRef {
+        Long getId();
+        String getUsername();
+    }
 }
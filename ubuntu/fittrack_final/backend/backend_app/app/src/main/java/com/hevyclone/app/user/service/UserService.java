@@ -1,17 +1,36 @@
 package com.hevyclone.app.user.service;
 
+import com.hevyclone.app.dto.userprogress.TrainingStatsDTO;
+import com.hevyclone.app.service.counter.CounterKind;
+import com.hevyclone.app.service.counter.CounterService;
+import com.hevyclone.app.service.search.UserSearchService;
+import com.hevyclone.app.service.social.FollowService;
+import com.hevyclone.app.service.userprogress.TrainingStatsService;
+import com.hevyclone.app.user.dto.UserPrivacyDTO;
 import com.hevyclone.app.user.dto.UserProfileResponseDTO;
+import com.hevyclone.app.user.dto.UserStatsResponseDTO;
 import com.hevyclone.app.user.dto.UserUpdateRequestDTO;
 import com.hevyclone.app.user.model.User;
+import com.hevyclone.app.user.model.UserPrivacySettings;
+import com.hevyclone.app.user.repository.UserPrivacySettingsRepository;
 import com.hevyclone.app.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final TrainingStatsService trainingStatsService;
+    private final FollowService followService;
+    private final UserPrivacySettingsRepository userPrivacySettingsRepository;
+    private final UserSearchService userSearchService;
+    private final CounterService counterService;
 
     public UserProfileResponseDTO getProfile(Long userId) {
         User user = userRepository.findById(userId)
@@ -26,6 +45,8 @@ public class UserService {
         profile.setWeight(user.getWeight());
         profile.setAge(user.getAge());
         profile.setFitnessGoal(user.getFitnessGoal());
+        profile.setFollowersCount(followService.countFollowers(userId));
+        profile.setFollowingCount(followService.countFollowing(userId));
 
         return profile;
     }
@@ -34,6 +55,7 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
 
+        boolean renamed = !Objects.equals(user.getUsername(), dto.getName());
         user.setUsername(dto.getName());
         user.setBio(dto.getBio());
         user.setHeight(dto.getHeight());
@@ -42,5 +64,67 @@ public class UserService {
         user.setFitnessGoal(dto.getFitnessGoal());
 
         userRepository.save(user);
+        if (renamed) {
+            userSearchService.onUsernameChanged(userId, dto.getName());
+        }
+    }
+
+    public UserStatsResponseDTO getStats(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("Usuário não encontrado"));
+
+        TrainingStatsDTO training = trainingStatsService.getStats(userId);
+        return UserStatsResponseDTO.builder()
+                .userId(user.getId())
+                .username(user.getUsername())
+                .totalWorkouts(training.getTotalWorkouts())
+                .totalDurationMinutes(training.getTotalDurationMinutes())
+                .averageDuration(training.getAverageDuration())
+                .workoutsThisWeek(training.getWorkoutsThisWeek())
+                .currentWeekStreak(training.getCurrentWeekStreak())
+                .longestWeekStreak(training.getLongestWeekStreak())
+                .totalPosts(counterService.get(CounterKind.USER_POSTS, userId))
+                .totalLikes(counterService.get(CounterKind.USER_LIKES_RECEIVED, userId))
+                .totalComments(counterService.get(CounterKind.USER_COMMENTS_RECEIVED, userId))
+                .followersCount(counterService.get(CounterKind.USER_FOLLOWERS, userId))
+                .followingCount(counterService.get(CounterKind.USER_FOLLOWING, userId))
+                .build();
+    }
+
+    public UserPrivacyDTO getPrivacy(Long userId) {
+        return toPrivacyDTO(userPrivacySettingsRepository.findById(userId)
+                .orElseGet(() -> new UserPrivacySettings(userId)));
+    }
+
+    // Atualização parcial: só os campos enviados mudam
+    public UserPrivacyDTO updatePrivacy(Long userId, UserPrivacyDTO dto) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("Usuário não encontrado");
+        }
+        UserPrivacySettings settings = userPrivacySettingsRepository.findById(userId)
+                .orElseGet(() -> new UserPrivacySettings(userId));
+        if (dto.getPrivateProfile() != null) {
+            settings.setPrivateProfile(dto.getPrivateProfile());
+        }
+        if (dto.getShowWorkouts() != null) {
+            settings.setShowWorkouts(dto.getShowWorkouts());
+        }
+        if (dto.getShowFollowers() != null) {
+            settings.setShowFollowers(dto.getShowFollowers());
+        }
+        if (dto.getShowInNearby() != null) {
+            settings.setShowInNearby(dto.getShowInNearby());
+        }
+        settings.setUpdatedAt(LocalDateTime.now());
+        return toPrivacyDTO(userPrivacySettingsRepository.save(settings));
+    }
+
+    private static UserPrivacyDTO toPrivacyDTO(UserPrivacySettings settings) {
+        return UserPrivacyDTO.builder()
+                .privateProfile(settings.isPrivateProfile())
+                .showWorkouts(settings.isShowWorkouts())
+                .showFollowers(settings.isShowFollowers())
+                .showInNearby(settings.isShowInNearby())
+                .build();
     }
 }
@@ -0,0 +1,23 @@
+-- V10_1__user_follows_followed_id.sql
+-- user_follows nasceu no V1 com following_id; a entidade UserFollow, o V11 (índice do fan-out)
+-- e o V15 (carga dos contadores) usam followed_id. Roda antes do V11 para que o índice e a
+-- validação do schema em produção encontrem a coluna. Idempotente: num banco em que o V11
+-- criou a tabela, não há o que renomear
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'user_follows' AND column_name = 'following_id') THEN
+        ALTER TABLE user_follows RENAME COLUMN following_id TO followed_id;
+    END IF;
+    -- O UNIQUE(follower_id, following_id) do V1 acompanha a coluna; só o nome fica para trás
+    IF EXISTS (SELECT 1 FROM pg_constraint
+               WHERE conname = 'user_follows_follower_id_following_id_key') THEN
+        ALTER TABLE user_follows
+            RENAME CONSTRAINT user_follows_follower_id_following_id_key TO uk_user_follows;
+    END IF;
+END $$;
+
+-- A entidade grava created_at sempre; as linhas antigas ficam com a data da migração
+UPDATE user_follows SET created_at = NOW() WHERE created_at IS NULL;
+ALTER TABLE user_follows ALTER COLUMN created_at SET NOT NULL;
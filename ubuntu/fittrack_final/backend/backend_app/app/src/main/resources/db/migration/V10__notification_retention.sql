@@ -0,0 +1,18 @@
+-- V10__notification_retention.sql
+-- Retenção de notificações: índices para a limpeza por tipo/idade e para a listagem por usuário
+
+-- Varredura da limpeza: WHERE type = ? AND created_at < ? ORDER BY created_at LIMIT ? (para no LIMIT)
+CREATE INDEX IF NOT EXISTS idx_notifications_type_created
+    ON notifications (type, created_at);
+
+-- findByUserIdOrderByCreatedAtDesc sem ordenação em memória
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created
+    ON notifications (user_id, created_at DESC);
+
+-- Trava de jobs agendados entre réplicas (ClusterJobLock)
+CREATE TABLE IF NOT EXISTS scheduled_job_locks (
+    name VARCHAR(100) PRIMARY KEY,
+    locked_until TIMESTAMP NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+);
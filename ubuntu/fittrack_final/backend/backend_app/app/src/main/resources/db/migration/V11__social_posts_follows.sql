@@ -0,0 +1,29 @@
+-- V11__social_posts_follows.sql
+-- Feed social: posts e relações de seguir
+
+CREATE TABLE IF NOT EXISTS posts (
+    id BIGSERIAL PRIMARY KEY,
+    author_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    content TEXT,
+    type VARCHAR(20) NOT NULL,
+    is_public BOOLEAN NOT NULL DEFAULT TRUE,
+    workout_id BIGINT,
+    original_post_id BIGINT REFERENCES posts(id) ON DELETE SET NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+-- Montagem de timeline e merge de celebridades: posts recentes de um conjunto de autores
+CREATE INDEX IF NOT EXISTS idx_posts_author ON posts (author_id, id DESC);
+-- Feed público: só as linhas públicas, já na ordem de leitura
+CREATE INDEX IF NOT EXISTS idx_posts_public ON posts (id DESC) WHERE is_public;
+
+CREATE TABLE IF NOT EXISTS user_follows (
+    id BIGSERIAL PRIMARY KEY,
+    follower_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    followed_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_user_follows UNIQUE (follower_id, followed_id)
+);
+
+-- Seguidores de um autor (fan-out) sem tocar na tabela
+CREATE INDEX IF NOT EXISTS idx_user_follows_followed ON user_follows (followed_id, follower_id);
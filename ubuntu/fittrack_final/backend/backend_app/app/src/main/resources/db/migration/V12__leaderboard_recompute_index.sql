@@ -0,0 +1,7 @@
+-- V12__leaderboard_recompute_index.sql
+-- Recálculo dos rankings por período: WHERE completed_at >= ? AND completed_at < ? GROUP BY user_id
+-- O INCLUDE permite index-only scan, sem visitar a tabela para somar os minutos
+
+CREATE INDEX IF NOT EXISTS idx_user_workout_logs_completed
+    ON user_workout_logs (completed_at)
+    INCLUDE (user_id, duration_minutes);
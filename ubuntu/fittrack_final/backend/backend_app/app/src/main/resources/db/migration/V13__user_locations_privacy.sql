@@ -0,0 +1,30 @@
+-- V13__user_locations_privacy.sql
+-- Pessoas próximas: localização por usuário com geohash indexado e preferências de privacidade
+
+CREATE TABLE IF NOT EXISTS user_locations (
+    user_id BIGINT PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    latitude DOUBLE PRECISION NOT NULL,
+    longitude DOUBLE PRECISION NOT NULL,
+    geohash VARCHAR(12) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Busca por célula: geohash LIKE '6gyf%'. Com collation diferente de C, o LIKE por prefixo só usa
+-- um B-tree criado com varchar_pattern_ops
+CREATE INDEX IF NOT EXISTS idx_user_locations_geohash
+    ON user_locations (geohash varchar_pattern_ops)
+    WHERE active;
+
+-- Atualização incremental do índice em memória das réplicas
+CREATE INDEX IF NOT EXISTS idx_user_locations_updated
+    ON user_locations (updated_at);
+
+CREATE TABLE IF NOT EXISTS user_privacy_settings (
+    user_id BIGINT PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    private_profile BOOLEAN NOT NULL DEFAULT FALSE,
+    show_workouts BOOLEAN NOT NULL DEFAULT TRUE,
+    show_followers BOOLEAN NOT NULL DEFAULT TRUE,
+    show_in_nearby BOOLEAN NOT NULL DEFAULT TRUE,
+    updated_at TIMESTAMP NOT NULL
+);
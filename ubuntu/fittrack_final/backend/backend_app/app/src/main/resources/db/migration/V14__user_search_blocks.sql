@@ -0,0 +1,21 @@
+-- V14__user_search_blocks.sql
+-- Busca de usuários por trecho do nome e bloqueios entre usuários
+
+-- LIKE '%termo%' sem âncora não usa B-tree; o GIN de trigramas atende a busca por contém
+-- (a consulta compara lower(username), a mesma expressão do índice)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm
+    ON users USING gin (lower(username) gin_trgm_ops);
+
+CREATE TABLE IF NOT EXISTS user_blocks (
+    id BIGSERIAL PRIMARY KEY,
+    blocker_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    blocked_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_user_blocks UNIQUE (blocker_id, blocked_id)
+);
+
+-- O UNIQUE cobre "quem eu bloqueei"; este cobre "quem me bloqueou"
+CREATE INDEX IF NOT EXISTS idx_user_blocks_blocked
+    ON user_blocks (blocked_id, blocker_id);
@@ -0,0 +1,45 @@
+-- V15__post_interactions_counters.sql
+-- Curtidas e comentários em posts e contadores fatiados (counter_shards)
+
+CREATE TABLE IF NOT EXISTS post_likes (
+    id BIGSERIAL PRIMARY KEY,
+    post_id BIGINT NOT NULL REFERENCES posts(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_post_likes UNIQUE (post_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS post_comments (
+    id BIGSERIAL PRIMARY KEY,
+    post_id BIGINT NOT NULL REFERENCES posts(id) ON DELETE CASCADE,
+    author_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    text TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+-- Comentários de um post em ordem de criação
+CREATE INDEX IF NOT EXISTS idx_post_comments_post ON post_comments (post_id, id);
+
+-- Um contador é a soma das suas fatias; cada flush soma numa fatia sorteada, então
+-- incrementos simultâneos no mesmo contador raramente disputam a mesma linha
+CREATE TABLE IF NOT EXISTS counter_shards (
+    counter_kind VARCHAR(32) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    shard SMALLINT NOT NULL,
+    count_value BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (counter_kind, entity_id, shard)
+);
+
+-- Valores iniciais dos contadores cujas tabelas de origem já existiam (fatia 0)
+INSERT INTO counter_shards (counter_kind, entity_id, shard, count_value, updated_at)
+SELECT 'USER_POSTS', author_id, 0, COUNT(*), NOW() FROM posts GROUP BY author_id
+ON CONFLICT DO NOTHING;
+
+INSERT INTO counter_shards (counter_kind, entity_id, shard, count_value, updated_at)
+SELECT 'USER_FOLLOWERS', followed_id, 0, COUNT(*), NOW() FROM user_follows GROUP BY followed_id
+ON CONFLICT DO NOTHING;
+
+INSERT INTO counter_shards (counter_kind, entity_id, shard, count_value, updated_at)
+SELECT 'USER_FOLLOWING', follower_id, 0, COUNT(*), NOW() FROM user_follows GROUP BY follower_id
+ON CONFLICT DO NOTHING;
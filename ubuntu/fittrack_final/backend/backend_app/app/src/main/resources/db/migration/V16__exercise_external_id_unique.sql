@@ -0,0 +1,5 @@
+-- V16__exercise_external_id_unique.sql
+-- Importação do catálogo em massa: upsert por external_id
+
+-- Um exercício por ID externo; NULLs (exercícios criados pela API) não conflitam entre si
+CREATE UNIQUE INDEX IF NOT EXISTS uk_exercises_external_id ON exercises (external_id);
@@ -0,0 +1,18 @@
+-- V17__routine_membership_indexes.sql
+-- logWorkout resolve "o treino pertence a uma rotina ativa do usuário" numa única consulta:
+-- user_routines (user_id, active) → workouts (routine_id, id). Os índices existiam só nas
+-- anotações das entidades, e produção valida o schema em vez de criá-lo
+
+ALTER TABLE workouts ADD COLUMN IF NOT EXISTS routine_id BIGINT REFERENCES routines(id) ON DELETE CASCADE;
+
+CREATE TABLE IF NOT EXISTS user_routines (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    routine_id BIGINT NOT NULL REFERENCES routines(id) ON DELETE CASCADE,
+    start_date DATE NOT NULL,
+    end_date DATE,
+    active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+CREATE INDEX IF NOT EXISTS idx_workouts_routine ON workouts (routine_id, id);
+CREATE INDEX IF NOT EXISTS idx_user_routines_user_active ON user_routines (user_id, active);
@@ -0,0 +1,7 @@
+-- V18__workout_session_checkpoint_close.sql
+-- Finish/cancel marcam o checkpoint como encerrado em vez de apagá-lo: uma réplica com cópia
+-- antiga da sessão não a regrava nem a finaliza de novo. A marca expira junto com os
+-- checkpoints abandonados (updated_at)
+
+ALTER TABLE workout_session_checkpoints ADD COLUMN IF NOT EXISTS session_id VARCHAR(36);
+ALTER TABLE workout_session_checkpoints ADD COLUMN IF NOT EXISTS closed_at TIMESTAMP;
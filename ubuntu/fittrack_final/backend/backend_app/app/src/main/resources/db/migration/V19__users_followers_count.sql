@@ -0,0 +1,13 @@
+-- V19__users_followers_count.sql
+-- A busca de usuários ordena por seguidores e pagina pelo cursor (seguidores, id). Contar
+-- user_follows por consulta exigia LEFT JOIN + GROUP BY de todos os nomes que casam com o
+-- termo e o cursor no HAVING; com a contagem gravada, o cursor vai para o WHERE.
+-- A coluna acompanha o contador USER_FOLLOWERS: o flush das fatias soma o mesmo delta nela
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS followers_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE users u SET followers_count = f.total
+FROM (SELECT followed_id, COUNT(*) AS total FROM user_follows GROUP BY followed_id) f
+WHERE f.followed_id = u.id;
+
+CREATE INDEX IF NOT EXISTS idx_users_followers_count ON users (followers_count DESC, id);
@@ -0,0 +1,17 @@
+-- V20__workout_interaction_counters.sql
+-- Curtidas e comentários em treinos (tabelas do V1) passam a ter contadores fatiados,
+-- WORKOUT_LIKES e WORKOUT_COMMENTS, como os de posts
+
+-- O UNIQUE (user_id, workout_id) do V1 começa pelo usuário; a reconciliação e a lista de
+-- comentários filtram pelo treino
+CREATE INDEX IF NOT EXISTS idx_workout_likes_workout ON workout_likes (workout_id, user_id);
+CREATE INDEX IF NOT EXISTS idx_workout_comments_workout ON workout_comments (workout_id, id);
+
+-- Valores iniciais (fatia 0)
+INSERT INTO counter_shards (counter_kind, entity_id, shard, count_value, updated_at)
+SELECT 'WORKOUT_LIKES', workout_id, 0, COUNT(*), NOW() FROM workout_likes GROUP BY workout_id
+ON CONFLICT DO NOTHING;
+
+INSERT INTO counter_shards (counter_kind, entity_id, shard, count_value, updated_at)
+SELECT 'WORKOUT_COMMENTS', workout_id, 0, COUNT(*), NOW() FROM workout_comments GROUP BY workout_id
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,21 @@
+-- V4__workout_history_indexes.sql
+-- Histórico de treinos do usuário: consultas por período e paginação por cursor
+
+CREATE TABLE IF NOT EXISTS user_workout_logs (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    workout_id BIGINT NOT NULL REFERENCES workouts(id) ON DELETE CASCADE,
+    user_routine_id BIGINT,
+    completed_at TIMESTAMP NOT NULL,
+    duration_minutes INTEGER,
+    notes TEXT,
+    idempotency_key VARCHAR(64),
+    CONSTRAINT uk_user_workout_logs_user_idempotency UNIQUE (user_id, idempotency_key)
+);
+
+-- Índice cobrindo a listagem: ordem de leitura igual à do ORDER BY e colunas da projeção no INCLUDE,
+-- permitindo index-only scan (a tabela só é visitada para páginas não marcadas como visíveis)
+DROP INDEX IF EXISTS idx_user_workout_logs_user_completed;
+CREATE INDEX idx_user_workout_logs_user_completed
+    ON user_workout_logs (user_id, completed_at DESC, id DESC)
+    INCLUDE (workout_id, user_routine_id, duration_minutes);
@@ -0,0 +1,23 @@
+-- V5__training_stats_rollups.sql
+-- Agregados de treino por usuário, mantidos junto com user_workout_logs
+-- (popular com saga.stats.backfill-on-startup=true após aplicar)
+
+CREATE TABLE IF NOT EXISTS user_daily_stats (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    stat_date DATE NOT NULL,
+    workout_count INTEGER NOT NULL DEFAULT 0,
+    timed_workout_count INTEGER NOT NULL DEFAULT 0,
+    total_duration_minutes BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_user_daily_stats_user_stat_date UNIQUE (user_id, stat_date)
+);
+
+CREATE TABLE IF NOT EXISTS user_weekly_stats (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    week_start DATE NOT NULL, -- segunda-feira da semana ISO
+    workout_count INTEGER NOT NULL DEFAULT 0,
+    timed_workout_count INTEGER NOT NULL DEFAULT 0,
+    total_duration_minutes BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_user_weekly_stats_user_week_start UNIQUE (user_id, week_start)
+);
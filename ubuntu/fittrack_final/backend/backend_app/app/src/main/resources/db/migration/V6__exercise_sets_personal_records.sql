@@ -0,0 +1,13 @@
+-- V6__exercise_sets_personal_records.sql
+-- Séries passam a pertencer aos logs de treino (user_workout_logs) e alimentam os recordes pessoais
+
+ALTER TABLE exercise_sets ALTER COLUMN workout_exercise_id DROP NOT NULL;
+ALTER TABLE exercise_sets ADD COLUMN IF NOT EXISTS user_id BIGINT REFERENCES users(id) ON DELETE CASCADE;
+ALTER TABLE exercise_sets ADD COLUMN IF NOT EXISTS user_workout_log_id BIGINT REFERENCES user_workout_logs(id) ON DELETE CASCADE;
+ALTER TABLE exercise_sets ADD COLUMN IF NOT EXISTS exercise_id BIGINT REFERENCES exercises(id);
+
+CREATE INDEX IF NOT EXISTS idx_exercise_sets_log ON exercise_sets(user_workout_log_id);
+-- Ordem de leitura do rebuild de recordes (usuário, exercício, série)
+CREATE INDEX IF NOT EXISTS idx_exercise_sets_user_exercise ON exercise_sets(user_id, exercise_id, id);
+
+ALTER TABLE personal_records ADD COLUMN IF NOT EXISTS exercise_set_id BIGINT REFERENCES exercise_sets(id) ON DELETE SET NULL;
@@ -0,0 +1,14 @@
+-- V7__workout_sessions.sql
+-- Sessões de treino ao vivo: checkpoint do estado em andamento e IDs de séries em blocos
+
+CREATE TABLE IF NOT EXISTS workout_session_checkpoints (
+    user_id BIGINT PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    workout_id BIGINT NOT NULL,
+    state_json TEXT NOT NULL,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Alocação de 50 IDs por chamada permite INSERT em lote das séries gravadas no fim da sessão
+CREATE SEQUENCE IF NOT EXISTS exercise_sets_seq INCREMENT BY 50;
+SELECT setval('exercise_sets_seq', COALESCE((SELECT MAX(id) FROM exercise_sets), 0) + 1, false);
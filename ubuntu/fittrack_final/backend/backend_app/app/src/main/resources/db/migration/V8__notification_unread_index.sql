@@ -0,0 +1,11 @@
+-- V8__notification_unread_index.sql
+-- Estado de leitura das notificações em operações de conjunto
+
+-- Índice parcial só com as não lidas: marcar todas como lidas e listar não lidas
+-- percorrem apenas as linhas pendentes, não o histórico inteiro do usuário
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread
+    ON notifications (user_id, id)
+    WHERE read_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_id
+    ON notifications (user_id, id);
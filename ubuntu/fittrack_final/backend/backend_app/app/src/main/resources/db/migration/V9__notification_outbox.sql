@@ -0,0 +1,13 @@
+-- V9__notification_outbox.sql
+-- Outbox transacional de notificações, consumida em lotes pelo NotificationOutboxDispatcher
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    type VARCHAR(50) NOT NULL,
+    message VARCHAR(255) NOT NULL,
+    link VARCHAR(255),
+    coalesce_key VARCHAR(255),
+    group_message VARCHAR(255),
+    created_at TIMESTAMP NOT NULL
+);
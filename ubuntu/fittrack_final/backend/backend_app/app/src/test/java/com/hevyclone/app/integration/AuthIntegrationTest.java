@@ -188,6 +188,10 @@ class AuthIntegrationTest {
         // Sem token
         mockMvc.perform(get("/api/auth/me"))
                 .andExpect(status().isUnauthorized());
+
+        // Actuator além de health/info exige autenticação
+        mockMvc.perform(get("/actuator/flightrecorder"))
+                .andExpect(status().isUnauthorized());
     }
 
     @Test
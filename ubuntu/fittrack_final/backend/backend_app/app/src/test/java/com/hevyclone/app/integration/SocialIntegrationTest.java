@@ -204,6 +204,17 @@ class SocialIntegrationTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.text").value("Inspirador! 🔥"));
 
+        // Comentários: a página com dois não executa mais comandos SQL que a página com um
+        SqlBudget.assertStatementsDoNotGrow(
+                () -> mockMvc.perform(get("/api/posts/{postId}/comments?size=1", postId)
+                        .header("Authorization", "Bearer " + user1Token))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.content", hasSize(1))),
+                () -> mockMvc.perform(get("/api/posts/{postId}/comments?size=20", postId)
+                        .header("Authorization", "Bearer " + user1Token))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.content", hasSize(2))));
+
         // Verificar post com likes e comentários
         mockMvc.perform(get("/api/posts/{postId}", postId)
                 .header("Authorization", "Bearer " + user1Token))
@@ -269,18 +280,26 @@ class SocialIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(1))));
 
-        // Feed público deve mostrar todos os posts públicos
-        mockMvc.perform(get("/api/feed/public")
+        // Feed público deve mostrar todos os posts públicos, em no máximo 15 comandos SQL e sem uma
+        // consulta por post
+        SqlBudget.assertStatementsDoNotGrow(() -> SqlBudget.assertStatementsAtMost(15, () -> mockMvc.perform(get("/api/feed/public?size=1")
+                .header("Authorization", "Bearer " + user1Token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))), () -> mockMvc.perform(get("/api/feed/public")
                 .header("Authorization", "Bearer " + user1Token))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(2))));
+                .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(2)))));
 
-        // Feed com paginação
-        mockMvc.perform(get("/api/feed?page=0&size=1")
+        // Feed com paginação; a página cheia não executa mais comandos SQL que a de um post
+        int feedWithOnePost = SqlBudget.countStatements(() -> mockMvc.perform(get("/api/feed?page=0&size=1")
                 .header("Authorization", "Bearer " + user1Token))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(1)))
-                .andExpect(jsonPath("$.pageable.pageSize").value(1));
+                .andExpect(jsonPath("$.pageable.pageSize").value(1)));
+        SqlBudget.assertStatementsAtMost(feedWithOnePost, () -> mockMvc.perform(get("/api/feed?page=0&size=20")
+                .header("Authorization", "Bearer " + user1Token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(1)))));
     }
 
     @Test
@@ -0,0 +1,66 @@
+package com.hevyclone.app.integration;
+
+import com.hevyclone.app.config.sql.SqlStatementStats;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Falha o teste quando uma chamada executa mais comandos SQL que o limite, ou quando o número de
+ * comandos cresce com o número de itens da resposta (regressão de N+1).
+ */
+final class SqlBudget {
+
+    private SqlBudget() {
+    }
+
+    static <T> T assertStatementsAtMost(int max, SqlAction<T> action) throws Exception {
+        T result;
+        SqlStatementStats.Scope scope = SqlStatementStats.begin();
+        try {
+            result = action.run();
+        } finally {
+            scope.close();
+        }
+        if (scope.getStatements() > max) {
+            fail("Esperado no máximo " + max + " comandos SQL, executados " + scope.getStatements()
+                    + "; mais repetido (" + scope.getMostRepeatedCount() + "x): " + scope.getMostRepeated());
+        }
+        return result;
+    }
+
+    /**
+     * Número de comandos SQL da chamada, para servir de limite a uma chamada posterior com mais itens.
+     */
+    static int countStatements(SqlAction<?> action) throws Exception {
+        return measure(action).getStatements();
+    }
+
+    /**
+     * Executa a mesma chamada com um item (single) e com vários (many) e exige que a segunda não
+     * execute mais comandos que a primeira.
+     */
+    static void assertStatementsDoNotGrow(SqlAction<?> single, SqlAction<?> many) throws Exception {
+        SqlStatementStats.Scope one = measure(single);
+        SqlStatementStats.Scope several = measure(many);
+        if (several.getStatements() > one.getStatements()) {
+            fail("Comandos SQL cresceram com o número de itens: " + one.getStatements() + " com um, "
+                    + several.getStatements() + " com vários; mais repetido (" + several.getMostRepeatedCount()
+                    + "x): " + several.getMostRepeated());
+        }
+    }
+
+    private static SqlStatementStats.Scope measure(SqlAction<?> action) throws Exception {
+        SqlStatementStats.Scope scope = SqlStatementStats.begin();
+        try {
+            action.run();
+        } finally {
+            scope.close();
+        }
+        return scope;
+    }
+
+    @FunctionalInterface
+    interface SqlAction<T> {
+        T run() throws Exception;
+    }
+}
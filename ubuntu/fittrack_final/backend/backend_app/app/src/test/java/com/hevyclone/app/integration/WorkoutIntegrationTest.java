@@ -139,6 +139,11 @@ class WorkoutIntegrationTest {
                 .andExpect(jsonPath("$[1].reps").value(10))
                 .andExpect(jsonPath("$[2].weight").value(90.0));
 
+        int detailWithOneExercise = SqlBudget.countStatements(() -> mockMvc.perform(get("/api/workouts/{id}", workoutId)
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exercises", hasSize(1))));
+
         // Fase 4: Adicionar segundo exercício
         Map<String, Object> exercise2Data = new HashMap<>();
         exercise2Data.put("name", "Supino Inclinado");
@@ -152,8 +157,8 @@ class WorkoutIntegrationTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.name").value("Supino Inclinado"));
 
-        // Fase 5: Verificar treino completo
-        mockMvc.perform(get("/api/workouts/{id}", workoutId)
+        // Fase 5: Verificar treino completo, com os mesmos comandos SQL de quando tinha um exercício
+        SqlBudget.assertStatementsAtMost(detailWithOneExercise, () -> mockMvc.perform(get("/api/workouts/{id}", workoutId)
                 .header("Authorization", "Bearer " + authToken))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(workoutId))
@@ -161,7 +166,7 @@ class WorkoutIntegrationTest {
                 .andExpect(jsonPath("$.exercises", hasSize(2)))
                 .andExpect(jsonPath("$.exercises[0].name").value("Supino Reto"))
                 .andExpect(jsonPath("$.exercises[0].sets", hasSize(3)))
-                .andExpect(jsonPath("$.exercises[1].name").value("Supino Inclinado"));
+                .andExpect(jsonPath("$.exercises[1].name").value("Supino Inclinado")));
     }
 
     @Test
@@ -234,6 +239,7 @@ class WorkoutIntegrationTest {
         };
 
         List<String> createdWorkoutIds = new ArrayList<>();
+        int logsWithOneWorkout = -1;
 
         for (String name : workoutNames) {
             Map<String, Object> workoutData = new HashMap<>();
@@ -261,8 +267,19 @@ class WorkoutIntegrationTest {
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(Map.of("duration", 1800))))
                     .andExpect(status().isOk());
+
+            if (logsWithOneWorkout < 0) {
+                logsWithOneWorkout = SqlBudget.countStatements(() -> mockMvc.perform(get("/api/user/logs")
+                        .header("Authorization", "Bearer " + authToken))
+                        .andExpect(status().isOk()));
+            }
         }
 
+        // Logs do usuário: com três treinos, no máximo os mesmos comandos SQL que com um
+        SqlBudget.assertStatementsAtMost(logsWithOneWorkout, () -> mockMvc.perform(get("/api/user/logs")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk()));
+
         // Buscar histórico completo
         mockMvc.perform(get("/api/workouts/history")
                 .header("Authorization", "Bearer " + authToken))
@@ -270,13 +287,16 @@ class WorkoutIntegrationTest {
                 .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(3))))
                 .andExpect(jsonPath("$.totalElements").value(greaterThanOrEqualTo(3)));
 
-        // Buscar histórico com paginação
-        mockMvc.perform(get("/api/workouts/history?page=0&size=2")
+        // Buscar histórico com paginação: no máximo 15 comandos SQL, e o número não cresce com a página
+        SqlBudget.assertStatementsDoNotGrow(() -> SqlBudget.assertStatementsAtMost(15, () -> mockMvc.perform(get("/api/workouts/history?page=0&size=1")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))), () -> mockMvc.perform(get("/api/workouts/history?page=0&size=2")
                 .header("Authorization", "Bearer " + authToken))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(2)))
                 .andExpect(jsonPath("$.pageable.pageSize").value(2))
-                .andExpect(jsonPath("$.pageable.pageNumber").value(0));
+                .andExpect(jsonPath("$.pageable.pageNumber").value(0)));
 
         // Buscar histórico por período
         mockMvc.perform(get("/api/workouts/history?startDate=2024-01-01&endDate=2024-12-31")
@@ -503,4 +523,41 @@ class WorkoutIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.name").value("Treino Concorrente"));
     }
+
+    @Test
+    @Order(7)
+    void naoDeveCrescerNumeroDeComandosSqlComNumeroDeRotinasEExercicios() throws Exception {
+        // Rotinas: a lista serializa os treinos de cada rotina (associação LAZY)
+        int routinesWithOne = -1;
+        for (int i = 1; i <= 3; i++) {
+            Map<String, Object> routineData = new HashMap<>();
+            routineData.put("name", "Rotina Orçamento SQL " + i);
+            routineData.put("targetProfileLevel", "INICIANTE");
+
+            mockMvc.perform(post("/api/routines")
+                    .header("Authorization", "Bearer " + authToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(routineData)))
+                    .andExpect(status().isCreated());
+
+            if (i == 1) {
+                routinesWithOne = SqlBudget.countStatements(() -> mockMvc.perform(get("/api/routines")
+                        .header("Authorization", "Bearer " + authToken))
+                        .andExpect(status().isOk()));
+            }
+        }
+        SqlBudget.assertStatementsAtMost(routinesWithOne, () -> mockMvc.perform(get("/api/routines")
+                .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(3)))));
+
+        // Catálogo de exercícios: página de um contra página de vários
+        SqlBudget.assertStatementsDoNotGrow(
+                () -> mockMvc.perform(get("/api/exercises/paginated?page=0&size=1")
+                        .header("Authorization", "Bearer " + authToken))
+                        .andExpect(status().isOk()),
+                () -> mockMvc.perform(get("/api/exercises/paginated?page=0&size=50")
+                        .header("Authorization", "Bearer " + authToken))
+                        .andExpect(status().isOk()));
+    }
 } 
\ No newline at end of file
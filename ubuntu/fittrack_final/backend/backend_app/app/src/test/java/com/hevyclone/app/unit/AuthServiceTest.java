@@ -4,6 +4,7 @@ import com.hevyclone.app.auth.dto.LoginRequest;
 import com.hevyclone.app.auth.dto.RegisterRequest;
 import com.hevyclone.app.auth.service.AuthService;
 import com.hevyclone.app.auth.security.JwtUtils;
+import com.hevyclone.app.service.search.UserSearchService;
 import com.hevyclone.app.user.model.User;
 import com.hevyclone.app.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +40,9 @@ class AuthServiceTest {
     @Mock
     private JwtUtils jwtUtils;
 
+    @Mock
+    private UserSearchService userSearchService;
+
     @InjectMocks
     private AuthService authService;
 
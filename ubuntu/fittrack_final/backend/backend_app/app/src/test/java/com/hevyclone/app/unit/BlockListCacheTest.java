@@ -0,0 +1,65 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.repository.social.UserBlockRepository;
+import com.hevyclone.app.service.social.BlockListCache;
+import com.hevyclone.app.service.social.BlockSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlockListCacheTest {
+
+    @Mock
+    private UserBlockRepository userBlockRepository;
+
+    private BlockListCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BlockListCache(userBlockRepository, new SimpleMeterRegistry(), 60_000, 1000);
+    }
+
+    @Test
+    void blockedIds_ShouldQueryRepositoryOnce_WhenCalledRepeatedly() {
+        when(userBlockRepository.findBlockedIdsInvolving(1L)).thenReturn(List.of(9L, 3L));
+
+        assertTrue(cache.isBlocked(1L, 3L));
+        assertTrue(cache.isBlocked(1L, 9L));
+        assertFalse(cache.isBlocked(1L, 4L));
+
+        verify(userBlockRepository, times(1)).findBlockedIdsInvolving(1L);
+    }
+
+    @Test
+    void invalidateAfterCommit_ShouldReloadBothUsers_WhenNoTransactionIsActive() {
+        when(userBlockRepository.findBlockedIdsInvolving(1L)).thenReturn(List.of(), List.of(2L));
+        when(userBlockRepository.findBlockedIdsInvolving(2L)).thenReturn(List.of(), List.of(1L));
+        assertFalse(cache.isBlocked(1L, 2L));
+        assertFalse(cache.isBlocked(2L, 1L));
+
+        cache.invalidateAfterCommit(1L, 2L);
+
+        assertTrue(cache.isBlocked(1L, 2L));
+        assertTrue(cache.isBlocked(2L, 1L));
+    }
+
+    @Test
+    void blockSet_ShouldIgnoreDuplicatesAndShareEmptyInstance() {
+        BlockSet set = BlockSet.of(List.of(5L, 1L, 5L));
+
+        assertEquals(2, set.size());
+        assertTrue(set.contains(1L));
+        assertTrue(set.contains(5L));
+        assertFalse(set.contains(3L));
+        assertSame(BlockSet.EMPTY, BlockSet.of(List.of()));
+    }
+}
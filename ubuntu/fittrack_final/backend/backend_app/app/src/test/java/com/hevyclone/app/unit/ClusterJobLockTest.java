@@ -0,0 +1,102 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.model.scheduling.ScheduledJobLock;
+import com.hevyclone.app.repository.scheduling.ScheduledJobLockRepository;
+import com.hevyclone.app.service.scheduling.ClusterJobLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterJobLockTest {
+
+    private static final String JOB = "notification-retention";
+
+    @Mock
+    private ScheduledJobLockRepository lockRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClusterJobLock jobLock;
+
+    @BeforeEach
+    void setUp() {
+        jobLock = new ClusterJobLock(lockRepository, transactionManager);
+    }
+
+    @Test
+    void tryAcquire_ShouldTakeExpiredLock() {
+        when(lockRepository.acquireIfExpired(eq(JOB), anyString(), any(), any())).thenReturn(1);
+
+        assertTrue(jobLock.tryAcquire(JOB, Duration.ofMinutes(10)));
+
+        verify(lockRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void tryAcquire_ShouldFail_WhenAnotherReplicaHoldsTheLock() {
+        when(lockRepository.acquireIfExpired(eq(JOB), anyString(), any(), any())).thenReturn(0);
+        when(lockRepository.existsById(JOB)).thenReturn(true);
+
+        assertFalse(jobLock.tryAcquire(JOB, Duration.ofMinutes(10)));
+
+        verify(lockRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void tryAcquire_ShouldCreateLockedRow_OnFirstRun() {
+        when(lockRepository.acquireIfExpired(eq(JOB), anyString(), any(), any())).thenReturn(0);
+        when(lockRepository.existsById(JOB)).thenReturn(false);
+
+        assertTrue(jobLock.tryAcquire(JOB, Duration.ofMinutes(10)));
+
+        ArgumentCaptor<ScheduledJobLock> saved = ArgumentCaptor.forClass(ScheduledJobLock.class);
+        verify(lockRepository).saveAndFlush(saved.capture());
+        assertEquals(JOB, saved.getValue().getName());
+        assertTrue(saved.getValue().getLockedUntil().isAfter(LocalDateTime.now().plusMinutes(9)));
+    }
+
+    @Test
+    void tryAcquire_ShouldFail_WhenAnotherReplicaCreatedTheRowFirst() {
+        when(lockRepository.acquireIfExpired(eq(JOB), anyString(), any(), any())).thenReturn(0);
+        when(lockRepository.existsById(JOB)).thenReturn(false);
+        when(lockRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertFalse(jobLock.tryAcquire(JOB, Duration.ofMinutes(10)));
+    }
+
+    @Test
+    void extend_ShouldPushExpiryForwardForTheSameOwner() {
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        when(lockRepository.acquireIfExpired(eq(JOB), owner.capture(), any(), any())).thenReturn(1);
+        jobLock.tryAcquire(JOB, Duration.ofMinutes(10));
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(lockRepository.extend(eq(JOB), eq(owner.getValue()), any(), until.capture())).thenReturn(1);
+
+        assertTrue(jobLock.extend(JOB, Duration.ofMinutes(10)));
+
+        assertTrue(until.getValue().isAfter(LocalDateTime.now().plusMinutes(9)));
+    }
+
+    @Test
+    void extend_ShouldFail_WhenLockExpiredOrWasTakenOver() {
+        when(lockRepository.extend(eq(JOB), anyString(), any(), any())).thenReturn(0);
+
+        assertFalse(jobLock.extend(JOB, Duration.ofMinutes(10)));
+    }
+}
@@ -0,0 +1,93 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.service.counter.CounterKind;
+import com.hevyclone.app.service.counter.CounterService;
+import com.hevyclone.app.service.counter.CounterShardStore;
+import com.hevyclone.app.service.scheduling.ClusterJobLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CounterServiceTest {
+
+    @Mock
+    private CounterShardStore store;
+
+    @Mock
+    private ClusterJobLock jobLock;
+
+    private CounterService counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new CounterService(store, jobLock, new SimpleMeterRegistry(), 8, 60_000, 1000, 60_000, 500);
+    }
+
+    @Test
+    void get_ShouldQueryStoreOnceAndIncludeUnflushedIncrements_WhenCached() {
+        when(store.sums(eq(CounterKind.POST_LIKES), any())).thenReturn(Map.of(1L, 5L));
+
+        assertEquals(5L, counters.get(CounterKind.POST_LIKES, 1L));
+        counters.incrementAfterCommit(CounterKind.POST_LIKES, 1L, 2);
+        assertEquals(7L, counters.get(CounterKind.POST_LIKES, 1L));
+
+        verify(store, times(1)).sums(eq(CounterKind.POST_LIKES), any());
+    }
+
+    @Test
+    void flush_ShouldWriteDeltasOnceAndKeepValue_WhenStoreSucceeds() {
+        when(store.sums(eq(CounterKind.POST_LIKES), any())).thenReturn(Map.of(1L, 5L));
+        counters.get(CounterKind.POST_LIKES, 1L);
+        counters.incrementAfterCommit(CounterKind.POST_LIKES, 1L, 2);
+
+        counters.flush();
+        counters.flush();
+
+        verify(store, times(1)).add(CounterKind.POST_LIKES, Map.of(1L, 2L), 8);
+        assertEquals(7L, counters.get(CounterKind.POST_LIKES, 1L));
+    }
+
+    @Test
+    void flush_ShouldKeepDeltasForNextFlush_WhenStoreFails() {
+        doThrow(new DataAccessResourceFailureException("banco indisponível"))
+                .doNothing()
+                .when(store).add(CounterKind.USER_FOLLOWERS, Map.of(3L, 1L), 8);
+        counters.incrementAfterCommit(CounterKind.USER_FOLLOWERS, 3L, 1);
+
+        counters.flush();
+        counters.flush();
+        counters.flush();
+
+        verify(store, times(2)).add(CounterKind.USER_FOLLOWERS, Map.of(3L, 1L), 8);
+    }
+
+    @Test
+    void reconcile_ShouldCorrectDrift_OnlyForCountersWithoutPendingIncrements() {
+        when(store.idleEntityIds(eq(CounterKind.POST_COMMENTS), anyLong(), any(), anyInt()))
+                .thenReturn(List.of(1L, 2L));
+        when(store.exactCounts(eq(CounterKind.POST_COMMENTS), any())).thenReturn(Map.of(1L, 10L, 2L, 4L));
+        when(store.sums(eq(CounterKind.POST_COMMENTS), any())).thenReturn(Map.of(1L, 8L, 2L, 3L));
+        counters.incrementAfterCommit(CounterKind.POST_COMMENTS, 2L, 1);
+
+        int corrected = counters.reconcile(CounterKind.POST_COMMENTS, LocalDateTime.now());
+
+        assertEquals(1, corrected);
+        verify(store).add(CounterKind.POST_COMMENTS, Map.of(1L, 2L), 8);
+    }
+}
@@ -0,0 +1,63 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.config.sql.SqlDialect;
+import com.hevyclone.app.service.counter.CounterKind;
+import com.hevyclone.app.service.counter.CounterShardStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CounterShardStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private CounterShardStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE counter_shards (counter_kind VARCHAR(32) NOT NULL, entity_id BIGINT NOT NULL, " +
+                "shard SMALLINT NOT NULL, count_value BIGINT NOT NULL, updated_at TIMESTAMP NOT NULL, " +
+                "PRIMARY KEY (counter_kind, entity_id, shard))");
+        jdbcTemplate.execute("CREATE TABLE post_likes (id BIGINT AUTO_INCREMENT PRIMARY KEY, post_id BIGINT NOT NULL, " +
+                "user_id BIGINT NOT NULL)");
+        store = new CounterShardStore(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), new SqlDialect(dataSource));
+    }
+
+    @Test
+    void add_ShouldSumIntoExistingShard_WhenShardWasCreatedConcurrently() {
+        // Fatia única: a segunda gravação cai na linha criada pela primeira (outra réplica)
+        store.add(CounterKind.POST_LIKES, Map.of(1L, 2L), 1);
+        store.add(CounterKind.POST_LIKES, Map.of(1L, 3L, 2L, 1L), 1);
+
+        assertEquals(Map.of(1L, 5L, 2L, 1L), store.sums(CounterKind.POST_LIKES, List.of(1L, 2L)));
+    }
+
+    @Test
+    void idleEntityIds_ShouldIncludeSourceIdsWithoutShards_AndSkipRecentlyWrittenCounters() {
+        jdbcTemplate.update("INSERT INTO post_likes (post_id, user_id) VALUES (1, 10), (1, 11), (3, 10)");
+        store.add(CounterKind.POST_LIKES, Map.of(2L, 1L), 1);
+        jdbcTemplate.update("UPDATE counter_shards SET updated_at = ? WHERE entity_id = 2",
+                LocalDateTime.now().minusHours(1));
+        store.add(CounterKind.POST_LIKES, Map.of(3L, 1L), 1);
+
+        // 1 só existe na origem, 2 só nas fatias (origem esvaziou), 3 teve escrita agora
+        List<Long> ids = store.idleEntityIds(CounterKind.POST_LIKES, 0L, LocalDateTime.now().minusMinutes(1), 10);
+
+        assertEquals(List.of(1L, 2L), ids);
+        assertEquals(Map.of(1L, 2L, 3L, 1L), store.exactCounts(CounterKind.POST_LIKES, List.of(1L, 2L, 3L)));
+    }
+}
@@ -0,0 +1,145 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.dto.exercise.ExerciseImportResultDTO;
+import com.hevyclone.app.service.exercise.ExerciseImportReader;
+import com.hevyclone.app.service.exercise.ExerciseImportService;
+import com.hevyclone.app.service.exercise.ExerciseImportStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExerciseImportServiceTest {
+
+    @Mock
+    private ExerciseImportStore store;
+
+    private ExerciseImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        // lenient: detect_ não passa pelo store
+        lenient().when(store.muscleGroups()).thenReturn(Map.of("1", 1L, "chest", 1L, "peito", 1L, "2", 2L, "bracos", 2L));
+        lenient().when(store.equipments()).thenReturn(Map.of("1", 1L, "barbell", 1L));
+        lenient().when(store.difficultyLevels()).thenReturn(Map.of("1", 1L, "beginner", 1L));
+        importService = new ExerciseImportService(store, 2, 10);
+    }
+
+    @Test
+    void importExercises_ShouldUpsertCsvInBatchesAndReportRowErrors() throws IOException {
+        List<List<ExerciseImportStore.ExerciseRow>> batches = captureBatches(new int[]{1, 1}, new int[]{1, 0});
+        String csv = "\uFEFFName,Muscle Group,equipment,difficulty,externalId,description\r\n"
+                + "Supino Reto,Peito,Barbell,1,hevy-1,\"Deite no banco, \"\"pés\"\" no chão\nempurre\"\r\n"
+                + "\n"
+                + "Rosca Direta,Braços,,,hevy-2,\n"
+                + "Ab,Peito,,,hevy-3,\n"
+                + "Crucifixo,Costas,,,hevy-4,\n"
+                + "Remada,peito,halter,,hevy-5,\n"
+                + "Flexão,1,,,,\n";
+
+        ExerciseImportResultDTO result = importService.importExercises(stream(csv), ExerciseImportReader.Format.CSV, null);
+
+        assertEquals(6, result.getProcessed());
+        assertEquals(2, result.getInserted());
+        assertEquals(1, result.getUpdated());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(6L, 7L, 8L), result.getErrors().stream().map(ExerciseImportResultDTO.RowError::getLine).toList());
+        assertEquals("Grupo muscular não encontrado: Costas", result.getErrors().get(1).getMessage());
+        assertEquals("hevy-5", result.getErrors().get(2).getExternalId());
+
+        assertEquals(2, batches.size());
+        ExerciseImportStore.ExerciseRow bench = batches.get(0).get(0);
+        assertEquals("Deite no banco, \"pés\" no chão\nempurre", bench.getDescription());
+        assertEquals(1L, bench.getPrimaryMuscleGroupId());
+        assertEquals(1L, bench.getEquipmentId());
+        assertEquals(1L, bench.getDifficultyLevelId());
+        assertEquals(2L, batches.get(0).get(1).getPrimaryMuscleGroupId());
+        assertNull(batches.get(1).get(0).getExternalId());
+    }
+
+    @Test
+    void importExercises_ShouldUseDefaultMuscleGroupAndLastDuplicate_WhenJson() throws IOException {
+        List<List<ExerciseImportStore.ExerciseRow>> batches = captureBatches(new int[]{1, 0}, new int[]{0, 1});
+        String json = "[{\"name\": \"Agachamento\", \"externalId\": \"x-1\", \"muscles\": [\"quads\"]},\n"
+                + " {\"name\": \"Agachamento Livre\", \"external_id\": \"x-1\", \"image_url\": null}]";
+
+        ExerciseImportResultDTO result = importService.importExercises(stream(json), ExerciseImportReader.Format.JSON, "Chest");
+
+        assertEquals(2, result.getProcessed());
+        assertEquals(0, result.getFailed());
+        assertEquals(2, batches.size());
+        assertEquals("Agachamento Livre", batches.get(1).get(0).getName());
+        assertEquals(1L, batches.get(1).get(0).getPrimaryMuscleGroupId());
+    }
+
+    @Test
+    void importExercises_ShouldReportWholeBatch_WhenStoreFails() throws IOException {
+        when(store.upsert(any())).thenThrow(new DataIntegrityViolationException("uk_exercises_external_id"));
+
+        ExerciseImportResultDTO result = importService.importExercises(
+                stream("name,muscle_group,external_id\nLeg Press,1,a\nStiff,1,b\n"), ExerciseImportReader.Format.CSV, null);
+
+        assertEquals(2, result.getFailed());
+        assertEquals(0, result.getInserted());
+        assertTrue(result.getErrors().get(0).getMessage().contains("uk_exercises_external_id"));
+    }
+
+    @Test
+    void importExercises_ShouldKeepRowsBeforeMalformedJson() throws IOException {
+        captureBatches(new int[]{1, 0});
+
+        ExerciseImportResultDTO result = importService.importExercises(
+                stream("[{\"name\": \"Leg Press\", \"muscle_group\": \"1\"},\n{\"name\": "), ExerciseImportReader.Format.JSON, null);
+
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getFailed());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("Linha 2"));
+    }
+
+    @Test
+    void importExercises_ShouldRejectUnknownDefaultMuscleGroup() {
+        assertThrows(IllegalArgumentException.class, () -> importService.importExercises(
+                stream("name\nLeg Press\n"), ExerciseImportReader.Format.CSV, "Pescoço"));
+        verify(store, never()).upsert(any());
+    }
+
+    @Test
+    void detect_ShouldPreferRequestedFormatThenFileName() {
+        assertEquals(ExerciseImportReader.Format.JSON, ExerciseImportReader.Format.detect("json", "a.csv", "text/csv"));
+        assertEquals(ExerciseImportReader.Format.JSON, ExerciseImportReader.Format.detect(null, "catalogo.JSON", null));
+        assertEquals(ExerciseImportReader.Format.CSV, ExerciseImportReader.Format.detect("", "catalogo.csv", "text/csv"));
+        assertThrows(IllegalArgumentException.class, () -> ExerciseImportReader.Format.detect("xml", null, null));
+    }
+
+    // Cada chamada de upsert devolve a próxima contagem {inseridos, atualizados}; os lotes são copiados
+    @SuppressWarnings("unchecked")
+    private List<List<ExerciseImportStore.ExerciseRow>> captureBatches(int[]... counts) {
+        List<List<ExerciseImportStore.ExerciseRow>> batches = new ArrayList<>();
+        int[] call = {0};
+        when(store.upsert(any())).thenAnswer(invocation -> {
+            batches.add(new ArrayList<>((Collection<ExerciseImportStore.ExerciseRow>) invocation.getArgument(0)));
+            return counts[call[0]++];
+        });
+        return batches;
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
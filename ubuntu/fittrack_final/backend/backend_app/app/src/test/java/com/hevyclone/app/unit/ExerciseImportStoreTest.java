@@ -0,0 +1,86 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.config.sql.SqlDialect;
+import com.hevyclone.app.service.exercise.ExerciseImportStore;
+import com.hevyclone.app.service.exercise.ExerciseImportStore.ExerciseRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExerciseImportStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private SqlDialect sqlDialect;
+    private ExerciseImportStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE exercises (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255) NOT NULL, " +
+                "original_name VARCHAR(255), description TEXT, instructions TEXT, primary_muscle_group_id BIGINT NOT NULL, " +
+                "equipment_id BIGINT, difficulty_level_id BIGINT, image_url VARCHAR(255), video_url VARCHAR(255), " +
+                "animation_url VARCHAR(255), thumbnail_url VARCHAR(255), external_id VARCHAR(100), " +
+                "CONSTRAINT uk_exercises_external_id UNIQUE (external_id))");
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        sqlDialect = new SqlDialect(dataSource);
+        store = new ExerciseImportStore(jdbcTemplate, new NamedParameterJdbcTemplate(dataSource),
+                transactionTemplate, sqlDialect);
+    }
+
+    @Test
+    void upsert_ShouldUpdateByExternalId_KeepingCurrentValueOfEmptyOptionalColumns() {
+        jdbcTemplate.update("INSERT INTO exercises (name, description, primary_muscle_group_id, equipment_id, external_id) " +
+                "VALUES ('Supino', 'Deitado no banco', 1, 2, 'ex-1')");
+
+        int[] counts = store.upsert(List.of(
+                ExerciseRow.builder().name("Supino reto").primaryMuscleGroupId(3L).externalId("ex-1").build(),
+                ExerciseRow.builder().name("Remada").primaryMuscleGroupId(4L).externalId("ex-2").build()));
+
+        assertArrayEquals(new int[]{1, 1}, counts);
+        Map<String, Object> updated = jdbcTemplate.queryForMap("SELECT * FROM exercises WHERE external_id = 'ex-1'");
+        assertEquals("Supino reto", updated.get("NAME"));
+        assertEquals("Deitado no banco", updated.get("DESCRIPTION"));
+        assertEquals(3L, ((Number) updated.get("PRIMARY_MUSCLE_GROUP_ID")).longValue());
+        assertEquals(2L, ((Number) updated.get("EQUIPMENT_ID")).longValue());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM exercises", Integer.class));
+    }
+
+    @Test
+    void upsert_ShouldUpdateInsteadOfFailing_WhenExternalIdAppearsAfterTheLookup() {
+        // Outra importação grava ex-1 entre a consulta das chaves e a escrita deste lote
+        ExerciseImportStore racing = new ExerciseImportStore(jdbcTemplate,
+                new NamedParameterJdbcTemplate(jdbcTemplate) {
+                    @Override
+                    public void query(String sql, SqlParameterSource params, RowCallbackHandler handler) {
+                        super.query(sql, params, handler);
+                        insertConcurrently();
+                    }
+                },
+                transactionTemplate, sqlDialect);
+
+        racing.upsert(List.of(ExerciseRow.builder().name("Supino").primaryMuscleGroupId(1L).externalId("ex-1").build()));
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM exercises", Integer.class));
+        assertEquals("Supino", jdbcTemplate.queryForObject("SELECT name FROM exercises", String.class));
+    }
+
+    private void insertConcurrently() {
+        jdbcTemplate.update("INSERT INTO exercises (name, primary_muscle_group_id, external_id) " +
+                "VALUES ('Supino (outro)', 1, 'ex-1')");
+    }
+}
@@ -0,0 +1,70 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.service.social.FeedTimeline;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedTimelineTest {
+
+    @Test
+    void page_ShouldReturnNewestFirst_WhenIdsAreAppended() {
+        FeedTimeline timeline = new FeedTimeline(10);
+        timeline.add(1);
+        timeline.add(2);
+        timeline.add(3);
+
+        assertArrayEquals(new long[]{3, 2}, timeline.page(0, 2));
+        assertArrayEquals(new long[]{1}, timeline.page(2, 2));
+        assertArrayEquals(new long[]{}, timeline.page(3, 2));
+    }
+
+    @Test
+    void add_ShouldDropOldest_WhenCapacityIsReached() {
+        FeedTimeline timeline = new FeedTimeline(3);
+        for (long id = 1; id <= 5; id++) {
+            timeline.add(id);
+        }
+
+        assertEquals(3, timeline.size());
+        assertArrayEquals(new long[]{5, 4, 3}, timeline.page(0, 10));
+    }
+
+    @Test
+    void add_ShouldKeepOrderAndIgnoreDuplicates_WhenIdsArriveOutOfOrder() {
+        FeedTimeline timeline = new FeedTimeline(3);
+        timeline.add(10);
+        timeline.add(30);
+        timeline.add(20);
+        timeline.add(20);
+        timeline.add(5); // Mais antigo que tudo com a timeline cheia
+
+        assertArrayEquals(new long[]{30, 20, 10}, timeline.page(0, 10));
+    }
+
+    @Test
+    void before_ShouldReturnIdsOlderThanCursor() {
+        FeedTimeline timeline = new FeedTimeline(10, new long[]{50, 40, 30, 20, 10});
+
+        assertArrayEquals(new long[]{30, 20}, timeline.before(40, 2));
+        assertArrayEquals(new long[]{30, 20, 10}, timeline.before(35, 10));
+        assertArrayEquals(new long[]{50, 40}, timeline.before(Long.MAX_VALUE, 2));
+    }
+
+    @Test
+    void constructor_ShouldKeepNewest_WhenInitialIdsExceedCapacity() {
+        FeedTimeline timeline = new FeedTimeline(2, new long[]{50, 40, 30});
+
+        assertArrayEquals(new long[]{50, 40}, timeline.page(0, 10));
+    }
+
+    @Test
+    void remove_ShouldDeletePost_WhenPresent() {
+        FeedTimeline timeline = new FeedTimeline(10, new long[]{3, 2, 1});
+
+        timeline.remove(2);
+        timeline.remove(99);
+
+        assertArrayEquals(new long[]{3, 1}, timeline.page(0, 10));
+    }
+}
@@ -0,0 +1,91 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.service.geo.GeoGridIndex;
+import com.hevyclone.app.service.geo.GeoHash;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoGridIndexTest {
+
+    @Test
+    void encode_ShouldMatchReferenceGeohash() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+        assertEquals("6gyf4bf", GeoHash.encode(-23.5505, -46.6333, 7));
+    }
+
+    @Test
+    void within_ShouldReturnNearestFirstAndRespectRadius() {
+        GeoGridIndex index = new GeoGridIndex(5, -34.0, -74.0, 5.5, -34.0);
+        index.put(1, -23.5505, -46.6333); // Centro de São Paulo
+        index.put(2, -23.5614, -46.6559); // ~2,7 km
+        index.put(3, -23.6500, -46.6333); // ~11 km
+        index.put(4, -22.9068, -43.1729); // Rio de Janeiro
+
+        List<GeoGridIndex.Match> matches = index.within(-23.5505, -46.6333, 10, 10);
+
+        assertEquals(List.of(1L, 2L), userIds(matches));
+        assertEquals(0, matches.get(0).getDistanceKm(), 1e-9);
+    }
+
+    @Test
+    void put_ShouldMoveUserBetweenCells_AndRemoveWhenOutsideRegion() {
+        GeoGridIndex index = new GeoGridIndex(5, -34.0, -74.0, 5.5, -34.0);
+        index.put(1, -23.5505, -46.6333);
+
+        index.put(1, -22.9068, -43.1729);
+        assertTrue(index.within(-23.5505, -46.6333, 10, 10).isEmpty());
+        assertEquals(List.of(1L), userIds(index.within(-22.9068, -43.1729, 10, 10)));
+
+        index.put(1, 40.7128, -74.0060); // Fora da região quente
+        assertEquals(0, index.size());
+        assertFalse(index.covers(40.7128, -74.0060, 10));
+    }
+
+    @Test
+    void within_ShouldMatchBruteForce_WhenRandomized() {
+        GeoGridIndex index = new GeoGridIndex(5, -34.0, -74.0, 5.5, -34.0);
+        Random random = new Random(11);
+        int users = 5_000;
+        double[] lats = new double[users];
+        double[] lngs = new double[users];
+        for (int i = 0; i < users; i++) {
+            lats[i] = -23.55 + (random.nextDouble() - 0.5) * 0.6;
+            lngs[i] = -46.63 + (random.nextDouble() - 0.5) * 0.6;
+            index.put(i, lats[i], lngs[i]);
+        }
+
+        for (int query = 0; query < 200; query++) {
+            double lat = -23.55 + (random.nextDouble() - 0.5) * 0.4;
+            double lng = -46.63 + (random.nextDouble() - 0.5) * 0.4;
+            double radius = 1 + random.nextDouble() * 12;
+            int limit = 1 + random.nextInt(40);
+
+            List<double[]> expected = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                double distance = GeoHash.distanceKm(lat, lng, lats[i], lngs[i]);
+                if (distance <= radius) {
+                    expected.add(new double[]{i, distance});
+                }
+            }
+            expected.sort(Comparator.comparingDouble(entry -> entry[1]));
+
+            List<GeoGridIndex.Match> matches = index.within(lat, lng, radius, limit);
+            assertEquals(Math.min(limit, expected.size()), matches.size());
+            for (int i = 0; i < matches.size(); i++) {
+                assertEquals(expected.get(i)[1], matches.get(i).getDistanceKm(), 1e-9);
+            }
+        }
+    }
+
+    private static List<Long> userIds(List<GeoGridIndex.Match> matches) {
+        List<Long> ids = new ArrayList<>();
+        matches.forEach(match -> ids.add(match.getUserId()));
+        return ids;
+    }
+}
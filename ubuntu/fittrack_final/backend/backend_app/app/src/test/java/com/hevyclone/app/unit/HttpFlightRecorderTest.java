@@ -0,0 +1,60 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.config.exchange.ExchangeRecord;
+import com.hevyclone.app.config.exchange.HttpFlightRecorder;
+import com.hevyclone.app.config.exchange.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpFlightRecorderTest {
+
+    private static ExchangeRecord exchange(String endpoint, int status, long micros) {
+        return new ExchangeRecord(Instant.now(), "GET", endpoint, "/api/feed", status, micros, 3, 10, 200);
+    }
+
+    @Test
+    void record_ShouldKeepSlowAndFailedExchanges_WhenSamplingIsOff() {
+        HttpFlightRecorder recorder = new HttpFlightRecorder(0.0, 500, 16, 100);
+
+        for (int i = 0; i < 1000; i++) {
+            recorder.record(exchange("GET /api/feed", 200, 1_000));
+        }
+        recorder.record(exchange("GET /api/feed", 200, 900_000));
+        recorder.record(exchange("GET /api/posts/{postId}", 503, 2_000));
+
+        List<ExchangeRecord> slowest = recorder.slowest(10);
+
+        assertEquals(2, slowest.size());
+        assertEquals(900_000, slowest.get(0).getDurationMicros());
+        assertEquals(503, slowest.get(1).getStatus());
+        assertEquals(1001, recorder.histograms().get("GET /api/feed").getCount());
+    }
+
+    @Test
+    void histogram_ShouldReportPercentilesWithinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+
+        assertEquals(50_000, histogram.percentileMicros(50), 1_500);
+        assertEquals(99_000, histogram.percentileMicros(99), 3_000);
+        assertEquals(100_000, histogram.getMaxMicros());
+    }
+
+    @Test
+    void record_ShouldGroupExtraEndpoints_WhenLimitIsReached() {
+        HttpFlightRecorder recorder = new HttpFlightRecorder(1.0, 500, 16, 2);
+
+        recorder.record(exchange("GET /a", 200, 10));
+        recorder.record(exchange("GET /b", 200, 10));
+        recorder.record(exchange("GET /c", 200, 10));
+
+        assertTrue(recorder.histograms().containsKey("(outros)"));
+        assertFalse(recorder.histograms().containsKey("GET /c"));
+    }
+}
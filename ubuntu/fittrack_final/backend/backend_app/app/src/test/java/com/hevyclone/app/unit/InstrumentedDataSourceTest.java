@@ -0,0 +1,81 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.config.sql.InstrumentedDataSource;
+import com.hevyclone.app.config.sql.SqlStatementStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedDataSourceTest {
+
+    private static final String SELECT_SQL = "SELECT id FROM items WHERE id > ?";
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(new InstrumentedDataSource(dataSource));
+        jdbcTemplate.execute("CREATE TABLE items (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.batchUpdate("INSERT INTO items (id) VALUES (?)", List.of(new Object[]{1L}, new Object[]{2L}, new Object[]{3L}));
+    }
+
+    @Test
+    void scope_ShouldCountStatementsAndRowsRead() {
+        try (SqlStatementStats.Scope scope = SqlStatementStats.begin()) {
+            jdbcTemplate.queryForList(SELECT_SQL, Long.class, 0L);
+            jdbcTemplate.queryForList(SELECT_SQL, Long.class, 2L);
+            jdbcTemplate.update("UPDATE items SET id = id WHERE id = 1");
+
+            assertEquals(3, scope.getStatements());
+            assertEquals(4, scope.getRows()); // 3 + 1 linhas lidas; o UPDATE não lê
+            assertEquals(SELECT_SQL, scope.getMostRepeated());
+            assertEquals(2, scope.getMostRepeatedCount());
+            assertTrue(scope.getNanos() > 0);
+        }
+    }
+
+    @Test
+    void scope_ShouldCountBatchOnce() {
+        try (SqlStatementStats.Scope scope = SqlStatementStats.begin()) {
+            jdbcTemplate.batchUpdate("INSERT INTO items (id) VALUES (?)", List.of(new Object[]{4L}, new Object[]{5L}));
+
+            assertEquals(1, scope.getStatements());
+        }
+    }
+
+    @Test
+    void nestedScope_ShouldAlsoCountIntoParent_AndStopCountingAfterClose() {
+        try (SqlStatementStats.Scope outer = SqlStatementStats.begin()) {
+            jdbcTemplate.queryForList(SELECT_SQL, Long.class, 0L);
+            try (SqlStatementStats.Scope inner = SqlStatementStats.begin()) {
+                jdbcTemplate.queryForList(SELECT_SQL, Long.class, 1L);
+
+                assertEquals(1, inner.getStatements());
+                assertEquals(2, inner.getRows());
+            }
+            jdbcTemplate.queryForList(SELECT_SQL, Long.class, 2L);
+
+            assertEquals(3, outer.getStatements());
+            assertEquals(6, outer.getRows());
+        }
+    }
+
+    @Test
+    void statementsOutsideAnyScope_ShouldNotBeCounted() {
+        jdbcTemplate.queryForList(SELECT_SQL, Long.class, 0L);
+
+        try (SqlStatementStats.Scope scope = SqlStatementStats.begin()) {
+            assertEquals(0, scope.getStatements());
+            assertEquals(0, scope.getRows());
+            assertNull(scope.getMostRepeated());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.config.timing.LayerTimingInterceptor;
+import com.hevyclone.app.config.timing.TimedCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayerTimingInterceptorTest {
+
+    @Service
+    public static class SampleService {
+        public int answer() {
+            return 42;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("falha");
+        }
+    }
+
+    private SampleService proxy(SimpleMeterRegistry registry, List<String> excludedPackages) {
+        ProxyFactory factory = new ProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(LayerTimingInterceptor.advisor(new AnnotationClassFilter(Service.class, true),
+                new LayerTimingInterceptor(registry, "service", excludedPackages)));
+        return (SampleService) factory.getProxy();
+    }
+
+    @Test
+    void invoke_ShouldRecordTimerPerMethodAndOutcome_WhenServiceIsCalled() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SampleService service = proxy(registry, List.of());
+
+        assertEquals(42, service.answer());
+        service.answer();
+        assertThrows(IllegalStateException.class, service::fail);
+
+        assertEquals(2, registry.get("saga.method")
+                .tags("layer", "service", "class", "SampleService", "method", "answer", "outcome", "success")
+                .timer().count());
+        assertEquals(1, registry.get("saga.method").tags("method", "fail", "outcome", "error").timer().count());
+    }
+
+    @Test
+    void invoke_ShouldSkipTiming_WhenPackageIsExcluded() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SampleService service = proxy(registry, List.of("unit"));
+
+        service.answer();
+
+        assertNull(registry.find("saga.method").timer());
+    }
+
+    @Test
+    void timedCache_ShouldRecordHitsAndMisses() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Cache cache = new TimedCacheManager(new ConcurrentMapCacheManager(), registry).getCache("exercises");
+
+        assertNull(cache.get("1"));
+        cache.put("1", "supino");
+        assertEquals("supino", cache.get("1").get());
+
+        assertEquals(1, registry.get("saga.cache.get").tags("cache", "exercises", "result", "hit").timer().count());
+        assertEquals(1, registry.get("saga.cache.get").tags("cache", "exercises", "result", "miss").timer().count());
+    }
+}
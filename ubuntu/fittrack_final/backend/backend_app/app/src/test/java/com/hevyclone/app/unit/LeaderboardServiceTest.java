@@ -0,0 +1,90 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.dto.leaderboard.LeaderboardPageDTO;
+import com.hevyclone.app.repository.social.UserFollowRepository;
+import com.hevyclone.app.repository.userprogress.UserWorkoutLogRepository;
+import com.hevyclone.app.repository.userprogress.UserWorkoutLogRepository.UserPeriodTotals;
+import com.hevyclone.app.service.leaderboard.InMemoryLeaderboardStore;
+import com.hevyclone.app.service.leaderboard.LeaderboardMetric;
+import com.hevyclone.app.service.leaderboard.LeaderboardPeriod;
+import com.hevyclone.app.service.leaderboard.LeaderboardService;
+import com.hevyclone.app.service.social.BlockListCache;
+import com.hevyclone.app.service.social.BlockSet;
+import com.hevyclone.app.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceTest {
+
+    @Mock
+    private UserWorkoutLogRepository userWorkoutLogRepository;
+
+    @Mock
+    private UserFollowRepository userFollowRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BlockListCache blockListCache;
+
+    private InMemoryLeaderboardStore store;
+    private LeaderboardService leaderboards;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        store = new InMemoryLeaderboardStore(meterRegistry);
+        leaderboards = new LeaderboardService(store, userWorkoutLogRepository, userFollowRepository,
+                userRepository, blockListCache, meterRegistry);
+        when(blockListCache.blockedIds(any())).thenReturn(BlockSet.EMPTY);
+    }
+
+    @Test
+    void getLeaderboard_ShouldRebuild_WhenOnlyTheWorkoutsBoardIsLoaded() {
+        // Outra réplica caiu entre a carga de WORKOUTS e a de MINUTES
+        LocalDate start = LeaderboardPeriod.WEEK.startOf(LocalDate.now());
+        store.load(key(LeaderboardMetric.WORKOUTS, start), Map.of(1L, 3L));
+        UserPeriodTotals totals = mock(UserPeriodTotals.class);
+        when(totals.getUserId()).thenReturn(1L);
+        when(totals.getWorkouts()).thenReturn(3L);
+        when(totals.getMinutes()).thenReturn(150L);
+        when(userWorkoutLogRepository.sumTotalsByUserBetween(any(), any())).thenReturn(List.of(totals));
+
+        LeaderboardPageDTO page = leaderboards.getLeaderboard(1L, LeaderboardPeriod.WEEK, LeaderboardMetric.MINUTES,
+                false, false, 0, 10);
+
+        assertEquals(1, page.getTotalEntries());
+        assertEquals(150L, page.getContent().get(0).getScore());
+        verify(userWorkoutLogRepository, times(1)).sumTotalsByUserBetween(any(), any());
+    }
+
+    @Test
+    void getLeaderboard_ShouldNotRebuild_WhenBothMetricBoardsAreLoaded() {
+        LocalDate start = LeaderboardPeriod.WEEK.startOf(LocalDate.now());
+        store.load(key(LeaderboardMetric.WORKOUTS, start), Map.of(1L, 3L));
+        store.load(key(LeaderboardMetric.MINUTES, start), Map.of(1L, 150L));
+
+        leaderboards.getLeaderboard(1L, LeaderboardPeriod.WEEK, LeaderboardMetric.WORKOUTS, false, false, 0, 10);
+
+        verifyNoInteractions(userWorkoutLogRepository);
+    }
+
+    private static String key(LeaderboardMetric metric, LocalDate start) {
+        return "week:" + metric.name().toLowerCase(Locale.ROOT) + ":" + start;
+    }
+}
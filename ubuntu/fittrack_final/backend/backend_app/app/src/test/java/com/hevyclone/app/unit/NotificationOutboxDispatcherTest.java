@@ -0,0 +1,72 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.dto.notification.NotificationPushEvent;
+import com.hevyclone.app.model.notification.NotificationOutbox;
+import com.hevyclone.app.model.notification.NotificationType;
+import com.hevyclone.app.service.notification.NotificationOutboxDispatcher;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationOutboxDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 19, 10, 0);
+
+    private NotificationOutbox entry(Long userId, NotificationType type, String message, String link,
+                                     String coalesceKey, String groupMessage, int minutes) {
+        NotificationOutbox entry = new NotificationOutbox();
+        entry.setUserId(userId);
+        entry.setType(type);
+        entry.setMessage(message);
+        entry.setLink(link);
+        entry.setCoalesceKey(coalesceKey);
+        entry.setGroupMessage(groupMessage);
+        entry.setCreatedAt(NOW.plusMinutes(minutes));
+        return entry;
+    }
+
+    @Test
+    void coalesce_ShouldMergeEntries_WhenTheyShareCoalesceKey() {
+        String group = "{count} pessoas curtiram seu treino";
+        List<NotificationPushEvent> result = NotificationOutboxDispatcher.coalesce(List.of(
+                entry(1L, NotificationType.FRIEND_ACTIVITY, "Ana curtiu seu treino", "/posts/9", "like:9", group, 0),
+                entry(1L, NotificationType.FRIEND_ACTIVITY, "Bia curtiu seu treino", "/posts/9", "like:9", group, 1),
+                entry(1L, NotificationType.FRIEND_ACTIVITY, "Caio curtiu seu treino", "/posts/9", "like:9", group, 2)));
+
+        assertEquals(1, result.size());
+        assertEquals("3 pessoas curtiram seu treino", result.get(0).getMessage());
+        assertEquals(NOW.plusMinutes(2), result.get(0).getCreatedAt());
+    }
+
+    @Test
+    void coalesce_ShouldKeepOriginalMessage_WhenGroupHasSingleEntry() {
+        List<NotificationPushEvent> result = NotificationOutboxDispatcher.coalesce(List.of(
+                entry(1L, NotificationType.FRIEND_ACTIVITY, "Ana curtiu seu treino", "/posts/9", "like:9",
+                        "{count} pessoas curtiram seu treino", 0)));
+
+        assertEquals("Ana curtiu seu treino", result.get(0).getMessage());
+    }
+
+    @Test
+    void coalesce_ShouldDropExactDuplicates_WhenNoCoalesceKey() {
+        List<NotificationPushEvent> result = NotificationOutboxDispatcher.coalesce(List.of(
+                entry(1L, NotificationType.NEW_PR_ALERT, "Novo recorde!", "/records", null, null, 0),
+                entry(1L, NotificationType.NEW_PR_ALERT, "Novo recorde!", "/records", null, null, 1)));
+
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void coalesce_ShouldKeepSeparateNotifications_ForDifferentUsersOrKeys() {
+        List<NotificationPushEvent> result = NotificationOutboxDispatcher.coalesce(List.of(
+                entry(1L, NotificationType.FRIEND_ACTIVITY, "Ana curtiu", "/posts/9", "like:9", null, 0),
+                entry(2L, NotificationType.FRIEND_ACTIVITY, "Ana curtiu", "/posts/9", "like:9", null, 0),
+                entry(1L, NotificationType.FRIEND_ACTIVITY, "Ana curtiu", "/posts/10", "like:10", null, 0)));
+
+        assertEquals(3, result.size());
+        assertEquals(List.of(1L, 2L, 1L), result.stream().map(NotificationPushEvent::getUserId).toList());
+    }
+}
@@ -0,0 +1,184 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.dto.notification.NotificationPushEvent;
+import com.hevyclone.app.service.notification.LocalNotificationBroker;
+import com.hevyclone.app.service.notification.NotificationPushHub;
+import com.hevyclone.app.service.notification.NotificationUnreadCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPushHubTest {
+
+    @Mock
+    private NotificationUnreadCounter unreadCounter;
+
+    private final LocalNotificationBroker broker = new LocalNotificationBroker();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final List<NotificationPushHub> hubs = new ArrayList<>();
+    private CountDownLatch released = new CountDownLatch(0);
+
+    @AfterEach
+    void tearDown() {
+        released.countDown();
+        hubs.forEach(NotificationPushHub::shutdown);
+    }
+
+    @Test
+    void publish_ShouldDeliverInPublishOrder() throws InterruptedException {
+        NotificationPushHub hub = hub(32);
+        hub.subscribe(1L);
+
+        for (long id = 1; id <= 20; id++) {
+            hub.publishAfterCommit(event(id, 1L));
+        }
+
+        List<String> expected = new ArrayList<>(List.of("connected"));
+        for (long id = 1; id <= 20; id++) {
+            expected.add("notification:" + id);
+        }
+        assertEquals(expected, emitters.get(0).take(21));
+    }
+
+    @Test
+    void publish_ShouldReplacePendingEventsWithResync_WhenClientFallsBehind() throws InterruptedException {
+        released = new CountDownLatch(1); // Cliente lento: o primeiro envio só termina quando liberado
+        NotificationPushHub hub = hub(4);
+        hub.subscribe(1L);
+        RecordingEmitter emitter = emitters.get(0);
+        assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+
+        for (long id = 1; id <= 5; id++) {
+            hub.publishAfterCommit(event(id, 1L)); // 4 enchem a fila, o quinto transborda
+        }
+        released.countDown();
+
+        assertEquals(List.of("connected", "resync"), emitter.take(2));
+        assertEquals(4.0, meterRegistry.counter("saga.notifications.push.dropped").count());
+        hub.publishAfterCommit(event(6L, 1L));
+        assertEquals(List.of("notification:6"), emitter.take(1));
+        assertNull(emitter.sent.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void publish_ShouldFanOutToEveryConnectionOfTheUserOnEveryHub() throws InterruptedException {
+        // Duas réplicas assinando o mesmo broker, como no canal do Redis
+        NotificationPushHub first = hub(32);
+        NotificationPushHub second = hub(32);
+        first.subscribe(1L);
+        second.subscribe(1L);
+        second.subscribe(2L);
+
+        first.publishAfterCommit(event(9L, 1L));
+
+        assertEquals(List.of("connected", "notification:9"), emitters.get(0).take(2));
+        assertEquals(List.of("connected", "notification:9"), emitters.get(1).take(2));
+        assertEquals(List.of("connected"), emitters.get(2).take(1));
+        assertNull(emitters.get(2).sent.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void publish_ShouldNotLoadUnreadCount_WhenUserHasNoConnection() {
+        NotificationPushHub hub = hub(32);
+
+        for (long id = 1; id <= 10; id++) {
+            hub.publishAfterCommit(event(id, id));
+        }
+
+        verify(unreadCounter, never()).get(any());
+    }
+
+    @Test
+    void heartbeat_ShouldKeepIdleConnectionsAlive() throws InterruptedException {
+        NotificationPushHub hub = hub(32);
+        hub.subscribe(1L);
+        assertEquals(List.of("connected"), emitters.get(0).take(1));
+
+        hub.heartbeat();
+
+        assertEquals(List.of("heartbeat"), emitters.get(0).take(1));
+    }
+
+    private NotificationPushHub hub(int queueCapacity) {
+        NotificationPushHub hub = new NotificationPushHub(broker, unreadCounter, meterRegistry, queueCapacity, 60_000, 5, 2) {
+            @Override
+            protected SseEmitter newEmitter(long timeoutMs) {
+                RecordingEmitter emitter = new RecordingEmitter(timeoutMs);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        hubs.add(hub);
+        return hub;
+    }
+
+    private static NotificationPushEvent event(Long id, Long userId) {
+        return NotificationPushEvent.builder().id(id).userId(userId).message("Nova curtida").build();
+    }
+
+    // Guarda "nome[:id]" de cada evento enviado, na ordem de envio
+    private final class RecordingEmitter extends SseEmitter {
+        private final Pattern eventName = Pattern.compile("(?m)^event:(\\S+)");
+        private final Pattern eventId = Pattern.compile("(?m)^id:(\\S+)");
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+
+        private RecordingEmitter(long timeoutMs) {
+            super(timeoutMs);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> {
+                if (part.getData() instanceof String data) {
+                    text.append(data);
+                }
+            });
+            Matcher name = eventName.matcher(text);
+            if (!name.find()) {
+                sent.add("heartbeat");
+                return;
+            }
+            Matcher id = eventId.matcher(text);
+            sent.add(id.find() ? name.group(1) + ":" + id.group(1) : name.group(1));
+        }
+
+        private List<String> take(int count) throws InterruptedException {
+            List<String> events = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String event = sent.poll(5, TimeUnit.SECONDS);
+                assertNotNull(event, "evento " + (i + 1) + " de " + count + " não chegou; recebidos: " + events);
+                events.add(event);
+            }
+            return events;
+        }
+    }
+}
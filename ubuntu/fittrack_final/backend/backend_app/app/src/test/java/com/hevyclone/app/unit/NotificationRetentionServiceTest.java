@@ -0,0 +1,179 @@
+package com.hevyclone.app.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hevyclone.app.model.notification.NotificationType;
+import com.hevyclone.app.service.notification.NotificationRetentionService;
+import com.hevyclone.app.service.scheduling.ClusterJobLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionServiceTest {
+
+    private static final String LOCK_NAME = "notification-retention";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ClusterJobLock jobLock;
+
+    @TempDir
+    private Path archiveDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Deque<List<Map<String, Object>>> chunks = new ArrayDeque<>();
+    private final List<Object> deletedIds = new ArrayList<>();
+
+    private NotificationRetentionService retention;
+
+    @BeforeEach
+    void setUp() {
+        // Só TRAINING_REMINDER expira; os demais tipos ficam para sempre
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("saga.notifications.retention.ttl-days.TRAINING_REMINDER", "30");
+        retention = new NotificationRetentionService(jdbcTemplate, new TransactionTemplate(transactionManager),
+                jobLock, new ObjectMapper(), meterRegistry, environment);
+        ReflectionTestUtils.setField(retention, "enabled", true);
+        ReflectionTestUtils.setField(retention, "defaultTtlDays", 0);
+        ReflectionTestUtils.setField(retention, "chunkSize", 2);
+        ReflectionTestUtils.setField(retention, "chunkPauseMs", 0L);
+        ReflectionTestUtils.setField(retention, "lockMinutes", 10L);
+        ReflectionTestUtils.setField(retention, "archiveDir", "");
+    }
+
+    @Test
+    void purgeExpired_ShouldDeleteInChunksUntilAShortChunk() {
+        stubChunks(rows(1, 2), rows(3, 4), rows(5));
+
+        Map<NotificationType, Long> purged = retention.purgeExpired(LocalDateTime.now());
+
+        assertEquals(Map.of(NotificationType.TRAINING_REMINDER, 5L), purged);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), deletedIds);
+        verify(jdbcTemplate, times(3)).update(anyString(), any(Object[].class));
+        assertEquals(5.0, meterRegistry.counter("saga.notifications.retention.purged",
+                "type", NotificationType.TRAINING_REMINDER.name()).count());
+    }
+
+    @Test
+    void purgeExpired_ShouldArchiveEveryDeletedRow_WhenArchiveDirIsSet() throws IOException {
+        ReflectionTestUtils.setField(retention, "archiveDir", archiveDir.toString());
+        stubChunks(rows(1, 2), rows(3));
+
+        retention.purgeExpired(LocalDateTime.now());
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(archiveDir)) {
+            files = listing.collect(Collectors.toList());
+        }
+        assertEquals(1, files.size());
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(files.get(0))), StandardCharsets.UTF_8))) {
+            lines = reader.lines().collect(Collectors.toList());
+        }
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(2).contains("\"id\":3"));
+    }
+
+    @Test
+    void scheduledPurge_ShouldRenewLockAfterEachChunk() {
+        when(jobLock.tryAcquire(eq(LOCK_NAME), any())).thenReturn(true);
+        when(jobLock.extend(LOCK_NAME, Duration.ofMinutes(10))).thenReturn(true);
+        stubChunks(rows(1, 2), rows(3, 4), rows());
+
+        retention.purgeExpired();
+
+        verify(jobLock, times(3)).extend(LOCK_NAME, Duration.ofMinutes(10));
+        verify(jobLock).release(LOCK_NAME);
+        assertEquals(List.of(1L, 2L, 3L, 4L), deletedIds);
+    }
+
+    @Test
+    void scheduledPurge_ShouldStop_WhenLockIsLostMidway() {
+        when(jobLock.tryAcquire(eq(LOCK_NAME), any())).thenReturn(true);
+        when(jobLock.extend(eq(LOCK_NAME), any())).thenReturn(false);
+        stubChunks(rows(1, 2), rows(3, 4));
+
+        retention.purgeExpired();
+
+        assertEquals(List.of(1L, 2L), deletedIds); // Nenhum pedaço depois de perder a trava
+        verify(jobLock).release(LOCK_NAME);
+    }
+
+    @Test
+    void scheduledPurge_ShouldDoNothing_WhenAnotherReplicaHoldsTheLock() {
+        when(jobLock.tryAcquire(eq(LOCK_NAME), any())).thenReturn(false);
+
+        retention.purgeExpired();
+
+        verifyNoInteractions(jdbcTemplate);
+        verify(jobLock, never()).release(anyString());
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void stubChunks(List<Map<String, Object>>... results) {
+        chunks.addAll(List.of(results));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any()))
+                .thenAnswer(invocation -> chunks.isEmpty() ? List.of() : chunks.poll());
+        lenient().when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] ids = invocation.getArguments();
+            for (int i = 1; i < ids.length; i++) {
+                deletedIds.add(ids[i]);
+            }
+            return ids.length - 1;
+        });
+    }
+
+    private static List<Map<String, Object>> rows(long... ids) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (long id : ids) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", id);
+            row.put("userId", 1L);
+            row.put("type", NotificationType.TRAINING_REMINDER.name());
+            row.put("message", "Hora do treino");
+            rows.add(row);
+        }
+        return rows;
+    }
+}
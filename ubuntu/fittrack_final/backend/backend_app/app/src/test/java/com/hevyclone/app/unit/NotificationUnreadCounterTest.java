@@ -0,0 +1,108 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.repository.notification.NotificationRepository;
+import com.hevyclone.app.repository.notification.NotificationRepository.UnreadCountRef;
+import com.hevyclone.app.service.notification.NotificationUnreadCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private NotificationUnreadCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new NotificationUnreadCounter(notificationRepository, new SimpleMeterRegistry(), 100);
+    }
+
+    private UnreadCountRef ref(Long userId, Long unread) {
+        return new UnreadCountRef() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getUnread() {
+                return unread;
+            }
+        };
+    }
+
+    @Test
+    void get_ShouldQueryDatabaseOnlyOnce_WhenCalledRepeatedly() {
+        when(notificationRepository.countByUserIdAndReadAtIsNull(1L)).thenReturn(3L);
+
+        assertEquals(3L, counter.get(1L));
+        assertEquals(3L, counter.get(1L));
+
+        verify(notificationRepository, times(1)).countByUserIdAndReadAtIsNull(1L);
+    }
+
+    @Test
+    void getIfCached_ShouldNotQueryDatabase_WhenCountIsNotLoaded() {
+        assertNull(counter.getIfCached(1L));
+
+        verifyNoInteractions(notificationRepository);
+        when(notificationRepository.countByUserIdAndReadAtIsNull(1L)).thenReturn(3L);
+        counter.get(1L);
+        assertEquals(3L, counter.getIfCached(1L));
+    }
+
+    @Test
+    void adjustAfterCommit_ShouldApplyImmediately_WhenNoTransactionIsActive() {
+        when(notificationRepository.countByUserIdAndReadAtIsNull(1L)).thenReturn(3L);
+        counter.get(1L);
+
+        counter.adjustAfterCommit(1L, 1);
+        counter.adjustAfterCommit(1L, -2);
+
+        assertEquals(2L, counter.get(1L));
+    }
+
+    @Test
+    void adjustAfterCommit_ShouldIgnoreUser_WhenCountIsNotLoaded() {
+        counter.adjustAfterCommit(1L, 5);
+        when(notificationRepository.countByUserIdAndReadAtIsNull(1L)).thenReturn(2L);
+
+        assertEquals(2L, counter.get(1L));
+    }
+
+    @Test
+    void get_ShouldNeverReturnNegative_WhenDecrementsOvershoot() {
+        when(notificationRepository.countByUserIdAndReadAtIsNull(1L)).thenReturn(1L);
+        counter.get(1L);
+
+        counter.adjustAfterCommit(1L, -3);
+
+        assertEquals(0L, counter.get(1L));
+    }
+
+    @Test
+    void reconcile_ShouldReplaceDriftedCounts_WithDatabaseValues() {
+        when(notificationRepository.countByUserIdAndReadAtIsNull(1L)).thenReturn(4L);
+        when(notificationRepository.countByUserIdAndReadAtIsNull(2L)).thenReturn(1L);
+        counter.get(1L);
+        counter.get(2L);
+        when(notificationRepository.countUnreadByUserIds(any())).thenReturn(List.of(ref(1L, 7L)));
+
+        counter.reconcile();
+
+        assertEquals(7L, counter.get(1L));
+        assertEquals(0L, counter.get(2L)); // Ausente na consulta agrupada = nenhuma não lida
+    }
+}
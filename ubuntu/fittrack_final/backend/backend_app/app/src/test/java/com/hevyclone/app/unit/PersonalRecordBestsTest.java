@@ -0,0 +1,58 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.model.userprogress.PersonalRecordType;
+import com.hevyclone.app.service.userprogress.PersonalRecordBests;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersonalRecordBestsTest {
+
+    private static BigDecimal kg(String value) {
+        return new BigDecimal(value);
+    }
+
+    @Test
+    void candidates_ShouldComputeWeightVolumeAndEpleyEstimate_ForWeightedSet() {
+        Map<PersonalRecordType, BigDecimal> candidates = PersonalRecordBests.candidates(5, kg("100"), null, null);
+
+        assertEquals(0, kg("100").compareTo(candidates.get(PersonalRecordType.MAX_WEIGHT)));
+        assertEquals(0, kg("500").compareTo(candidates.get(PersonalRecordType.MAX_VOLUME)));
+        assertEquals(0, kg("5").compareTo(candidates.get(PersonalRecordType.MAX_REPS)));
+        // 100 x (1 + 5/30) = 116.67
+        assertEquals(0, kg("116.67").compareTo(candidates.get(PersonalRecordType.ESTIMATED_1RM)));
+        assertFalse(candidates.containsKey(PersonalRecordType.BEST_TIME));
+    }
+
+    @Test
+    void candidates_ShouldSkipEstimate_WhenRepsAreTooHighForEpley() {
+        Map<PersonalRecordType, BigDecimal> candidates = PersonalRecordBests.candidates(20, kg("40"), null, null);
+
+        assertTrue(candidates.containsKey(PersonalRecordType.MAX_WEIGHT));
+        assertFalse(candidates.containsKey(PersonalRecordType.ESTIMATED_1RM));
+    }
+
+    @Test
+    void candidates_ShouldOnlyCountBestTime_ForTimedSetWithoutDistance() {
+        assertEquals(Map.of(PersonalRecordType.BEST_TIME, BigDecimal.valueOf(90)),
+                PersonalRecordBests.candidates(null, null, null, 90));
+        assertTrue(PersonalRecordBests.candidates(null, null, kg("5"), 1500).isEmpty());
+    }
+
+    @Test
+    void offer_ShouldReturnOnlyStrictImprovements() {
+        PersonalRecordBests bests = new PersonalRecordBests();
+        bests.set(PersonalRecordType.MAX_WEIGHT, kg("100.00"));
+        bests.set(PersonalRecordType.MAX_REPS, kg("8.00"));
+
+        Map<PersonalRecordType, BigDecimal> improved = bests.offer(PersonalRecordBests.candidates(10, kg("100"), null, null));
+
+        assertFalse(improved.containsKey(PersonalRecordType.MAX_WEIGHT)); // Empate não é recorde
+        assertTrue(improved.containsKey(PersonalRecordType.MAX_REPS));
+        assertTrue(improved.containsKey(PersonalRecordType.MAX_VOLUME));
+        assertEquals(0, kg("10").compareTo(bests.get(PersonalRecordType.MAX_REPS)));
+    }
+}
@@ -0,0 +1,95 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.model.exercise.Exercise;
+import com.hevyclone.app.model.userprogress.ExerciseSet;
+import com.hevyclone.app.model.userprogress.PersonalRecord;
+import com.hevyclone.app.model.userprogress.PersonalRecordType;
+import com.hevyclone.app.model.userprogress.UserWorkoutLog;
+import com.hevyclone.app.repository.userprogress.PersonalRecordRepository;
+import com.hevyclone.app.repository.userprogress.PersonalRecordRepository.RecordValueRef;
+import com.hevyclone.app.service.userprogress.PersonalRecordService;
+import com.hevyclone.app.user.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PersonalRecordServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long EXERCISE_ID = 11L;
+
+    @Mock
+    private PersonalRecordRepository personalRecordRepository;
+
+    private PersonalRecordService records;
+
+    @BeforeEach
+    void setUp() {
+        records = new PersonalRecordService(personalRecordRepository, new SimpleMeterRegistry(), 100);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void evaluateSets_ShouldKeepStoredRecord_WhenCacheIsStaleAndAnotherReplicaWroteHigherValue() {
+        // Esta réplica carregou 80; outra já gravou 100
+        RecordValueRef cached = mock(RecordValueRef.class);
+        when(cached.getRecordType()).thenReturn(PersonalRecordType.MAX_WEIGHT);
+        when(cached.getValue()).thenReturn(new BigDecimal("80.00"));
+        when(personalRecordRepository.findValuesByUserIdAndExerciseId(USER_ID, EXERCISE_ID)).thenReturn(List.of(cached));
+        PersonalRecord stored = new PersonalRecord();
+        stored.setRecordType(PersonalRecordType.MAX_WEIGHT);
+        stored.setValue(new BigDecimal("100.00"));
+        when(personalRecordRepository.findByUserIdAndExerciseIdAndRecordType(USER_ID, EXERCISE_ID, PersonalRecordType.MAX_WEIGHT))
+                .thenReturn(Optional.of(stored));
+        when(personalRecordRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<PersonalRecord> newRecords = records.evaluateSets(USER_ID, List.of(set(90)));
+
+        assertTrue(newRecords.stream().noneMatch(record -> record.getRecordType() == PersonalRecordType.MAX_WEIGHT));
+        assertEquals(0, new BigDecimal("100.00").compareTo(stored.getValue()));
+        verify(personalRecordRepository, never()).save(stored);
+
+        // O cache passou a usar o valor do banco: 95 não é recorde
+        records.evaluateSets(USER_ID, List.of(set(95)));
+        verify(personalRecordRepository, times(1))
+                .findByUserIdAndExerciseIdAndRecordType(eq(USER_ID), eq(EXERCISE_ID), eq(PersonalRecordType.MAX_WEIGHT));
+    }
+
+    private static ExerciseSet set(int weight) {
+        User user = new User();
+        user.setId(USER_ID);
+        Exercise exercise = new Exercise();
+        exercise.setId(EXERCISE_ID);
+        UserWorkoutLog workoutLog = new UserWorkoutLog();
+        workoutLog.setCompletedAt(LocalDateTime.now());
+        ExerciseSet set = new ExerciseSet();
+        set.setUser(user);
+        set.setExercise(exercise);
+        set.setUserWorkoutLog(workoutLog);
+        set.setReps(1);
+        set.setWeight(BigDecimal.valueOf(weight));
+        set.setCompleted(true);
+        return set;
+    }
+}
@@ -0,0 +1,128 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.dto.social.PostCommentDTO;
+import com.hevyclone.app.dto.social.UserSummaryDTO;
+import com.hevyclone.app.model.social.Post;
+import com.hevyclone.app.repository.social.PostCommentRepository;
+import com.hevyclone.app.repository.social.PostLikeRepository;
+import com.hevyclone.app.repository.social.PostRepository;
+import com.hevyclone.app.repository.social.UserBlockRepository;
+import com.hevyclone.app.service.counter.CounterService;
+import com.hevyclone.app.service.notification.NotificationService;
+import com.hevyclone.app.service.social.BlockListCache;
+import com.hevyclone.app.service.social.BlockSet;
+import com.hevyclone.app.service.social.PostInteractionService;
+import com.hevyclone.app.service.social.PostService;
+import com.hevyclone.app.user.model.User;
+import com.hevyclone.app.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostInteractionServiceTest {
+
+    private static final Long AUTHOR_ID = 1L;
+    private static final Long USER_ID = 2L;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private PostCommentRepository postCommentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CounterService counterService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private UserBlockRepository userBlockRepository;
+
+    @Mock
+    private BlockListCache blockListCache;
+
+    private PostInteractionService interactions;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        interactions = new PostInteractionService(postRepository, postLikeRepository, postCommentRepository,
+                userRepository, counterService, notificationService, postService, userBlockRepository, blockListCache);
+        post = new Post();
+        post.setId(10L);
+        post.setAuthor(user(AUTHOR_ID));
+        when(postRepository.findById(10L)).thenReturn(Optional.of(post));
+    }
+
+    @Test
+    void like_ShouldNotWriteOrNotify_WhenAuthorBlockedUser() {
+        // O cache desta réplica ainda não viu o bloqueio; o banco já tem
+        when(userBlockRepository.existsBetween(USER_ID, AUTHOR_ID)).thenReturn(true);
+
+        assertThrows(AccessDeniedException.class, () -> interactions.like(USER_ID, 10L));
+
+        verify(postLikeRepository, never()).save(any());
+        verifyNoInteractions(notificationService, counterService);
+    }
+
+    @Test
+    void addComment_ShouldNotWrite_WhenPostIsNotVisibleToUser() {
+        when(postService.canView(USER_ID, post)).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> interactions.addComment(USER_ID, 10L, "Boa!"));
+
+        verify(postCommentRepository, never()).save(any());
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void getComments_ShouldDropCommentsFromBlockedAuthors() {
+        when(postService.canView(USER_ID, post)).thenReturn(true);
+        when(blockListCache.blockedIds(USER_ID)).thenReturn(BlockSet.of(List.of(3L)));
+        when(postCommentRepository.findByPostId(eq(10L), any())).thenReturn(new SliceImpl<>(
+                List.of(comment(100L, 3L), comment(101L, 4L)), PageRequest.of(0, 20), false));
+
+        List<PostCommentDTO> comments = interactions.getComments(USER_ID, 10L, 0, 20).getContent();
+
+        assertEquals(List.of(101L), comments.stream().map(PostCommentDTO::getId).toList());
+    }
+
+    private static PostCommentDTO comment(Long id, Long authorId) {
+        return PostCommentDTO.builder()
+                .id(id)
+                .text("Boa!")
+                .author(UserSummaryDTO.builder().id(authorId).name("user" + authorId).build())
+                .build();
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        return user;
+    }
+}
@@ -0,0 +1,172 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.dto.social.PostDTO;
+import com.hevyclone.app.dto.social.PostRequestDTO;
+import com.hevyclone.app.model.social.Post;
+import com.hevyclone.app.model.social.PostType;
+import com.hevyclone.app.repository.social.PostCommentRepository;
+import com.hevyclone.app.repository.social.PostRepository;
+import com.hevyclone.app.repository.social.UserFollowRepository;
+import com.hevyclone.app.service.counter.CounterService;
+import com.hevyclone.app.service.social.BlockListCache;
+import com.hevyclone.app.service.social.BlockSet;
+import com.hevyclone.app.service.social.FeedService;
+import com.hevyclone.app.service.social.PostService;
+import com.hevyclone.app.user.model.User;
+import com.hevyclone.app.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostServiceTest {
+
+    private static final Long AUTHOR_ID = 1L;
+    private static final Long VIEWER_ID = 2L;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FeedService feedService;
+
+    @Mock
+    private PostCommentRepository postCommentRepository;
+
+    @Mock
+    private CounterService counterService;
+
+    @Mock
+    private BlockListCache blockListCache;
+
+    @Mock
+    private UserFollowRepository userFollowRepository;
+
+    private PostService posts;
+
+    @BeforeEach
+    void setUp() {
+        posts = new PostService(postRepository, userRepository, feedService, postCommentRepository,
+                counterService, blockListCache, userFollowRepository);
+    }
+
+    @Test
+    void getPost_ShouldDenyPrivatePost_WhenViewerDoesNotFollowAuthor() {
+        when(postRepository.findAllWithAuthorByIdIn(List.of(10L))).thenReturn(List.of(post(10L, AUTHOR_ID, false, null)));
+
+        assertThrows(AccessDeniedException.class, () -> posts.getPost(VIEWER_ID, 10L));
+
+        verifyNoInteractions(postCommentRepository);
+    }
+
+    @Test
+    void getPost_ShouldReturnPrivatePost_WhenViewerFollowsAuthor() {
+        when(postRepository.findAllWithAuthorByIdIn(List.of(10L))).thenReturn(List.of(post(10L, AUTHOR_ID, false, null)));
+        when(userFollowRepository.existsByFollowerIdAndFollowedId(VIEWER_ID, AUTHOR_ID)).thenReturn(true);
+        when(counterService.getAll(any(), any())).thenReturn(Map.of());
+        when(postCommentRepository.findByPostId(eq(10L), any())).thenReturn(Page.empty());
+        when(blockListCache.blockedIds(VIEWER_ID)).thenReturn(BlockSet.EMPTY);
+
+        PostDTO post = posts.getPost(VIEWER_ID, 10L);
+
+        assertEquals(10L, post.getId());
+    }
+
+    @Test
+    void getPost_ShouldDenyPublicRepost_WhenOriginalIsPrivateToViewer() {
+        Post original = post(10L, AUTHOR_ID, false, null);
+        when(postRepository.findAllWithAuthorByIdIn(List.of(11L))).thenReturn(List.of(post(11L, 3L, true, original)));
+        when(userFollowRepository.existsByFollowerIdAndFollowedId(VIEWER_ID, AUTHOR_ID)).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> posts.getPost(VIEWER_ID, 11L));
+    }
+
+    @Test
+    void getPost_ShouldDenyPost_WhenAuthorIsBlocked() {
+        when(postRepository.findAllWithAuthorByIdIn(List.of(10L))).thenReturn(List.of(post(10L, AUTHOR_ID, true, null)));
+        when(blockListCache.isBlocked(VIEWER_ID, AUTHOR_ID)).thenReturn(true);
+
+        assertThrows(AccessDeniedException.class, () -> posts.getPost(VIEWER_ID, 10L));
+    }
+
+    @Test
+    void createPost_ShouldRejectShareOfPrivatePost_WhenSharerDoesNotFollowAuthor() {
+        when(userRepository.findById(VIEWER_ID)).thenReturn(Optional.of(user(VIEWER_ID)));
+        when(postRepository.findById(10L)).thenReturn(Optional.of(post(10L, AUTHOR_ID, false, null)));
+
+        assertThrows(AccessDeniedException.class, () -> posts.createPost(VIEWER_ID,
+                PostRequestDTO.builder().type(PostType.SHARE).originalPostId(10L).build()));
+
+        verify(postRepository, never()).save(any());
+        verifyNoInteractions(feedService);
+    }
+
+    @Test
+    void getFeedPage_ShouldDropRepost_WhenOriginalIsPrivateToViewer() {
+        // 3 é seguido pelo leitor e repostou um post privado de 1, que o leitor não segue
+        Post hidden = post(11L, 3L, true, post(10L, AUTHOR_ID, false, null));
+        Post shown = post(12L, 3L, true, post(9L, 4L, false, null));
+        when(feedService.idsPage(VIEWER_ID, 0, 11)).thenReturn(List.of(11L, 12L));
+        when(postRepository.findAllWithAuthorByIdIn(List.of(11L, 12L))).thenReturn(List.of(hidden, shown));
+        when(blockListCache.blockedIds(VIEWER_ID)).thenReturn(BlockSet.EMPTY);
+        when(userFollowRepository.findFollowedIdsIn(eq(VIEWER_ID), any())).thenReturn(List.of(4L));
+        when(counterService.getAll(any(), any())).thenReturn(Map.of());
+
+        List<PostDTO> page = posts.getFeedPage(VIEWER_ID, 0, 10).getContent();
+
+        assertEquals(List.of(12L), page.stream().map(PostDTO::getId).toList());
+        assertEquals(9L, page.get(0).getOriginalPost().getId());
+    }
+
+    @Test
+    void getUserPosts_ShouldDropRepost_WhenOriginalIsPrivateToViewer() {
+        Post repost = post(11L, 3L, true, post(10L, AUTHOR_ID, false, null));
+        when(userRepository.existsById(3L)).thenReturn(true);
+        when(postRepository.findByAuthor(eq(3L), eq(false), any()))
+                .thenReturn(new SliceImpl<>(List.of(repost), PageRequest.of(0, 10), false));
+        when(blockListCache.blockedIds(VIEWER_ID)).thenReturn(BlockSet.EMPTY);
+        when(userFollowRepository.findFollowedIdsIn(VIEWER_ID, Set.of(AUTHOR_ID))).thenReturn(List.of());
+        when(counterService.getAll(any(), any())).thenReturn(Map.of());
+
+        assertTrue(posts.getUserPosts(VIEWER_ID, 3L, 0, 10).getContent().isEmpty());
+    }
+
+    private static Post post(Long id, Long authorId, boolean isPublic, Post original) {
+        Post post = new Post();
+        post.setId(id);
+        post.setAuthor(user(authorId));
+        post.setContent("Treino de hoje");
+        post.setType(original != null ? PostType.SHARE : PostType.TEXT);
+        post.setPublic(isPublic);
+        post.setOriginalPost(original);
+        post.setCreatedAt(LocalDateTime.now());
+        return post;
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        return user;
+    }
+}
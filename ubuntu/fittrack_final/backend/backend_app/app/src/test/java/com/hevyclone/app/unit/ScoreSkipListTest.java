@@ -0,0 +1,101 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.service.leaderboard.ScoreSkipList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreSkipListTest {
+
+    @Test
+    void range_ShouldOrderByScoreDescendingAndUserIdOnTies() {
+        ScoreSkipList list = new ScoreSkipList();
+        list.set(3, 5);
+        list.set(1, 5);
+        list.set(2, 9);
+        list.set(4, 1);
+
+        assertEquals(List.of(2L, 1L, 3L, 4L), userIds(list.range(0, 10)));
+        assertEquals(List.of(1L, 3L), userIds(list.range(1, 2)));
+        assertTrue(list.range(4, 10).isEmpty());
+    }
+
+    @Test
+    void rank_ShouldFollowIncrements() {
+        ScoreSkipList list = new ScoreSkipList();
+        list.increment(1, 3);
+        list.increment(2, 2);
+        assertEquals(0, list.rank(1));
+        assertEquals(1, list.rank(2));
+
+        assertEquals(4, list.increment(2, 2));
+
+        assertEquals(0, list.rank(2));
+        assertEquals(1, list.rank(1));
+        assertEquals(4L, list.score(2));
+    }
+
+    @Test
+    void increment_ShouldRemoveUser_WhenScoreDropsToZero() {
+        ScoreSkipList list = new ScoreSkipList();
+        list.increment(1, 2);
+        list.increment(2, 1);
+
+        list.increment(1, -2);
+
+        assertEquals(-1, list.rank(1));
+        assertNull(list.score(1));
+        assertEquals(1, list.size());
+        assertEquals(0, list.rank(2));
+    }
+
+    @Test
+    void operations_ShouldMatchSortedReference_WhenRandomized() {
+        ScoreSkipList list = new ScoreSkipList();
+        Map<Long, Long> reference = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 20_000; i++) {
+            long userId = random.nextInt(300);
+            if (random.nextInt(10) == 0) {
+                list.remove(userId);
+                reference.remove(userId);
+            } else {
+                long delta = random.nextInt(9) - 2;
+                long updated = reference.getOrDefault(userId, 0L) + delta;
+                if (updated > 0) {
+                    reference.put(userId, updated);
+                } else {
+                    reference.remove(userId);
+                }
+                assertEquals(updated, list.increment(userId, delta));
+            }
+        }
+
+        List<Long> expected = reference.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<Long, Long>>comparingLong(Map.Entry::getValue).reversed()
+                        .thenComparingLong(Map.Entry::getKey))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        assertEquals(expected.size(), list.size());
+        assertEquals(expected, userIds(list.range(0, expected.size())));
+        for (int rank = 0; rank < expected.size(); rank++) {
+            assertEquals(rank, list.rank(expected.get(rank)));
+        }
+        assertEquals(expected.subList(10, 15), userIds(list.range(10, 5)));
+    }
+
+    private static List<Long> userIds(List<ScoreSkipList.Entry> entries) {
+        List<Long> ids = new ArrayList<>();
+        entries.forEach(entry -> ids.add(entry.getUserId()));
+        return ids;
+    }
+}
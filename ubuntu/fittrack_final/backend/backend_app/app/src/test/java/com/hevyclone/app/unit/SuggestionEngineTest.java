@@ -0,0 +1,98 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.service.social.FollowGraph;
+import com.hevyclone.app.service.social.SuggestionEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionEngineTest {
+
+    @Test
+    void build_ShouldProduceSortedDeduplicatedAdjacency() {
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(10, 30)
+                .addEdge(10, 20)
+                .addEdge(10, 20)
+                .addEdge(20, 30)
+                .addEdge(30, 30)
+                .build();
+
+        assertEquals(3, graph.userCount());
+        assertEquals(3, graph.edgeCount());
+        assertArrayEquals(new int[]{1, 2}, graph.neighbors(graph.indexOf(10)));
+        assertEquals(2, graph.inDegree(graph.indexOf(30)));
+        assertTrue(graph.follows(graph.indexOf(20), graph.indexOf(30)));
+        assertEquals(-1, graph.indexOf(99));
+    }
+
+    @Test
+    void topK_ShouldRankFriendsOfFriendsByMutualFollows() {
+        // 1 segue 2 e 3; ambos seguem 4, só 2 segue 5; 1 já segue 3
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(1, 2).addEdge(1, 3)
+                .addEdge(2, 4).addEdge(3, 4)
+                .addEdge(2, 5).addEdge(2, 3)
+                .build();
+        SuggestionEngine engine = new SuggestionEngine(graph, Map.of(), Map.of(), 10, 3, 2);
+
+        int[] top = engine.topK(graph.indexOf(1), 5);
+
+        assertEquals(2, top.length);
+        assertEquals(4, graph.userIdAt(top[0]));
+        assertEquals(5, graph.userIdAt(top[1]));
+        assertArrayEquals(top, slice(engine.computeAll(5), graph.indexOf(1), 5, top.length));
+    }
+
+    @Test
+    void topK_ShouldBreakTiesWithSharedRoutinesAndLevel() {
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(1, 2)
+                .addEdge(2, 3).addEdge(2, 4).addEdge(2, 5)
+                .build();
+        Map<Long, long[]> routines = new HashMap<>();
+        routines.put(1L, new long[]{100, 200});
+        routines.put(4L, new long[]{200});
+        Map<Long, Integer> levels = new HashMap<>();
+        levels.put(1L, 1);
+        levels.put(5L, 1);
+        SuggestionEngine engine = new SuggestionEngine(graph, routines, levels, 10, 3, 2);
+
+        int[] top = engine.topK(graph.indexOf(1), 3);
+
+        assertEquals(4, graph.userIdAt(top[0])); // Rotina em comum (+3)
+        assertEquals(5, graph.userIdAt(top[1])); // Mesmo nível (+2)
+        assertEquals(3, graph.userIdAt(top[2]));
+    }
+
+    @Test
+    void topK_ShouldApplyFollowsMadeAfterBuild_AndFallBackToPopular() {
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(2, 4).addEdge(3, 4).addEdge(5, 4)
+                .addEdge(2, 6)
+                .build();
+        SuggestionEngine engine = new SuggestionEngine(graph, Map.of(), Map.of(), 10, 3, 2);
+        Map<Long, long[]> following = new HashMap<>();
+        following.put(2L, new long[]{4, 6});
+
+        // Usuário novo (fora do grafo) sem follows: contas mais seguidas
+        following.put(1L, new long[]{});
+        long[] coldStart = engine.topK(1L, 2, id -> following.getOrDefault(id, new long[0]));
+        assertEquals(4, coldStart[0]);
+
+        // Depois de seguir 2, os seguidos de 2 viram candidatos
+        following.put(1L, new long[]{2});
+        long[] afterFollow = engine.topK(1L, 5, id -> following.getOrDefault(id, new long[0]));
+        assertArrayEquals(new long[]{4, 6}, afterFollow);
+        assertEquals(1, engine.mutualCount(1L, 6L, id -> following.getOrDefault(id, new long[0])));
+    }
+
+    private static int[] slice(int[] flat, int index, int k, int length) {
+        int[] result = new int[length];
+        System.arraycopy(flat, index * k, result, 0, length);
+        return result;
+    }
+}
@@ -0,0 +1,123 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.dto.social.SuggestionDTO;
+import com.hevyclone.app.repository.social.UserFollowRepository;
+import com.hevyclone.app.repository.social.UserFollowRepository.FollowEdge;
+import com.hevyclone.app.repository.userprogress.UserRoutineRepository;
+import com.hevyclone.app.service.social.BlockListCache;
+import com.hevyclone.app.service.social.BlockSet;
+import com.hevyclone.app.service.social.SuggestionService;
+import com.hevyclone.app.user.model.User;
+import com.hevyclone.app.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestionServiceTest {
+
+    @Mock
+    private UserFollowRepository userFollowRepository;
+
+    @Mock
+    private UserRoutineRepository userRoutineRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BlockListCache blockListCache;
+
+    private SuggestionService suggestions;
+
+    @BeforeEach
+    void setUp() {
+        suggestions = new SuggestionService(userFollowRepository, userRoutineRepository, userRepository,
+                blockListCache, new SimpleMeterRegistry(), 20, 10, 3, 2, 100);
+        // 1 segue 2, 2 segue 3 e 4: 3 e 4 são amigos de amigo de 1; 5 só segue 1
+        when(userFollowRepository.findEdgesAfter(eq(0L), any()))
+                .thenReturn(List.of(edge(1, 1, 2), edge(2, 2, 3), edge(3, 2, 4), edge(4, 5, 1)));
+        when(userRoutineRepository.findRoutineProfileRefsAfter(anyLong(), any())).thenReturn(List.of());
+        suggestions.rebuild();
+    }
+
+    @Test
+    void getSuggestions_ShouldDropCandidatesFollowedOnAnotherReplica() {
+        when(blockListCache.blockedIds(1L)).thenReturn(BlockSet.EMPTY);
+        // O follow 1 → 3 foi feito em outra réplica: não está no grafo nem na sobreposição local
+        when(userFollowRepository.findFollowedIdsIn(eq(1L), any())).thenReturn(List.of(3L));
+        when(userRepository.findAllById(List.of(4L))).thenReturn(List.of(user(4L)));
+
+        List<SuggestionDTO> result = suggestions.getSuggestions(1L, 10);
+
+        assertEquals(List.of(4L), result.stream().map(suggestion -> suggestion.getUser().getId()).toList());
+        assertEquals(1, result.get(0).getMutualFollows());
+    }
+
+    @Test
+    void onFollowChanged_ShouldNotLoadFollowerIds_WhenFanoutExceedsLimit() {
+        when(userFollowRepository.countByFollowedId(2L)).thenReturn(101L);
+
+        suggestions.onFollowChanged(2L, 5L, true);
+
+        verify(userFollowRepository, never()).findFollowerIds(anyLong());
+    }
+
+    @Test
+    void onFollowChanged_ShouldMarkFollowersStale_WhenFanoutIsWithinLimit() {
+        when(userFollowRepository.countByFollowedId(2L)).thenReturn(1L);
+        when(userFollowRepository.findFollowerIds(2L)).thenReturn(List.of(1L));
+        when(blockListCache.blockedIds(1L)).thenReturn(BlockSet.EMPTY);
+        when(userFollowRepository.findFollowedIdsIn(eq(1L), any())).thenReturn(List.of());
+        when(userRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<User> users = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                users.add(user(id));
+            }
+            return users;
+        });
+
+        suggestions.onFollowChanged(2L, 5L, true);
+
+        // A lista de 1 é recalculada com o novo follow de 2 (2 → 5)
+        assertTrue(suggestions.getSuggestions(1L, 10).stream().anyMatch(suggestion -> suggestion.getUser().getId() == 5L));
+    }
+
+    private static FollowEdge edge(long id, long followerId, long followedId) {
+        return new FollowEdge() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getFollowerId() {
+                return followerId;
+            }
+
+            @Override
+            public Long getFollowedId() {
+                return followedId;
+            }
+        };
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        return user;
+    }
+}
@@ -0,0 +1,114 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.dto.userprogress.TrainingStatsDTO;
+import com.hevyclone.app.model.userprogress.UserWeeklyStats;
+import com.hevyclone.app.repository.userprogress.UserDailyStatsRepository;
+import com.hevyclone.app.repository.userprogress.UserWeeklyStatsRepository;
+import com.hevyclone.app.service.userprogress.TrainingStatsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingStatsServiceTest {
+
+    // Quarta-feira; a semana ISO começa na segunda 2024-06-17
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 19);
+    private static final LocalDate THIS_WEEK = LocalDate.of(2024, 6, 17);
+
+    @Mock
+    private UserWeeklyStatsRepository userWeeklyStatsRepository;
+
+    @Mock
+    private UserDailyStatsRepository userDailyStatsRepository;
+
+    @InjectMocks
+    private TrainingStatsService trainingStatsService;
+
+    private UserWeeklyStats week(LocalDate weekStart, int workouts, int timed, long minutes) {
+        UserWeeklyStats stats = new UserWeeklyStats(1L, weekStart);
+        stats.setWorkoutCount(workouts);
+        stats.setTimedWorkoutCount(timed);
+        stats.setTotalDurationMinutes(minutes);
+        return stats;
+    }
+
+    private void givenWeeks(UserWeeklyStats... weeks) {
+        when(userWeeklyStatsRepository.findByUserIdAndWorkoutCountGreaterThanOrderByWeekStartAsc(anyLong(), anyInt()))
+                .thenReturn(List.of(weeks));
+        when(userDailyStatsRepository.findByUserIdAndStatDateGreaterThanEqualOrderByStatDateAsc(anyLong(), any()))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    void getStats_ShouldReturnZeros_WhenUserHasNoWorkouts() {
+        givenWeeks();
+
+        TrainingStatsDTO stats = trainingStatsService.getStats(1L, TODAY);
+
+        assertEquals(0, stats.getTotalWorkouts());
+        assertEquals(0.0, stats.getAverageDuration());
+        assertEquals(0, stats.getCurrentWeekStreak());
+        assertEquals(0, stats.getLongestWeekStreak());
+        assertNull(stats.getFirstWorkoutWeek());
+        assertEquals(12, stats.getRecentWeeks().size());
+        assertEquals(30, stats.getRecentDays().size());
+    }
+
+    @Test
+    void getStats_ShouldSumTotalsAndAverageOnlyTimedWorkouts() {
+        givenWeeks(
+                week(THIS_WEEK.minusWeeks(1), 3, 2, 120),
+                week(THIS_WEEK, 2, 2, 90));
+
+        TrainingStatsDTO stats = trainingStatsService.getStats(1L, TODAY);
+
+        assertEquals(5, stats.getTotalWorkouts());
+        assertEquals(5, stats.getCompletedWorkouts());
+        assertEquals(210, stats.getTotalDurationMinutes());
+        assertEquals(52.5, stats.getAverageDuration());
+        assertEquals(2, stats.getWorkoutsThisWeek());
+        assertEquals(2.5, stats.getAverageWorkoutsPerWeek());
+        assertEquals(THIS_WEEK.minusWeeks(1), stats.getFirstWorkoutWeek());
+    }
+
+    @Test
+    void getStats_ShouldKeepCurrentStreak_WhenThisWeekHasNoWorkoutYet() {
+        givenWeeks(
+                week(THIS_WEEK.minusWeeks(3), 1, 0, 0),
+                week(THIS_WEEK.minusWeeks(2), 1, 0, 0),
+                week(THIS_WEEK.minusWeeks(1), 1, 0, 0));
+
+        TrainingStatsDTO stats = trainingStatsService.getStats(1L, TODAY);
+
+        assertEquals(3, stats.getCurrentWeekStreak());
+        assertEquals(3, stats.getLongestWeekStreak());
+        assertEquals(0, stats.getWorkoutsThisWeek());
+    }
+
+    @Test
+    void getStats_ShouldBreakStreak_WhenAWeekIsSkipped() {
+        givenWeeks(
+                week(THIS_WEEK.minusWeeks(10), 1, 0, 0),
+                week(THIS_WEEK.minusWeeks(9), 1, 0, 0),
+                week(THIS_WEEK.minusWeeks(8), 1, 0, 0),
+                week(THIS_WEEK.minusWeeks(4), 1, 0, 0),
+                week(THIS_WEEK.minusWeeks(2), 1, 0, 0));
+
+        TrainingStatsDTO stats = trainingStatsService.getStats(1L, TODAY);
+
+        assertEquals(0, stats.getCurrentWeekStreak());
+        assertEquals(3, stats.getLongestWeekStreak());
+    }
+}
@@ -0,0 +1,67 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.service.search.UsernameTrie;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UsernameTrieTest {
+
+    @Test
+    void suggest_ShouldMatchAnyWordIgnoringCaseAndAccents() {
+        UsernameTrie trie = new UsernameTrie(10, 20);
+        trie.put(1, "Usuário Social 1", 0);
+        trie.put(2, "joao_silva", 0);
+
+        assertEquals(List.of(1L), ids(trie.suggest("usua", 10)));
+        assertEquals(List.of(1L), ids(trie.suggest("SOC", 10)));
+        assertEquals(List.of(2L), ids(trie.suggest("silv", 10)));
+        assertEquals("Usuário Social 1", trie.suggest("social", 10).get(0).getName());
+        assertTrue(trie.suggest("xyz", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_ShouldRankByWeightAndKeepOnlyTopSize() {
+        UsernameTrie trie = new UsernameTrie(2, 20);
+        trie.put(1, "ana", 5);
+        trie.put(2, "anabela", 50);
+        trie.put(3, "anita", 10);
+
+        assertEquals(List.of(2L, 3L), ids(trie.suggest("an", 10)));
+        assertEquals(List.of(2L), ids(trie.suggest("an", 1)));
+    }
+
+    @Test
+    void rename_ShouldMoveUserAndRefillTopFromSubtree() {
+        UsernameTrie trie = new UsernameTrie(2, 20);
+        trie.put(1, "ana", 5);
+        trie.put(2, "anabela", 50);
+        trie.put(3, "anita", 10);
+
+        trie.rename(2, "beatriz");
+
+        assertEquals(List.of(3L, 1L), ids(trie.suggest("an", 10)));
+        assertEquals(List.of(2L), ids(trie.suggest("bea", 10)));
+        assertEquals(50, trie.suggest("bea", 10).get(0).getWeight());
+
+        trie.remove(3);
+        assertEquals(List.of(1L), ids(trie.suggest("an", 10)));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    void suggest_ShouldIgnorePrefixesLongerThanMaxDepth() {
+        UsernameTrie trie = new UsernameTrie(10, 4);
+        trie.put(1, "marcelo", 0);
+
+        assertEquals(List.of(1L), ids(trie.suggest("marc", 10)));
+        assertTrue(trie.suggest("marce", 10).isEmpty());
+    }
+
+    private static List<Long> ids(List<UsernameTrie.Match> matches) {
+        return matches.stream().map(UsernameTrie.Match::getUserId).collect(Collectors.toList());
+    }
+}
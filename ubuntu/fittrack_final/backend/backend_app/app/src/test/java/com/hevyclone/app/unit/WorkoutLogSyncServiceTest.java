@@ -0,0 +1,175 @@
+package com.hevyclone.app.unit;
+
+import com.hevyclone.app.config.sql.SqlDialect;
+import com.hevyclone.app.dto.userprogress.WorkoutLogSyncItemDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutLogSyncResponseDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutLogSyncResultDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutLogSyncResultDTO.Status;
+import com.hevyclone.app.repository.routine.WorkoutRepository;
+import com.hevyclone.app.repository.routine.WorkoutRepository.WorkoutRoutineRef;
+import com.hevyclone.app.repository.userprogress.UserRoutineRepository;
+import com.hevyclone.app.repository.userprogress.UserWorkoutLogRepository;
+import com.hevyclone.app.repository.userprogress.UserWorkoutLogRepository.IdempotentLogRef;
+import com.hevyclone.app.service.userprogress.TrainingStatsRollupService;
+import com.hevyclone.app.service.userprogress.TrainingStatsRollupService.LogChange;
+import com.hevyclone.app.service.userprogress.WorkoutLogSyncService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkoutLogSyncServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long WORKOUT_ID = 5L;
+
+    @Mock
+    private UserWorkoutLogRepository userWorkoutLogRepository;
+
+    @Mock
+    private WorkoutRepository workoutRepository;
+
+    @Mock
+    private UserRoutineRepository userRoutineRepository;
+
+    @Mock
+    private TrainingStatsRollupService trainingStatsRollupService;
+
+    private JdbcTemplate jdbcTemplate;
+    private WorkoutLogSyncService sync;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE user_workout_logs (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "user_id BIGINT NOT NULL, workout_id BIGINT NOT NULL, user_routine_id BIGINT, " +
+                "completed_at TIMESTAMP NOT NULL, duration_minutes INTEGER, notes TEXT, idempotency_key VARCHAR(64), " +
+                "CONSTRAINT uk_user_workout_logs_user_idempotency UNIQUE (user_id, idempotency_key))");
+        sync = new WorkoutLogSyncService(userWorkoutLogRepository, workoutRepository, userRoutineRepository,
+                trainingStatsRollupService, jdbcTemplate, new SqlDialect(dataSource), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(sync, "jdbcBatchSize", 2);
+    }
+
+    @Test
+    void syncLogs_ShouldReturnDuplicate_WhenConcurrentBatchInsertedTheKeyAfterTheLookup() {
+        // Outro lote gravou k2 depois da consulta inicial deste: a primeira leitura não o vê
+        jdbcTemplate.update("INSERT INTO user_workout_logs (user_id, workout_id, completed_at, idempotency_key) " +
+                "VALUES (?, ?, ?, 'k2')", USER_ID, WORKOUT_ID, LocalDateTime.now());
+        Long concurrentId = jdbcTemplate.queryForObject("SELECT id FROM user_workout_logs WHERE idempotency_key = 'k2'", Long.class);
+        AtomicInteger lookups = new AtomicInteger();
+        when(userWorkoutLogRepository.findRefsByUserIdAndIdempotencyKeys(eq(USER_ID), anyCollection()))
+                .thenAnswer(invocation -> lookups.getAndIncrement() == 0 ? List.of() : refs(invocation.getArgument(1)));
+        when(workoutRepository.findRoutineRefsByIdIn(any())).thenReturn(List.of(routineRef(WORKOUT_ID, 1L)));
+
+        WorkoutLogSyncResponseDTO response = sync.syncLogs(USER_ID, List.of(item("k1", WORKOUT_ID),
+                item("k2", WORKOUT_ID), item("k3", 99L)));
+
+        assertEquals(List.of(Status.CREATED, Status.DUPLICATE, Status.REJECTED), statuses(response));
+        assertEquals(concurrentId, response.getResults().get(1).getLogId());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_workout_logs", Integer.class));
+        // Só o log inserido por este lote entra nos agregados
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<LogChange>> changes = ArgumentCaptor.forClass(Collection.class);
+        verify(trainingStatsRollupService).recordLogs(eq(USER_ID), changes.capture());
+        assertEquals(1, changes.getValue().size());
+    }
+
+    @Test
+    void syncLogs_ShouldReportResentAndRepeatedKeysAsDuplicates() {
+        when(userWorkoutLogRepository.findRefsByUserIdAndIdempotencyKeys(eq(USER_ID), anyCollection()))
+                .thenAnswer(invocation -> refs(invocation.getArgument(1)));
+        when(workoutRepository.findRoutineRefsByIdIn(any())).thenReturn(List.of(routineRef(WORKOUT_ID, 1L)));
+        WorkoutLogSyncResponseDTO first = sync.syncLogs(USER_ID, List.of(item("k1", WORKOUT_ID), item("k1", WORKOUT_ID)));
+
+        WorkoutLogSyncResponseDTO resent = sync.syncLogs(USER_ID, List.of(item("k1", WORKOUT_ID)));
+
+        assertEquals(List.of(Status.CREATED, Status.DUPLICATE), statuses(first));
+        assertEquals(first.getResults().get(0).getLogId(), first.getResults().get(1).getLogId());
+        assertEquals(List.of(Status.DUPLICATE), statuses(resent));
+        assertEquals(first.getResults().get(0).getLogId(), resent.getResults().get(0).getLogId());
+        verify(trainingStatsRollupService, times(1)).recordLogs(eq(USER_ID), any());
+    }
+
+    @Test
+    void syncLogs_ShouldRejectWholeBatch_WhenItExceedsTheLimit() {
+        List<WorkoutLogSyncItemDTO> items = new ArrayList<>();
+        for (int i = 0; i <= WorkoutLogSyncService.MAX_BATCH_SIZE; i++) {
+            items.add(item("k" + i, WORKOUT_ID));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> sync.syncLogs(USER_ID, items));
+
+        verifyNoInteractions(userWorkoutLogRepository, workoutRepository, trainingStatsRollupService);
+    }
+
+    private List<IdempotentLogRef> refs(Collection<String> keys) {
+        List<IdempotentLogRef> refs = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, idempotency_key FROM user_workout_logs WHERE user_id = ?", rs -> {
+            Long id = rs.getLong(1);
+            String key = rs.getString(2);
+            if (keys.contains(key)) {
+                refs.add(new IdempotentLogRef() {
+                    @Override
+                    public Long getId() {
+                        return id;
+                    }
+
+                    @Override
+                    public String getIdempotencyKey() {
+                        return key;
+                    }
+                });
+            }
+        }, USER_ID);
+        return refs;
+    }
+
+    private static WorkoutRoutineRef routineRef(Long workoutId, Long routineId) {
+        return new WorkoutRoutineRef() {
+            @Override
+            public Long getWorkoutId() {
+                return workoutId;
+            }
+
+            @Override
+            public Long getRoutineId() {
+                return routineId;
+            }
+        };
+    }
+
+    private static WorkoutLogSyncItemDTO item(String key, Long workoutId) {
+        return WorkoutLogSyncItemDTO.builder()
+                .idempotencyKey(key)
+                .workoutId(workoutId)
+                .completedAt(LocalDateTime.now().minusHours(1))
+                .durationMinutes(45)
+                .build();
+    }
+
+    private static List<Status> statuses(WorkoutLogSyncResponseDTO response) {
+        return response.getResults().stream().map(WorkoutLogSyncResultDTO::getStatus).toList();
+    }
+}
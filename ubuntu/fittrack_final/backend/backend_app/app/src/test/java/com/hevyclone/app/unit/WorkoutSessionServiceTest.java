@@ -0,0 +1,240 @@
+package com.hevyclone.app.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hevyclone.app.dto.userprogress.ExerciseSetBatchResponseDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionProgressRequestDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionSetDTO;
+import com.hevyclone.app.dto.userprogress.WorkoutSessionState;
+import com.hevyclone.app.model.userprogress.UserWorkoutLog;
+import com.hevyclone.app.model.userprogress.WorkoutSessionCheckpoint;
+import com.hevyclone.app.repository.exercise.ExerciseRepository;
+import com.hevyclone.app.repository.routine.WorkoutRepository;
+import com.hevyclone.app.repository.userprogress.WorkoutSessionCheckpointRepository;
+import com.hevyclone.app.service.userprogress.ExerciseSetService;
+import com.hevyclone.app.service.userprogress.InMemoryWorkoutSessionStore;
+import com.hevyclone.app.service.userprogress.UserWorkoutLogService;
+import com.hevyclone.app.service.userprogress.WorkoutSessionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkoutSessionServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long WORKOUT_ID = 3L;
+
+    @Mock
+    private WorkoutSessionCheckpointRepository checkpointRepository;
+
+    @Mock
+    private WorkoutRepository workoutRepository;
+
+    @Mock
+    private ExerciseRepository exerciseRepository;
+
+    @Mock
+    private UserWorkoutLogService userWorkoutLogService;
+
+    @Mock
+    private ExerciseSetService exerciseSetService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private WorkoutSessionService sessions;
+
+    @BeforeEach
+    void setUp() {
+        sessions = newService(new InMemoryWorkoutSessionStore());
+    }
+
+    @Test
+    void checkpoint_ShouldInsertDirtySessionOnce() {
+        when(workoutRepository.existsById(WORKOUT_ID)).thenReturn(true);
+        sessions.start(USER_ID, WORKOUT_ID);
+
+        sessions.checkpoint();
+        sessions.checkpoint();
+
+        ArgumentCaptor<WorkoutSessionCheckpoint> saved = ArgumentCaptor.forClass(WorkoutSessionCheckpoint.class);
+        verify(checkpointRepository, times(1)).save(saved.capture());
+        assertEquals(WORKOUT_ID, saved.getValue().getWorkoutId());
+        assertNotNull(saved.getValue().getSessionId());
+        assertNull(saved.getValue().getClosedAt());
+    }
+
+    @Test
+    void checkpoint_ShouldDropLocalCopy_WhenSessionWasClosedOnAnotherReplica() {
+        restore(checkpoint(USER_ID, "s-1", LocalDateTime.now(), null));
+        sessions.recordProgress(USER_ID, WORKOUT_ID, WorkoutSessionProgressRequestDTO.builder()
+                .exerciseId(11L).completedSets(2).build());
+        when(checkpointRepository.existsById(USER_ID)).thenReturn(true); // Linha existe, mas recusou a escrita
+
+        sessions.checkpoint();
+
+        verify(checkpointRepository, never()).save(any());
+        when(checkpointRepository.findById(USER_ID))
+                .thenReturn(Optional.of(checkpoint(USER_ID, "s-1", LocalDateTime.now(), LocalDateTime.now())));
+        assertThrows(RuntimeException.class, () -> sessions.getStatus(USER_ID, WORKOUT_ID));
+    }
+
+    @Test
+    void restoreFromCheckpoints_ShouldSkipClosedAndExpiredCheckpoints() {
+        WorkoutSessionCheckpoint closed = checkpoint(USER_ID, "s-1", LocalDateTime.now(), LocalDateTime.now());
+        WorkoutSessionCheckpoint expired = checkpoint(8L, "s-2", LocalDateTime.now().minusHours(13), null);
+        WorkoutSessionCheckpoint open = checkpoint(9L, "s-3", LocalDateTime.now().minusMinutes(5), null);
+        when(checkpointRepository.findAll()).thenReturn(List.of(closed, expired, open));
+
+        sessions.restoreFromCheckpoints();
+
+        assertEquals(WorkoutSessionDTO.Status.IN_PROGRESS, sessions.getStatus(9L, WORKOUT_ID).getStatus());
+        // Os demais só seriam retomados pelo checkpoint, que find também ignora se encerrado
+        when(checkpointRepository.findById(USER_ID)).thenReturn(Optional.of(closed));
+        assertThrows(RuntimeException.class, () -> sessions.getStatus(USER_ID, WORKOUT_ID));
+    }
+
+    @Test
+    void finish_ShouldCloseCheckpointThenWriteLogAndSets() {
+        restore(checkpoint(USER_ID, "s-1", LocalDateTime.now(), null));
+        when(exerciseRepository.existsById(11L)).thenReturn(true);
+        sessions.addSets(USER_ID, WORKOUT_ID, 11L, List.of(WorkoutSessionSetDTO.builder()
+                .reps(8).weight(new BigDecimal("80")).build()));
+        when(checkpointRepository.close(eq(USER_ID), eq("s-1"), any())).thenReturn(1);
+        UserWorkoutLog workoutLog = new UserWorkoutLog();
+        workoutLog.setId(100L);
+        when(userWorkoutLogService.logWorkout(eq(USER_ID), eq(WORKOUT_ID), any())).thenReturn(workoutLog);
+        when(exerciseSetService.logSets(eq(USER_ID), eq(100L), any()))
+                .thenReturn(new ExerciseSetBatchResponseDTO(List.of(500L), List.of()));
+
+        WorkoutSessionDTO result = sessions.finish(USER_ID, WORKOUT_ID, null);
+
+        assertEquals(WorkoutSessionDTO.Status.COMPLETED, result.getStatus());
+        assertEquals(100L, result.getLogId());
+        assertEquals(1, result.getTotalSets());
+        verify(checkpointRepository, never()).deleteById(anyLong());
+        // Sessão fora do store; o checkpoint encerrado não a traz de volta
+        when(checkpointRepository.findById(USER_ID))
+                .thenReturn(Optional.of(checkpoint(USER_ID, "s-1", LocalDateTime.now(), LocalDateTime.now())));
+        assertThrows(RuntimeException.class, () -> sessions.getStatus(USER_ID, WORKOUT_ID));
+        sessions.checkpoint();
+        verify(checkpointRepository, never()).updateUnlessClosed(anyLong(), anyString(), anyLong(), anyString(), anyLong(), any());
+    }
+
+    @Test
+    void finish_ShouldWriteNothing_WhenSameSessionAlreadyClosed() {
+        restore(checkpoint(USER_ID, "s-1", LocalDateTime.now(), null));
+        when(checkpointRepository.findById(USER_ID))
+                .thenReturn(Optional.of(checkpoint(USER_ID, "s-1", LocalDateTime.now(), LocalDateTime.now())));
+
+        assertThrows(RuntimeException.class, () -> sessions.finish(USER_ID, WORKOUT_ID, null));
+
+        verifyNoInteractions(userWorkoutLogService, exerciseSetService);
+        assertThrows(RuntimeException.class, () -> sessions.getStatus(USER_ID, WORKOUT_ID));
+    }
+
+    @Test
+    void cancel_ShouldSaveClosedCheckpoint_WhenSessionWasNeverCheckpointed() {
+        when(workoutRepository.existsById(WORKOUT_ID)).thenReturn(true);
+        sessions.start(USER_ID, WORKOUT_ID);
+
+        sessions.cancel(USER_ID, WORKOUT_ID);
+
+        ArgumentCaptor<WorkoutSessionCheckpoint> saved = ArgumentCaptor.forClass(WorkoutSessionCheckpoint.class);
+        verify(checkpointRepository).save(saved.capture());
+        assertTrue(saved.getValue().isClosed());
+        sessions.checkpoint();
+        verify(checkpointRepository, times(1)).save(any());
+    }
+
+    @Test
+    void addSets_ShouldReapplyOnLatestState_WhenAnotherReplicaWroteFirst() {
+        sessions = newService(new InMemoryWorkoutSessionStore() {
+            private boolean raced;
+
+            @Override
+            public boolean compareAndSet(WorkoutSessionState state, Long expectedVersion) {
+                if (expectedVersion != null && !raced) {
+                    raced = true;
+                    // Outra réplica gravou uma série entre a leitura e a escrita desta
+                    WorkoutSessionState remote = state(USER_ID, "s-1", LocalDateTime.now());
+                    remote.getSets().add(WorkoutSessionSetDTO.builder()
+                            .exerciseId(11L).setNumber(1).reps(5).build());
+                    remote.setVersion(expectedVersion + 1);
+                    remove(USER_ID);
+                    super.compareAndSet(remote, null);
+                    return false;
+                }
+                return super.compareAndSet(state, expectedVersion);
+            }
+        });
+        restore(checkpoint(USER_ID, "s-1", LocalDateTime.now(), null));
+        when(exerciseRepository.existsById(11L)).thenReturn(true);
+
+        List<WorkoutSessionSetDTO> added = sessions.addSets(USER_ID, WORKOUT_ID, 11L,
+                List.of(WorkoutSessionSetDTO.builder().reps(8).build()));
+
+        assertEquals(1, added.size());
+        assertEquals(2, added.get(0).getSetNumber());
+        assertEquals(2, sessions.getStatus(USER_ID, WORKOUT_ID).getTotalSets());
+    }
+
+    private WorkoutSessionService newService(InMemoryWorkoutSessionStore store) {
+        return new WorkoutSessionService(store, checkpointRepository,
+                workoutRepository, exerciseRepository, userWorkoutLogService, exerciseSetService,
+                new TransactionTemplate(transactionManager), objectMapper, new SimpleMeterRegistry(), 12);
+    }
+
+    private void restore(WorkoutSessionCheckpoint checkpoint) {
+        when(checkpointRepository.findAll()).thenReturn(List.of(checkpoint));
+        sessions.restoreFromCheckpoints();
+    }
+
+    private WorkoutSessionCheckpoint checkpoint(Long userId, String sessionId, LocalDateTime updatedAt, LocalDateTime closedAt) {
+        WorkoutSessionState state = state(userId, sessionId, updatedAt);
+        WorkoutSessionCheckpoint checkpoint = new WorkoutSessionCheckpoint();
+        checkpoint.setUserId(userId);
+        checkpoint.setWorkoutId(WORKOUT_ID);
+        checkpoint.setSessionId(sessionId);
+        checkpoint.setUpdatedAt(updatedAt);
+        checkpoint.setClosedAt(closedAt);
+        try {
+            checkpoint.setStateJson(objectMapper.writeValueAsString(state));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return checkpoint;
+    }
+
+    private static WorkoutSessionState state(Long userId, String sessionId, LocalDateTime updatedAt) {
+        WorkoutSessionState state = new WorkoutSessionState();
+        state.setSessionId(sessionId);
+        state.setUserId(userId);
+        state.setWorkoutId(WORKOUT_ID);
+        state.setStartedAt(updatedAt.minusMinutes(30));
+        state.setLastActivityAt(updatedAt);
+        return state;
+    }
+}